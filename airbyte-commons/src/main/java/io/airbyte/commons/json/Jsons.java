@@ -76,6 +76,18 @@ public class Jsons {
     }
   }
 
+  /**
+   * Deserializes the UTF-8 JSON held in a range of a byte array, without decoding it to a String
+   * first.
+   */
+  public static <T> Optional<T> tryDeserialize(final byte[] jsonBytes, final int offset, final int length, final Class<T> klass) {
+    try {
+      return Optional.of(OBJECT_MAPPER.readValue(jsonBytes, offset, length, klass));
+    } catch (final Throwable e) {
+      return Optional.empty();
+    }
+  }
+
   public static Optional<JsonNode> tryDeserialize(final String jsonString) {
     try {
       return Optional.of(OBJECT_MAPPER.readTree(jsonString));
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.json;
+
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.airbyte.commons.jackson.MoreMappers;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Length-prefixed frames of objects serialized with Smile, the binary encoding of JSON. A frame is
+ * {@link #FRAME_MARKER}, the length of the payload as a 4 byte big-endian integer, then the
+ * payload. The marker is an ASCII control character, which never starts a line of text, so frames
+ * can be interleaved with JSON lines and plain log lines on the same stream.
+ */
+public class SmileFrames {
+
+  public static final byte FRAME_MARKER = 0x1E;
+  // guards against allocating a huge buffer when reading a corrupted stream.
+  public static final int MAX_PAYLOAD_SIZE = 256 * 1024 * 1024;
+
+  private static final int HEADER_SIZE = 5;
+
+  // Object Mapper is thread-safe
+  private static final ObjectMapper SMILE_MAPPER = MoreMappers.initSmileMapper();
+
+  public static <T> byte[] toFrame(final T object) {
+    try (final ByteArrayBuilder builder = new ByteArrayBuilder(1024)) {
+      for (int i = 0; i < HEADER_SIZE; i++) {
+        builder.append(0);
+      }
+      SMILE_MAPPER.writeValue(builder, object);
+      final byte[] frame = builder.toByteArray();
+      final int payloadSize = frame.length - HEADER_SIZE;
+      frame[0] = FRAME_MARKER;
+      frame[1] = (byte) (payloadSize >>> 24);
+      frame[2] = (byte) (payloadSize >>> 16);
+      frame[3] = (byte) (payloadSize >>> 8);
+      frame[4] = (byte) payloadSize;
+      return frame;
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Reads the rest of a frame whose marker was already consumed.
+   *
+   * @param input stream positioned right after {@link #FRAME_MARKER}
+   * @return the frame's payload
+   * @throws IOException if the stream ends in the middle of the frame or the length is invalid
+   */
+  public static byte[] readPayload(final InputStream input) throws IOException {
+    final DataInputStream dataInput = new DataInputStream(input);
+    final int payloadSize;
+    try {
+      payloadSize = dataInput.readInt();
+    } catch (final EOFException e) {
+      throw new EOFException("Stream ended in the middle of a frame header");
+    }
+    if (payloadSize < 0 || payloadSize > MAX_PAYLOAD_SIZE) {
+      throw new IOException(String.format("Invalid frame payload size %d", payloadSize));
+    }
+    final byte[] payload = new byte[payloadSize];
+    dataInput.readFully(payload);
+    return payload;
+  }
+
+  public static <T> T deserialize(final byte[] payload, final Class<T> klass) {
+    try {
+      return SMILE_MAPPER.readValue(payload, klass);
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+}
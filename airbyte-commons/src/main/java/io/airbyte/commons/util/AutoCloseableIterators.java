@@ -14,6 +14,8 @@ import java.util.stream.Stream;
 
 public class AutoCloseableIterators {
 
+  private static final int MERGE_QUEUE_CAPACITY = 1000;
+
   /**
    * Coerces a vanilla {@link Iterator} into a {@link AutoCloseableIterator} by adding a no op close
    * function.
@@ -130,4 +132,17 @@ public class AutoCloseableIterators {
     return new CompositeIterator<>(iterators);
   }
 
+  /**
+   * Merges the iterators by consuming up to maxConcurrency of them at the same time. The elements of
+   * each iterator keep their relative order, but elements of different iterators are interleaved.
+   *
+   * @param iterators iterators to merge
+   * @param maxConcurrency max number of iterators consumed at the same time
+   * @param <T> type
+   * @return merged iterator, which closes each iterator as soon as it is exhausted
+   */
+  public static <T> ConcurrentCompositeIterator<T> mergeConcurrently(final List<AutoCloseableIterator<T>> iterators, final int maxConcurrency) {
+    return new ConcurrentCompositeIterator<>(iterators, maxConcurrency, MERGE_QUEUE_CAPACITY);
+  }
+
 }
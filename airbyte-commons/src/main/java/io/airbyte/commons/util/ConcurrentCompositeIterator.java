@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.util;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Composes multiple {@link AutoCloseableIterator}s by consuming up to a given number of them at the
+ * same time, each on its own thread, and interleaving their elements through a bounded queue. The
+ * elements of each internal iterator keep their relative order, but there is no order between the
+ * elements of different iterators. A full queue blocks the consuming threads, so the internal
+ * iterators are never read much further ahead than the composite iterator.
+ *
+ * <p>
+ * Like {@link CompositeIterator}, each internal iterator is closed as soon as it is exhausted, and
+ * {@link #close()} attempts to close every internal iterator once, rethrowing the first exception.
+ * The internal iterators are only consumed once this iterator is first read. If consuming one of
+ * them throws, the exception is rethrown by the composite iterator and the other ones are no longer
+ * consumed.
+ * </p>
+ *
+ * @param <T> type
+ */
+public final class ConcurrentCompositeIterator<T> extends AbstractIterator<T> implements AutoCloseableIterator<T> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentCompositeIterator.class);
+
+  private static final long POLL_INTERVAL_MS = 100;
+  private static final long SHUTDOWN_TIMEOUT_MINUTES = 1;
+
+  private final List<AutoCloseableIterator<T>> iterators;
+  private final int concurrency;
+  private final BlockingQueue<T> queue;
+  private final AtomicInteger remainingIterators;
+  private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+  private ExecutorService executor;
+  private boolean hasClosed;
+
+  ConcurrentCompositeIterator(final List<AutoCloseableIterator<T>> iterators, final int concurrency, final int queueCapacity) {
+    Preconditions.checkNotNull(iterators);
+    Preconditions.checkArgument(concurrency > 0, "concurrency must be positive");
+
+    this.iterators = iterators;
+    this.concurrency = concurrency;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.remainingIterators = new AtomicInteger(iterators.size());
+    this.hasClosed = false;
+  }
+
+  @Override
+  protected T computeNext() {
+    assertHasNotClosed();
+
+    if (executor == null) {
+      start();
+    }
+
+    try {
+      while (true) {
+        throwIfFailed();
+        final T next = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        if (next != null) {
+          return next;
+        }
+        // an iterator is only counted as done once all of its elements are in the queue.
+        if (remainingIterators.get() == 0 && queue.isEmpty()) {
+          throwIfFailed();
+          executor.shutdown();
+          return endOfData();
+        }
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+  }
+
+  private void start() {
+    executor = Executors.newFixedThreadPool(Math.max(1, Math.min(concurrency, iterators.size())), new ThreadFactoryBuilder()
+        .setNameFormat("concurrent-iterator-%d")
+        // daemon threads do not keep the JVM alive if this iterator is never closed.
+        .setDaemon(true)
+        .build());
+    for (final AutoCloseableIterator<T> iterator : iterators) {
+      executor.submit(() -> consume(iterator));
+    }
+  }
+
+  private void consume(final AutoCloseableIterator<T> iterator) {
+    try (iterator) {
+      while (failure.get() == null && iterator.hasNext()) {
+        queue.put(iterator.next());
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (final Exception e) {
+      failure.compareAndSet(null, e);
+    } finally {
+      remainingIterators.decrementAndGet();
+    }
+  }
+
+  private void throwIfFailed() {
+    final Exception e = failure.get();
+    if (e != null) {
+      throw e instanceof RuntimeException ? (RuntimeException) e : new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    hasClosed = true;
+
+    if (executor != null) {
+      // interrupts the threads blocked on a full queue.
+      executor.shutdownNow();
+      if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+        LOGGER.warn("Threads consuming the iterators did not stop within {} minute(s)", SHUTDOWN_TIMEOUT_MINUTES);
+      }
+    }
+
+    final List<Exception> exceptions = new ArrayList<>();
+    for (final AutoCloseableIterator<T> iterator : iterators) {
+      try {
+        iterator.close();
+      } catch (final Exception e) {
+        LOGGER.error("exception while closing", e);
+        exceptions.add(e);
+      }
+    }
+
+    if (!exceptions.isEmpty()) {
+      throw exceptions.get(0);
+    }
+  }
+
+  private void assertHasNotClosed() {
+    Preconditions.checkState(!hasClosed);
+  }
+
+}
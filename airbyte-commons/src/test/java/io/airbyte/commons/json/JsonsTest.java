@@ -92,6 +92,18 @@ class JsonsTest {
         Jsons.tryDeserialize("{\"str\":\"abc\", \"num\": 999, \"test\": 888}", ToClass.class));
   }
 
+  @Test
+  void testTryDeserializeByteRange() {
+    final byte[] bytes = "xx{\"str\":\"abc\", \"num\": 999, \"numLong\": 888}yy".getBytes(StandardCharsets.UTF_8);
+    assertEquals(
+        Optional.of(new ToClass("abc", 999, 888L)),
+        Jsons.tryDeserialize(bytes, 2, bytes.length - 4, ToClass.class));
+
+    assertEquals(
+        Optional.empty(),
+        Jsons.tryDeserialize(bytes, 2, 10, ToClass.class));
+  }
+
   @Test
   void testTryDeserializeToJsonNode() {
     assertEquals(
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class SmileFramesTest {
+
+  private static final JsonNode OBJECT = Jsons.deserialize("{\"name\":\"é\",\"count\":3,\"values\":[1.5,null,true]}");
+
+  @Test
+  void testRoundTrip() throws IOException {
+    final byte[] frame = SmileFrames.toFrame(OBJECT);
+    assertEquals(SmileFrames.FRAME_MARKER, frame[0]);
+
+    final InputStream input = new ByteArrayInputStream(frame);
+    assertEquals(SmileFrames.FRAME_MARKER, input.read());
+    final byte[] payload = SmileFrames.readPayload(input);
+    assertEquals(frame.length - 5, payload.length);
+    assertEquals(OBJECT, SmileFrames.deserialize(payload, JsonNode.class));
+    assertEquals(-1, input.read());
+  }
+
+  @Test
+  void testTruncatedFrame() {
+    final byte[] frame = SmileFrames.toFrame(OBJECT);
+    final InputStream input = new ByteArrayInputStream(Arrays.copyOfRange(frame, 1, frame.length - 1));
+    assertThrows(EOFException.class, () -> SmileFrames.readPayload(input));
+  }
+
+  @Test
+  void testInvalidPayloadSize() {
+    final InputStream input = new ByteArrayInputStream(new byte[] {(byte) 0xFF, 0, 0, 0});
+    assertThrows(IOException.class, () -> SmileFrames.readPayload(input));
+  }
+
+}
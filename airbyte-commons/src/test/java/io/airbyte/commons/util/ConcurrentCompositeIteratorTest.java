@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.ImmutableList;
+import io.airbyte.commons.concurrency.VoidCallable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentCompositeIteratorTest {
+
+  private VoidCallable onClose1;
+  private VoidCallable onClose2;
+  private VoidCallable onClose3;
+
+  @BeforeEach
+  void setup() {
+    onClose1 = mock(VoidCallable.class);
+    onClose2 = mock(VoidCallable.class);
+    onClose3 = mock(VoidCallable.class);
+  }
+
+  @Test
+  void testNullInput() {
+    assertThrows(NullPointerException.class, () -> new ConcurrentCompositeIterator<>(null, 2, 10));
+  }
+
+  @Test
+  void testInvalidConcurrency() {
+    assertThrows(IllegalArgumentException.class, () -> new ConcurrentCompositeIterator<>(Collections.emptyList(), 0, 10));
+  }
+
+  @Test
+  void testEmptyInput() throws Exception {
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(Collections.emptyList(), 2, 10);
+    assertFalse(iterator.hasNext());
+    iterator.close();
+  }
+
+  @Test
+  void testMultipleIterators() throws Exception {
+    // a queue smaller than the iterators makes the consuming threads block on it.
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(numbered("a", 100), onClose1),
+        AutoCloseableIterators.fromIterator(numbered("b", 100), onClose2),
+        AutoCloseableIterators.fromIterator(numbered("c", 100), onClose3)), 2, 5);
+
+    final List<String> elements = new ArrayList<>();
+    iterator.forEachRemaining(elements::add);
+
+    assertEquals(300, elements.size());
+    // the order of each iterator is preserved.
+    assertEquals(numberedList("a", 100), filter(elements, "a"));
+    assertEquals(numberedList("b", 100), filter(elements, "b"));
+    assertEquals(numberedList("c", 100), filter(elements, "c"));
+    // closed once exhausted, then once more on close, which is a no-op for these iterators.
+    verify(onClose1, times(1)).call();
+    verify(onClose2, times(1)).call();
+    verify(onClose3, times(1)).call();
+
+    iterator.close();
+
+    verify(onClose1, times(1)).call();
+    verify(onClose2, times(1)).call();
+    verify(onClose3, times(1)).call();
+  }
+
+  @Test
+  void testWithEmptyIterators() throws Exception {
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(numbered("a", 3), onClose1),
+        AutoCloseableIterators.fromIterator(Collections.emptyIterator(), onClose2),
+        AutoCloseableIterators.fromIterator(numbered("c", 3), onClose3)), 3, 10);
+
+    final List<String> elements = new ArrayList<>();
+    iterator.forEachRemaining(elements::add);
+
+    assertEquals(6, elements.size());
+    assertEquals(numberedList("a", 3), filter(elements, "a"));
+    assertEquals(numberedList("c", 3), filter(elements, "c"));
+    verify(onClose2, times(1)).call();
+    iterator.close();
+  }
+
+  @Test
+  void testFailureIsRethrown() throws Exception {
+    final Iterator<String> failing = new Iterator<>() {
+
+      private int count = 0;
+
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public String next() {
+        if (count++ == 2) {
+          throw new IllegalStateException("failed");
+        }
+        return "b" + count;
+      }
+
+    };
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(numbered("a", 3), onClose1),
+        AutoCloseableIterators.fromIterator(failing, onClose2)), 2, 10);
+
+    final IllegalStateException e = assertThrows(IllegalStateException.class, () -> iterator.forEachRemaining(element -> {}));
+    assertEquals("failed", e.getMessage());
+
+    iterator.close();
+    verify(onClose1, times(1)).call();
+    verify(onClose2, times(1)).call();
+  }
+
+  @Test
+  void testCloseBeforeExhausted() throws Exception {
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(numbered("a", 100), onClose1),
+        AutoCloseableIterators.fromIterator(numbered("b", 100), onClose2)), 2, 1);
+
+    iterator.next();
+    iterator.close();
+
+    verify(onClose1, times(1)).call();
+    verify(onClose2, times(1)).call();
+    assertThrows(IllegalStateException.class, iterator::hasNext);
+  }
+
+  @Test
+  void testCloseRethrowsFirstException() throws Exception {
+    doThrow(new RuntimeException("close failed")).when(onClose1).call();
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(numbered("a", 3), onClose1),
+        AutoCloseableIterators.fromIterator(numbered("b", 3), onClose2)), 2, 10);
+
+    final RuntimeException e = assertThrows(RuntimeException.class, iterator::close);
+    assertEquals("close failed", e.getMessage());
+    verify(onClose2, times(1)).call();
+  }
+
+  private static Iterator<String> numbered(final String prefix, final int count) {
+    return numberedList(prefix, count).iterator();
+  }
+
+  private static List<String> numberedList(final String prefix, final int count) {
+    return IntStream.range(0, count).mapToObj(i -> prefix + i).collect(Collectors.toList());
+  }
+
+  private static List<String> filter(final List<String> elements, final String prefix) {
+    return elements.stream().filter(element -> element.startsWith(prefix)).collect(Collectors.toList());
+  }
+
+}
@@ -218,6 +218,12 @@ public interface Configs {
    */
   boolean connectorSpecificResourceDefaultsEnabled();
 
+  /**
+   * Define how often the replication worker validates records against their stream's JSON schema.
+   * A value of N validates every Nth record of each stream; 1 validates every record. Defaults to 1.
+   */
+  int getReplicationRecordValidationSampleRate();
+
   /**
    * Define the job container's minimum CPU usage. Units follow either Docker or Kubernetes, depending
    * on the deployment. Defaults to none.
@@ -70,6 +70,7 @@ public class EnvConfigs implements Configs {
   public static final String SYNC_JOB_MAX_ATTEMPTS = "SYNC_JOB_MAX_ATTEMPTS";
   public static final String SYNC_JOB_MAX_TIMEOUT_DAYS = "SYNC_JOB_MAX_TIMEOUT_DAYS";
   private static final String CONNECTOR_SPECIFIC_RESOURCE_DEFAULTS_ENABLED = "CONNECTOR_SPECIFIC_RESOURCE_DEFAULTS_ENABLED";
+  public static final String REPLICATION_RECORD_VALIDATION_SAMPLE_RATE = "REPLICATION_RECORD_VALIDATION_SAMPLE_RATE";
   public static final String MAX_SPEC_WORKERS = "MAX_SPEC_WORKERS";
   public static final String MAX_CHECK_WORKERS = "MAX_CHECK_WORKERS";
   public static final String MAX_DISCOVER_WORKERS = "MAX_DISCOVER_WORKERS";
@@ -432,6 +433,11 @@ public class EnvConfigs implements Configs {
     return getEnvOrDefault(CONNECTOR_SPECIFIC_RESOURCE_DEFAULTS_ENABLED, false);
   }
 
+  @Override
+  public int getReplicationRecordValidationSampleRate() {
+    return getEnvOrDefault(REPLICATION_RECORD_VALIDATION_SAMPLE_RATE, 1);
+  }
+
   /**
    * Returns worker pod tolerations parsed from its own environment variable. The value of the env is
    * a string that represents one or more tolerations.
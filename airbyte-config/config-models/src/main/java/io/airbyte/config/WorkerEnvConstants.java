@@ -12,5 +12,7 @@ public class WorkerEnvConstants {
   public static final String WORKER_CONNECTOR_IMAGE = "WORKER_CONNECTOR_IMAGE";
   public static final String WORKER_JOB_ID = "WORKER_JOB_ID";
   public static final String WORKER_JOB_ATTEMPT = "WORKER_JOB_ATTEMPT";
+  // comma separated message formats, other than JSON lines, that the worker can read from the connector.
+  public static final String WORKER_MESSAGE_FORMATS = "WORKER_MESSAGE_FORMATS";
 
 }
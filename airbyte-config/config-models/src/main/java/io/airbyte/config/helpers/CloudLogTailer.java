@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Returns the last lines of logs made of several cloud objects, as described in {@link CloudLogs}.
+ * Objects are read from the newest one backwards with ranged reads, so only the end of the log is
+ * downloaded.
+ *
+ * Objects are never modified once written, and new ones sort after the existing ones. The last tail
+ * of each log is kept for a while, so that tailing the same log again only reads the objects written
+ * since.
+ */
+class CloudLogTailer {
+
+  /**
+   * Objects of a bucket, with the calls needed to tail logs.
+   */
+  interface ObjectStore {
+
+    /**
+     * @param startAfter key of an object, null to list all the objects of the path
+     * @return objects at the path with keys greater than startAfter, in lexicographical order
+     */
+    List<LogObject> list(String logPath, String startAfter) throws IOException;
+
+    /**
+     * @return bytes of the object from start, inclusive, to end, exclusive
+     */
+    byte[] read(String key, long start, long end) throws IOException;
+
+  }
+
+  record LogObject(String key, long size) {}
+
+  private record Tail(String lastKey, List<String> lines, int weight) {}
+
+  private static final int DEFAULT_RANGE_SIZE = 1024 * 1024;
+  // weighted by the number of characters of the lines.
+  private static final long MAX_CACHED_CHARS = 64 * 1024 * 1024;
+  private static final Duration CACHE_EXPIRATION = Duration.ofMinutes(10);
+
+  private final int rangeSize;
+  private final Cache<String, Tail> recentTails;
+
+  CloudLogTailer() {
+    this(DEFAULT_RANGE_SIZE);
+  }
+
+  @VisibleForTesting
+  CloudLogTailer(final int rangeSize) {
+    this.rangeSize = rangeSize;
+    this.recentTails = CacheBuilder.newBuilder()
+        .maximumWeight(MAX_CACHED_CHARS)
+        .weigher((final String key, final Tail tail) -> tail.weight())
+        .expireAfterWrite(CACHE_EXPIRATION)
+        .build();
+  }
+
+  List<String> tail(final ObjectStore store, final String logPath, final int numLines) throws IOException {
+    final String cacheKey = logPath + "#" + numLines;
+    final Tail cachedTail = recentTails.getIfPresent(cacheKey);
+    final List<LogObject> newObjects = store.list(logPath, cachedTail == null ? null : cachedTail.lastKey());
+    if (cachedTail != null && newObjects.isEmpty()) {
+      return new ArrayList<>(cachedTail.lines());
+    }
+
+    final Deque<String> lines = new ArrayDeque<>();
+    for (int i = newObjects.size() - 1; i >= 0 && lines.size() < numLines; i--) {
+      readLinesBackwards(store, newObjects.get(i), lines, numLines);
+    }
+    if (cachedTail != null) {
+      // the cached lines come right before the lines of the new objects.
+      for (int i = cachedTail.lines().size() - 1; i >= 0 && lines.size() < numLines; i--) {
+        lines.addFirst(cachedTail.lines().get(i));
+      }
+    }
+
+    final List<String> result = new ArrayList<>(lines);
+    final String lastKey = newObjects.isEmpty() ? null : newObjects.get(newObjects.size() - 1).key();
+    if (lastKey != null) {
+      recentTails.put(cacheKey, new Tail(lastKey, List.copyOf(result), result.stream().mapToInt(String::length).sum()));
+    }
+    return result;
+  }
+
+  /**
+   * Adds the lines of the object to the front of the deque, from its last line backwards, until the
+   * deque has numLines lines. The object ends with a line break, unless it is empty or its last line
+   * was cut.
+   */
+  private void readLinesBackwards(final ObjectStore store, final LogObject object, final Deque<String> lines, final int numLines)
+      throws IOException {
+    long end = object.size();
+    // start of a line whose end was read with the previous range.
+    byte[] partialLine = new byte[0];
+    boolean atObjectEnd = true;
+    while (end > 0) {
+      final long start = Math.max(0, end - rangeSize);
+      final byte[] range = store.read(object.key(), start, end);
+      final byte[] buffer = Arrays.copyOf(range, range.length + partialLine.length);
+      System.arraycopy(partialLine, 0, buffer, range.length, partialLine.length);
+
+      int lineEnd = buffer.length;
+      for (int i = buffer.length - 1; i >= 0; i--) {
+        if (buffer[i] != '\n') {
+          continue;
+        }
+        // the line break that ends the object doesn't start a new line.
+        if (!(atObjectEnd && i == buffer.length - 1)) {
+          lines.addFirst(toLine(buffer, i + 1, lineEnd));
+          if (lines.size() == numLines) {
+            return;
+          }
+        }
+        lineEnd = i;
+      }
+      atObjectEnd = false;
+      partialLine = Arrays.copyOf(buffer, lineEnd);
+      end = start;
+    }
+    if (partialLine.length > 0) {
+      lines.addFirst(toLine(partialLine, 0, partialLine.length));
+    }
+  }
+
+  private static String toLine(final byte[] buffer, final int start, final int end) {
+    final int length = end > start && buffer[end - 1] == '\r' ? end - start - 1 : end - start;
+    return new String(buffer, start, length, StandardCharsets.UTF_8);
+  }
+
+}
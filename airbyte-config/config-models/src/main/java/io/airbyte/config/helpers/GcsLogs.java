@@ -5,18 +5,19 @@
 package io.airbyte.config.helpers;
 
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Blob.BlobSourceOption;
+import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.Storage;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.Lists;
 import io.airbyte.commons.string.Strings;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
@@ -29,6 +30,7 @@ public class GcsLogs implements CloudLogs {
 
   private static Storage gcs;
   private final Supplier<Storage> gcsClientFactory;
+  private final CloudLogTailer tailer = new CloudLogTailer();
 
   public GcsLogs(final Supplier<Storage> gcsClientFactory) {
     this.gcsClientFactory = gcsClientFactory;
@@ -71,37 +73,8 @@ public class GcsLogs implements CloudLogs {
     LOGGER.debug("Tailing logs from GCS path: {}", logPath);
     final Storage gcsClient = getOrCreateGcsClient();
 
-    LOGGER.debug("Start GCS list request.");
-
-    final Page<Blob> blobs = gcsClient.list(
-        configs.getStorageConfigs().getGcsConfig().getBucketName(),
-        Storage.BlobListOption.prefix(logPath));
-
-    final var ascendingTimestampBlobs = new ArrayList<Blob>();
-    for (final Blob blob : blobs.iterateAll()) {
-      ascendingTimestampBlobs.add(blob);
-    }
-    final var descendingTimestampBlobs = Lists.reverse(ascendingTimestampBlobs);
-
-    final var lines = new ArrayList<String>();
-    int linesRead = 0;
-
-    LOGGER.debug("Start getting GCS objects.");
-    while (linesRead <= numLines && !descendingTimestampBlobs.isEmpty()) {
-      final var poppedBlob = descendingTimestampBlobs.remove(0);
-      try (final var inMemoryData = new ByteArrayOutputStream()) {
-        poppedBlob.downloadTo(inMemoryData);
-        final var currFileLines = inMemoryData.toString(StandardCharsets.UTF_8).split("\n");
-        final List<String> currFileLinesReversed = Lists.reverse(List.of(currFileLines));
-        for (final var line : currFileLinesReversed) {
-          if (linesRead == numLines) {
-            break;
-          }
-          lines.add(0, line);
-          linesRead++;
-        }
-      }
-    }
+    final String bucketName = configs.getStorageConfigs().getGcsConfig().getBucketName();
+    final List<String> lines = tailer.tail(new GcsObjectStore(gcsClient, bucketName), logPath, numLines);
 
     LOGGER.debug("Done retrieving GCS logs: {}.", logPath);
     return lines;
@@ -127,4 +100,38 @@ public class GcsLogs implements CloudLogs {
     return gcs;
   }
 
+  private record GcsObjectStore(Storage gcsClient, String bucketName) implements CloudLogTailer.ObjectStore {
+
+    @Override
+    public List<CloudLogTailer.LogObject> list(final String logPath, final String startAfter) {
+      final Page<Blob> blobs = startAfter == null
+          ? gcsClient.list(bucketName, Storage.BlobListOption.prefix(logPath))
+          // startOffset is inclusive.
+          : gcsClient.list(bucketName, Storage.BlobListOption.prefix(logPath), Storage.BlobListOption.startOffset(startAfter));
+
+      final var objects = new ArrayList<CloudLogTailer.LogObject>();
+      // Objects are returned in lexicographical order.
+      for (final Blob blob : blobs.iterateAll()) {
+        if (!blob.getName().equals(startAfter)) {
+          objects.add(new CloudLogTailer.LogObject(blob.getName(), blob.getSize()));
+        }
+      }
+      return objects;
+    }
+
+    @Override
+    public byte[] read(final String key, final long start, final long end) throws IOException {
+      final ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(end - start));
+      try (final ReadChannel reader = gcsClient.reader(BlobId.of(bucketName, key))) {
+        reader.seek(start);
+        int bytesRead = 0;
+        while (buffer.hasRemaining() && bytesRead >= 0) {
+          bytesRead = reader.read(buffer);
+        }
+      }
+      return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+  }
+
 }
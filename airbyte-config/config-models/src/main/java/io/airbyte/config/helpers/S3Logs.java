@@ -5,18 +5,13 @@
 package io.airbyte.config.helpers;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.Lists;
 import io.airbyte.commons.string.Strings;
 import io.airbyte.config.storage.CloudStorageConfigs;
 import io.airbyte.config.storage.CloudStorageConfigs.S3ApiWorkerStorageConfig;
 import io.airbyte.config.storage.CloudStorageConfigs.WorkerStorageType;
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
@@ -38,6 +33,7 @@ public class S3Logs implements CloudLogs {
   private static S3Client s3;
 
   private final Supplier<S3Client> s3ClientFactory;
+  private final CloudLogTailer tailer = new CloudLogTailer();
 
   public S3Logs(final Supplier<S3Client> s3ClientFactory) {
     this.s3ClientFactory = s3ClientFactory;
@@ -100,25 +96,7 @@ public class S3Logs implements CloudLogs {
     final S3Client s3Client = getOrCreateS3Client();
 
     final var s3Bucket = getBucketName(configs.getStorageConfigs());
-    LOGGER.debug("Start making S3 list request.");
-    final List<String> ascendingTimestampKeys = getAscendingObjectKeys(s3Client, logPath, s3Bucket);
-    final var descendingTimestampKeys = Lists.reverse(ascendingTimestampKeys);
-
-    final var lines = new ArrayList<String>();
-    int linesRead = 0;
-
-    LOGGER.debug("Start getting S3 objects.");
-    while (linesRead <= numLines && !descendingTimestampKeys.isEmpty()) {
-      final var poppedKey = descendingTimestampKeys.remove(0);
-      final List<String> currFileLinesReversed = Lists.reverse(getCurrFile(s3Client, s3Bucket, poppedKey));
-      for (final var line : currFileLinesReversed) {
-        if (linesRead == numLines) {
-          break;
-        }
-        lines.add(0, line);
-        linesRead++;
-      }
-    }
+    final List<String> lines = tailer.tail(new S3ObjectStore(s3Client, s3Bucket), logPath, numLines);
 
     LOGGER.debug("Done retrieving S3 logs: {}.", logPath);
     return lines;
@@ -165,22 +143,33 @@ public class S3Logs implements CloudLogs {
     return ascendingTimestampObjs;
   }
 
-  private static List<String> getCurrFile(final S3Client s3Client, final String s3Bucket, final String poppedKey) throws IOException {
-    final var getObjReq = GetObjectRequest.builder()
-        .key(poppedKey)
-        .bucket(s3Bucket)
-        .build();
+  private record S3ObjectStore(S3Client s3Client, String s3Bucket) implements CloudLogTailer.ObjectStore {
+
+    @Override
+    public List<CloudLogTailer.LogObject> list(final String logPath, final String startAfter) {
+      final var listObjReq = ListObjectsV2Request.builder().bucket(s3Bucket).prefix(logPath).startAfter(startAfter).build();
+      final var objects = new ArrayList<CloudLogTailer.LogObject>();
 
-    final var data = s3Client.getObjectAsBytes(getObjReq).asByteArray();
-    final var is = new ByteArrayInputStream(data);
-    final var currentFileLines = new ArrayList<String>();
-    try (final var reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
-      String temp;
-      while ((temp = reader.readLine()) != null) {
-        currentFileLines.add(temp);
+      // Objects are returned in lexicographical order.
+      for (final var page : s3Client.listObjectsV2Paginator(listObjReq)) {
+        for (final var objMetadata : page.contents()) {
+          objects.add(new CloudLogTailer.LogObject(objMetadata.key(), objMetadata.size()));
+        }
       }
+      return objects;
     }
-    return currentFileLines;
+
+    @Override
+    public byte[] read(final String key, final long start, final long end) {
+      final var getObjReq = GetObjectRequest.builder()
+          .key(key)
+          .bucket(s3Bucket)
+          // both ends of http ranges are inclusive.
+          .range(String.format("bytes=%d-%d", start, end - 1))
+          .build();
+      return s3Client.getObjectAsBytes(getObjReq).asByteArray();
+    }
+
   }
 
 }
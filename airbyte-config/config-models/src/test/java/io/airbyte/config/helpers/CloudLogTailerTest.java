@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.airbyte.config.helpers.CloudLogTailer.LogObject;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CloudLogTailerTest {
+
+  private static final String LOG_PATH = "job-logging/workspace/1/0/logs.log";
+
+  private InMemoryObjectStore store;
+  private CloudLogTailer tailer;
+
+  @BeforeEach
+  void setup() {
+    store = new InMemoryObjectStore();
+    // smaller than most lines, so that lines are split between ranges.
+    tailer = new CloudLogTailer(4);
+  }
+
+  @Test
+  void testTail() throws IOException {
+    store.put(LOG_PATH + "/20220101000000_first", "Line 1\nLine 2\nLine 3\n");
+    store.put(LOG_PATH + "/20220101000100_second", "Line 4\nLine 5\nLine 6\n");
+    store.put(LOG_PATH + "/20220101000200_third", "Line 7\nLine 8\nLine 9\n");
+
+    assertEquals(List.of("Line 4", "Line 5", "Line 6", "Line 7", "Line 8", "Line 9"), tailer.tail(store, LOG_PATH, 6));
+    // the first object is not read.
+    assertEquals(List.of(LOG_PATH + "/20220101000100_second", LOG_PATH + "/20220101000200_third"), store.readKeys());
+  }
+
+  @Test
+  void testTailMoreLinesThanTheLog() throws IOException {
+    store.put(LOG_PATH + "/20220101000000_first", "Line 1\r\n\nLine 3");
+    store.put(LOG_PATH + "/20220101000100_empty", "");
+    store.put(LOG_PATH + "/20220101000200_second", "Line 4 is longer than a range\n");
+
+    assertEquals(List.of("Line 1", "", "Line 3", "Line 4 is longer than a range"), tailer.tail(store, LOG_PATH, 100));
+    assertEquals(List.of(), tailer.tail(store, "other-path", 100));
+  }
+
+  @Test
+  void testTailOnlyReadsNewObjects() throws IOException {
+    store.put(LOG_PATH + "/20220101000000_first", "Line 1\nLine 2\n");
+    store.put(LOG_PATH + "/20220101000100_second", "Line 3\n");
+    assertEquals(List.of("Line 2", "Line 3"), tailer.tail(store, LOG_PATH, 2));
+
+    store.clearReadKeys();
+    assertEquals(List.of("Line 2", "Line 3"), tailer.tail(store, LOG_PATH, 2));
+    assertEquals(List.of(), store.readKeys());
+
+    store.put(LOG_PATH + "/20220101000200_third", "Line 4\n");
+    assertEquals(List.of("Line 3", "Line 4"), tailer.tail(store, LOG_PATH, 2));
+    assertEquals(List.of(LOG_PATH + "/20220101000200_third"), store.readKeys());
+    assertEquals(List.of("Line 2", "Line 3", "Line 4"), tailer.tail(store, LOG_PATH, 3));
+  }
+
+  private static class InMemoryObjectStore implements CloudLogTailer.ObjectStore {
+
+    private final TreeMap<String, byte[]> objects = new TreeMap<>();
+    private final List<String> readKeys = new ArrayList<>();
+
+    void put(final String key, final String content) {
+      objects.put(key, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    List<String> readKeys() {
+      return readKeys.stream().distinct().sorted().collect(Collectors.toList());
+    }
+
+    void clearReadKeys() {
+      readKeys.clear();
+    }
+
+    @Override
+    public List<LogObject> list(final String logPath, final String startAfter) {
+      final var objectsAfter = startAfter == null ? objects : objects.tailMap(startAfter, false);
+      return objectsAfter.entrySet().stream()
+          .filter(entry -> entry.getKey().startsWith(logPath))
+          .map(entry -> new LogObject(entry.getKey(), entry.getValue().length))
+          .collect(Collectors.toList());
+    }
+
+    @Override
+    public byte[] read(final String key, final long start, final long end) {
+      readKeys.add(key);
+      return Arrays.copyOfRange(objects.get(key), (int) start, (int) end);
+    }
+
+  }
+
+}
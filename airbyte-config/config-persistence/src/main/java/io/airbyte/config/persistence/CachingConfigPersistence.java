@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.AirbyteConfig;
+import io.airbyte.config.ConfigWithMetadata;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
+import io.airbyte.validation.json.JsonValidationException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the configs read from the decorated persistence in memory, so that repeated reads don't go
+ * to the database. Configs are kept as json and deserialized on every read, so callers can modify
+ * the configs they get.
+ *
+ * Writes and deletes going through this persistence drop the cached configs they change. Configs
+ * written by other processes, or by queries that don't go through this persistence, are only read
+ * again once their entries expire, unless {@link #invalidate(AirbyteConfig)} is called.
+ *
+ * Decorating a {@link ValidatingConfigPersistence} with this class means configs are only validated
+ * when they are read from the database, not on every read.
+ */
+public class CachingConfigPersistence implements ConfigPersistence {
+
+  public static final long DEFAULT_MAXIMUM_SIZE = 20_000;
+  public static final Duration DEFAULT_EXPIRATION = Duration.ofSeconds(30);
+
+  private final ConfigPersistence decoratedPersistence;
+  private final MetricClient metricClient;
+  // config id to config json, or all the configs of a type, as a list of json, for the null config id.
+  private final Cache<CacheKey, Object> cache;
+  // incremented whenever configs of a type are invalidated, so that configs that were read from the
+  // decorated persistence before the invalidation are not cached after it.
+  private final Map<AirbyteConfig, Long> generations = new HashMap<>();
+  private long allTypesGeneration = 0;
+
+  public CachingConfigPersistence(final ConfigPersistence decoratedPersistence, final MetricClient metricClient) {
+    this(decoratedPersistence, metricClient, DEFAULT_MAXIMUM_SIZE, DEFAULT_EXPIRATION);
+  }
+
+  public CachingConfigPersistence(final ConfigPersistence decoratedPersistence,
+                                  final MetricClient metricClient,
+                                  final long maximumSize,
+                                  final Duration expiration) {
+    this.decoratedPersistence = decoratedPersistence;
+    this.metricClient = metricClient;
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(expiration)
+        .build();
+  }
+
+  @Override
+  public <T> T getConfig(final AirbyteConfig configType, final String configId, final Class<T> clazz)
+      throws ConfigNotFoundException, JsonValidationException, IOException {
+    final CacheKey key = new CacheKey(configType, configId);
+    final JsonNode cachedConfig = (JsonNode) cache.getIfPresent(key);
+    if (cachedConfig != null) {
+      recordHit(configType);
+      return Jsons.object(cachedConfig, clazz);
+    }
+
+    recordMiss(configType);
+    final long generation = getGeneration(configType);
+    final T config = decoratedPersistence.getConfig(configType, configId, clazz);
+    putIfNotInvalidated(configType, generation, Map.of(key, Jsons.jsonNode(config)));
+    return config;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> List<T> listConfigs(final AirbyteConfig configType, final Class<T> clazz) throws JsonValidationException, IOException {
+    final CacheKey key = new CacheKey(configType, null);
+    final List<JsonNode> cachedConfigs = (List<JsonNode>) cache.getIfPresent(key);
+    if (cachedConfigs != null) {
+      recordHit(configType);
+      return cachedConfigs.stream().map(config -> Jsons.object(config, clazz)).collect(Collectors.toList());
+    }
+
+    recordMiss(configType);
+    final long generation = getGeneration(configType);
+    final List<T> configs = decoratedPersistence.listConfigs(configType, clazz);
+    final Map<CacheKey, Object> entries = new HashMap<>();
+    final List<JsonNode> jsonConfigs = configs.stream().map(Jsons::jsonNode).collect(Collectors.toList());
+    entries.put(key, jsonConfigs);
+    for (int i = 0; i < configs.size(); i++) {
+      entries.put(new CacheKey(configType, configType.getId(configs.get(i))), jsonConfigs.get(i));
+    }
+    putIfNotInvalidated(configType, generation, entries);
+    return configs;
+  }
+
+  @Override
+  public <T> ConfigWithMetadata<T> getConfigWithMetadata(final AirbyteConfig configType, final String configId, final Class<T> clazz)
+      throws ConfigNotFoundException, JsonValidationException, IOException {
+    return decoratedPersistence.getConfigWithMetadata(configType, configId, clazz);
+  }
+
+  @Override
+  public <T> List<ConfigWithMetadata<T>> listConfigsWithMetadata(final AirbyteConfig configType, final Class<T> clazz)
+      throws JsonValidationException, IOException {
+    return decoratedPersistence.listConfigsWithMetadata(configType, clazz);
+  }
+
+  @Override
+  public <T> void writeConfig(final AirbyteConfig configType, final String configId, final T config) throws JsonValidationException, IOException {
+    try {
+      decoratedPersistence.writeConfig(configType, configId, config);
+    } finally {
+      invalidate(configType);
+    }
+  }
+
+  @Override
+  public <T> void writeConfigs(final AirbyteConfig configType, final Map<String, T> configs) throws IOException, JsonValidationException {
+    try {
+      decoratedPersistence.writeConfigs(configType, configs);
+    } finally {
+      invalidate(configType);
+    }
+  }
+
+  @Override
+  public void deleteConfig(final AirbyteConfig configType, final String configId) throws ConfigNotFoundException, IOException {
+    try {
+      decoratedPersistence.deleteConfig(configType, configId);
+    } finally {
+      invalidate(configType);
+    }
+  }
+
+  @Override
+  public void replaceAllConfigs(final Map<AirbyteConfig, Stream<?>> configs, final boolean dryRun) throws IOException {
+    try {
+      decoratedPersistence.replaceAllConfigs(configs, dryRun);
+    } finally {
+      invalidateAll();
+    }
+  }
+
+  @Override
+  public Map<String, Stream<JsonNode>> dumpConfigs() throws IOException {
+    return decoratedPersistence.dumpConfigs();
+  }
+
+  @Override
+  public void loadData(final ConfigPersistence seedPersistence) throws IOException {
+    try {
+      decoratedPersistence.loadData(seedPersistence);
+    } finally {
+      invalidateAll();
+    }
+  }
+
+  /**
+   * Writing a config can change others of the same type, e.g. through the operations of a
+   * connection, so all the configs of the type are dropped rather than the written ones only.
+   */
+  @Override
+  public synchronized void invalidate(final AirbyteConfig configType) {
+    generations.merge(configType, 1L, Long::sum);
+    cache.invalidateAll(cache.asMap().keySet().stream().filter(key -> key.configType().equals(configType)).collect(Collectors.toList()));
+    decoratedPersistence.invalidate(configType);
+  }
+
+  private synchronized void invalidateAll() {
+    allTypesGeneration++;
+    cache.invalidateAll();
+  }
+
+  private synchronized long getGeneration(final AirbyteConfig configType) {
+    return allTypesGeneration + generations.getOrDefault(configType, 0L);
+  }
+
+  private synchronized void putIfNotInvalidated(final AirbyteConfig configType, final long generation, final Map<CacheKey, Object> entries) {
+    if (getGeneration(configType) == generation) {
+      cache.putAll(entries);
+    }
+  }
+
+  private void recordHit(final AirbyteConfig configType) {
+    metricClient.count(OssMetricsRegistry.CONFIG_CACHE_HIT, 1, MetricTags.getConfigType(configType.name()));
+  }
+
+  private void recordMiss(final AirbyteConfig configType) {
+    metricClient.count(OssMetricsRegistry.CONFIG_CACHE_MISS, 1, MetricTags.getConfigType(configType.name()));
+  }
+
+  private record CacheKey(AirbyteConfig configType, String configId) {}
+
+}
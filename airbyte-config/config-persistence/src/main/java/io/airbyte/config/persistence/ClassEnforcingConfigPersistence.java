@@ -96,4 +96,9 @@ public class ClassEnforcingConfigPersistence implements ConfigPersistence {
     decoratedPersistence.loadData(seedPersistence);
   }
 
+  @Override
+  public void invalidate(final AirbyteConfig configType) {
+    decoratedPersistence.invalidate(configType);
+  }
+
 }
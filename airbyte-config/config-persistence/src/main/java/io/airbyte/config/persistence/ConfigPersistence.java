@@ -36,4 +36,10 @@ public interface ConfigPersistence {
 
   void loadData(ConfigPersistence seedPersistence) throws IOException;
 
+  /**
+   * Called after configs of the given type were changed without going through this persistence, so
+   * that persistences keeping copies of configs drop them.
+   */
+  default void invalidate(final AirbyteConfig configType) {}
+
 }
@@ -49,6 +49,7 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -550,6 +551,21 @@ public class ConfigRepository {
     return persistence.listConfigs(ConfigSchema.SOURCE_CONNECTION, SourceConnection.class);
   }
 
+  /**
+   * Reads the given sources, joined with their definitions, with a single query. Ids that don't match
+   * a source are ignored. Does not contain secrets.
+   *
+   * @param sourceIds - ids of the sources to fetch.
+   * @return sources with their definitions
+   * @throws IOException - you never know when you IO
+   */
+  public List<SourceAndDefinition> listSourcesWithDefinitions(final Collection<UUID> sourceIds) throws IOException {
+    return listActorsWithDefinitions(ActorType.source, sourceIds)
+        .map(record -> new SourceAndDefinition(
+            DbConverter.buildSourceConnection(record),
+            DbConverter.buildStandardSourceDefinition(record)));
+  }
+
   /**
    * Returns destination with a given id. Does not contain secrets. To hydrate with secrets see
    * { @link SecretsRepositoryReader#getDestinationConnectionWithSecrets(final UUID destinationId) }.
@@ -592,6 +608,30 @@ public class ConfigRepository {
     return persistence.listConfigs(ConfigSchema.DESTINATION_CONNECTION, DestinationConnection.class);
   }
 
+  /**
+   * Reads the given destinations, joined with their definitions, with a single query. Ids that don't
+   * match a destination are ignored. Does not contain secrets.
+   *
+   * @param destinationIds - ids of the destinations to fetch.
+   * @return destinations with their definitions
+   * @throws IOException - you never know when you IO
+   */
+  public List<DestinationAndDefinition> listDestinationsWithDefinitions(final Collection<UUID> destinationIds) throws IOException {
+    return listActorsWithDefinitions(ActorType.destination, destinationIds)
+        .map(record -> new DestinationAndDefinition(
+            DbConverter.buildDestinationConnection(record),
+            DbConverter.buildStandardDestinationDefinition(record)));
+  }
+
+  private Result<Record> listActorsWithDefinitions(final ActorType actorType, final Collection<UUID> actorIds) throws IOException {
+    return database.query(ctx -> ctx.select(ACTOR.asterisk(), ACTOR_DEFINITION.asterisk())
+        .from(ACTOR)
+        .join(ACTOR_DEFINITION).on(ACTOR.ACTOR_DEFINITION_ID.eq(ACTOR_DEFINITION.ID))
+        .where(ACTOR.ACTOR_TYPE.eq(actorType))
+        .and(ACTOR.ID.in(actorIds))
+        .fetch());
+  }
+
   public StandardSync getStandardSync(final UUID connectionId) throws JsonValidationException, IOException, ConfigNotFoundException {
     return persistence.getConfig(ConfigSchema.STANDARD_SYNC, connectionId.toString(), StandardSync.class);
   }
@@ -623,16 +663,17 @@ public class ConfigRepository {
   }
 
   private List<StandardSync> getStandardSyncsFromResult(final Result<Record> result) throws IOException {
+    final List<UUID> connectionIds = result.map(record -> record.get(CONNECTION.ID));
+    // the operations of all the connections are read with a single query.
+    final Map<UUID, List<UUID>> operationIdsByConnectionId = database.query(ctx -> ctx
+        .select(CONNECTION_OPERATION.CONNECTION_ID, CONNECTION_OPERATION.OPERATION_ID)
+        .from(CONNECTION_OPERATION)
+        .where(CONNECTION_OPERATION.CONNECTION_ID.in(connectionIds))
+        .fetchGroups(CONNECTION_OPERATION.CONNECTION_ID, CONNECTION_OPERATION.OPERATION_ID));
+
     final List<StandardSync> standardSyncs = new ArrayList<>();
     for (final Record record : result) {
-      final UUID connectionId = record.get(CONNECTION.ID);
-      final Result<Record> connectionOperationRecords = database.query(ctx -> ctx.select(asterisk())
-          .from(CONNECTION_OPERATION)
-          .where(CONNECTION_OPERATION.CONNECTION_ID.eq(connectionId))
-          .fetch());
-
-      final List<UUID> connectionOperationIds =
-          connectionOperationRecords.stream().map(r -> r.get(CONNECTION_OPERATION.OPERATION_ID)).collect(Collectors.toList());
+      final List<UUID> connectionOperationIds = operationIdsByConnectionId.getOrDefault(record.get(CONNECTION.ID), new ArrayList<>());
       standardSyncs.add(DbConverter.buildStandardSync(record, connectionOperationIds));
     }
     return standardSyncs;
@@ -650,6 +691,21 @@ public class ConfigRepository {
     return persistence.listConfigs(ConfigSchema.STANDARD_SYNC_OPERATION, StandardSyncOperation.class);
   }
 
+  /**
+   * Reads the given operations with a single query. Ids that don't match an operation are ignored.
+   *
+   * @param operationIds - ids of the operations to fetch.
+   * @return operations, including tombstoned ones
+   * @throws IOException - you never know when you IO
+   */
+  public List<StandardSyncOperation> listStandardSyncOperations(final Collection<UUID> operationIds) throws IOException {
+    return database.query(ctx -> ctx.select(asterisk())
+        .from(OPERATION)
+        .where(OPERATION.ID.in(operationIds))
+        .fetch())
+        .map(DbConverter::buildStandardSyncOperation);
+  }
+
   /**
    * Updates {@link io.airbyte.db.instance.configs.jooq.generated.tables.ConnectionOperation} records
    * for the given {@code connectionId}.
@@ -686,6 +742,7 @@ public class ConfigRepository {
 
       return null;
     });
+    persistence.invalidate(ConfigSchema.STANDARD_SYNC);
   }
 
   public void deleteStandardSyncOperation(final UUID standardSyncOperationId) throws IOException {
@@ -697,6 +754,8 @@ public class ConfigRepository {
           .where(OPERATION.ID.eq(standardSyncOperationId)).execute();
       return null;
     });
+    persistence.invalidate(ConfigSchema.STANDARD_SYNC);
+    persistence.invalidate(ConfigSchema.STANDARD_SYNC_OPERATION);
   }
 
   public SourceOAuthParameter getSourceOAuthParams(final UUID sourceOAuthParameterId)
@@ -993,4 +1052,8 @@ public class ConfigRepository {
         workspaceServiceAccount);
   }
 
+  public record SourceAndDefinition(SourceConnection source, StandardSourceDefinition definition) {}
+
+  public record DestinationAndDefinition(DestinationConnection destination, StandardDestinationDefinition definition) {}
+
 }
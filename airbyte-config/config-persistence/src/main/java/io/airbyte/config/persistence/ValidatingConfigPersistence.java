@@ -120,6 +120,11 @@ public class ValidatingConfigPersistence implements ConfigPersistence {
     decoratedPersistence.loadData(seedPersistence);
   }
 
+  @Override
+  public void invalidate(final AirbyteConfig configType) {
+    decoratedPersistence.invalidate(configType);
+  }
+
   private <T> void validateJson(final T config, final AirbyteConfig configType) throws JsonValidationException {
     final JsonNode schema = JsonSchemaValidator.getSchema(configType.getConfigSchemaFile());
     schemaValidator.ensure(schema, Jsons.jsonNode(config));
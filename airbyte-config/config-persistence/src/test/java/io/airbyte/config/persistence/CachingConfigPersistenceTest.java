@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.config.ConfigSchema;
+import io.airbyte.config.StandardSourceDefinition;
+import io.airbyte.metrics.lib.NotImplementedMetricClient;
+import io.airbyte.validation.json.JsonValidationException;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingConfigPersistenceTest {
+
+  private static final UUID UUID_1 = new UUID(0, 1);
+  private static final StandardSourceDefinition SOURCE_1 = new StandardSourceDefinition().withSourceDefinitionId(UUID_1).withName("apache storm");
+  private static final UUID UUID_2 = new UUID(0, 2);
+  private static final StandardSourceDefinition SOURCE_2 = new StandardSourceDefinition().withSourceDefinitionId(UUID_2).withName("apache flink");
+
+  private ConfigPersistence decoratedConfigPersistence;
+  private CachingConfigPersistence configPersistence;
+
+  @BeforeEach
+  void setUp() {
+    decoratedConfigPersistence = mock(ConfigPersistence.class);
+    configPersistence = new CachingConfigPersistence(decoratedConfigPersistence, new NotImplementedMetricClient());
+  }
+
+  @Test
+  void testGetConfigIsCached() throws JsonValidationException, ConfigNotFoundException, IOException {
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenReturn(SOURCE_1);
+
+    final StandardSourceDefinition first = getSource(UUID_1);
+    final StandardSourceDefinition second = getSource(UUID_1);
+
+    assertEquals(SOURCE_1, first);
+    assertEquals(SOURCE_1, second);
+    // callers can modify the configs they get without changing the cached ones.
+    assertNotSame(first, second);
+    verify(decoratedConfigPersistence, times(1))
+        .getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class);
+  }
+
+  @Test
+  void testGetConfigNotFoundIsNotCached() throws JsonValidationException, ConfigNotFoundException, IOException {
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenThrow(new ConfigNotFoundException(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString()))
+        .thenReturn(SOURCE_1);
+
+    assertThrows(ConfigNotFoundException.class, () -> getSource(UUID_1));
+    assertEquals(SOURCE_1, getSource(UUID_1));
+  }
+
+  @Test
+  void testListConfigsCachesEachConfig() throws JsonValidationException, ConfigNotFoundException, IOException {
+    when(decoratedConfigPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class))
+        .thenReturn(List.of(SOURCE_1, SOURCE_2));
+
+    assertEquals(List.of(SOURCE_1, SOURCE_2), configPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class));
+    assertEquals(List.of(SOURCE_1, SOURCE_2), configPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class));
+    assertEquals(SOURCE_2, getSource(UUID_2));
+
+    verify(decoratedConfigPersistence, times(1)).listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class);
+    verify(decoratedConfigPersistence, times(0))
+        .getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_2.toString(), StandardSourceDefinition.class);
+  }
+
+  @Test
+  void testWriteInvalidatesConfigsOfTheType() throws JsonValidationException, ConfigNotFoundException, IOException {
+    final StandardSourceDefinition updatedSource = new StandardSourceDefinition().withSourceDefinitionId(UUID_1).withName("apache storm 2");
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenReturn(SOURCE_1)
+        .thenReturn(updatedSource);
+    when(decoratedConfigPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class))
+        .thenReturn(List.of(SOURCE_1))
+        .thenReturn(List.of(updatedSource));
+
+    assertEquals(SOURCE_1, getSource(UUID_1));
+    assertEquals(List.of(SOURCE_1), configPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class));
+
+    configPersistence.writeConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), updatedSource);
+
+    verify(decoratedConfigPersistence).writeConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), updatedSource);
+    assertEquals(updatedSource, getSource(UUID_1));
+    assertEquals(List.of(updatedSource), configPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class));
+  }
+
+  @Test
+  void testDeleteInvalidatesConfigsOfTheType() throws JsonValidationException, ConfigNotFoundException, IOException {
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenReturn(SOURCE_1)
+        .thenThrow(new ConfigNotFoundException(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString()));
+
+    assertEquals(SOURCE_1, getSource(UUID_1));
+    configPersistence.deleteConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString());
+
+    assertThrows(ConfigNotFoundException.class, () -> getSource(UUID_1));
+  }
+
+  @Test
+  void testInvalidationDuringReadIsNotOverwritten() throws JsonValidationException, ConfigNotFoundException, IOException {
+    final StandardSourceDefinition updatedSource = new StandardSourceDefinition().withSourceDefinitionId(UUID_1).withName("apache storm 2");
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenAnswer(invocation -> {
+          // the config is changed while it is being read.
+          configPersistence.invalidate(ConfigSchema.STANDARD_SOURCE_DEFINITION);
+          return SOURCE_1;
+        })
+        .thenReturn(updatedSource);
+
+    assertEquals(SOURCE_1, getSource(UUID_1));
+    assertEquals(updatedSource, getSource(UUID_1));
+  }
+
+  @Test
+  void testInvalidateIsForwarded() {
+    configPersistence.invalidate(ConfigSchema.STANDARD_SYNC);
+    verify(decoratedConfigPersistence).invalidate(ConfigSchema.STANDARD_SYNC);
+  }
+
+  private StandardSourceDefinition getSource(final UUID sourceDefinitionId)
+      throws JsonValidationException, ConfigNotFoundException, IOException {
+    return configPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, sourceDefinitionId.toString(), StandardSourceDefinition.class);
+  }
+
+}
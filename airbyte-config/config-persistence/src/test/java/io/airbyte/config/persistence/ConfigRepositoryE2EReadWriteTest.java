@@ -26,6 +26,8 @@ import io.airbyte.config.StandardSourceDefinition.SourceType;
 import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardSyncOperation;
 import io.airbyte.config.StandardWorkspace;
+import io.airbyte.config.persistence.ConfigRepository.DestinationAndDefinition;
+import io.airbyte.config.persistence.ConfigRepository.SourceAndDefinition;
 import io.airbyte.config.persistence.split_secrets.JsonSecretsProcessor;
 import io.airbyte.db.Database;
 import io.airbyte.db.factory.DSLContextFactory;
@@ -43,6 +45,7 @@ import io.airbyte.test.utils.DatabaseConnectionHelper;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -402,6 +405,43 @@ class ConfigRepositoryE2EReadWriteTest {
     assertFalse(result.isPresent());
   }
 
+  @Test
+  void testListSourcesWithDefinitions() throws IOException, JsonValidationException, ConfigNotFoundException {
+    final List<SourceAndDefinition> expected = new ArrayList<>();
+    for (final SourceConnection source : MockData.sourceConnections()) {
+      expected.add(new SourceAndDefinition(
+          configRepository.getSourceConnection(source.getSourceId()),
+          configRepository.getStandardSourceDefinition(source.getSourceDefinitionId())));
+    }
+    final List<UUID> sourceIds = new ArrayList<>(MockData.sourceConnections().stream().map(SourceConnection::getSourceId).toList());
+    // destinations and unknown ids are ignored.
+    sourceIds.add(MockData.destinationConnections().get(0).getDestinationId());
+    sourceIds.add(UUID.randomUUID());
+
+    assertThat(configRepository.listSourcesWithDefinitions(sourceIds)).hasSameElementsAs(expected);
+  }
+
+  @Test
+  void testListDestinationsWithDefinitions() throws IOException, JsonValidationException, ConfigNotFoundException {
+    final List<DestinationAndDefinition> expected = new ArrayList<>();
+    for (final DestinationConnection destination : MockData.destinationConnections()) {
+      expected.add(new DestinationAndDefinition(
+          configRepository.getDestinationConnection(destination.getDestinationId()),
+          configRepository.getStandardDestinationDefinition(destination.getDestinationDefinitionId())));
+    }
+    final List<UUID> destinationIds = MockData.destinationConnections().stream().map(DestinationConnection::getDestinationId).toList();
+
+    assertThat(configRepository.listDestinationsWithDefinitions(destinationIds)).hasSameElementsAs(expected);
+  }
+
+  @Test
+  void testListStandardSyncOperationsByIds() throws IOException {
+    final List<StandardSyncOperation> expected = MockData.standardSyncOperations().subList(0, 2);
+    final List<UUID> operationIds = List.of(expected.get(0).getOperationId(), expected.get(1).getOperationId(), UUID.randomUUID());
+
+    assertThat(configRepository.listStandardSyncOperations(operationIds)).hasSameElementsAs(expected);
+  }
+
   @Test
   void testGetStandardSyncUsingOperation() throws IOException {
     final UUID operationId = MockData.standardSyncOperations().get(0).getOperationId();
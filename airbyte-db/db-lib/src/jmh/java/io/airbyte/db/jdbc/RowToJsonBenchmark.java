@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.jdbc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.functional.CheckedFunction;
+import io.airbyte.commons.json.Jsons;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares converting the rows of a 50 column table read from an in-memory H2 database with the
+ * per-column readers of {@link JdbcSourceOperations} and with the per-cell dispatch it used to do.
+ * Scores are rows per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RowToJsonBenchmark {
+
+  private static final int COLUMN_COUNT = 50;
+  private static final int ROW_COUNT = 10_000;
+  private static final List<String> COLUMN_TYPES = List.of(
+      "INTEGER", "BIGINT", "VARCHAR(64)", "DOUBLE PRECISION", "DECIMAL(20, 4)", "BOOLEAN", "TIMESTAMP", "DATE");
+
+  private Connection connection;
+  private final JdbcSourceOperations sourceOperations = new JdbcSourceOperations();
+  private final JdbcSourceOperations perCellSourceOperations = new PerCellSourceOperations();
+
+  @Setup
+  public void setup() throws SQLException {
+    connection = DriverManager.getConnection("jdbc:h2:mem:row_to_json;DB_CLOSE_DELAY=-1");
+
+    final StringJoiner columns = new StringJoiner(", ");
+    final StringJoiner parameters = new StringJoiner(", ");
+    for (int i = 0; i < COLUMN_COUNT; i++) {
+      columns.add(String.format("column_%d %s", i, COLUMN_TYPES.get(i % COLUMN_TYPES.size())));
+      parameters.add("?");
+    }
+    try (final Statement statement = connection.createStatement()) {
+      statement.execute(String.format("CREATE TABLE data (%s)", columns));
+    }
+
+    try (final PreparedStatement statement = connection.prepareStatement(String.format("INSERT INTO data VALUES (%s)", parameters))) {
+      for (int row = 0; row < ROW_COUNT; row++) {
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+          // one value in ten is null.
+          final boolean isNull = (row + i) % 10 == 0;
+          statement.setObject(i + 1, isNull ? null : sampleValue(i % COLUMN_TYPES.size(), row));
+        }
+        statement.addBatch();
+      }
+      statement.executeBatch();
+    }
+  }
+
+  private static Object sampleValue(final int type, final int row) {
+    return switch (type) {
+      case 0 -> row;
+      case 1 -> (long) row * 1_000_003;
+      case 2 -> "value-" + row;
+      case 3 -> row / 7.0;
+      case 4 -> new BigDecimal(row).movePointLeft(2);
+      case 5 -> row % 2 == 0;
+      case 6 -> new Timestamp(1_600_000_000_000L + row * 1000L);
+      case 7 -> new Date(1_600_000_000_000L + row * 86_400_000L);
+      default -> throw new IllegalArgumentException();
+    };
+  }
+
+  @TearDown
+  public void tearDown() throws SQLException {
+    connection.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROW_COUNT)
+  public void columnReaders(final Blackhole blackhole) throws SQLException {
+    readAll(sourceOperations, blackhole);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROW_COUNT)
+  public void perCellDispatch(final Blackhole blackhole) throws SQLException {
+    readAll(perCellSourceOperations, blackhole);
+  }
+
+  private void readAll(final JdbcSourceOperations operations, final Blackhole blackhole) throws SQLException {
+    try (final Statement statement = connection.createStatement();
+        final ResultSet resultSet = statement.executeQuery("SELECT * FROM data")) {
+      final CheckedFunction<ResultSet, JsonNode, SQLException> rowToJson = operations.newRowToJsonMapper();
+      while (resultSet.next()) {
+        blackhole.consume(rowToJson.apply(resultSet));
+      }
+    }
+  }
+
+  /**
+   * How rows used to be converted: the column type and name are looked up for every cell, and each
+   * value is read a first time to check for null.
+   */
+  private static class PerCellSourceOperations extends JdbcSourceOperations {
+
+    @Override
+    public JsonNode rowToJson(final ResultSet queryContext) throws SQLException {
+      final int columnCount = queryContext.getMetaData().getColumnCount();
+      final ObjectNode jsonNode = (ObjectNode) Jsons.jsonNode(Collections.emptyMap());
+
+      for (int i = 1; i <= columnCount; i++) {
+        queryContext.getObject(i);
+        if (queryContext.wasNull()) {
+          continue;
+        }
+        setJsonField(queryContext, i, jsonNode);
+      }
+
+      return jsonNode;
+    }
+
+    @Override
+    public CheckedFunction<ResultSet, JsonNode, SQLException> newRowToJsonMapper() {
+      return this::rowToJson;
+    }
+
+  }
+
+}
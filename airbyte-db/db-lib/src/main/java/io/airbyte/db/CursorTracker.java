@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.protocol.models.JsonSchemaPrimitive;
+import java.math.BigDecimal;
+
+/**
+ * Keeps the largest cursor value read by an incremental sync. It orders values the same way as
+ * {@link IncrementalUtils#compareCursors(String, String, JsonSchemaPrimitive)}, but keeps the
+ * largest value parsed according to the cursor type, and reads the cursor values of the records
+ * directly from their json nodes, instead of formatting and parsing both values for every record.
+ * The largest value is only formatted back to a string when it is requested for a state message.
+ */
+public abstract class CursorTracker {
+
+  private String maxCursor;
+  private JsonNode maxValue;
+
+  protected CursorTracker(final String initialCursor) {
+    this.maxCursor = initialCursor;
+  }
+
+  /**
+   * @param initialCursor cursor of the previous sync, null if there is none
+   */
+  public static CursorTracker create(final JsonSchemaPrimitive type, final String initialCursor) {
+    return switch (type) {
+      case STRING -> new StringCursorTracker(initialCursor);
+      case NUMBER -> new NumberCursorTracker(initialCursor);
+      case BOOLEAN -> new BooleanCursorTracker(initialCursor);
+      // includes OBJECT, ARRAY, NULL
+      default -> new UncomparableCursorTracker(initialCursor, type);
+    };
+  }
+
+  /**
+   * @return largest cursor value, null if there is none
+   */
+  public String getMaxCursor() {
+    if (maxCursor == null && maxValue != null) {
+      maxCursor = maxValue.asText();
+    }
+    return maxCursor;
+  }
+
+  /**
+   * @param value cursor value of a record, must not be a null node
+   * @return true if the value is greater than the largest cursor value
+   */
+  public abstract boolean isGreaterThanMax(JsonNode value);
+
+  /**
+   * @param value cursor value of a record, greater than the largest cursor value
+   */
+  public void setMax(final JsonNode value) {
+    maxValue = value;
+    maxCursor = null;
+    onNewMax(value);
+  }
+
+  protected abstract void onNewMax(JsonNode value);
+
+  protected boolean hasMax() {
+    return maxCursor != null || maxValue != null;
+  }
+
+  private static class StringCursorTracker extends CursorTracker {
+
+    private String max;
+
+    StringCursorTracker(final String initialCursor) {
+      super(initialCursor);
+      this.max = initialCursor;
+    }
+
+    @Override
+    public boolean isGreaterThanMax(final JsonNode value) {
+      return max == null || max.compareTo(value.asText()) < 0;
+    }
+
+    @Override
+    protected void onNewMax(final JsonNode value) {
+      max = value.asText();
+    }
+
+  }
+
+  /**
+   * Compares integral values as longs, and falls back to BigDecimal for values with a fractional
+   * part or that do not fit in a long, so that no value loses precision. NaN and infinities, which
+   * BigDecimal cannot represent, are compared as doubles, like
+   * {@link IncrementalUtils#compareCursors(String, String, JsonSchemaPrimitive)} does.
+   */
+  private static class NumberCursorTracker extends CursorTracker {
+
+    private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    // one of the three is set once there is a max: maxLong if the max is integral and fits in a long,
+    // maxNonFinite if it is NaN or infinite.
+    private Long maxLong;
+    private BigDecimal maxDecimal;
+    private Double maxNonFinite;
+
+    NumberCursorTracker(final String initialCursor) {
+      super(initialCursor);
+      if (initialCursor != null) {
+        setMaxFromText(initialCursor);
+      }
+    }
+
+    @Override
+    public boolean isGreaterThanMax(final JsonNode value) {
+      if (!hasMax()) {
+        return true;
+      }
+      if (maxLong != null && isLong(value)) {
+        return maxLong < value.longValue();
+      }
+      final Double nonFiniteValue = toNonFinite(value);
+      if (maxNonFinite != null || nonFiniteValue != null) {
+        return Double.compare(getMaxAsDouble(), nonFiniteValue != null ? nonFiniteValue : toDouble(value)) < 0;
+      }
+      final BigDecimal max = maxLong != null ? BigDecimal.valueOf(maxLong) : maxDecimal;
+      return max.compareTo(toBigDecimal(value)) < 0;
+    }
+
+    @Override
+    protected void onNewMax(final JsonNode value) {
+      final Double nonFiniteValue = toNonFinite(value);
+      if (nonFiniteValue != null) {
+        setMax(null, null, nonFiniteValue);
+      } else if (isLong(value)) {
+        setMax(value.longValue(), null, null);
+      } else if (value.isNumber()) {
+        setMax(null, value.decimalValue(), null);
+      } else {
+        setMaxFromText(value.asText());
+      }
+    }
+
+    private void setMaxFromText(final String text) {
+      final Double nonFiniteValue = IncrementalUtils.parseNonFinite(text);
+      if (nonFiniteValue != null) {
+        setMax(null, null, nonFiniteValue);
+        return;
+      }
+      final BigDecimal decimal = new BigDecimal(text);
+      if (isLong(decimal)) {
+        setMax(decimal.longValueExact(), null, null);
+      } else {
+        setMax(null, decimal, null);
+      }
+    }
+
+    private void setMax(final Long maxLong, final BigDecimal maxDecimal, final Double maxNonFinite) {
+      this.maxLong = maxLong;
+      this.maxDecimal = maxDecimal;
+      this.maxNonFinite = maxNonFinite;
+    }
+
+    private double getMaxAsDouble() {
+      if (maxNonFinite != null) {
+        return maxNonFinite;
+      }
+      return maxLong != null ? maxLong.doubleValue() : maxDecimal.doubleValue();
+    }
+
+    private static boolean isLong(final JsonNode value) {
+      return value.isIntegralNumber() && value.canConvertToLong();
+    }
+
+    private static boolean isLong(final BigDecimal value) {
+      return value.scale() <= 0 && value.compareTo(LONG_MIN) >= 0 && value.compareTo(LONG_MAX) <= 0;
+    }
+
+    private static BigDecimal toBigDecimal(final JsonNode value) {
+      return value.isNumber() ? value.decimalValue() : new BigDecimal(value.asText());
+    }
+
+    private static double toDouble(final JsonNode value) {
+      return value.isNumber() ? value.doubleValue() : Double.parseDouble(value.asText());
+    }
+
+    /**
+     * @return the value if it is NaN or infinite, null otherwise
+     */
+    private static Double toNonFinite(final JsonNode value) {
+      if (value.isNumber()) {
+        return value.isFloatingPointNumber() && !Double.isFinite(value.doubleValue()) ? value.doubleValue() : null;
+      }
+      return IncrementalUtils.parseNonFinite(value.asText());
+    }
+
+  }
+
+  private static class BooleanCursorTracker extends CursorTracker {
+
+    private boolean max;
+
+    BooleanCursorTracker(final String initialCursor) {
+      super(initialCursor);
+      this.max = Boolean.parseBoolean(initialCursor);
+    }
+
+    @Override
+    public boolean isGreaterThanMax(final JsonNode value) {
+      return !hasMax() || Boolean.compare(max, toBoolean(value)) < 0;
+    }
+
+    @Override
+    protected void onNewMax(final JsonNode value) {
+      max = toBoolean(value);
+    }
+
+    private static boolean toBoolean(final JsonNode value) {
+      return value.isBoolean() ? value.booleanValue() : Boolean.parseBoolean(value.asText());
+    }
+
+  }
+
+  private static class UncomparableCursorTracker extends CursorTracker {
+
+    private final JsonSchemaPrimitive type;
+
+    UncomparableCursorTracker(final String initialCursor, final JsonSchemaPrimitive type) {
+      super(initialCursor);
+      this.type = type;
+    }
+
+    @Override
+    public boolean isGreaterThanMax(final JsonNode value) {
+      if (hasMax()) {
+        throw new IllegalStateException(String.format("Cannot use field of type %s as a comparable", type));
+      }
+      return true;
+    }
+
+    @Override
+    protected void onNewMax(final JsonNode value) {}
+
+  }
+
+}
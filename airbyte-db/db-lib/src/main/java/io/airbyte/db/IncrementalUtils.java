@@ -6,6 +6,7 @@ package io.airbyte.db;
 
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.JsonSchemaPrimitive;
+import java.math.BigDecimal;
 
 public class IncrementalUtils {
 
@@ -37,6 +38,7 @@ public class IncrementalUtils {
     return JsonSchemaPrimitive.valueOf(stream.getStream().getJsonSchema().get("properties").get(cursorField).get("type").asText().toUpperCase());
   }
 
+  // prefer CursorTracker to compare the cursor values of many records.
   // x < 0 mean replace original
   // x == 0 means keep original
   // x > 0 means keep original
@@ -58,8 +60,11 @@ public class IncrementalUtils {
         return original.compareTo(candidate);
       }
       case NUMBER -> {
-        // todo (cgardens) - handle big decimal. this is currently an overflow risk.
-        return Double.compare(Double.parseDouble(original), Double.parseDouble(candidate));
+        if (parseNonFinite(original) != null || parseNonFinite(candidate) != null) {
+          // BigDecimal cannot parse NaN or infinities, which float columns can hold.
+          return Double.compare(Double.parseDouble(original), Double.parseDouble(candidate));
+        }
+        return new BigDecimal(original).compareTo(new BigDecimal(candidate));
       }
       case BOOLEAN -> {
         return Boolean.compare(Boolean.parseBoolean(original), Boolean.parseBoolean(candidate));
@@ -69,4 +74,17 @@ public class IncrementalUtils {
     }
   }
 
+  /**
+   * @return the value of "NaN", "Infinity" or "-Infinity", which BigDecimal cannot parse, null for any
+   *         other number
+   */
+  static Double parseNonFinite(final String number) {
+    return switch (number) {
+      case "NaN" -> Double.NaN;
+      case "Infinity", "+Infinity" -> Double.POSITIVE_INFINITY;
+      case "-Infinity" -> Double.NEGATIVE_INFINITY;
+      default -> null;
+    };
+  }
+
 }
@@ -6,6 +6,7 @@ package io.airbyte.db;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.functional.CheckedFunction;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -22,6 +23,14 @@ public interface JdbcCompatibleSourceOperations<SourceType> extends SourceOperat
    */
   void setJsonField(final ResultSet resultSet, final int colIndex, final ObjectNode json) throws SQLException;
 
+  /**
+   * @return a new function converting rows to json like {@link #rowToJson}, to be used for the rows
+   *         of a single query, so that it can prepare the conversion from the first row.
+   */
+  default CheckedFunction<ResultSet, JsonNode, SQLException> newRowToJsonMapper() {
+    return this::rowToJson;
+  }
+
   /**
    * Set the cursor field in incremental table query.
    */
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.jobs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Lets the jobs of a connection be read page by page in creation order, seeking to the start of
+ * each page by (created_at, id) instead of scanning and sorting all the jobs of the connection.
+ */
+public class V0_39_20_001__AddJobsScopeCreatedAtIndex extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_39_20_001__AddJobsScopeCreatedAtIndex.class);
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    try (final DSLContext ctx = DSL.using(context.getConnection())) {
+      ctx.createIndexIfNotExists("jobs_scope_created_at_id_idx").on("jobs", "scope", "created_at", "id").execute();
+    }
+  }
+
+}
@@ -10,8 +10,9 @@ import static io.airbyte.db.DataTypeUtils.TIMETZ_FORMATTER;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.functional.CheckedFunction;
 import io.airbyte.db.DataTypeUtils;
 import io.airbyte.db.JdbcCompatibleSourceOperations;
 import java.math.BigDecimal;
@@ -19,6 +20,7 @@ import java.sql.Connection;
 import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.text.ParseException;
@@ -27,7 +29,6 @@ import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.time.chrono.IsoEra;
-import java.util.Collections;
 import java.util.List;
 import java.util.StringJoiner;
 import javax.xml.bind.DatatypeConverter;
@@ -37,26 +38,129 @@ import javax.xml.bind.DatatypeConverter;
  */
 public abstract class AbstractJdbcCompatibleSourceOperations<Datatype> implements JdbcCompatibleSourceOperations<Datatype> {
 
+  /**
+   * Reads one column of the current row of a result set into a json object. Null values are left
+   * out.
+   */
+  @FunctionalInterface
+  protected interface ColumnReader {
+
+    void read(ResultSet resultSet, ObjectNode json) throws SQLException;
+
+  }
+
+  /**
+   * Signature of the put methods of this class, e.g. {@link #putString}.
+   */
+  @FunctionalInterface
+  protected interface ColumnPutter {
+
+    void put(ObjectNode node, String columnName, ResultSet resultSet, int index) throws SQLException;
+
+  }
+
+  /**
+   * Builds the column readers for a single row, see {@link #newRowToJsonMapper} to convert all the
+   * rows of a query.
+   */
   @Override
   public JsonNode rowToJson(final ResultSet queryContext) throws SQLException {
-    // the first call communicates with the database. after that the result is cached.
-    final int columnCount = queryContext.getMetaData().getColumnCount();
-    final ObjectNode jsonNode = (ObjectNode) Jsons.jsonNode(Collections.emptyMap());
-
-    for (int i = 1; i <= columnCount; i++) {
-      // attempt to access the column. this allows us to know if it is null before we do type-specific
-      // parsing. if it is null, we can move on. while awkward, this seems to be the agreed upon way of
-      // checking for null values with jdbc.
-      queryContext.getObject(i);
-      if (queryContext.wasNull()) {
-        continue;
+    return new RowReader(queryContext).read(queryContext);
+  }
+
+  /**
+   * The column readers are built from the first row, and reused for the following rows.
+   */
+  @Override
+  public CheckedFunction<ResultSet, JsonNode, SQLException> newRowToJsonMapper() {
+    return new CheckedFunction<>() {
+
+      private RowReader rowReader;
+
+      @Override
+      public JsonNode apply(final ResultSet resultSet) throws SQLException {
+        if (rowReader == null) {
+          rowReader = new RowReader(resultSet);
+        }
+        return rowReader.read(resultSet);
       }
 
-      // convert to java types that will convert into reasonable json.
-      setJsonField(queryContext, i, jsonNode);
+    };
+  }
+
+  /**
+   * Called once per column of each query read with {@link #newRowToJsonMapper}, so that the work that
+   * only depends on the column, such as looking up its name and type, is not repeated for every row.
+   *
+   * <p>
+   * The default reader checks whether the value is null before reading it with
+   * {@link #setJsonField}, which reads each value twice. Sources should override this to read each
+   * value once, see {@link #putNullable}.
+   * </p>
+   */
+  protected ColumnReader getColumnReader(final ResultSetMetaData metadata, final int colIndex) throws SQLException {
+    // attempt to access the column. this allows us to know if it is null before we do type-specific
+    // parsing. if it is null, we can move on. while awkward, this seems to be the agreed upon way of
+    // checking for null values with jdbc.
+    return putNonNull(this::putJsonField, metadata.getColumnName(colIndex), colIndex);
+  }
+
+  /**
+   * {@link #setJsonField} as a {@link ColumnPutter}, for readers that only decide how null values are
+   * checked.
+   */
+  protected void putJsonField(final ObjectNode node, final String columnName, final ResultSet resultSet, final int index) throws SQLException {
+    setJsonField(resultSet, index, node);
+  }
+
+  /**
+   * Reader for put methods that read the column once and accept a null value, such as the ones for
+   * primitive types which read null as 0 or false. Nothing is put for a null value.
+   */
+  protected static ColumnReader putNullable(final ColumnPutter putter, final String columnName, final int colIndex) {
+    return (resultSet, json) -> {
+      putter.put(json, columnName, resultSet, colIndex);
+      if (resultSet.wasNull()) {
+        json.remove(columnName);
+      }
+    };
+  }
+
+  /**
+   * Reader for put methods that fail on a null value. The column is read a first time to check for
+   * null.
+   */
+  protected static ColumnReader putNonNull(final ColumnPutter putter, final String columnName, final int colIndex) {
+    return (resultSet, json) -> {
+      resultSet.getObject(colIndex);
+      if (!resultSet.wasNull()) {
+        putter.put(json, columnName, resultSet, colIndex);
+      }
+    };
+  }
+
+  private class RowReader {
+
+    private final ColumnReader[] columnReaders;
+
+    RowReader(final ResultSet resultSet) throws SQLException {
+      // the first call communicates with the database. after that the result is cached.
+      final ResultSetMetaData metadata = resultSet.getMetaData();
+      this.columnReaders = new ColumnReader[metadata.getColumnCount()];
+      for (int i = 1; i <= columnReaders.length; i++) {
+        columnReaders[i - 1] = getColumnReader(metadata, i);
+      }
+    }
+
+    JsonNode read(final ResultSet resultSet) throws SQLException {
+      final ObjectNode jsonNode = JsonNodeFactory.instance.objectNode();
+      for (final ColumnReader columnReader : columnReaders) {
+        // convert to java types that will convert into reasonable json.
+        columnReader.read(resultSet, jsonNode);
+      }
+      return jsonNode;
     }
 
-    return jsonNode;
   }
 
   protected void putArray(final ObjectNode node, final String columnName, final ResultSet resultSet, final int index) throws SQLException {
@@ -200,7 +200,7 @@ public abstract class JdbcDatabase extends SqlDatabase {
         ++i;
       }
       return statement;
-    }, sourceOperations::rowToJson);
+    }, sourceOperations.newRowToJsonMapper());
   }
 
   /**
@@ -16,6 +16,7 @@ import io.airbyte.protocol.models.JsonSchemaType;
 import java.sql.JDBCType;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -60,6 +61,16 @@ public class JdbcSourceOperations extends AbstractJdbcCompatibleSourceOperations
     }
   }
 
+  @Override
+  protected ColumnReader getColumnReader(final ResultSetMetaData metadata, final int colIndex) throws SQLException {
+    // the value is read by setJsonField, the type only tells whether its put method accepts a null
+    // value. the ones of dates, times, binaries and arrays do not.
+    return switch (safeGetJdbcType(metadata.getColumnType(colIndex))) {
+      case DATE, TIME, TIMESTAMP, BLOB, BINARY, VARBINARY, LONGVARBINARY, ARRAY -> super.getColumnReader(metadata, colIndex);
+      default -> putNullable(this::putJsonField, metadata.getColumnName(colIndex), colIndex);
+    };
+  }
+
   @Override
   public void setStatementField(final PreparedStatement preparedStatement,
                                 final int parameterIndex,
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.JsonSchemaPrimitive;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class CursorTrackerTest {
+
+  @Test
+  void testString() {
+    final CursorTracker tracker = CursorTracker.create(JsonSchemaPrimitive.STRING, null);
+    assertNull(tracker.getMaxCursor());
+    assertTrue(tracker.isGreaterThanMax(Jsons.jsonNode("abc")));
+
+    tracker.setMax(Jsons.jsonNode("abc"));
+    assertFalse(tracker.isGreaterThanMax(Jsons.jsonNode("abc")));
+    assertFalse(tracker.isGreaterThanMax(Jsons.jsonNode("aaa")));
+    assertTrue(tracker.isGreaterThanMax(Jsons.jsonNode("def")));
+    assertEquals("abc", tracker.getMaxCursor());
+  }
+
+  @Test
+  void testNumber() {
+    final CursorTracker tracker = CursorTracker.create(JsonSchemaPrimitive.NUMBER, "5000000000");
+    assertEquals("5000000000", tracker.getMaxCursor());
+    assertFalse(tracker.isGreaterThanMax(Jsons.jsonNode(5000000000L)));
+    assertFalse(tracker.isGreaterThanMax(Jsons.jsonNode("900")));
+    assertTrue(tracker.isGreaterThanMax(Jsons.jsonNode(5000000001L)));
+    assertTrue(tracker.isGreaterThanMax(Jsons.jsonNode("5000000000.5")));
+
+    tracker.setMax(Jsons.jsonNode(new BigDecimal("5000000000.25")));
+    assertEquals("5000000000.25", tracker.getMaxCursor());
+    assertFalse(tracker.isGreaterThanMax(Jsons.jsonNode(5000000000.25)));
+    assertTrue(tracker.isGreaterThanMax(Jsons.jsonNode(5000000001L)));
+  }
+
+  @Test
+  void testNumberDoesNotLosePrecision() {
+    // 2^53 + 1 and 2^53 are the same double.
+    final CursorTracker longTracker = CursorTracker.create(JsonSchemaPrimitive.NUMBER, "9007199254740992");
+    assertTrue(longTracker.isGreaterThanMax(Jsons.jsonNode(9007199254740993L)));
+    longTracker.setMax(Jsons.jsonNode(9007199254740993L));
+    assertFalse(longTracker.isGreaterThanMax(Jsons.jsonNode(9007199254740993L)));
+    assertTrue(longTracker.isGreaterThanMax(Jsons.jsonNode(new BigDecimal("9007199254740993.5"))));
+    assertEquals("9007199254740993", longTracker.getMaxCursor());
+
+    final CursorTracker decimalTracker = CursorTracker.create(JsonSchemaPrimitive.NUMBER, "12345678901234567890.000000001");
+    assertFalse(decimalTracker.isGreaterThanMax(Jsons.jsonNode(new BigDecimal("12345678901234567890.000000001"))));
+    assertTrue(decimalTracker.isGreaterThanMax(Jsons.jsonNode(new BigDecimal("12345678901234567890.000000002"))));
+    assertTrue(decimalTracker.isGreaterThanMax(Jsons.jsonNode("12345678901234567891")));
+  }
+
+  @Test
+  void testNumberNotFinite() {
+    // postgres float and numeric columns can hold NaN and infinities, which compare like doubles.
+    final CursorTracker tracker = CursorTracker.create(JsonSchemaPrimitive.NUMBER, "5000000000");
+    assertTrue(tracker.isGreaterThanMax(Jsons.jsonNode(Double.POSITIVE_INFINITY)));
+    assertTrue(tracker.isGreaterThanMax(Jsons.jsonNode("NaN")));
+    assertFalse(tracker.isGreaterThanMax(Jsons.jsonNode("-Infinity")));
+
+    tracker.setMax(Jsons.jsonNode(Double.POSITIVE_INFINITY));
+    assertEquals("Infinity", tracker.getMaxCursor());
+    assertFalse(tracker.isGreaterThanMax(Jsons.jsonNode(new BigDecimal("12345678901234567890.5"))));
+    assertFalse(tracker.isGreaterThanMax(Jsons.jsonNode("Infinity")));
+    assertTrue(tracker.isGreaterThanMax(Jsons.jsonNode(Double.NaN)));
+
+    // a sync that saved a non finite cursor can resume from it.
+    final CursorTracker nanTracker = CursorTracker.create(JsonSchemaPrimitive.NUMBER, "NaN");
+    assertFalse(nanTracker.isGreaterThanMax(Jsons.jsonNode(5000000001L)));
+    assertFalse(nanTracker.isGreaterThanMax(Jsons.jsonNode("Infinity")));
+    assertEquals("NaN", nanTracker.getMaxCursor());
+
+    final CursorTracker negativeInfinityTracker = CursorTracker.create(JsonSchemaPrimitive.NUMBER, "-Infinity");
+    assertTrue(negativeInfinityTracker.isGreaterThanMax(Jsons.jsonNode(-5000000001L)));
+    negativeInfinityTracker.setMax(Jsons.jsonNode(-5000000001L));
+    assertEquals("-5000000001", negativeInfinityTracker.getMaxCursor());
+    assertTrue(negativeInfinityTracker.isGreaterThanMax(Jsons.jsonNode(-5000000000L)));
+  }
+
+  @Test
+  void testBoolean() {
+    final CursorTracker tracker = CursorTracker.create(JsonSchemaPrimitive.BOOLEAN, "false");
+    assertFalse(tracker.isGreaterThanMax(Jsons.jsonNode(false)));
+    assertTrue(tracker.isGreaterThanMax(Jsons.jsonNode(true)));
+
+    tracker.setMax(Jsons.jsonNode(true));
+    assertEquals("true", tracker.getMaxCursor());
+    assertFalse(tracker.isGreaterThanMax(Jsons.jsonNode("true")));
+  }
+
+  @Test
+  void testUncomparableType() {
+    final CursorTracker tracker = CursorTracker.create(JsonSchemaPrimitive.ARRAY, null);
+    assertTrue(tracker.isGreaterThanMax(Jsons.jsonNode("a")));
+
+    tracker.setMax(Jsons.jsonNode("a"));
+    assertThrows(IllegalStateException.class, () -> tracker.isGreaterThanMax(Jsons.jsonNode("a")));
+  }
+
+}
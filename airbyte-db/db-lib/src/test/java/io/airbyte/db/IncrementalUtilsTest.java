@@ -78,6 +78,11 @@ class IncrementalUtilsTest {
     Assertions.assertEquals(0, IncrementalUtils.compareCursors("abc", "abc", JsonSchemaPrimitive.STRING));
     assertTrue(IncrementalUtils.compareCursors("1", "2", JsonSchemaPrimitive.NUMBER) < 0);
     assertTrue(IncrementalUtils.compareCursors("5000000000", "5000000001", JsonSchemaPrimitive.NUMBER) < 0);
+    assertTrue(IncrementalUtils.compareCursors("9007199254740992", "9007199254740993", JsonSchemaPrimitive.NUMBER) < 0);
+    assertTrue(IncrementalUtils.compareCursors("12345678901234567890.5", "Infinity", JsonSchemaPrimitive.NUMBER) < 0);
+    assertTrue(IncrementalUtils.compareCursors("-Infinity", "-1", JsonSchemaPrimitive.NUMBER) < 0);
+    assertTrue(IncrementalUtils.compareCursors("Infinity", "NaN", JsonSchemaPrimitive.NUMBER) < 0);
+    Assertions.assertEquals(0, IncrementalUtils.compareCursors("NaN", "NaN", JsonSchemaPrimitive.NUMBER));
     assertTrue(IncrementalUtils.compareCursors("false", "true", JsonSchemaPrimitive.BOOLEAN) < 0);
     assertTrue(IncrementalUtils.compareCursors(null, "def", JsonSchemaPrimitive.STRING) < 1);
     assertTrue(IncrementalUtils.compareCursors("abc", null, JsonSchemaPrimitive.STRING) > 0);
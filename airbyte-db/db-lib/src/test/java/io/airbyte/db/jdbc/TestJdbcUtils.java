@@ -13,6 +13,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import io.airbyte.commons.functional.CheckedFunction;
 import io.airbyte.commons.io.IOs;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.stream.MoreStreams;
@@ -108,7 +109,7 @@ public class TestJdbcUtils {
   void testToStream() throws SQLException {
     try (final Connection connection = dataSource.getConnection()) {
       final ResultSet rs = connection.createStatement().executeQuery("SELECT * FROM id_and_name;");
-      final List<JsonNode> actual = JdbcDatabase.toUnsafeStream(rs, sourceOperations::rowToJson).collect(Collectors.toList());
+      final List<JsonNode> actual = JdbcDatabase.toUnsafeStream(rs, sourceOperations.newRowToJsonMapper()).collect(Collectors.toList());
       assertEquals(RECORDS_AS_JSON, actual);
     }
   }
@@ -124,6 +125,39 @@ public class TestJdbcUtils {
     }
   }
 
+  // a null value of any type is left out of the record.
+  @Test
+  void testRowToJsonNullValues() throws SQLException {
+    try (final Connection connection = dataSource.getConnection()) {
+      createTableWithAllTypes(connection);
+      connection.createStatement().execute("INSERT INTO data(bit) VALUES (NULL);");
+
+      final ResultSet resultSet = connection.createStatement().executeQuery("SELECT * FROM data;");
+      resultSet.next();
+      assertEquals(Jsons.emptyObject(), sourceOperations.rowToJson(resultSet));
+    }
+  }
+
+  // each query gets its own mapper, so the readers built for one result set are not used for
+  // another one with other columns.
+  @Test
+  void testRowToJsonMappersOfInterleavedQueries() throws SQLException {
+    try (final Connection connection = dataSource.getConnection()) {
+      final ResultSet ids = connection.createStatement().executeQuery("SELECT id FROM id_and_name ORDER BY id;");
+      final ResultSet names = connection.createStatement().executeQuery("SELECT name FROM id_and_name ORDER BY id;");
+      final CheckedFunction<ResultSet, JsonNode, SQLException> idsToJson = sourceOperations.newRowToJsonMapper();
+      final CheckedFunction<ResultSet, JsonNode, SQLException> namesToJson = sourceOperations.newRowToJsonMapper();
+      ids.next();
+      names.next();
+
+      assertEquals(Jsons.jsonNode(ImmutableMap.of("id", 1)), idsToJson.apply(ids));
+      assertEquals(Jsons.jsonNode(ImmutableMap.of("name", "picard")), namesToJson.apply(names));
+      ids.next();
+      assertEquals(Jsons.jsonNode(ImmutableMap.of("id", 2)), idsToJson.apply(ids));
+      assertEquals(Jsons.jsonNode(ImmutableMap.of("name", "picard")), sourceOperations.rowToJson(names));
+    }
+  }
+
   // test setting on a PreparedStatement every JDBCType that we support.
   @Test
   void testSetStatementField() throws SQLException {
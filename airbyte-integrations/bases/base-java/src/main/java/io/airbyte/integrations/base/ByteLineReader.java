@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.base;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Splits a stream into lines without decoding it. Lines are separated by any run of \n and \r
+ * bytes, so empty lines are skipped, which strictly abides with the https://jsonlines.org/
+ * standard. These bytes never occur inside a multi-byte UTF-8 character.
+ *
+ * <p>
+ * Lines are handed out as ranges of a single buffer that is reused for the whole stream; the buffer
+ * only grows when a line does not fit in it.
+ */
+class ByteLineReader {
+
+  static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+
+  @FunctionalInterface
+  interface LineConsumer {
+
+    /**
+     * @param buffer holds the line. it is overwritten once this returns, so it must not be kept.
+     */
+    void accept(byte[] buffer, int offset, int length) throws Exception;
+
+  }
+
+  private final InputStream input;
+  private byte[] buffer;
+  private long bytesRead = 0;
+
+  ByteLineReader(final InputStream input) {
+    this(input, DEFAULT_BUFFER_SIZE);
+  }
+
+  ByteLineReader(final InputStream input, final int bufferSize) {
+    this.input = input;
+    this.buffer = new byte[bufferSize];
+  }
+
+  /**
+   * Calls the consumer on each line, in order, until the end of the stream. Exceptions thrown by the
+   * consumer stop the reading and are rethrown as is.
+   */
+  void forEachLine(final LineConsumer consumer) throws Exception {
+    // the bytes of the buffer that have been read but not consumed are [start, end).
+    int start = 0;
+    int end = 0;
+    while (true) {
+      if (end == buffer.length) {
+        if (start > 0) {
+          // make room by moving the current partial line to the beginning of the buffer.
+          System.arraycopy(buffer, start, buffer, 0, end - start);
+          end -= start;
+          start = 0;
+        } else {
+          buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+      }
+
+      final int read = input.read(buffer, end, buffer.length - end);
+      if (read == -1) {
+        break;
+      }
+      bytesRead += read;
+
+      // only the new bytes can hold a separator, the current partial line has none.
+      int position = end;
+      end += read;
+      while (position < end) {
+        final byte b = buffer[position];
+        if (b == '\n' || b == '\r') {
+          if (position > start) {
+            consumer.accept(buffer, start, position - start);
+          }
+          start = position + 1;
+        }
+        position++;
+      }
+
+      if (start == end) {
+        // everything was consumed, start over at the beginning of the buffer.
+        start = 0;
+        end = 0;
+      }
+    }
+
+    if (end > start) {
+      // last line without a trailing separator.
+      consumer.accept(buffer, start, end - start);
+    }
+  }
+
+  /**
+   * @return bytes read from the stream so far, separators included.
+   */
+  long getBytesRead() {
+    return bytesRead;
+  }
+
+}
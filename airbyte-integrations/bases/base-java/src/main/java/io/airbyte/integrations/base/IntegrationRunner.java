@@ -9,6 +9,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import io.airbyte.commons.io.IOs;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.json.SmileFrames;
 import io.airbyte.commons.lang.Exceptions.Procedure;
 import io.airbyte.commons.string.Strings;
 import io.airbyte.commons.util.AutoCloseableIterator;
@@ -21,18 +22,20 @@ import io.airbyte.protocol.models.AirbyteConnectionStatus;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.ConnectorSpecification;
+import io.airbyte.protocol.models.MessageFormat;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import io.sentry.ITransaction;
 import io.sentry.NoOpTransaction;
 import io.sentry.Sentry;
 import io.sentry.SentryLevel;
 import io.sentry.SpanStatus;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Scanner;
 import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -58,6 +61,9 @@ public class IntegrationRunner {
 
   public static final int FORCED_EXIT_CODE = 2;
 
+  private static final long THROUGHPUT_REPORT_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+  private static final double BYTES_PER_MB = 1024 * 1024;
+
   private final IntegrationCliParser cliParser;
   private final Consumer<AirbyteMessage> outputRecordCollector;
   private final Integration integration;
@@ -152,8 +158,10 @@ public class IntegrationRunner {
         validateConfig(integration.spec().getConnectionSpecification(), config, "READ");
         final ConfiguredAirbyteCatalog catalog = parseConfig(parsed.getCatalogPath(), ConfiguredAirbyteCatalog.class);
         final Optional<JsonNode> stateOptional = parsed.getStatePath().map(IntegrationRunner::parseConfig);
+        final Consumer<AirbyteMessage> messageCollector =
+            useFramedMessages(integration.spec(), System.getenv()) ? IntegrationRunner::framedOutputRecordCollector : outputRecordCollector;
         try (final AutoCloseableIterator<AirbyteMessage> messageIterator = source.read(config, catalog, stateOptional.orElse(null))) {
-          AirbyteSentry.executeWithTracing("ReadSource", () -> produceMessages(messageIterator));
+          AirbyteSentry.executeWithTracing("ReadSource", () -> produceMessages(messageIterator, messageCollector));
         }
       }
       // destination only
@@ -171,9 +179,11 @@ public class IntegrationRunner {
     LOGGER.info("Completed integration: {}", integration.getClass().getName());
   }
 
-  private void produceMessages(final AutoCloseableIterator<AirbyteMessage> messageIterator) throws Exception {
+  private static void produceMessages(final AutoCloseableIterator<AirbyteMessage> messageIterator,
+                                      final Consumer<AirbyteMessage> messageCollector)
+      throws Exception {
     watchForOrphanThreads(
-        () -> messageIterator.forEachRemaining(outputRecordCollector),
+        () -> messageIterator.forEachRemaining(messageCollector),
         () -> System.exit(FORCED_EXIT_CODE),
         INTERRUPT_THREAD_DELAY_MINUTES,
         TimeUnit.MINUTES,
@@ -181,21 +191,75 @@ public class IntegrationRunner {
         TimeUnit.MINUTES);
   }
 
+  /**
+   * Messages are only framed if the worker offers the format, in
+   * {@link WorkerEnvConstants#WORKER_MESSAGE_FORMATS}, and the connector lists it in its spec. Older
+   * workers do not offer any format, so they keep receiving JSON lines.
+   */
+  @VisibleForTesting
+  static boolean useFramedMessages(final ConnectorSpecification spec, final Map<String, String> env) {
+    final String offeredFormats = env.get(WorkerEnvConstants.WORKER_MESSAGE_FORMATS);
+    if (offeredFormats == null || spec.getSupportedMessageFormats() == null
+        || !spec.getSupportedMessageFormats().contains(MessageFormat.SMILE_FRAMED)) {
+      return false;
+    }
+    final boolean offered = Set.of(offeredFormats.split(",")).contains(MessageFormat.SMILE_FRAMED.value());
+    if (offered) {
+      LOGGER.info("Emitting messages as {} frames", MessageFormat.SMILE_FRAMED.value());
+    }
+    return offered;
+  }
+
+  /**
+   * Each frame is written with a single call, which PrintStream synchronizes, so frames are never
+   * interleaved with log lines written to stdout by other threads.
+   */
+  private static void framedOutputRecordCollector(final AirbyteMessage message) {
+    final byte[] frame = SmileFrames.toFrame(message);
+    System.out.write(frame, 0, frame.length);
+  }
+
   @VisibleForTesting
   static void consumeWriteStream(final AirbyteMessageConsumer consumer) throws Exception {
-    // use a Scanner that only processes new line characters to strictly abide with the
-    // https://jsonlines.org/ standard
-    final Scanner input = new Scanner(System.in, StandardCharsets.UTF_8).useDelimiter("[\r\n]+");
+    consumeWriteStream(consumer, System.in);
+  }
+
+  @VisibleForTesting
+  static void consumeWriteStream(final AirbyteMessageConsumer consumer, final InputStream inputStream) throws Exception {
+    // lines are parsed straight from the read buffer, without being decoded to a String first.
+    final ByteLineReader reader = new ByteLineReader(inputStream);
+    final long startTime = System.nanoTime();
+    final long[] recordsRead = {0};
+    final long[] lastReportTime = {startTime};
     consumer.start();
-    while (input.hasNext()) {
-      final String inputString = input.next();
-      final Optional<AirbyteMessage> messageOptional = Jsons.tryDeserialize(inputString, AirbyteMessage.class);
+    reader.forEachLine((buffer, offset, length) -> {
+      final Optional<AirbyteMessage> messageOptional = Jsons.tryDeserialize(buffer, offset, length, AirbyteMessage.class);
       if (messageOptional.isPresent()) {
+        if (messageOptional.get().getType() == Type.RECORD) {
+          recordsRead[0]++;
+        }
         consumer.accept(messageOptional.get());
       } else {
-        LOGGER.error("Received invalid message: " + inputString);
+        LOGGER.error("Received invalid message: " + new String(buffer, offset, length, StandardCharsets.UTF_8));
       }
-    }
+
+      final long now = System.nanoTime();
+      if (now - lastReportTime[0] >= THROUGHPUT_REPORT_INTERVAL_NANOS) {
+        logReadThroughput(recordsRead[0], reader.getBytesRead(), now - startTime);
+        lastReportTime[0] = now;
+      }
+    });
+    logReadThroughput(recordsRead[0], reader.getBytesRead(), System.nanoTime() - startTime);
+  }
+
+  private static void logReadThroughput(final long records, final long bytes, final long elapsedNanos) {
+    final double seconds = Math.max(elapsedNanos, 1) / 1_000_000_000.0;
+    LOGGER.info("Read {} records ({} MB) from stdin in {} s: {} records/s, {} MB/s",
+        records,
+        String.format("%.2f", bytes / BYTES_PER_MB),
+        String.format("%.1f", seconds),
+        String.format("%.0f", records / seconds),
+        String.format("%.2f", bytes / BYTES_PER_MB / seconds));
   }
 
   private static void runConsumer(final AirbyteMessageConsumer consumer) throws Exception {
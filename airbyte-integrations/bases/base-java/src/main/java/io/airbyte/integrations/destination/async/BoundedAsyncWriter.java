@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.async;
+
+import io.airbyte.commons.concurrency.VoidCallable;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Runs the writes of a destination in the background while bounding how many of them are in flight:
+ * starting a write blocks once the limit is reached, so that the records are not read faster than
+ * the destination can write them. Writes either run on the threads of the writer, or are started
+ * with the asynchronous API of a client.
+ *
+ * The records of a write are not written until it is complete: {@link #flush()} must be called
+ * before relying on them. The first failure of a write is rethrown by the next write and by
+ * {@link #flush()}.
+ */
+public class BoundedAsyncWriter implements AutoCloseable {
+
+  private final int maxInFlightWrites;
+  private final String failureMessage;
+  private final AtomicReference<Throwable> writeFailure = new AtomicReference<>();
+
+  // guarded by this: number of writes in flight and how many are allowed at the moment.
+  private int inFlightWrites = 0;
+  private int inFlightWritesLimit;
+  // guarded by this: threads of the writes submitted to the writer, created by the first one so that
+  // writers that only start writes with an asynchronous API have none.
+  private ExecutorService executorService;
+  private boolean isClosed = false;
+
+  /**
+   * @param maxInFlightWrites maximum number of writes in flight, which is also the number of threads
+   *        of the writer once a write is submitted
+   * @param failureMessage message of the exception thrown once a write failed
+   */
+  public BoundedAsyncWriter(final int maxInFlightWrites, final String failureMessage) {
+    this.maxInFlightWrites = maxInFlightWrites;
+    this.failureMessage = failureMessage;
+    this.inFlightWritesLimit = maxInFlightWrites;
+  }
+
+  /**
+   * Runs a blocking write on a thread of the writer, once the number of writes in flight is below
+   * the limit.
+   *
+   * @throws RuntimeException if a previous write failed
+   */
+  public void submit(final VoidCallable write) {
+    acquire();
+    try {
+      getExecutorService().submit(() -> {
+        try {
+          write.call();
+        } catch (final Throwable e) {
+          writeFailure.compareAndSet(null, e);
+        } finally {
+          release();
+        }
+      });
+    } catch (final RuntimeException e) {
+      release();
+      throw e;
+    }
+  }
+
+  /**
+   * Starts a write with an asynchronous API, once the number of writes in flight is below the limit.
+   * The write is in flight until the returned stage completes.
+   *
+   * @throws RuntimeException if a previous write failed
+   */
+  public void start(final Supplier<? extends CompletionStage<?>> write) {
+    acquire();
+    final CompletionStage<?> stage;
+    try {
+      stage = write.get();
+    } catch (final RuntimeException e) {
+      release();
+      throw e;
+    }
+    stage.whenComplete((result, error) -> {
+      if (error != null) {
+        writeFailure.compareAndSet(null, error);
+      }
+      release();
+    });
+  }
+
+  /**
+   * Waits for all the writes in flight to complete.
+   *
+   * @throws RuntimeException if any write failed
+   */
+  public void flush() {
+    synchronized (this) {
+      while (inFlightWrites > 0) {
+        await();
+      }
+    }
+    throwIfFailed();
+  }
+
+  /**
+   * @throws RuntimeException if any write failed
+   */
+  public void throwIfFailed() {
+    final Throwable failure = writeFailure.get();
+    if (failure != null) {
+      throw new RuntimeException(failureMessage, failure);
+    }
+  }
+
+  public synchronized int getInFlightWritesLimit() {
+    return inFlightWritesLimit;
+  }
+
+  /**
+   * Changes the number of writes allowed in flight, between 1 and the maximum given to the
+   * constructor. Lowering it does not interrupt the writes in flight, the next ones wait for them.
+   */
+  public synchronized void setInFlightWritesLimit(final int limit) {
+    inFlightWritesLimit = Math.max(1, Math.min(maxInFlightWrites, limit));
+    notifyAll();
+  }
+
+  private synchronized ExecutorService getExecutorService() {
+    if (isClosed) {
+      throw new RejectedExecutionException("The writer is closed");
+    }
+    if (executorService == null) {
+      executorService = Executors.newFixedThreadPool(maxInFlightWrites);
+    }
+    return executorService;
+  }
+
+  private synchronized void acquire() {
+    throwIfFailed();
+    while (inFlightWrites >= inFlightWritesLimit) {
+      await();
+    }
+    inFlightWrites++;
+  }
+
+  private synchronized void release() {
+    inFlightWrites--;
+    notifyAll();
+  }
+
+  private void await() {
+    try {
+      wait();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for the writes in flight", e);
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    isClosed = true;
+    if (executorService != null) {
+      executorService.shutdownNow();
+    }
+  }
+
+}
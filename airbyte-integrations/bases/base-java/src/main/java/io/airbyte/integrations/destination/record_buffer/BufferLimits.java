@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.record_buffer;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Size limits of the buffers used by a {@link SerializedBufferingStrategy}, derived at startup from
+ * the resources of the container instead of being the same for every pod: the free space of the
+ * temp directory for {@link FileBuffer}, and the max heap size, which follows the memory limit of
+ * the container, for {@link InMemoryBuffer}. Large pods get in memory limits above the fixed defaults
+ * the buffers used to have, up to the share of the heap they are allowed to use. The total size of
+ * the file buffers stays capped: on Kubernetes the free space is the one of the node's disk, not the
+ * ephemeral storage limit of the pod, and the state of the sync is only checkpointed when all the
+ * buffers are flushed, which larger buffers make rarer.
+ *
+ * The total buffer size is also lowered while the heap is almost full, and raised back once it is
+ * not anymore, so that small pods flush their buffers instead of running out of memory. The heap
+ * usage is the one measured after the last garbage collection, so that garbage waiting to be
+ * collected does not count.
+ */
+public class BufferLimits {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BufferLimits.class);
+
+  private static final long MIN_TOTAL_BUFFER_SIZE_BYTES = 32 * 1024 * 1024;
+  private static final long MIN_PER_STREAM_BUFFER_SIZE_BYTES = 8 * 1024 * 1024;
+  // share of the free temp disk space used by file buffers. Buffers being flushed in the background
+  // use as much space as the buffers being filled.
+  private static final double FILE_BUFFERS_DISK_SHARE = 0.25;
+  // memory used by each open file buffer, for its output and compression streams.
+  private static final long HEAP_BYTES_PER_FILE_BUFFER = 32 * 1024 * 1024;
+  private static final double IN_MEMORY_BUFFERS_HEAP_SHARE = 0.4;
+
+  // shares of the max heap size used by live objects. they are lower than they would be for the
+  // current heap usage, which also counts garbage.
+  private static final double HIGH_HEAP_USAGE = 0.7;
+  private static final double LOW_HEAP_USAGE = 0.4;
+  private static final double MIN_HEAP_PRESSURE_FACTOR = 0.125;
+  private static final long HEAP_USAGE_CHECK_INTERVAL_MILLIS = 1000;
+
+  private static BufferLimits fileBufferLimits;
+  private static BufferLimits inMemoryBufferLimits;
+
+  private final String name;
+  private final long maxTotalBufferSizeInBytes;
+  private final long maxPerStreamBufferSizeInBytes;
+  private final int maxConcurrentStreamsInBuffer;
+  private final DoubleSupplier heapUsage;
+  private final LongSupplier currentTimeMillis;
+
+  // share of the total buffer size that can be used, lowered while the heap is almost full.
+  private volatile double heapPressureFactor = 1;
+  private volatile long lastHeapUsageCheckMillis;
+
+  @VisibleForTesting
+  BufferLimits(final String name,
+               final long maxTotalBufferSizeInBytes,
+               final long maxPerStreamBufferSizeInBytes,
+               final int maxConcurrentStreamsInBuffer,
+               final DoubleSupplier heapUsage,
+               final LongSupplier currentTimeMillis) {
+    this.name = name;
+    this.maxTotalBufferSizeInBytes = maxTotalBufferSizeInBytes;
+    this.maxPerStreamBufferSizeInBytes = maxPerStreamBufferSizeInBytes;
+    this.maxConcurrentStreamsInBuffer = maxConcurrentStreamsInBuffer;
+    this.heapUsage = heapUsage;
+    this.currentTimeMillis = currentTimeMillis;
+    LOGGER.info("{} buffer limits: {} in total, {} per stream, {} streams at once", name,
+        FileUtils.byteCountToDisplaySize(maxTotalBufferSizeInBytes),
+        FileUtils.byteCountToDisplaySize(maxPerStreamBufferSizeInBytes),
+        maxConcurrentStreamsInBuffer);
+  }
+
+  public static synchronized BufferLimits forFileBuffers() {
+    if (fileBufferLimits == null) {
+      fileBufferLimits = forFileBuffers(getUsableTempDiskSpace(), Runtime.getRuntime().maxMemory(), BufferLimits::getHeapUsage);
+    }
+    return fileBufferLimits;
+  }
+
+  public static synchronized BufferLimits forInMemoryBuffers() {
+    if (inMemoryBufferLimits == null) {
+      inMemoryBufferLimits = forInMemoryBuffers(Runtime.getRuntime().maxMemory(), BufferLimits::getHeapUsage);
+    }
+    return inMemoryBufferLimits;
+  }
+
+  @VisibleForTesting
+  static BufferLimits forFileBuffers(final long usableDiskBytes, final long maxHeapBytes, final DoubleSupplier heapUsage) {
+    final long total = clamp((long) (usableDiskBytes * FILE_BUFFERS_DISK_SHARE), MIN_TOTAL_BUFFER_SIZE_BYTES, FileBuffer.MAX_TOTAL_BUFFER_SIZE_BYTES);
+    return new BufferLimits("File",
+        total,
+        clamp(total / 4, MIN_PER_STREAM_BUFFER_SIZE_BYTES, FileBuffer.MAX_PER_STREAM_BUFFER_SIZE_BYTES),
+        (int) Math.max(2, maxHeapBytes / HEAP_BYTES_PER_FILE_BUFFER),
+        heapUsage,
+        System::currentTimeMillis);
+  }
+
+  @VisibleForTesting
+  static BufferLimits forInMemoryBuffers(final long maxHeapBytes, final DoubleSupplier heapUsage) {
+    final long total = Math.max(MIN_TOTAL_BUFFER_SIZE_BYTES, (long) (maxHeapBytes * IN_MEMORY_BUFFERS_HEAP_SHARE));
+    return new BufferLimits("In memory",
+        total,
+        clamp(total / 4, MIN_PER_STREAM_BUFFER_SIZE_BYTES, InMemoryBuffer.MAX_PER_STREAM_BUFFER_SIZE_BYTES),
+        InMemoryBuffer.MAX_CONCURRENT_STREAM_IN_BUFFER,
+        heapUsage,
+        System::currentTimeMillis);
+  }
+
+  public long getMaxTotalBufferSizeInBytes() {
+    checkHeapUsage();
+    return Math.max(MIN_TOTAL_BUFFER_SIZE_BYTES, (long) (maxTotalBufferSizeInBytes * heapPressureFactor));
+  }
+
+  public long getMaxPerStreamBufferSizeInBytes() {
+    return Math.min(maxPerStreamBufferSizeInBytes, getMaxTotalBufferSizeInBytes());
+  }
+
+  public int getMaxConcurrentStreamsInBuffer() {
+    return maxConcurrentStreamsInBuffer;
+  }
+
+  /**
+   * Halves the share of the total buffer size that can be used while the heap is almost full, and
+   * doubles it back while the heap usage is low. The heap usage is read at most once per interval,
+   * since the limits are read for every record.
+   */
+  private void checkHeapUsage() {
+    final long now = currentTimeMillis.getAsLong();
+    if (now - lastHeapUsageCheckMillis < HEAP_USAGE_CHECK_INTERVAL_MILLIS) {
+      return;
+    }
+    synchronized (this) {
+      lastHeapUsageCheckMillis = now;
+      final double usage = heapUsage.getAsDouble();
+      final double previousFactor = heapPressureFactor;
+      if (usage > HIGH_HEAP_USAGE) {
+        heapPressureFactor = Math.max(MIN_HEAP_PRESSURE_FACTOR, previousFactor / 2);
+      } else if (usage < LOW_HEAP_USAGE) {
+        heapPressureFactor = Math.min(1, previousFactor * 2);
+      }
+      if (heapPressureFactor != previousFactor) {
+        LOGGER.info("{} buffer limits: heap usage is {}%, total buffer size is now {}", name, Math.round(usage * 100),
+            FileUtils.byteCountToDisplaySize(Math.max(MIN_TOTAL_BUFFER_SIZE_BYTES, (long) (maxTotalBufferSizeInBytes * heapPressureFactor))));
+      }
+    }
+  }
+
+  /**
+   * @return share of the max heap size used right after the last garbage collection of each heap
+   *         pool, or currently used if the garbage collector does not report it
+   */
+  private static double getHeapUsage() {
+    long usedBytes = 0;
+    boolean isCollectionUsageReported = false;
+    for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      final MemoryUsage collectionUsage = pool.getType() == MemoryType.HEAP ? pool.getCollectionUsage() : null;
+      if (collectionUsage != null) {
+        usedBytes += collectionUsage.getUsed();
+        isCollectionUsageReported = true;
+      }
+    }
+    final Runtime runtime = Runtime.getRuntime();
+    if (!isCollectionUsageReported) {
+      usedBytes = runtime.totalMemory() - runtime.freeMemory();
+    }
+    return (double) usedBytes / runtime.maxMemory();
+  }
+
+  private static long getUsableTempDiskSpace() {
+    final Path tempDirectory = Path.of(System.getProperty("java.io.tmpdir"));
+    try {
+      return Files.getFileStore(tempDirectory).getUsableSpace();
+    } catch (final IOException e) {
+      LOGGER.warn("Failed to read the free space of {}, using the default file buffer limits", tempDirectory, e);
+      // the space that gives the default total size.
+      return (long) (FileBuffer.MAX_TOTAL_BUFFER_SIZE_BYTES / FILE_BUFFERS_DISK_SHARE);
+    }
+  }
+
+  private static long clamp(final long value, final long min, final long max) {
+    return Math.max(min, Math.min(max, value));
+  }
+
+}
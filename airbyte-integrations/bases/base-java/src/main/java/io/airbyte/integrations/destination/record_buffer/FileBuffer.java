@@ -20,6 +20,8 @@ public class FileBuffer implements BufferStorage {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(FileBuffer.class);
 
+  // The limits below are upper bounds, the actual limits are derived from the resources of the
+  // container by BufferLimits. The total size is also used when the free disk space cannot be read.
   // The per stream size limit is following recommendations from:
   // https://docs.snowflake.com/en/user-guide/data-load-considerations-prepare.html#general-file-sizing-recommendations
   // "To optimize the number of parallel operations for a load,
@@ -30,9 +32,6 @@ public class FileBuffer implements BufferStorage {
   // Since this class is storing data on disk, the buffer size limits below are tied to the
   // necessary disk storage space.
   public static final long MAX_TOTAL_BUFFER_SIZE_BYTES = 1024 * 1024 * 1024; // mb
-  // we limit number of stream being buffered simultaneously anyway (limit how many files are
-  // stored/open for writing)
-  public static final int MAX_CONCURRENT_STREAM_IN_BUFFER = 10;
 
   private final String fileExtension;
   private File tempFile;
@@ -84,17 +83,17 @@ public class FileBuffer implements BufferStorage {
 
   @Override
   public long getMaxTotalBufferSizeInBytes() {
-    return MAX_TOTAL_BUFFER_SIZE_BYTES;
+    return BufferLimits.forFileBuffers().getMaxTotalBufferSizeInBytes();
   }
 
   @Override
   public long getMaxPerStreamBufferSizeInBytes() {
-    return MAX_PER_STREAM_BUFFER_SIZE_BYTES;
+    return BufferLimits.forFileBuffers().getMaxPerStreamBufferSizeInBytes();
   }
 
   @Override
   public int getMaxConcurrentStreamsInBuffer() {
-    return MAX_CONCURRENT_STREAM_IN_BUFFER;
+    return BufferLimits.forFileBuffers().getMaxConcurrentStreamsInBuffer();
   }
 
 }
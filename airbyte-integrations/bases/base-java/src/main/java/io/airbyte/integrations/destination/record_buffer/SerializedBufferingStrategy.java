@@ -11,15 +11,32 @@ import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.base.sentry.AirbyteSentry;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
 import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Buffers records of each stream in a {@link SerializableBuffer}, and flushes the buffers with
+ * onStreamFlush once they fill up.
+ *
+ * Flushes can be run by background threads, so that new records keep filling fresh buffers while
+ * full ones are flushed. Flushes of a stream still run one after another, and the bytes of the
+ * buffers being flushed are capped to the maximum total buffer size. Flushing all buffers waits for
+ * every flush to complete, so records added before {@link #addRecord} returned true have all been
+ * flushed when it does.
+ */
 public class SerializedBufferingStrategy implements BufferingStrategy {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SerializedBufferingStrategy.class);
@@ -30,14 +47,32 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
   private Map<AirbyteStreamNameNamespacePair, SerializableBuffer> allBuffers = new HashMap<>();
   private long totalBufferSizeInBytes;
   private final ConfiguredAirbyteCatalog catalog;
+  // null when buffers are flushed by the thread adding records.
+  private final ExecutorService flushExecutor;
+  // oldest first.
+  private final Deque<InFlightFlush> inFlightFlushes = new ArrayDeque<>();
+  private long inFlightBytes;
 
   public SerializedBufferingStrategy(final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> onCreateBuffer,
                                      final ConfiguredAirbyteCatalog catalog,
                                      final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> onStreamFlush) {
+    this(onCreateBuffer, catalog, onStreamFlush, 0);
+  }
+
+  /**
+   * @param flushThreadCount number of threads flushing buffers in the background, 0 to flush them on
+   *        the thread adding records. onStreamFlush must support flushing different streams
+   *        concurrently when it is greater than 0.
+   */
+  public SerializedBufferingStrategy(final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> onCreateBuffer,
+                                     final ConfiguredAirbyteCatalog catalog,
+                                     final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> onStreamFlush,
+                                     final int flushThreadCount) {
     this.onCreateBuffer = onCreateBuffer;
     this.catalog = catalog;
     this.onStreamFlush = onStreamFlush;
     this.totalBufferSizeInBytes = 0;
+    this.flushExecutor = flushThreadCount > 0 ? Executors.newFixedThreadPool(flushThreadCount) : null;
   }
 
   @Override
@@ -90,6 +125,12 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
 
   @Override
   public void flushWriter(final AirbyteStreamNameNamespacePair stream, final SerializableBuffer writer) throws Exception {
+    if (flushExecutor != null) {
+      totalBufferSizeInBytes -= writer.getByteCount();
+      allBuffers.remove(stream);
+      flushInBackground(stream, writer);
+      return;
+    }
     LOGGER.info("Flushing buffer of stream {} ({})", stream.getName(), FileUtils.byteCountToDisplaySize(writer.getByteCount()));
     AirbyteSentry.executeWithTracing("FlushBuffer", () -> {
       onStreamFlush.accept(stream, writer);
@@ -101,18 +142,69 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
   @Override
   public void flushAll() throws Exception {
     LOGGER.info("Flushing all {} current buffers ({} in total)", allBuffers.size(), FileUtils.byteCountToDisplaySize(totalBufferSizeInBytes));
+    if (flushExecutor != null) {
+      for (final Entry<AirbyteStreamNameNamespacePair, SerializableBuffer> entry : allBuffers.entrySet()) {
+        flushInBackground(entry.getKey(), entry.getValue());
+      }
+      waitForFlushes(flush -> true);
+      closeBuffers();
+      clear();
+      totalBufferSizeInBytes = 0;
+      return;
+    }
     AirbyteSentry.executeWithTracing("FlushBuffer", () -> {
       for (final Entry<AirbyteStreamNameNamespacePair, SerializableBuffer> entry : allBuffers.entrySet()) {
         LOGGER.info("Flushing buffer of stream {} ({})", entry.getKey().getName(), FileUtils.byteCountToDisplaySize(entry.getValue().getByteCount()));
         onStreamFlush.accept(entry.getKey(), entry.getValue());
       }
-      close();
+      closeBuffers();
       clear();
     }, Map.of("bufferSizeInBytes", totalBufferSizeInBytes));
 
     totalBufferSizeInBytes = 0;
   }
 
+  /**
+   * Hands the buffer to the flush threads, once the previous flushes of the stream are done and the
+   * buffers being flushed leave room for it.
+   */
+  private void flushInBackground(final AirbyteStreamNameNamespacePair stream, final SerializableBuffer writer) throws Exception {
+    final long byteCount = writer.getByteCount();
+    waitForFlushes(flush -> flush.stream().equals(stream));
+    while (!inFlightFlushes.isEmpty() && inFlightBytes + byteCount > writer.getMaxTotalBufferSizeInBytes()) {
+      waitForFlush(inFlightFlushes.peekFirst());
+    }
+
+    LOGGER.info("Flushing buffer of stream {} ({}) in the background", stream.getName(), FileUtils.byteCountToDisplaySize(byteCount));
+    final Future<?> future = flushExecutor.submit(() -> {
+      AirbyteSentry.executeWithTracing("FlushBuffer", () -> {
+        onStreamFlush.accept(stream, writer);
+      }, Map.of("bufferSizeInBytes", byteCount));
+      return null;
+    });
+    inFlightFlushes.addLast(new InFlightFlush(stream, byteCount, future));
+    inFlightBytes += byteCount;
+  }
+
+  private void waitForFlushes(final Predicate<InFlightFlush> filter) throws Exception {
+    for (final InFlightFlush flush : List.copyOf(inFlightFlushes)) {
+      if (filter.test(flush)) {
+        waitForFlush(flush);
+      }
+    }
+  }
+
+  private void waitForFlush(final InFlightFlush flush) throws Exception {
+    inFlightFlushes.remove(flush);
+    inFlightBytes -= flush.byteCount();
+    try {
+      flush.future().get();
+    } catch (final ExecutionException e) {
+      LOGGER.error("Failed to flush buffer of stream {}", flush.stream().getName(), e.getCause());
+      throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+    }
+  }
+
   @Override
   public void clear() throws Exception {
     LOGGER.debug("Reset all buffers");
@@ -121,6 +213,29 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
 
   @Override
   public void close() throws Exception {
+    final List<Exception> exceptionsThrown = new ArrayList<>();
+    if (flushExecutor != null) {
+      // buffers being flushed are closed by their flush.
+      while (!inFlightFlushes.isEmpty()) {
+        try {
+          waitForFlush(inFlightFlushes.peekFirst());
+        } catch (final Exception e) {
+          exceptionsThrown.add(e);
+        }
+      }
+      flushExecutor.shutdown();
+    }
+    try {
+      closeBuffers();
+    } catch (final Exception e) {
+      exceptionsThrown.add(e);
+    }
+    if (!exceptionsThrown.isEmpty()) {
+      throw new RuntimeException(String.format("Exceptions thrown while closing buffers: %s", Strings.join(exceptionsThrown, "\n")));
+    }
+  }
+
+  private void closeBuffers() {
     final List<Exception> exceptionsThrown = new ArrayList<>();
     for (final Entry<AirbyteStreamNameNamespacePair, SerializableBuffer> entry : allBuffers.entrySet()) {
       try {
@@ -136,4 +251,6 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
     }
   }
 
+  private record InFlightFlush(AirbyteStreamNameNamespacePair stream, long byteCount, Future<?> future) {}
+
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ByteLineReaderTest {
+
+  @Test
+  void testSplitsLines() throws Exception {
+    final String input = "{\"a\":1}\n\n{\"b\":\"é\"}\r\n\r\n{\"c\":3}\r{\"d\":4}";
+
+    assertEquals(List.of("{\"a\":1}", "{\"b\":\"é\"}", "{\"c\":3}", "{\"d\":4}"), readLines(input, ByteLineReader.DEFAULT_BUFFER_SIZE));
+  }
+
+  @Test
+  void testLinesLongerThanTheBuffer() throws Exception {
+    final String longLine = "x".repeat(50);
+    final String input = "ab\n" + longLine + "\ncd\n" + longLine;
+
+    assertEquals(List.of("ab", longLine, "cd", longLine), readLines(input, 4));
+  }
+
+  @Test
+  void testEmptyInput() throws Exception {
+    assertEquals(List.of(), readLines("", 4));
+    assertEquals(List.of(), readLines("\n\r\n", 4));
+  }
+
+  @Test
+  void testCountsBytesRead() throws Exception {
+    final ByteLineReader reader = new ByteLineReader(new ByteArrayInputStream("ab\r\ncd".getBytes(StandardCharsets.UTF_8)), 4);
+    reader.forEachLine((buffer, offset, length) -> {});
+
+    assertEquals(6, reader.getBytesRead());
+  }
+
+  @Test
+  void testConsumerExceptionIsRethrown() {
+    final ByteLineReader reader = new ByteLineReader(new ByteArrayInputStream("ab\ncd".getBytes(StandardCharsets.UTF_8)));
+
+    assertThrows(IOException.class, () -> reader.forEachLine((buffer, offset, length) -> {
+      throw new IOException("error");
+    }));
+  }
+
+  private static List<String> readLines(final String input, final int bufferSize) throws Exception {
+    final List<String> lines = new ArrayList<>();
+    new ByteLineReader(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), bufferSize)
+        .forEachLine((buffer, offset, length) -> lines.add(new String(buffer, offset, length, StandardCharsets.UTF_8)));
+    return lines;
+  }
+
+}
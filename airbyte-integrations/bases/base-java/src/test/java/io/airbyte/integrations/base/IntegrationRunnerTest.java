@@ -5,6 +5,7 @@
 package io.airbyte.integrations.base;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -22,6 +23,7 @@ import io.airbyte.commons.io.IOs;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.util.AutoCloseableIterators;
 import io.airbyte.commons.util.MoreIterators;
+import io.airbyte.config.WorkerEnvConstants;
 import io.airbyte.protocol.models.AirbyteCatalog;
 import io.airbyte.protocol.models.AirbyteConnectionStatus;
 import io.airbyte.protocol.models.AirbyteConnectionStatus.Status;
@@ -33,6 +35,7 @@ import io.airbyte.protocol.models.AirbyteStream;
 import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConnectorSpecification;
+import io.airbyte.protocol.models.MessageFormat;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -43,6 +46,7 @@ import java.nio.file.Path;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -367,6 +371,20 @@ class IntegrationRunnerTest {
     });
   }
 
+  @Test
+  void testUseFramedMessages() {
+    final ConnectorSpecification framedSpec = new ConnectorSpecification().withSupportedMessageFormats(List.of(MessageFormat.SMILE_FRAMED));
+    final Map<String, String> framedEnv = Map.of(WorkerEnvConstants.WORKER_MESSAGE_FORMATS, "smile_framed");
+
+    assertTrue(IntegrationRunner.useFramedMessages(framedSpec, framedEnv));
+    assertTrue(IntegrationRunner.useFramedMessages(framedSpec, Map.of(WorkerEnvConstants.WORKER_MESSAGE_FORMATS, "other,smile_framed")));
+    // the worker does not offer the format
+    assertFalse(IntegrationRunner.useFramedMessages(framedSpec, Map.of()));
+    assertFalse(IntegrationRunner.useFramedMessages(framedSpec, Map.of(WorkerEnvConstants.WORKER_MESSAGE_FORMATS, "other")));
+    // the connector does not support the format
+    assertFalse(IntegrationRunner.useFramedMessages(new ConnectorSpecification(), framedEnv));
+  }
+
   @Test
   void testParseConnectorImage() {
     assertEquals("unknown", IntegrationRunner.parseConnectorVersion(null));
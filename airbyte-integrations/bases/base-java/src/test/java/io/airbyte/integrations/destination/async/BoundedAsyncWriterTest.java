@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class BoundedAsyncWriterTest {
+
+  @Test
+  void testWritesBlockOnceTheLimitIsReached() throws Exception {
+    final CompletableFuture<Void> firstWrite = new CompletableFuture<>();
+    final CompletableFuture<Void> secondWrite = new CompletableFuture<>();
+    try (final BoundedAsyncWriter writer = new BoundedAsyncWriter(2, "write failed")) {
+      writer.start(() -> firstWrite);
+      writer.start(() -> secondWrite);
+
+      final CountDownLatch thirdWriteStarted = new CountDownLatch(1);
+      final Thread thread = new Thread(() -> writer.start(() -> {
+        thirdWriteStarted.countDown();
+        return CompletableFuture.completedFuture(null);
+      }));
+      thread.start();
+      assertFalse(thirdWriteStarted.await(200, TimeUnit.MILLISECONDS));
+
+      firstWrite.complete(null);
+      assertTrue(thirdWriteStarted.await(10, TimeUnit.SECONDS));
+      thread.join();
+
+      secondWrite.complete(null);
+      writer.flush();
+    }
+  }
+
+  @Test
+  void testFlushWaitsForTheWritesInFlight() {
+    final AtomicInteger completedWrites = new AtomicInteger();
+    try (final BoundedAsyncWriter writer = new BoundedAsyncWriter(4, "write failed")) {
+      for (int i = 0; i < 10; i++) {
+        writer.submit(() -> {
+          Thread.sleep(20);
+          completedWrites.incrementAndGet();
+        });
+      }
+      writer.flush();
+    }
+    assertEquals(10, completedWrites.get());
+  }
+
+  @Test
+  void testFailedWriteFailsTheFlushAndTheNextWrites() {
+    try (final BoundedAsyncWriter writer = new BoundedAsyncWriter(2, "write failed")) {
+      writer.start(() -> CompletableFuture.failedFuture(new IllegalStateException("connection lost")));
+
+      final RuntimeException exception = assertThrows(RuntimeException.class, writer::flush);
+      assertEquals("write failed", exception.getMessage());
+      assertEquals("connection lost", exception.getCause().getMessage());
+      assertThrows(RuntimeException.class, () -> writer.submit(() -> {}));
+    }
+  }
+
+  @Test
+  void testSubmitAfterCloseIsRejected() {
+    final BoundedAsyncWriter writer = new BoundedAsyncWriter(2, "write failed");
+    writer.start(() -> CompletableFuture.completedFuture(null));
+    writer.close();
+
+    assertThrows(RejectedExecutionException.class, () -> writer.submit(() -> {}));
+    // the rejected write is not left in flight.
+    writer.flush();
+  }
+
+  @Test
+  void testLimitStaysBetweenOneAndTheMaximum() {
+    try (final BoundedAsyncWriter writer = new BoundedAsyncWriter(4, "write failed")) {
+      writer.setInFlightWritesLimit(0);
+      assertEquals(1, writer.getInFlightWritesLimit());
+      writer.setInFlightWritesLimit(8);
+      assertEquals(4, writer.getInFlightWritesLimit());
+    }
+  }
+
+}
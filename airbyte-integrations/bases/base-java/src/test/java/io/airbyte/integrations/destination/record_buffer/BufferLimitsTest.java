@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.record_buffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class BufferLimitsTest {
+
+  private static final long MB = 1024 * 1024;
+  private static final long GB = 1024 * MB;
+
+  @Test
+  void testFileBufferLimits() {
+    // small pod: 1GB of free disk, 256MB of heap.
+    final BufferLimits small = BufferLimits.forFileBuffers(GB, 256 * MB, () -> 0);
+    assertEquals(256 * MB, small.getMaxTotalBufferSizeInBytes());
+    assertEquals(64 * MB, small.getMaxPerStreamBufferSizeInBytes());
+    assertEquals(8, small.getMaxConcurrentStreamsInBuffer());
+
+    // large node: the number of streams follows the heap, the sizes are capped whatever the free
+    // disk space of the node is.
+    final BufferLimits large = BufferLimits.forFileBuffers(500 * GB, 12 * GB, () -> 0);
+    assertEquals(FileBuffer.MAX_TOTAL_BUFFER_SIZE_BYTES, large.getMaxTotalBufferSizeInBytes());
+    assertEquals(FileBuffer.MAX_PER_STREAM_BUFFER_SIZE_BYTES, large.getMaxPerStreamBufferSizeInBytes());
+    assertEquals(384, large.getMaxConcurrentStreamsInBuffer());
+  }
+
+  @Test
+  void testInMemoryBufferLimits() {
+    final BufferLimits small = BufferLimits.forInMemoryBuffers(320 * MB, () -> 0);
+    assertEquals(128 * MB, small.getMaxTotalBufferSizeInBytes());
+    assertEquals(32 * MB, small.getMaxPerStreamBufferSizeInBytes());
+
+    final BufferLimits large = BufferLimits.forInMemoryBuffers(10 * GB, () -> 0);
+    assertEquals(4 * GB, large.getMaxTotalBufferSizeInBytes());
+    assertEquals(InMemoryBuffer.MAX_PER_STREAM_BUFFER_SIZE_BYTES, large.getMaxPerStreamBufferSizeInBytes());
+  }
+
+  @Test
+  void testHeapPressure() {
+    final double[] heapUsage = {0.9};
+    final AtomicLong currentTimeMillis = new AtomicLong(10_000);
+    final BufferLimits limits = new BufferLimits("test", 800 * MB, 200 * MB, 10, () -> heapUsage[0], currentTimeMillis::get);
+
+    assertEquals(400 * MB, limits.getMaxTotalBufferSizeInBytes());
+    // the heap usage is not read again within the interval.
+    assertEquals(400 * MB, limits.getMaxTotalBufferSizeInBytes());
+
+    currentTimeMillis.addAndGet(1000);
+    assertEquals(200 * MB, limits.getMaxTotalBufferSizeInBytes());
+    currentTimeMillis.addAndGet(1000);
+    assertEquals(100 * MB, limits.getMaxTotalBufferSizeInBytes());
+    assertEquals(100 * MB, limits.getMaxPerStreamBufferSizeInBytes());
+    currentTimeMillis.addAndGet(1000);
+    assertEquals(100 * MB, limits.getMaxTotalBufferSizeInBytes());
+
+    heapUsage[0] = 0.5;
+    currentTimeMillis.addAndGet(1000);
+    assertEquals(100 * MB, limits.getMaxTotalBufferSizeInBytes());
+
+    heapUsage[0] = 0.3;
+    currentTimeMillis.addAndGet(1000);
+    assertEquals(200 * MB, limits.getMaxTotalBufferSizeInBytes());
+    assertEquals(200 * MB, limits.getMaxPerStreamBufferSizeInBytes());
+    for (int i = 0; i < 5; i++) {
+      currentTimeMillis.addAndGet(1000);
+      limits.getMaxTotalBufferSizeInBytes();
+    }
+    assertEquals(800 * MB, limits.getMaxTotalBufferSizeInBytes());
+  }
+
+}
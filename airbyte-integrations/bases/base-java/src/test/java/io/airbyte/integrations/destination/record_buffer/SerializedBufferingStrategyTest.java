@@ -4,10 +4,13 @@
 
 package io.airbyte.integrations.destination.record_buffer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -21,6 +24,10 @@ import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -187,6 +194,63 @@ public class SerializedBufferingStrategyTest {
     assertThrows(RuntimeException.class, () -> buffering.addRecord(stream, generateMessage(stream)));
   }
 
+  @Test
+  public void testBackgroundPerStreamFlush() throws Exception {
+    final SerializedBufferingStrategy buffering = new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, perStreamFlushHook, 2);
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace");
+    final AirbyteStreamNameNamespacePair stream2 = new AirbyteStreamNameNamespacePair(STREAM_2, "namespace");
+    final CountDownLatch flushStarted = new CountDownLatch(1);
+    final CountDownLatch releaseFlush = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      flushStarted.countDown();
+      releaseFlush.await();
+      return null;
+    }).when(perStreamFlushHook).accept(stream2, recordWriter2);
+
+    when(recordWriter2.getByteCount()).thenReturn(30L);
+    // the flush of stream2 doesn't block the records that follow.
+    assertFalse(buffering.addRecord(stream2, generateMessage(stream2)));
+    assertFalse(buffering.addRecord(stream1, generateMessage(stream1)));
+    assertTrue(flushStarted.await(10, TimeUnit.SECONDS));
+    verify(perStreamFlushHook, times(0)).accept(stream1, recordWriter1);
+
+    releaseFlush.countDown();
+    buffering.flushAll();
+    verify(perStreamFlushHook, times(1)).accept(stream1, recordWriter1);
+    verify(perStreamFlushHook, times(1)).accept(stream2, recordWriter2);
+    buffering.close();
+  }
+
+  @Test
+  public void testBackgroundFlushAllWaitsForFlushes() throws Exception {
+    final SerializedBufferingStrategy buffering = new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, perStreamFlushHook, 2);
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace");
+    final AirbyteStreamNameNamespacePair stream2 = new AirbyteStreamNameNamespacePair(STREAM_2, "namespace");
+    final AtomicInteger completedFlushes = new AtomicInteger();
+    doAnswer(invocation -> {
+      Thread.sleep(100);
+      completedFlushes.incrementAndGet();
+      return null;
+    }).when(perStreamFlushHook).accept(any(), any());
+
+    assertFalse(buffering.addRecord(stream1, generateMessage(stream1)));
+    assertFalse(buffering.addRecord(stream2, generateMessage(stream2)));
+    buffering.flushAll();
+    assertEquals(2, completedFlushes.get());
+    buffering.close();
+  }
+
+  @Test
+  public void testBackgroundFlushFailure() throws Exception {
+    final SerializedBufferingStrategy buffering = new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, perStreamFlushHook, 2);
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace");
+    doThrow(new IOException("upload failed")).when(perStreamFlushHook).accept(stream1, recordWriter1);
+
+    assertFalse(buffering.addRecord(stream1, generateMessage(stream1)));
+    assertThrows(IOException.class, buffering::flushAll);
+    buffering.close();
+  }
+
   private static AirbyteMessage generateMessage(final AirbyteStreamNameNamespacePair stream) {
     return new AirbyteMessage().withRecord(new AirbyteRecordMessage()
         .withStream(stream.getName())
@@ -4,6 +4,7 @@
 
 package io.airbyte.integrations.destination.cassandra;
 
+import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.bindMarker;
 import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.now;
 
 import com.datastax.oss.driver.api.core.CqlSession;
@@ -17,24 +18,27 @@ import com.datastax.oss.driver.api.core.uuid.Uuids;
 import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
 import com.datastax.oss.driver.api.querybuilder.SchemaBuilder;
 import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.integrations.destination.async.BoundedAsyncWriter;
 import java.io.Closeable;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.stream.Collectors;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 class CassandraCqlProvider implements Closeable {
 
-  private static final Logger LOGGER = LoggerFactory.getLogger(CassandraCqlProvider.class);
-
   private static final int N_THREADS = Runtime.getRuntime().availableProcessors();
 
+  // maximum number of inserts sent to the cluster and not acknowledged yet, inserts block once it is
+  // reached so that the records are not read faster than the cluster can write them
+  private static final int MAX_CONCURRENT_INSERTS = 128;
+
   private final ExecutorService executorService;
 
   private final CqlSession cqlSession;
@@ -47,6 +51,10 @@ class CassandraCqlProvider implements Closeable {
 
   private final String columnTimestamp;
 
+  private final Map<String, PreparedStatement> insertStatements = new ConcurrentHashMap<>();
+
+  private final BoundedAsyncWriter insertWriter = new BoundedAsyncWriter(MAX_CONCURRENT_INSERTS, "Error while inserting records");
+
   public CassandraCqlProvider(CassandraConfig cassandraConfig) {
     this.cassandraConfig = cassandraConfig;
     this.cqlSession = SessionManager.initSession(cassandraConfig);
@@ -82,21 +90,43 @@ class CassandraCqlProvider implements Closeable {
     cqlSession.execute(query);
   }
 
+  /**
+   * Inserts the record asynchronously with a statement prepared once per table. Call
+   * {@link #flush()} to wait for the inserts to be written.
+   *
+   * @throws RuntimeException if a previous insert failed
+   */
   public void insert(String keyspace, String tableName, String jsonData) {
+    var insertStatement = insertStatements.computeIfAbsent(keyspace + "." + tableName, k -> prepareInsert(keyspace, tableName));
+    insertWriter.start(() -> cqlSession.executeAsync(insertStatement.bind(Uuids.random(), jsonData)));
+  }
+
+  private PreparedStatement prepareInsert(String keyspace, String tableName) {
     var query = QueryBuilder.insertInto(keyspace, tableName)
-        .value(columnId, QueryBuilder.literal(Uuids.random()))
-        .value(columnData, QueryBuilder.literal(jsonData))
+        .value(columnId, bindMarker())
+        .value(columnData, bindMarker())
         .value(columnTimestamp, QueryBuilder.toTimestamp(now()))
         .build();
-    cqlSession.execute(query);
+    return cqlSession.prepare(query);
+  }
+
+  /**
+   * Waits for all the pending inserts to be written.
+   *
+   * @throws RuntimeException if any of them failed
+   */
+  public void flush() {
+    insertWriter.flush();
   }
 
   public void truncate(String keyspace, String tableName) {
+    flush();
     var query = QueryBuilder.truncate(keyspace, tableName).build();
     cqlSession.execute(query);
   }
 
   public List<CassandraRecord> select(String keyspace, String tableName) {
+    flush();
     var query = QueryBuilder.selectFrom(keyspace, tableName)
         .columns(columnId, columnData, columnTimestamp)
         .build();
@@ -118,6 +148,7 @@ class CassandraCqlProvider implements Closeable {
   }
 
   public void copy(String keyspace, String sourceTable, String destinationTable) {
+    flush();
     var select = String.format("SELECT * FROM %s.%s WHERE token(%s) > ? AND token(%s) <= ?",
         keyspace, sourceTable, columnId, columnId);
 
@@ -162,14 +193,15 @@ class CassandraCqlProvider implements Closeable {
       future.get();
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
-      LOGGER.error("Interrupted thread while copying data with reason: ", e);
+      throw new RuntimeException("Interrupted while copying data", e);
     } catch (ExecutionException e) {
-      LOGGER.error("Error while copying data with reason: ", e);
+      throw new RuntimeException("Error while copying data", e.getCause());
     }
   }
 
   @Override
   public void close() {
+    insertWriter.close();
     // wait for tasks completion and terminate executor gracefully
     executorService.shutdown();
     // close cassandra session for the given config
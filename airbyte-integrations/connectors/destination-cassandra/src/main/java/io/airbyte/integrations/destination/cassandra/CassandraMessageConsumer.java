@@ -74,36 +74,40 @@ class CassandraMessageConsumer extends FailureTrackingAirbyteMessageConsumer {
 
   @Override
   protected void close(boolean hasFailed) {
-    if (!hasFailed) {
-      cassandraStreams.forEach((k, v) -> {
-        try {
-          cassandraCqlProvider.createTableIfNotExists(v.getKeyspace(), v.getTableName());
-          switch (v.getDestinationSyncMode()) {
-            case APPEND -> {
-              cassandraCqlProvider.copy(v.getKeyspace(), v.getTempTableName(), v.getTableName());
-            }
-            case OVERWRITE -> {
-              cassandraCqlProvider.truncate(v.getKeyspace(), v.getTableName());
-              cassandraCqlProvider.copy(v.getKeyspace(), v.getTempTableName(), v.getTableName());
+    try {
+      if (!hasFailed) {
+        // records are inserted asynchronously, they must all be written before the state is emitted
+        cassandraCqlProvider.flush();
+        // a failed copy must fail the sync, the state is only emitted once all the tables are copied
+        cassandraStreams.forEach((k, v) -> {
+          try {
+            cassandraCqlProvider.createTableIfNotExists(v.getKeyspace(), v.getTableName());
+            switch (v.getDestinationSyncMode()) {
+              case APPEND -> {
+                cassandraCqlProvider.copy(v.getKeyspace(), v.getTempTableName(), v.getTableName());
+              }
+              case OVERWRITE -> {
+                cassandraCqlProvider.truncate(v.getKeyspace(), v.getTableName());
+                cassandraCqlProvider.copy(v.getKeyspace(), v.getTempTableName(), v.getTableName());
+              }
+              default -> throw new UnsupportedOperationException();
             }
-            default -> throw new UnsupportedOperationException();
+          } catch (Exception e) {
+            throw new RuntimeException("Error while copying data to table " + v.getTableName(), e);
           }
+        });
+        outputRecordCollector.accept(lastMessage);
+      }
+    } finally {
+      cassandraStreams.forEach((k, v) -> {
+        try {
+          cassandraCqlProvider.dropTableIfExists(v.getKeyspace(), v.getTempTableName());
         } catch (Exception e) {
-          LOGGER.error("Error while copying data to table {}: : ", v.getTableName(), e);
+          LOGGER.error("Error while deleting temp table {} with reason: ", v.getTempTableName(), e);
         }
       });
-      outputRecordCollector.accept(lastMessage);
+      cassandraCqlProvider.close();
     }
-
-    cassandraStreams.forEach((k, v) -> {
-      try {
-        cassandraCqlProvider.dropTableIfExists(v.getKeyspace(), v.getTempTableName());
-      } catch (Exception e) {
-        LOGGER.error("Error while deleting temp table {} with reason: ", v.getTempTableName(), e);
-      }
-    });
-    cassandraCqlProvider.close();
-
   }
 
 }
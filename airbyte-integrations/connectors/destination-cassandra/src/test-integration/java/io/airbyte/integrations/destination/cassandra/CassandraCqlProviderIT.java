@@ -21,6 +21,8 @@ class CassandraCqlProviderIT {
 
   private static final String CASSANDRA_TABLE = "cassandra_table";
 
+  private CassandraConfig cassandraConfig;
+
   private CassandraCqlProvider cassandraCqlProvider;
 
   private CassandraNameTransformer nameTransformer;
@@ -28,7 +30,7 @@ class CassandraCqlProviderIT {
   @BeforeAll
   void setup() {
     var cassandraContainer = CassandraContainerInitializr.initContainer();
-    var cassandraConfig = TestDataFactory.createCassandraConfig(
+    this.cassandraConfig = TestDataFactory.createCassandraConfig(
         cassandraContainer.getUsername(),
         cassandraContainer.getPassword(),
         cassandraContainer.getHost(),
@@ -76,6 +78,43 @@ class CassandraCqlProviderIT {
 
   }
 
+  @Test
+  void testSelectWaitsForThePendingInserts() {
+    // given more inserts than can be in flight at once
+    for (int i = 0; i < 1000; i++) {
+      cassandraCqlProvider.insert(CASSANDRA_KEYSPACE, CASSANDRA_TABLE, "{\"property\":\"data" + i + "\"}");
+    }
+
+    // when
+    var resultSet = cassandraCqlProvider.select(CASSANDRA_KEYSPACE, CASSANDRA_TABLE);
+
+    // then
+    assertThat(resultSet)
+        .isNotNull()
+        .hasSize(1000)
+        .anyMatch(r -> r.getData().equals("{\"property\":\"data999\"}"));
+  }
+
+  @Test
+  void testFailedInsertFailsTheFlush() {
+    // a provider of its own, as it does not accept inserts anymore once one failed
+    try (var failingCqlProvider = new CassandraCqlProvider(cassandraConfig)) {
+      // given an insert prepared for a table that is dropped afterwards
+      String table = nameTransformer.outputTable("test_stream_failure");
+      failingCqlProvider.createTableIfNotExists(CASSANDRA_KEYSPACE, table);
+      failingCqlProvider.insert(CASSANDRA_KEYSPACE, table, "{\"property\":\"data1\"}");
+      failingCqlProvider.flush();
+      failingCqlProvider.dropTableIfExists(CASSANDRA_KEYSPACE, table);
+
+      // when
+      failingCqlProvider.insert(CASSANDRA_KEYSPACE, table, "{\"property\":\"data2\"}");
+
+      // then
+      assertThrows(RuntimeException.class, failingCqlProvider::flush);
+      assertThrows(RuntimeException.class, () -> failingCqlProvider.insert(CASSANDRA_KEYSPACE, table, "{\"property\":\"data3\"}"));
+    }
+  }
+
   @Test
   void testTruncate() {
     // given
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.dynamodb;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.ConsumedCapacity;
+import com.amazonaws.services.dynamodbv2.model.ProvisionedThroughputExceededException;
+import com.amazonaws.services.dynamodbv2.model.PutRequest;
+import com.amazonaws.services.dynamodbv2.model.ReturnConsumedCapacity;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+import io.airbyte.integrations.destination.async.BoundedAsyncWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes the items of a table with {@code BatchWriteItem} requests of 25 items, the maximum allowed
+ * by DynamoDB, running several requests in parallel.
+ *
+ * The unprocessed items of a request, which DynamoDB returns when the table is throttled, are
+ * retried with a jittered exponential backoff. The number of concurrent requests adapts to the
+ * throttling: it is halved when a request is throttled and grows back by one after each request that
+ * is not. The requests run on a {@link BoundedAsyncWriter}, adding an item blocks while all the
+ * allowed requests are in flight.
+ *
+ * The items are not written until their request is complete: {@link #flush()} must be called before
+ * relying on them, and it throws if any request failed.
+ */
+class DynamodbBatchWriter implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DynamodbBatchWriter.class);
+
+  static final int BATCH_SIZE = 25;
+  static final int DEFAULT_MAX_CONCURRENT_BATCHES = 8;
+  static final long DEFAULT_BASE_BACKOFF_MS = 50;
+  private static final long MAX_BACKOFF_MS = 10_000;
+  static final int MAX_ATTEMPTS = 10;
+
+  private final AmazonDynamoDB amazonDynamodb;
+  private final String tableName;
+  private final int maxConcurrentBatches;
+  private final long baseBackoffMs;
+  private final BoundedAsyncWriter batchWriter;
+
+  private List<WriteRequest> writeRequests = new ArrayList<>(BATCH_SIZE);
+
+  // metrics of the written batches, logged when the writer is flushed.
+  private final AtomicLong writtenItems = new AtomicLong();
+  private final AtomicLong throttledRequests = new AtomicLong();
+  private final DoubleAdder consumedCapacityUnits = new DoubleAdder();
+
+  DynamodbBatchWriter(final AmazonDynamoDB amazonDynamodb, final String tableName) {
+    this(amazonDynamodb, tableName, DEFAULT_MAX_CONCURRENT_BATCHES, DEFAULT_BASE_BACKOFF_MS);
+  }
+
+  DynamodbBatchWriter(final AmazonDynamoDB amazonDynamodb, final String tableName, final int maxConcurrentBatches, final long baseBackoffMs) {
+    this.amazonDynamodb = amazonDynamodb;
+    this.tableName = tableName;
+    this.maxConcurrentBatches = maxConcurrentBatches;
+    this.baseBackoffMs = baseBackoffMs;
+    this.batchWriter = new BoundedAsyncWriter(maxConcurrentBatches, "Failed to write a batch of items to table " + tableName);
+  }
+
+  /**
+   * @throws RuntimeException if a previous batch failed
+   */
+  void add(final Map<String, AttributeValue> item) {
+    batchWriter.throwIfFailed();
+    writeRequests.add(new WriteRequest().withPutRequest(new PutRequest().withItem(item)));
+    if (writeRequests.size() >= BATCH_SIZE) {
+      submit();
+    }
+  }
+
+  /**
+   * Writes the buffered items and waits for all the batches to be written.
+   *
+   * @throws RuntimeException if any batch failed
+   */
+  void flush() {
+    submit();
+    batchWriter.flush();
+    LOGGER.info("Wrote {} items to table {}, consuming {} write capacity units, {} requests were throttled",
+        writtenItems.get(), tableName, consumedCapacityUnits.sum(), throttledRequests.get());
+  }
+
+  private void submit() {
+    if (writeRequests.isEmpty()) {
+      return;
+    }
+    final List<WriteRequest> batch = writeRequests;
+    writeRequests = new ArrayList<>(BATCH_SIZE);
+    batchWriter.submit(() -> onBatchCompleted(write(batch)));
+  }
+
+  /**
+   * @return whether the table throttled any of the requests
+   */
+  private boolean write(final List<WriteRequest> batch) throws InterruptedException {
+    Map<String, List<WriteRequest>> unprocessedItems = Map.of(tableName, batch);
+    boolean isThrottled = false;
+    for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+      if (attempt > 0) {
+        Thread.sleep(getBackoffMs(attempt));
+      }
+      final BatchWriteItemResult result;
+      try {
+        result = amazonDynamodb.batchWriteItem(new BatchWriteItemRequest()
+            .withRequestItems(unprocessedItems)
+            .withReturnConsumedCapacity(ReturnConsumedCapacity.TOTAL));
+      } catch (final ProvisionedThroughputExceededException e) {
+        // the client already retried the request, back off before retrying all of it again.
+        isThrottled = true;
+        throttledRequests.incrementAndGet();
+        continue;
+      }
+      if (result.getConsumedCapacity() != null) {
+        result.getConsumedCapacity().stream()
+            .map(ConsumedCapacity::getCapacityUnits)
+            .filter(capacityUnits -> capacityUnits != null)
+            .forEach(consumedCapacityUnits::add);
+      }
+      final int requestedCount = unprocessedItems.get(tableName).size();
+      unprocessedItems = result.getUnprocessedItems();
+      final int unprocessedCount = unprocessedItems == null || !unprocessedItems.containsKey(tableName)
+          ? 0
+          : unprocessedItems.get(tableName).size();
+      writtenItems.addAndGet(requestedCount - unprocessedCount);
+      if (unprocessedCount == 0) {
+        return isThrottled;
+      }
+      isThrottled = true;
+      throttledRequests.incrementAndGet();
+    }
+    throw new RuntimeException(String.format("Failed to write items to table %s after %d attempts", tableName, MAX_ATTEMPTS));
+  }
+
+  /**
+   * @return a random duration up to an exponentially growing bound ("full jitter"), so that the
+   *         batches throttled at the same time are not all retried at the same time
+   */
+  private long getBackoffMs(final int attempt) {
+    final long maxBackoffMs = Math.min(MAX_BACKOFF_MS, baseBackoffMs << Math.min(attempt, 20));
+    return ThreadLocalRandom.current().nextLong(maxBackoffMs + 1);
+  }
+
+  private synchronized void onBatchCompleted(final boolean isThrottled) {
+    final int concurrencyLimit = batchWriter.getInFlightWritesLimit();
+    if (isThrottled) {
+      batchWriter.setInFlightWritesLimit(concurrencyLimit / 2);
+      if (batchWriter.getInFlightWritesLimit() != concurrencyLimit) {
+        LOGGER.info("Table {} is throttled, reducing the number of concurrent batches to {}", tableName, batchWriter.getInFlightWritesLimit());
+      }
+    } else if (concurrencyLimit < maxConcurrentBatches) {
+      batchWriter.setInFlightWritesLimit(concurrencyLimit + 1);
+    }
+  }
+
+  /**
+   * @return the number of batches allowed in flight at the moment
+   */
+  int getConcurrencyLimit() {
+    return batchWriter.getInFlightWritesLimit();
+  }
+
+  @Override
+  public void close() {
+    batchWriter.close();
+  }
+
+}
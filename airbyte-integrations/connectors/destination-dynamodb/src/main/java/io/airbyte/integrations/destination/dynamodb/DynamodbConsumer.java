@@ -102,8 +102,21 @@ public class DynamodbConsumer extends FailureTrackingAirbyteMessageConsumer {
 
   @Override
   protected void close(final boolean hasFailed) throws Exception {
+    // every writer must be closed to stop its threads, even if another one failed to flush.
+    Exception closeFailure = null;
     for (final DynamodbWriter handler : streamNameAndNamespaceToWriters.values()) {
-      handler.close(hasFailed);
+      try {
+        handler.close(hasFailed);
+      } catch (final Exception e) {
+        if (closeFailure == null) {
+          closeFailure = e;
+        } else {
+          closeFailure.addSuppressed(e);
+        }
+      }
+    }
+    if (closeFailure != null) {
+      throw closeFailure;
     }
     // DynamoDB stream uploader is all or nothing if a failure happens in the destination.
     if (!hasFailed) {
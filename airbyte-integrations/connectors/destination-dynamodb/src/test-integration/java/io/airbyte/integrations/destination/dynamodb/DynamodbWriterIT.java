@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.dynamodb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClientBuilder;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ResourceNotFoundException;
+import com.amazonaws.services.dynamodbv2.model.ScanRequest;
+import com.amazonaws.services.dynamodbv2.model.Select;
+import com.google.common.collect.ImmutableMap;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.DestinationSyncMode;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Writes to a DynamoDB Local container, which checks the requests like DynamoDB does.
+ */
+class DynamodbWriterIT {
+
+  private static final int DYNAMODB_PORT = 8000;
+  private static final String REGION = "us-west-2";
+  private static final String STREAM_NAME = "users";
+
+  private static GenericContainer<?> container;
+  private static DynamodbDestinationConfig config;
+  private static AmazonDynamoDB client;
+
+  @BeforeAll
+  static void init() {
+    container = new GenericContainer<>(DockerImageName.parse("amazon/dynamodb-local:1.18.0"))
+        .withExposedPorts(DYNAMODB_PORT);
+    container.start();
+
+    final String endpoint = String.format("http://%s:%d", container.getHost(), container.getMappedPort(DYNAMODB_PORT));
+    config = new DynamodbDestinationConfig(endpoint, "airbyte_", REGION, "fake-key", "fake-secret");
+
+    final ClientConfiguration clientConfiguration = new ClientConfiguration();
+    clientConfiguration.setSignerOverride("AWSDynamodbSignerType");
+    client = AmazonDynamoDBClientBuilder
+        .standard()
+        .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, REGION))
+        .withClientConfiguration(clientConfiguration)
+        .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials(config.getAccessKeyId(), config.getSecretAccessKey())))
+        .build();
+  }
+
+  @AfterAll
+  static void cleanUp() {
+    client.shutdown();
+    container.stop();
+  }
+
+  @Test
+  void testCloseWritesAllTheRecords() {
+    final ConfiguredAirbyteStream stream = CatalogHelpers.createConfiguredAirbyteStream(STREAM_NAME, null, Field.of("name", JsonSchemaType.STRING))
+        .withDestinationSyncMode(DestinationSyncMode.OVERWRITE);
+    // more records than fit in the batches that are in flight at once.
+    final int recordCount = DynamodbBatchWriter.BATCH_SIZE * DynamodbBatchWriter.DEFAULT_MAX_CONCURRENT_BATCHES * 2 + 10;
+
+    final DynamodbWriter writer = new DynamodbWriter(config, client, stream, Instant.now().toEpochMilli());
+    for (int i = 0; i < recordCount; i++) {
+      writer.write(UUID.randomUUID(), new AirbyteRecordMessage()
+          .withStream(STREAM_NAME)
+          .withData(Jsons.jsonNode(ImmutableMap.of("name", "user " + i)))
+          .withEmittedAt(Instant.now().toEpochMilli()));
+    }
+    writer.close(false);
+
+    final String tableName = DynamodbOutputTableHelper.getOutputTableName(config.getTableNamePrefix(), stream.getStream());
+    assertEquals(recordCount, client.scan(new ScanRequest(tableName).withSelect(Select.COUNT)).getCount());
+  }
+
+  @Test
+  void testRejectedBatchFailsTheFlush() {
+    try (final DynamodbBatchWriter writer = new DynamodbBatchWriter(client, "airbyte_missing_table")) {
+      writer.add(Map.of("id", new AttributeValue().withS("1")));
+
+      final RuntimeException exception = assertThrows(RuntimeException.class, writer::flush);
+      assertEquals(ResourceNotFoundException.class, exception.getCause().getClass());
+    }
+  }
+
+}
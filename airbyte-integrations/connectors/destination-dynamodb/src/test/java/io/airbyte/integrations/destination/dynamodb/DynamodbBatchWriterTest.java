@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.dynamodb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.ConsumedCapacity;
+import com.amazonaws.services.dynamodbv2.model.ProvisionedThroughputExceededException;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class DynamodbBatchWriterTest {
+
+  private static final String TABLE_NAME = "test_table";
+
+  @Test
+  void testItemsAreWrittenInBatchesOf25() throws Exception {
+    final AmazonDynamoDB amazonDynamodb = mock(AmazonDynamoDB.class);
+    when(amazonDynamodb.batchWriteItem(any(BatchWriteItemRequest.class))).thenReturn(new BatchWriteItemResult()
+        .withUnprocessedItems(Map.of())
+        .withConsumedCapacity(new ConsumedCapacity().withTableName(TABLE_NAME).withCapacityUnits(25.0)));
+
+    try (final DynamodbBatchWriter writer = new DynamodbBatchWriter(amazonDynamodb, TABLE_NAME, 4, 1)) {
+      for (int i = 0; i < 60; i++) {
+        writer.add(item(i));
+      }
+      writer.flush();
+    }
+
+    final ArgumentCaptor<BatchWriteItemRequest> requests = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+    verify(amazonDynamodb, times(3)).batchWriteItem(requests.capture());
+    assertEquals(List.of(10, 25, 25), requests.getAllValues().stream()
+        .map(request -> request.getRequestItems().get(TABLE_NAME).size())
+        .sorted()
+        .toList());
+  }
+
+  @Test
+  void testUnprocessedItemsAreRetried() throws Exception {
+    final AmazonDynamoDB amazonDynamodb = mock(AmazonDynamoDB.class);
+    final List<Integer> requestSizes = Collections.synchronizedList(new ArrayList<>());
+    when(amazonDynamodb.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+      final List<WriteRequest> writeRequests = invocation.<BatchWriteItemRequest>getArgument(0).getRequestItems().get(TABLE_NAME);
+      requestSizes.add(writeRequests.size());
+      // the table only processes the first 10 items of each request.
+      return new BatchWriteItemResult().withUnprocessedItems(writeRequests.size() > 10
+          ? Map.of(TABLE_NAME, writeRequests.subList(10, writeRequests.size()))
+          : Map.of());
+    });
+
+    try (final DynamodbBatchWriter writer = new DynamodbBatchWriter(amazonDynamodb, TABLE_NAME, 1, 1)) {
+      for (int i = 0; i < 25; i++) {
+        writer.add(item(i));
+      }
+      writer.flush();
+    }
+
+    assertEquals(List.of(25, 15, 5), requestSizes);
+  }
+
+  @Test
+  void testItemsThatAreNeverProcessedFailAfterTheLastAttempt() {
+    final AmazonDynamoDB amazonDynamodb = mock(AmazonDynamoDB.class);
+    when(amazonDynamodb.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> new BatchWriteItemResult()
+        .withUnprocessedItems(invocation.<BatchWriteItemRequest>getArgument(0).getRequestItems()));
+
+    try (final DynamodbBatchWriter writer = new DynamodbBatchWriter(amazonDynamodb, TABLE_NAME, 1, 0)) {
+      writer.add(item(0));
+      final RuntimeException exception = assertThrows(RuntimeException.class, writer::flush);
+      assertEquals("Failed to write items to table test_table after 10 attempts", exception.getCause().getMessage());
+    }
+    verify(amazonDynamodb, times(DynamodbBatchWriter.MAX_ATTEMPTS)).batchWriteItem(any(BatchWriteItemRequest.class));
+  }
+
+  @Test
+  void testThrottledBatchHalvesTheConcurrentBatches() {
+    final AmazonDynamoDB amazonDynamodb = mock(AmazonDynamoDB.class);
+    when(amazonDynamodb.batchWriteItem(any(BatchWriteItemRequest.class)))
+        .thenThrow(new ProvisionedThroughputExceededException("throttled"))
+        .thenReturn(new BatchWriteItemResult().withUnprocessedItems(Map.of()));
+
+    try (final DynamodbBatchWriter writer = new DynamodbBatchWriter(amazonDynamodb, TABLE_NAME, 4, 0)) {
+      // the throttled request is retried, then the limit is halved.
+      writer.add(item(0));
+      writer.flush();
+      assertEquals(2, writer.getConcurrencyLimit());
+
+      // it grows back by one after each batch that is not throttled.
+      writer.add(item(1));
+      writer.flush();
+      assertEquals(3, writer.getConcurrencyLimit());
+    }
+    verify(amazonDynamodb, times(3)).batchWriteItem(any(BatchWriteItemRequest.class));
+  }
+
+  private static Map<String, AttributeValue> item(final int id) {
+    return Map.of("id", new AttributeValue().withS(Integer.toString(id)));
+  }
+
+}
@@ -41,6 +41,8 @@ import org.slf4j.LoggerFactory;
 public class StagingConsumerFactory {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(StagingConsumerFactory.class);
+  // buffers of different streams are uploaded concurrently, while the next records are buffered.
+  private static final int FLUSH_THREAD_COUNT = 2;
 
   // using a random string here as a placeholder for the moment.
   // This would avoid mixing data in the staging area between different syncs (especially if they
@@ -68,7 +70,8 @@ public class StagingConsumerFactory {
         new SerializedBufferingStrategy(
             onCreateBuffer,
             catalog,
-            flushBufferFunction(database, stagingOperations, writeConfigs, catalog)),
+            flushBufferFunction(database, stagingOperations, writeConfigs, catalog),
+            FLUSH_THREAD_COUNT),
         onCloseFunction(database, stagingOperations, writeConfigs, purgeStagingData),
         catalog,
         stagingOperations::isValidData);
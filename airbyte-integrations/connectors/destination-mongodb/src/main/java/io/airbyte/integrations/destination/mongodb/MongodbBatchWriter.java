@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.mongodb;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+import io.airbyte.integrations.destination.async.BoundedAsyncWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Buffers the documents of each collection and inserts them with unordered {@code insertMany}
+ * calls, up to a number of documents or bytes per call. Up to {@code maxConcurrentBatches} batches
+ * are inserted at once by a {@link BoundedAsyncWriter}, adding a document blocks once they are all
+ * in flight.
+ *
+ * The documents are not written until their batch is complete: {@link #flush()} must be called
+ * before relying on them, and it throws if any batch failed.
+ */
+class MongodbBatchWriter implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MongodbBatchWriter.class);
+
+  // the limits are not part of the spec: they bound the memory used by the buffered and in flight
+  // documents, one batch per collection plus MAX_CONCURRENT_BATCHES, rather than tune the
+  // throughput. a batch is far below the 100,000 documents and 48 MB of a single message to the
+  // server, which the driver would split anyway, and is large enough for a round trip to be cheap
+  // compared to the insert itself.
+  static final int MAX_BATCH_DOCUMENTS = 1_000;
+  static final long MAX_BATCH_BYTES = 8 * 1024 * 1024;
+  // a few batches in flight hide the latency of the round trips, more only queue up on the server.
+  static final int MAX_CONCURRENT_BATCHES = 4;
+
+  private static final InsertManyOptions UNORDERED = new InsertManyOptions().ordered(false);
+
+  private static class Batch {
+
+    private final MongoCollection<Document> collection;
+    private List<Document> documents = new ArrayList<>();
+    private long sizeInBytes = 0;
+
+    private Batch(final MongoCollection<Document> collection) {
+      this.collection = collection;
+    }
+
+  }
+
+  private final int maxBatchDocuments;
+  private final long maxBatchBytes;
+  private final Map<String, Batch> batches = new HashMap<>();
+  private final BoundedAsyncWriter batchWriter;
+
+  // metrics of the inserted batches, logged when the writer is flushed.
+  private final AtomicLong insertedBatches = new AtomicLong();
+  private final AtomicLong insertedDocuments = new AtomicLong();
+  private final AtomicLong insertNanos = new AtomicLong();
+  // guarded by this: number of batches being inserted, when the current period with inserts in
+  // flight started, and the total time with inserts in flight.
+  private int insertingBatches = 0;
+  private long insertingSinceNanos;
+  private long insertingNanos = 0;
+
+  MongodbBatchWriter() {
+    this(MAX_BATCH_DOCUMENTS, MAX_BATCH_BYTES, MAX_CONCURRENT_BATCHES);
+  }
+
+  MongodbBatchWriter(final int maxBatchDocuments, final long maxBatchBytes, final int maxConcurrentBatches) {
+    this.maxBatchDocuments = maxBatchDocuments;
+    this.maxBatchBytes = maxBatchBytes;
+    this.batchWriter = new BoundedAsyncWriter(maxConcurrentBatches, "Failed to insert a batch of documents");
+  }
+
+  /**
+   * @param sizeInBytes estimated size of the document, 0 to only bound the batch by its number of
+   *        documents
+   * @throws RuntimeException if a previous batch failed
+   */
+  void add(final MongoCollection<Document> collection, final Document document, final long sizeInBytes) {
+    batchWriter.throwIfFailed();
+    final Batch batch = batches.computeIfAbsent(collection.getNamespace().getFullName(), k -> new Batch(collection));
+    batch.documents.add(document);
+    batch.sizeInBytes += sizeInBytes;
+    if (batch.documents.size() >= maxBatchDocuments || batch.sizeInBytes >= maxBatchBytes) {
+      submit(batch);
+    }
+  }
+
+  /**
+   * Inserts all the buffered documents and waits for all the batches to be inserted.
+   *
+   * @throws RuntimeException if any batch failed
+   */
+  void flush() {
+    batches.values().forEach(this::submit);
+    batchWriter.flush();
+    logMetrics();
+  }
+
+  private void submit(final Batch batch) {
+    if (batch.documents.isEmpty()) {
+      return;
+    }
+    final List<Document> documents = batch.documents;
+    batch.documents = new ArrayList<>();
+    batch.sizeInBytes = 0;
+    batchWriter.submit(() -> insert(batch.collection, documents));
+  }
+
+  private void insert(final MongoCollection<Document> collection, final List<Document> documents) {
+    onInsertStarted();
+    final long start = System.nanoTime();
+    try {
+      collection.insertMany(documents, UNORDERED);
+    } finally {
+      onInsertCompleted();
+    }
+    final long elapsed = System.nanoTime() - start;
+    insertedBatches.incrementAndGet();
+    insertedDocuments.addAndGet(documents.size());
+    insertNanos.addAndGet(elapsed);
+    LOGGER.debug("Inserted {} documents into {} in {} ms", documents.size(), collection.getNamespace(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+  }
+
+  private synchronized void onInsertStarted() {
+    if (insertingBatches++ == 0) {
+      insertingSinceNanos = System.nanoTime();
+    }
+  }
+
+  private synchronized void onInsertCompleted() {
+    if (--insertingBatches == 0) {
+      insertingNanos += System.nanoTime() - insertingSinceNanos;
+    }
+  }
+
+  /**
+   * Logs the throughput over the time some batches were being inserted, so that the time spent
+   * reading the records or copying the tables in between does not lower it.
+   */
+  private void logMetrics() {
+    final long batchCount = insertedBatches.get();
+    if (batchCount == 0) {
+      return;
+    }
+    final long documentCount = insertedDocuments.get();
+    final long elapsedMillis;
+    synchronized (this) {
+      elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(insertingNanos));
+    }
+    LOGGER.info("Inserted {} documents in {} batches, {} ms per batch on average, {} documents/s", documentCount, batchCount,
+        TimeUnit.NANOSECONDS.toMillis(insertNanos.get() / batchCount), documentCount * 1000 / elapsedMillis);
+  }
+
+  @Override
+  public void close() {
+    batchWriter.close();
+  }
+
+}
@@ -19,8 +19,6 @@ import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import java.nio.charset.Charset;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.function.Consumer;
@@ -43,6 +41,7 @@ public class MongodbRecordConsumer extends FailureTrackingAirbyteMessageConsumer
   private final ConfiguredAirbyteCatalog catalog;
   private final Consumer<AirbyteMessage> outputRecordCollector;
   private final ObjectMapper objectMapper;
+  private final MongodbBatchWriter batchWriter;
 
   private AirbyteMessage lastStateMessage = null;
 
@@ -55,6 +54,7 @@ public class MongodbRecordConsumer extends FailureTrackingAirbyteMessageConsumer
     this.catalog = catalog;
     this.outputRecordCollector = outputRecordCollector;
     this.objectMapper = new ObjectMapper();
+    this.batchWriter = new MongodbBatchWriter();
   }
 
   @Override
@@ -86,6 +86,8 @@ public class MongodbRecordConsumer extends FailureTrackingAirbyteMessageConsumer
   protected void close(final boolean hasFailed) {
     try {
       if (!hasFailed) {
+        // the records are inserted in batches, they must all be written before they are copied.
+        batchWriter.flush();
         LOGGER.info("Migration finished with no explicit errors. Copying data from tmp tables to permanent");
         writeConfigs.values().forEach(mongodbWriteConfig -> Exceptions.toRuntime(() -> {
           try {
@@ -103,6 +105,7 @@ public class MongodbRecordConsumer extends FailureTrackingAirbyteMessageConsumer
         LOGGER.error("Had errors while migrations");
       }
     } finally {
+      batchWriter.close();
       LOGGER.info("Removing tmp collections...");
       writeConfigs.values()
           .forEach(mongodbWriteConfig -> mongoDatabase.getCollection(mongodbWriteConfig.getTmpCollectionName()).drop());
@@ -117,8 +120,8 @@ public class MongodbRecordConsumer extends FailureTrackingAirbyteMessageConsumer
     try {
       final AirbyteRecordMessage recordMessage = message.getRecord();
       final Map<String, Object> result = objectMapper.convertValue(recordMessage.getData(), new TypeReference<>() {});
-      final var newDocumentDataHashCode = UUID.nameUUIDFromBytes(DigestUtils.md5Hex(Jsons.toBytes(recordMessage.getData())).getBytes(
-          Charset.defaultCharset())).toString();
+      final byte[] data = Jsons.toBytes(recordMessage.getData());
+      final var newDocumentDataHashCode = UUID.nameUUIDFromBytes(DigestUtils.md5Hex(data).getBytes(Charset.defaultCharset())).toString();
       final var newDocument = new Document();
       newDocument.put(AIRBYTE_DATA, new Document(result));
       newDocument.put(AIRBYTE_DATA_HASH, newDocumentDataHashCode);
@@ -128,7 +131,7 @@ public class MongodbRecordConsumer extends FailureTrackingAirbyteMessageConsumer
 
       final var documentsHash = writeConfig.getDocumentsHash();
       if (!documentsHash.contains(newDocumentDataHashCode)) {
-        collection.insertOne(newDocument);
+        batchWriter.add(collection, newDocument, data.length);
         documentsHash.add(newDocumentDataHashCode);
       } else {
         LOGGER.info("Object with hashCode = {} already exist in table {}.", newDocumentDataHashCode, writeConfig.getCollectionName());
@@ -146,14 +149,12 @@ public class MongodbRecordConsumer extends FailureTrackingAirbyteMessageConsumer
 
     final var tempCollection = mongoDatabase.getOrCreateNewCollection(tmpCollectionName);
     final var collection = mongoDatabase.getOrCreateNewCollection(collectionName);
-    final List<Document> documents = new ArrayList<>();
-    try (final MongoCursor<Document> cursor = tempCollection.find().projection(excludeId()).iterator()) {
+    try (final MongodbBatchWriter copyWriter = new MongodbBatchWriter();
+        final MongoCursor<Document> cursor = tempCollection.find().projection(excludeId()).iterator()) {
       while (cursor.hasNext()) {
-        documents.add(cursor.next());
+        copyWriter.add(collection, cursor.next(), 0);
       }
-    }
-    if (!documents.isEmpty()) {
-      collection.insertMany(documents);
+      copyWriter.flush();
     }
   }
 
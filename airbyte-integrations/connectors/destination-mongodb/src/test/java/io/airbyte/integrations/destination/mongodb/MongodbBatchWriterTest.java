@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.mongodb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class MongodbBatchWriterTest {
+
+  @Test
+  void testDocumentsAreInsertedInBatches() {
+    final MongoCollection<Document> collection = mockCollection("stream");
+    final MongoCollection<Document> otherCollection = mockCollection("other_stream");
+    try (final MongodbBatchWriter writer = new MongodbBatchWriter(3, 1_000, 2)) {
+      for (int i = 0; i < 7; i++) {
+        writer.add(collection, new Document("value", i), 10);
+      }
+      writer.add(otherCollection, new Document("value", 0), 10);
+      writer.flush();
+    }
+
+    final ArgumentCaptor<List<Document>> documents = ArgumentCaptor.forClass(List.class);
+    final ArgumentCaptor<InsertManyOptions> options = ArgumentCaptor.forClass(InsertManyOptions.class);
+    verify(collection, times(3)).insertMany(documents.capture(), options.capture());
+    assertEquals(List.of(1, 3, 3), documents.getAllValues().stream().map(List::size).sorted().toList());
+    assertEquals(false, options.getValue().isOrdered());
+    verify(otherCollection).insertMany(anyList(), any(InsertManyOptions.class));
+  }
+
+  @Test
+  void testBatchesAreBoundedBySize() {
+    final MongoCollection<Document> collection = mockCollection("stream");
+    try (final MongodbBatchWriter writer = new MongodbBatchWriter(100, 25, 1)) {
+      writer.add(collection, new Document("value", 0), 10);
+      writer.add(collection, new Document("value", 1), 10);
+      verify(collection, never()).insertMany(anyList(), any(InsertManyOptions.class));
+      writer.add(collection, new Document("value", 2), 10);
+      writer.flush();
+    }
+    verify(collection).insertMany(anyList(), any(InsertManyOptions.class));
+  }
+
+  @Test
+  void testFlushInsertsThePartialBatchOfEachCollection() {
+    final List<MongoCollection<Document>> collections = List.of(mockCollection("a"), mockCollection("b"), mockCollection("c"));
+    try (final MongodbBatchWriter writer = new MongodbBatchWriter(10, 1_000, 2)) {
+      for (final MongoCollection<Document> collection : collections) {
+        writer.add(collection, new Document("value", 0), 10);
+        writer.add(collection, new Document("value", 1), 10);
+      }
+      collections.forEach(collection -> verify(collection, never()).insertMany(anyList(), any(InsertManyOptions.class)));
+      writer.flush();
+    }
+
+    for (final MongoCollection<Document> collection : collections) {
+      final ArgumentCaptor<List<Document>> documents = ArgumentCaptor.forClass(List.class);
+      verify(collection).insertMany(documents.capture(), any(InsertManyOptions.class));
+      assertEquals(List.of(0, 1), documents.getValue().stream().map(document -> document.getInteger("value")).toList());
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static MongoCollection<Document> mockCollection(final String name) {
+    final MongoCollection<Document> collection = mock(MongoCollection.class);
+    when(collection.getNamespace()).thenReturn(new MongoNamespace("database", name));
+    return collection;
+  }
+
+}
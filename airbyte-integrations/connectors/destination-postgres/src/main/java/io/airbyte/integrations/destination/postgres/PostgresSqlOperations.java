@@ -7,16 +7,13 @@ package io.airbyte.integrations.destination.postgres;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.destination.jdbc.JdbcSqlOperations;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
-import java.io.IOException;
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.sql.SQLException;
 import java.util.List;
-import org.postgresql.copy.CopyManager;
-import org.postgresql.core.BaseConnection;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
 
 public class PostgresSqlOperations extends JdbcSqlOperations {
 
@@ -35,25 +32,25 @@ public class PostgresSqlOperations extends JdbcSqlOperations {
     }
 
     database.execute(connection -> {
-      File tmpFile = null;
+      final var sql = String.format("COPY %s.%s FROM stdin DELIMITER ',' CSV", schemaName, tmpTableName);
+      // rows are encoded straight into the buffer of the copy stream, which is sent to the database
+      // whenever it is full, instead of going through a temp file.
+      final var copyStream = new PGCopyOutputStream(connection.unwrap(PGConnection.class), sql);
       try {
-        tmpFile = Files.createTempFile(tmpTableName + "-", ".tmp").toFile();
-        writeBatchToFile(tmpFile, records);
-
-        final var copyManager = new CopyManager(connection.unwrap(BaseConnection.class));
-        final var sql = String.format("COPY %s.%s FROM stdin DELIMITER ',' CSV", schemaName, tmpTableName);
-        final var bufferedReader = new BufferedReader(new FileReader(tmpFile, StandardCharsets.UTF_8));
-        copyManager.copyIn(sql, bufferedReader);
+        // the writer is not closed, since closing it would end the copy even if writing failed.
+        final var writer = new BufferedWriter(new OutputStreamWriter(copyStream, StandardCharsets.UTF_8));
+        writeBatchToWriter(writer, records);
+        copyStream.endCopy();
       } catch (final Exception e) {
-        throw new RuntimeException(e);
-      } finally {
-        try {
-          if (tmpFile != null) {
-            Files.delete(tmpFile.toPath());
+        if (copyStream.isActive()) {
+          try {
+            copyStream.cancelCopy();
+          } catch (final Exception cancelException) {
+            // the write failure is what the caller needs to see, the cancel failure is kept with it.
+            e.addSuppressed(cancelException);
           }
-        } catch (final IOException e) {
-          throw new RuntimeException(e);
         }
+        throw new RuntimeException(e);
       }
     });
   }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.postgres;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.commons.functional.CheckedConsumer;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.db.jdbc.JdbcDatabase;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+class PostgresSqlOperationsTest {
+
+  private static final String SCHEMA_NAME = "public";
+  private static final String TABLE_NAME = "_airbyte_tmp_users";
+  // about 1KB per row, so that the rows fill the 64KB buffer of the copy stream several times.
+  private static final List<AirbyteRecordMessage> RECORDS = IntStream.range(0, 500)
+      .mapToObj(i -> new AirbyteRecordMessage().withData(Jsons.jsonNode(Map.of("id", i, "name", "a".repeat(1000)))).withEmittedAt(0L))
+      .collect(Collectors.toList());
+
+  private JdbcDatabase database;
+  private CopyIn copyIn;
+
+  @SuppressWarnings("unchecked")
+  @BeforeEach
+  void setup() throws Exception {
+    copyIn = mock(CopyIn.class);
+    when(copyIn.isActive()).thenReturn(true);
+    final CopyManager copyManager = mock(CopyManager.class);
+    when(copyManager.copyIn(String.format("COPY %s.%s FROM stdin DELIMITER ',' CSV", SCHEMA_NAME, TABLE_NAME))).thenReturn(copyIn);
+    final PGConnection pgConnection = mock(PGConnection.class);
+    when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+    final Connection connection = mock(Connection.class);
+    when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+
+    database = mock(JdbcDatabase.class);
+    doAnswer(invocation -> {
+      invocation.<CheckedConsumer<Connection, SQLException>>getArgument(0).accept(connection);
+      return null;
+    }).when(database).execute(any(CheckedConsumer.class));
+  }
+
+  @Test
+  void testCopyFailingMidwayIsCancelled() throws Exception {
+    final SQLException writeFailure = new SQLException("connection reset");
+    // the first buffer is sent, the copy fails on the second one.
+    doNothing().doThrow(writeFailure).when(copyIn).writeToCopy(any(byte[].class), anyInt(), anyInt());
+
+    final RuntimeException exception =
+        assertThrows(RuntimeException.class, () -> new PostgresSqlOperations().insertRecordsInternal(database, RECORDS, SCHEMA_NAME, TABLE_NAME));
+
+    assertEquals(writeFailure, getRootCause(exception));
+    verify(copyIn, times(2)).writeToCopy(any(byte[].class), anyInt(), anyInt());
+    verify(copyIn).cancelCopy();
+    verify(copyIn, never()).endCopy();
+  }
+
+  @Test
+  void testFailureToCancelTheCopyKeepsTheWriteFailure() throws Exception {
+    final SQLException writeFailure = new SQLException("connection reset");
+    final SQLException cancelFailure = new SQLException("connection closed");
+    doNothing().doThrow(writeFailure).when(copyIn).writeToCopy(any(byte[].class), anyInt(), anyInt());
+    doThrow(cancelFailure).when(copyIn).cancelCopy();
+
+    final RuntimeException exception =
+        assertThrows(RuntimeException.class, () -> new PostgresSqlOperations().insertRecordsInternal(database, RECORDS, SCHEMA_NAME, TABLE_NAME));
+
+    assertEquals(writeFailure, getRootCause(exception));
+    assertArrayEquals(new Throwable[] {cancelFailure}, exception.getCause().getSuppressed());
+  }
+
+  private static Throwable getRootCause(final Throwable throwable) {
+    Throwable cause = throwable;
+    while (cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    return cause;
+  }
+
+}
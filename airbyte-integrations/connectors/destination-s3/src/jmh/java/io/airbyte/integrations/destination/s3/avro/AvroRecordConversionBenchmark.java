@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.avro;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.base.JavaBaseConstants;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Per-record cost of converting record messages into the Avro records written by the Avro and
+ * Parquet buffers: serializing each record and parsing it back with the {@code JsonAvroConverter}
+ * as {@link AvroRecordFactory} used to, against {@link JsonToAvroRecordConverter}. Scores are
+ * nanoseconds per record.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AvroRecordConversionBenchmark {
+
+  private static final int RECORD_COUNT = 1_000;
+  private static final ObjectMapper MAPPER = MoreMappers.initMapper();
+  private static final ObjectWriter WRITER = MAPPER.writer();
+
+  // whether the records have a date-time field, which is still converted by the JsonAvroConverter.
+  @Param({"false", "true"})
+  public boolean withDateTime;
+
+  private Schema schema;
+  private JsonToAvroRecordConverter recordConverter;
+  private JsonNode[] records;
+  private UUID id;
+
+  @Setup
+  public void setup() {
+    final Map<String, Object> properties = new LinkedHashMap<>();
+    properties.put("id", Map.of("type", "integer"));
+    properties.put("name", Map.of("type", List.of("null", "string")));
+    properties.put("description", Map.of("type", "string"));
+    properties.put("price", Map.of("type", "number"));
+    properties.put("quantity", Map.of("type", "number", "airbyte_type", "big_integer"));
+    properties.put("active", Map.of("type", "boolean"));
+    properties.put("tags", Map.of("type", "array", "items", Map.of("type", "string")));
+    properties.put("address", Map.of("type", "object", "properties", Map.of(
+        "street", Map.of("type", "string"),
+        "city", Map.of("type", "string"),
+        "zip_code", Map.of("type", "string"))));
+    if (withDateTime) {
+      properties.put("updated_at", Map.of("type", "string", "format", "date-time"));
+    }
+    schema = new JsonToAvroSchemaConverter().getAvroSchema(Jsons.jsonNode(Map.of("type", "object", "properties", properties)), "stream", "namespace");
+    recordConverter = new JsonToAvroRecordConverter(schema, AvroConstants.JSON_CONVERTER);
+    id = UUID.randomUUID();
+
+    records = new JsonNode[RECORD_COUNT];
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      final Map<String, Object> record = new LinkedHashMap<>();
+      record.put("id", i);
+      record.put("name", "product " + i);
+      record.put("description", "a product that is described with a few words, number " + i);
+      record.put("price", i * 1.25);
+      record.put("quantity", i * 1_000_000L);
+      record.put("active", i % 2 == 0);
+      final List<String> tags = new ArrayList<>();
+      for (int j = 0; j < i % 5; j++) {
+        tags.add("tag" + j);
+      }
+      record.put("tags", tags);
+      record.put("address", Map.of("street", i + " main street", "city", "Paris", "zip_code", "75001"));
+      if (withDateTime) {
+        record.put("updated_at", "2022-06-01T10:15:30." + (100 + i % 900) + "Z");
+      }
+      records[i] = Jsons.jsonNode(record);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORD_COUNT)
+  public void jsonAvroConverter(final Blackhole blackhole) throws Exception {
+    for (final JsonNode data : records) {
+      final ObjectNode jsonRecord = MAPPER.createObjectNode();
+      jsonRecord.put(JavaBaseConstants.COLUMN_NAME_AB_ID, id.toString());
+      jsonRecord.put(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, 1_654_000_000_000L);
+      jsonRecord.setAll((ObjectNode) data);
+      blackhole.consume(AvroConstants.JSON_CONVERTER.convertToGenericDataRecord(WRITER.writeValueAsBytes(jsonRecord), schema));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORD_COUNT)
+  public void jsonToAvroRecordConverter(final Blackhole blackhole) throws Exception {
+    for (final JsonNode data : records) {
+      final GenericData.Record record = recordConverter.convert(id, 1_654_000_000_000L, data);
+      if (record == null) {
+        throw new IllegalStateException("Record was not converted directly: " + data);
+      }
+      blackhole.consume(record);
+    }
+  }
+
+}
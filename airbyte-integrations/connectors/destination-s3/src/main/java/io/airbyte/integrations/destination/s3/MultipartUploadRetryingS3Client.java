@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Client given to the {@link alex.mojaki.s3upload.StreamTransferManager} of a streamed multipart
+ * upload, which makes up to {@link S3StorageOperations#UPLOAD_RETRY_LIMIT} attempts to upload a part
+ * or to complete the object, on top of the retries of each request by the S3 client. The data of a
+ * streamed upload cannot be uploaded again from the start like a buffer file, but a part is still
+ * in memory while its request runs, so it can be sent again.
+ *
+ * Only the requests of a multipart upload are supported.
+ */
+class MultipartUploadRetryingS3Client extends AbstractAmazonS3 {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MultipartUploadRetryingS3Client.class);
+
+  private final AmazonS3 s3Client;
+  private final int retryLimit;
+
+  MultipartUploadRetryingS3Client(final AmazonS3 s3Client, final int retryLimit) {
+    this.s3Client = s3Client;
+    this.retryLimit = retryLimit;
+  }
+
+  @Override
+  public InitiateMultipartUploadResult initiateMultipartUpload(final InitiateMultipartUploadRequest request) {
+    return s3Client.initiateMultipartUpload(request);
+  }
+
+  @Override
+  public UploadPartResult uploadPart(final UploadPartRequest request) {
+    return retry(String.format("upload part %d of %s", request.getPartNumber(), request.getKey()),
+        () -> s3Client.uploadPart(request),
+        () -> resetInputStream(request.getInputStream()));
+  }
+
+  @Override
+  public CompleteMultipartUploadResult completeMultipartUpload(final CompleteMultipartUploadRequest request) {
+    return retry("complete the upload of " + request.getKey(), () -> s3Client.completeMultipartUpload(request), () -> {});
+  }
+
+  @Override
+  public void abortMultipartUpload(final AbortMultipartUploadRequest request) {
+    s3Client.abortMultipartUpload(request);
+  }
+
+  /**
+   * Used to create an empty object when no part was written.
+   */
+  @Override
+  public PutObjectResult putObject(final PutObjectRequest request) {
+    return s3Client.putObject(request);
+  }
+
+  private <T> T retry(final String action, final Supplier<T> request, final Runnable beforeRetry) {
+    for (int attempt = 1;; attempt++) {
+      try {
+        if (attempt > 1) {
+          beforeRetry.run();
+        }
+        return request.get();
+      } catch (final SdkClientException e) {
+        if (attempt >= retryLimit) {
+          throw e;
+        }
+        LOGGER.warn("Failed to {}, retrying ({}/{})", action, attempt, retryLimit, e);
+      }
+    }
+  }
+
+  /**
+   * Rewinds the part to its start, as a failed request may have read some of it.
+   */
+  private static void resetInputStream(final InputStream inputStream) {
+    if (inputStream == null || !inputStream.markSupported()) {
+      return;
+    }
+    try {
+      inputStream.reset();
+    } catch (final IOException e) {
+      throw new SdkClientException("Failed to rewind the part to upload it again", e);
+    }
+  }
+
+}
@@ -37,6 +37,8 @@ import org.slf4j.LoggerFactory;
 public class S3ConsumerFactory {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(S3ConsumerFactory.class);
+  // buffers of different streams are uploaded concurrently, while the next records are buffered.
+  private static final int FLUSH_THREAD_COUNT = 2;
   private static final DateTime SYNC_DATETIME = DateTime.now(DateTimeZone.UTC);
 
   public AirbyteMessageConsumer create(final Consumer<AirbyteMessage> outputRecordCollector,
@@ -46,13 +48,48 @@ public class S3ConsumerFactory {
                                        final S3DestinationConfig s3Config,
                                        final ConfiguredAirbyteCatalog catalog) {
     final List<WriteConfig> writeConfigs = createWriteConfigs(storageOperations, namingResolver, s3Config, catalog);
+    return create(outputRecordCollector, storageOperations, onCreateBuffer, writeConfigs, catalog);
+  }
+
+  /**
+   * Creates a consumer whose buffers are uploaded to their object while they are written, see
+   * {@link S3StorageOperations#createMultipartUploadStorage}, instead of being stored locally until
+   * they are flushed. Parquet buffers are still written to local files.
+   */
+  public AirbyteMessageConsumer createWithMultipartUploads(final Consumer<AirbyteMessage> outputRecordCollector,
+                                                           final S3StorageOperations storageOperations,
+                                                           final NamingConventionTransformer namingResolver,
+                                                           final S3DestinationConfig s3Config,
+                                                           final ConfiguredAirbyteCatalog catalog) {
+    final List<WriteConfig> writeConfigs = createWriteConfigs(storageOperations, namingResolver, s3Config, catalog);
+    final Map<AirbyteStreamNameNamespacePair, WriteConfig> pairToWriteConfig = toPairToWriteConfig(writeConfigs);
+    return create(
+        outputRecordCollector,
+        storageOperations,
+        SerializedBufferFactory.getCreateFunction(s3Config, (stream, extension) -> {
+          if (!pairToWriteConfig.containsKey(stream)) {
+            throw new IllegalArgumentException(
+                String.format("Message contained record from a stream %s that was not in the catalog. \ncatalog: %s", stream, Jsons.serialize(catalog)));
+          }
+          return storageOperations.createMultipartUploadStorage(pairToWriteConfig.get(stream).getFullOutputPath(), extension);
+        }),
+        writeConfigs,
+        catalog);
+  }
+
+  private AirbyteMessageConsumer create(final Consumer<AirbyteMessage> outputRecordCollector,
+                                        final BlobStorageOperations storageOperations,
+                                        final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> onCreateBuffer,
+                                        final List<WriteConfig> writeConfigs,
+                                        final ConfiguredAirbyteCatalog catalog) {
     return new BufferedStreamConsumer(
         outputRecordCollector,
         onStartFunction(storageOperations, writeConfigs),
         new SerializedBufferingStrategy(
             onCreateBuffer,
             catalog,
-            flushBufferFunction(storageOperations, writeConfigs, catalog)),
+            flushBufferFunction(storageOperations, writeConfigs, catalog),
+            FLUSH_THREAD_COUNT),
         onCloseFunction(storageOperations, writeConfigs),
         catalog,
         storageOperations::isValidData);
@@ -117,13 +154,16 @@ public class S3ConsumerFactory {
     return new AirbyteStreamNameNamespacePair(config.getStreamName(), config.getNamespace());
   }
 
+  private static Map<AirbyteStreamNameNamespacePair, WriteConfig> toPairToWriteConfig(final List<WriteConfig> writeConfigs) {
+    return writeConfigs.stream()
+        .collect(Collectors.toUnmodifiableMap(
+            S3ConsumerFactory::toNameNamespacePair, Function.identity()));
+  }
+
   private CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> flushBufferFunction(final BlobStorageOperations storageOperations,
                                                                                                                final List<WriteConfig> writeConfigs,
                                                                                                                final ConfiguredAirbyteCatalog catalog) {
-    final Map<AirbyteStreamNameNamespacePair, WriteConfig> pairToWriteConfig =
-        writeConfigs.stream()
-            .collect(Collectors.toUnmodifiableMap(
-                S3ConsumerFactory::toNameNamespacePair, Function.identity()));
+    final Map<AirbyteStreamNameNamespacePair, WriteConfig> pairToWriteConfig = toPairToWriteConfig(writeConfigs);
 
     return (pair, writer) -> {
       LOGGER.info("Flushing buffer for stream {} ({}) to storage", pair.getName(), FileUtils.byteCountToDisplaySize(writer.getByteCount()));
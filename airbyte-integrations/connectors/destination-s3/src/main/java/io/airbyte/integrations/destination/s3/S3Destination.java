@@ -15,7 +15,6 @@ import io.airbyte.integrations.base.AirbyteMessageConsumer;
 import io.airbyte.integrations.base.Destination;
 import io.airbyte.integrations.base.IntegrationRunner;
 import io.airbyte.integrations.destination.NamingConventionTransformer;
-import io.airbyte.integrations.destination.record_buffer.FileBuffer;
 import io.airbyte.integrations.destination.s3.util.S3NameTransformer;
 import io.airbyte.integrations.destination.s3.util.StreamTransferManagerFactory;
 import io.airbyte.protocol.models.AirbyteConnectionStatus;
@@ -163,11 +162,10 @@ public class S3Destination extends BaseConnector implements Destination {
                                             final ConfiguredAirbyteCatalog catalog,
                                             final Consumer<AirbyteMessage> outputRecordCollector) {
     final S3DestinationConfig s3Config = S3DestinationConfig.getS3DestinationConfig(config);
-    return new S3ConsumerFactory().create(
+    return new S3ConsumerFactory().createWithMultipartUploads(
         outputRecordCollector,
         new S3StorageOperations(nameTransformer, s3Config.getS3Client(), s3Config),
         nameTransformer,
-        SerializedBufferFactory.getCreateFunction(s3Config, FileBuffer::new),
         s3Config,
         catalog);
   }
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3;
+
+import alex.mojaki.s3upload.StreamTransferManager;
+import io.airbyte.integrations.destination.record_buffer.BufferLimits;
+import io.airbyte.integrations.destination.record_buffer.BufferStorage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Buffer storage that streams the data straight into a multipart upload of the object, instead of
+ * keeping it in a local file or in memory until it is uploaded. Parts are uploaded in the background
+ * by the {@link StreamTransferManager} while the buffer is being written, each part request being
+ * retried by a {@link MultipartUploadRetryingS3Client}, and the object is completed when the buffer
+ * is flushed.
+ *
+ * Only the parts waiting to be uploaded are kept in memory, so the size of the objects is not
+ * limited by the local disk or memory.
+ */
+public class S3MultipartUploadStorage implements BufferStorage {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(S3MultipartUploadStorage.class);
+
+  private final StreamTransferManager uploadManager;
+  private final OutputStream outputStream;
+  private final String objectKey;
+  private final Runnable onCompleted;
+
+  private boolean isCompleted = false;
+  private boolean isAborted = false;
+
+  /**
+   * @param outputStream stream of the multipart upload, wrapped in the blob decorators
+   * @param onCompleted called once the object is complete in the bucket
+   */
+  public S3MultipartUploadStorage(final StreamTransferManager uploadManager,
+                                  final OutputStream outputStream,
+                                  final String objectKey,
+                                  final Runnable onCompleted) {
+    this.uploadManager = uploadManager;
+    this.outputStream = outputStream;
+    this.objectKey = objectKey;
+    this.onCompleted = onCompleted;
+  }
+
+  @Override
+  public OutputStream getOutputStream() {
+    return outputStream;
+  }
+
+  @Override
+  public String getFilename() {
+    return S3StorageOperations.getFilename(objectKey);
+  }
+
+  @Override
+  public File getFile() {
+    throw new UnsupportedOperationException("Data of " + objectKey + " is uploaded while it is written, it is not available as a local file");
+  }
+
+  /**
+   * The data is already in the bucket once the storage is closed, there is nothing left to read.
+   */
+  @Override
+  public InputStream convertToInputStream() {
+    return InputStream.nullInputStream();
+  }
+
+  /**
+   * Uploads the last part and completes the object, or aborts the upload if it failed.
+   */
+  @Override
+  public void close() throws IOException {
+    if (isCompleted || isAborted) {
+      return;
+    }
+    try {
+      // the writers usually close the stream already, closing it again is a no-op.
+      outputStream.close();
+      uploadManager.complete();
+      isCompleted = true;
+    } catch (final Exception e) {
+      abort();
+      throw new IOException("Failed to complete the upload of " + objectKey, e);
+    }
+    LOGGER.info("Completed the upload of {}", objectKey);
+    onCompleted.run();
+  }
+
+  /**
+   * Aborts the upload if the buffer is discarded before being flushed, so that the parts already
+   * uploaded are not kept (and billed) by the bucket.
+   */
+  @Override
+  public void deleteFile() {
+    if (!isCompleted && !isAborted) {
+      LOGGER.info("Aborting the upload of {}", objectKey);
+      abort();
+    }
+  }
+
+  private void abort() {
+    isAborted = true;
+    uploadManager.abort();
+  }
+
+  /**
+   * The limits of the file buffers this storage replaces, so that the objects keep the same size.
+   * Like a file buffer, each open upload keeps a few parts in memory, so the number of streams
+   * buffered at once follows the heap size in the same way.
+   */
+  @Override
+  public long getMaxTotalBufferSizeInBytes() {
+    return BufferLimits.forFileBuffers().getMaxTotalBufferSizeInBytes();
+  }
+
+  @Override
+  public long getMaxPerStreamBufferSizeInBytes() {
+    return BufferLimits.forFileBuffers().getMaxPerStreamBufferSizeInBytes();
+  }
+
+  @Override
+  public int getMaxConcurrentStreamsInBuffer() {
+    return BufferLimits.forFileBuffers().getMaxConcurrentStreamsInBuffer();
+  }
+
+}
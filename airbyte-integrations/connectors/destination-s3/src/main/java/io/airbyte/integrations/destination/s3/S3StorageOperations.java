@@ -17,6 +17,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.string.Strings;
 import io.airbyte.integrations.destination.NamingConventionTransformer;
+import io.airbyte.integrations.destination.record_buffer.BufferStorage;
 import io.airbyte.integrations.destination.record_buffer.SerializableBuffer;
 import io.airbyte.integrations.destination.s3.util.StreamTransferManagerFactory;
 import java.io.IOException;
@@ -26,7 +27,11 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 import org.apache.commons.io.FilenameUtils;
 import org.joda.time.DateTime;
@@ -40,7 +45,7 @@ public class S3StorageOperations extends BlobStorageOperations {
   private static final int DEFAULT_UPLOAD_THREADS = 10; // The S3 cli uses 10 threads by default.
   private static final int DEFAULT_QUEUE_CAPACITY = DEFAULT_UPLOAD_THREADS;
   private static final int DEFAULT_PART_SIZE = 10;
-  private static final int UPLOAD_RETRY_LIMIT = 3;
+  static final int UPLOAD_RETRY_LIMIT = 3;
 
   private static final String FORMAT_VARIABLE_NAMESPACE = "${NAMESPACE}";
   private static final String FORMAT_VARIABLE_STREAM_NAME = "${STREAM_NAME}";
@@ -59,6 +64,12 @@ public class S3StorageOperations extends BlobStorageOperations {
   protected final S3DestinationConfig s3Config;
   protected AmazonS3 s3Client;
 
+  // next part id of each object path, so that uploads running at the same time get different ids.
+  private final ConcurrentMap<String, AtomicInteger> partCounts = new ConcurrentHashMap<>();
+  // keys of the objects uploaded by a S3MultipartUploadStorage and not yet returned by
+  // uploadRecordsToBucket.
+  private final Set<String> completedMultipartUploads = ConcurrentHashMap.newKeySet();
+
   public S3StorageOperations(final NamingConventionTransformer nameTransformer, final AmazonS3 s3Client, final S3DestinationConfig s3Config) {
     this.nameTransformer = nameTransformer;
     this.s3Client = s3Client;
@@ -109,6 +120,10 @@ public class S3StorageOperations extends BlobStorageOperations {
                                       final String namespace,
                                       final String streamName,
                                       final String objectPath) {
+    if (completedMultipartUploads.remove(objectPath + recordsData.getFilename())) {
+      // the buffer was uploaded while it was written, see createMultipartUploadStorage
+      return recordsData.getFilename();
+    }
     final List<Exception> exceptionsThrown = new ArrayList<>();
     while (exceptionsThrown.size() < UPLOAD_RETRY_LIMIT) {
       if (!exceptionsThrown.isEmpty()) {
@@ -137,24 +152,16 @@ public class S3StorageOperations extends BlobStorageOperations {
     final String bucket = s3Config.getBucketName();
     final String fullObjectKey = objectPath + getPartId(objectPath) + getExtension(recordsData.getFilename());
 
-    final Map<String, String> metadata = new HashMap<>();
-    for (final BlobDecorator blobDecorator : blobDecorators) {
-      blobDecorator.updateMetadata(metadata, getMetadataMapping());
-    }
     final StreamTransferManager uploadManager = StreamTransferManagerFactory.create(bucket, fullObjectKey, s3Client)
         .setPartSize(partSize)
-        .setUserMetadata(metadata)
+        .setUserMetadata(getDecoratorsMetadata())
         .get()
         .checkIntegrity(true)
         .numUploadThreads(DEFAULT_UPLOAD_THREADS)
         .queueCapacity(DEFAULT_QUEUE_CAPACITY);
     boolean succeeded = false;
 
-    // Wrap output stream in decorators
-    OutputStream rawOutputStream = uploadManager.getMultiPartOutputStreams().get(0);
-    for (final BlobDecorator blobDecorator : blobDecorators) {
-      rawOutputStream = blobDecorator.wrap(rawOutputStream);
-    }
+    final OutputStream rawOutputStream = wrapInDecorators(uploadManager.getMultiPartOutputStreams().get(0));
 
     try (final OutputStream outputStream = rawOutputStream;
         final InputStream dataStream = recordsData.getInputStream()) {
@@ -179,6 +186,51 @@ public class S3StorageOperations extends BlobStorageOperations {
     return newFilename;
   }
 
+  /**
+   * Starts a multipart upload of a new object in {@code objectPath}, and returns a buffer storage
+   * writing into it, so that buffers are uploaded while they are written instead of once they are
+   * flushed. The object is named <partId><fileExtension>, like the objects uploaded by
+   * {@link #uploadRecordsToBucket}, which then only returns the name of the completed object.
+   *
+   * @param fileExtension extension of the object, including the compression extension if any
+   */
+  public BufferStorage createMultipartUploadStorage(final String objectPath, final String fileExtension) {
+    final long partSize = s3Config.getFormatConfig() != null ? s3Config.getFormatConfig().getPartSize() : DEFAULT_PART_SIZE;
+    final String fullObjectKey = objectPath + getPartId(objectPath) + fileExtension;
+    // the storage is only flushed once the buffer is full, so the default (smaller) number of
+    // threads and queue capacity is used to limit the memory held by each open upload.
+    // the buffer cannot be uploaded again like a file if the upload fails, each part is retried
+    // instead.
+    final AmazonS3 retryingS3Client = new MultipartUploadRetryingS3Client(s3Client, UPLOAD_RETRY_LIMIT);
+    final StreamTransferManager uploadManager = StreamTransferManagerFactory.create(s3Config.getBucketName(), fullObjectKey, retryingS3Client)
+        .setPartSize(partSize)
+        .setUserMetadata(getDecoratorsMetadata())
+        .get()
+        .checkIntegrity(true);
+    LOGGER.info("Started the multipart upload of {}", fullObjectKey);
+    return new S3MultipartUploadStorage(
+        uploadManager,
+        wrapInDecorators(uploadManager.getMultiPartOutputStreams().get(0)),
+        fullObjectKey,
+        () -> completedMultipartUploads.add(fullObjectKey));
+  }
+
+  private Map<String, String> getDecoratorsMetadata() {
+    final Map<String, String> metadata = new HashMap<>();
+    for (final BlobDecorator blobDecorator : blobDecorators) {
+      blobDecorator.updateMetadata(metadata, getMetadataMapping());
+    }
+    return metadata;
+  }
+
+  private OutputStream wrapInDecorators(final OutputStream outputStream) {
+    OutputStream wrappedOutputStream = outputStream;
+    for (final BlobDecorator blobDecorator : blobDecorators) {
+      wrappedOutputStream = blobDecorator.wrap(wrappedOutputStream);
+    }
+    return wrappedOutputStream;
+  }
+
   @VisibleForTesting
   static String getFilename(final String fullPath) {
     return fullPath.substring(fullPath.lastIndexOf("/") + 1);
@@ -194,15 +246,18 @@ public class S3StorageOperations extends BlobStorageOperations {
     return "." + result;
   }
 
-  private String getPartId(final String objectPath) {
-    final String bucket = s3Config.getBucketName();
-    final ObjectListing objects = s3Client.listObjects(bucket, objectPath);
-    if (objects.isTruncated()) {
+  /**
+   * Part ids start at the number of objects already in the path, which is only listed once: uploads
+   * of the same path can run at the same time, and the objects being uploaded are not listed yet.
+   */
+  @VisibleForTesting
+  String getPartId(final String objectPath) {
+    final AtomicInteger partCount = partCounts.computeIfAbsent(objectPath, path -> {
+      final ObjectListing objects = s3Client.listObjects(s3Config.getBucketName(), path);
       // bucket contains too many objects, use an uuid instead
-      return UUID.randomUUID().toString();
-    } else {
-      return Integer.toString(objects.getObjectSummaries().size());
-    }
+      return objects.isTruncated() ? null : new AtomicInteger(objects.getObjectSummaries().size());
+    });
+    return partCount == null ? UUID.randomUUID().toString() : Integer.toString(partCount.getAndIncrement());
   }
 
   @Override
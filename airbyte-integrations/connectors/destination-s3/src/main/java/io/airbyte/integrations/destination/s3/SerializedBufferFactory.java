@@ -17,7 +17,7 @@ import io.airbyte.integrations.destination.s3.jsonl.JsonLSerializedBuffer;
 import io.airbyte.integrations.destination.s3.jsonl.S3JsonlFormatConfig;
 import io.airbyte.integrations.destination.s3.parquet.ParquetSerializedBuffer;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
-import java.util.concurrent.Callable;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,23 +45,30 @@ public class SerializedBufferFactory {
    */
   public static CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> getCreateFunction(final S3DestinationConfig config,
                                                                                                                                              final Function<String, BufferStorage> createStorageFunctionWithoutExtension) {
+    return getCreateFunction(config, (stream, extension) -> createStorageFunctionWithoutExtension.apply(extension));
+  }
+
+  /**
+   * Same as {@link #getCreateFunction(S3DestinationConfig, Function)}, with a storage function that
+   * also receives the stream of the buffer, for storages that are specific to a stream, such as
+   * {@link S3MultipartUploadStorage}.
+   */
+  public static CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> getCreateFunction(final S3DestinationConfig config,
+                                                                                                                                             final BiFunction<AirbyteStreamNameNamespacePair, String, BufferStorage> createStreamStorageFunction) {
     final S3FormatConfig formatConfig = config.getFormatConfig();
     LOGGER.info("S3 format config: {}", formatConfig.toString());
     switch (formatConfig.getFormat()) {
       case AVRO -> {
-        final Callable<BufferStorage> createStorageFunctionWithExtension =
-            () -> createStorageFunctionWithoutExtension.apply(formatConfig.getFileExtension());
-        return AvroSerializedBuffer.createFunction((S3AvroFormatConfig) formatConfig, createStorageFunctionWithExtension);
+        return (stream, catalog) -> AvroSerializedBuffer.createFunction((S3AvroFormatConfig) formatConfig,
+            () -> createStreamStorageFunction.apply(stream, formatConfig.getFileExtension())).apply(stream, catalog);
       }
       case CSV -> {
-        final Callable<BufferStorage> createStorageFunctionWithExtension =
-            () -> createStorageFunctionWithoutExtension.apply(formatConfig.getFileExtension());
-        return CsvSerializedBuffer.createFunction((S3CsvFormatConfig) formatConfig, createStorageFunctionWithExtension);
+        return (stream, catalog) -> CsvSerializedBuffer.createFunction((S3CsvFormatConfig) formatConfig,
+            () -> createStreamStorageFunction.apply(stream, formatConfig.getFileExtension())).apply(stream, catalog);
       }
       case JSONL -> {
-        final Callable<BufferStorage> createStorageFunctionWithExtension =
-            () -> createStorageFunctionWithoutExtension.apply(formatConfig.getFileExtension());
-        return JsonLSerializedBuffer.createFunction((S3JsonlFormatConfig) formatConfig, createStorageFunctionWithExtension);
+        return (stream, catalog) -> JsonLSerializedBuffer.createFunction((S3JsonlFormatConfig) formatConfig,
+            () -> createStreamStorageFunction.apply(stream, formatConfig.getFileExtension())).apply(stream, catalog);
       }
       case PARQUET -> {
         // we can't choose the type of buffer storage with parquet because of how the underlying hadoop
@@ -17,6 +17,15 @@ import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import tech.allegro.schema.json2avro.converter.JsonAvroConverter;
 
+/**
+ * Converts the JSON records into Avro records. With the default {@link AvroConstants#JSON_CONVERTER},
+ * the records are converted by a {@link JsonToAvroRecordConverter} without being serialized, and
+ * only the records it declines are serialized and parsed back by the {@link JsonAvroConverter}.
+ *
+ * The fields with a {@code date-time}, {@code date} or {@code time} logical type are not converted
+ * directly: each of their values is still serialized and parsed by the {@link JsonAvroConverter}
+ * on its own, so records with many of them gain less from the direct conversion.
+ */
 public class AvroRecordFactory {
 
   private static final ObjectMapper MAPPER = MoreMappers.initMapper();
@@ -24,13 +33,23 @@ public class AvroRecordFactory {
 
   private final Schema schema;
   private final JsonAvroConverter converter;
+  // converts the records without serializing them, only knows the field names of the default
+  // converter.
+  private final JsonToAvroRecordConverter recordConverter;
 
   public AvroRecordFactory(final Schema schema, final JsonAvroConverter converter) {
     this.schema = schema;
     this.converter = converter;
+    this.recordConverter = converter == AvroConstants.JSON_CONVERTER ? new JsonToAvroRecordConverter(schema, converter) : null;
   }
 
   public GenericData.Record getAvroRecord(final UUID id, final AirbyteRecordMessage recordMessage) throws JsonProcessingException {
+    if (recordConverter != null) {
+      final GenericData.Record record = recordConverter.convert(id, recordMessage.getEmittedAt(), recordMessage.getData());
+      if (record != null) {
+        return record;
+      }
+    }
     final ObjectNode jsonRecord = MAPPER.createObjectNode();
     jsonRecord.put(JavaBaseConstants.COLUMN_NAME_AB_ID, id.toString());
     jsonRecord.put(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, recordMessage.getEmittedAt());
@@ -40,6 +59,12 @@ public class AvroRecordFactory {
   }
 
   public GenericData.Record getAvroRecord(JsonNode formattedData) throws JsonProcessingException {
+    if (recordConverter != null) {
+      final GenericData.Record record = recordConverter.convert(formattedData);
+      if (record != null) {
+        return record;
+      }
+    }
     var bytes = WRITER.writeValueAsBytes(formattedData);
     return converter.convertToGenericDataRecord(bytes, schema);
   }
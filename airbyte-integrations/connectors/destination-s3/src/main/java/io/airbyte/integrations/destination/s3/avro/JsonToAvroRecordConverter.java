@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.avro;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.integrations.base.JavaBaseConstants;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+import javax.annotation.Nullable;
+import org.apache.avro.JsonProperties;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import tech.allegro.schema.json2avro.converter.JsonAvroConverter;
+
+/**
+ * Converts JSON records into Avro records of a schema produced by {@link JsonToAvroSchemaConverter},
+ * like {@link AvroConstants#JSON_CONVERTER} does, but by walking the {@link JsonNode} directly
+ * instead of serializing each record to bytes and parsing them back. The conversion of each field
+ * is compiled once from the schema.
+ *
+ * Only the values whose conversion is unambiguous are converted directly: strings, booleans,
+ * numbers of the type of the field, nullable fields, arrays and records whose keys are all fields of
+ * the schema. Fields with logical types, maps and unions of several types are converted by the
+ * {@link JsonAvroConverter} one field at a time. Records that have additional properties, or values
+ * that the {@link JsonAvroConverter} would coerce (such as a number in a string field), are not
+ * converted and must go through the {@link JsonAvroConverter}, so the output is always the same as
+ * its output.
+ *
+ * This class is not thread-safe: it caches the field matching each key of the records.
+ */
+public class JsonToAvroRecordConverter {
+
+  private static final ObjectMapper MAPPER = MoreMappers.initMapper();
+  private static final ObjectWriter WRITER = MAPPER.writer();
+  // thrown when a value cannot be converted directly, without stack trace since it is not an error.
+  private static final RuntimeException UNSUPPORTED_VALUE = new RuntimeException("Value must be converted by the JsonAvroConverter", null, false, false);
+  private static final String WRAPPED_FIELD_NAME = "value";
+  // keys of the records are matched to the fields of the schema once, as long as there are not too
+  // many distinct keys.
+  private static final int MAX_CACHED_KEYS_PER_RECORD = 1000;
+
+  @FunctionalInterface
+  private interface ValueConverter {
+
+    Object convert(JsonNode value) throws JsonProcessingException;
+
+  }
+
+  private final JsonAvroConverter converter;
+  private final RecordConverter rootConverter;
+  private final Schema.Field idField;
+  private final Schema.Field emittedAtField;
+
+  public JsonToAvroRecordConverter(final Schema schema, final JsonAvroConverter converter) {
+    this.converter = converter;
+    this.rootConverter = new RecordConverter(schema);
+    this.idField = schema.getField(JavaBaseConstants.COLUMN_NAME_AB_ID);
+    this.emittedAtField = schema.getField(JavaBaseConstants.COLUMN_NAME_EMITTED_AT);
+  }
+
+  /**
+   * Converts the data of a record message along with the airbyte fields, as
+   * {@link AvroRecordFactory#getAvroRecord(UUID, io.airbyte.protocol.models.AirbyteRecordMessage)}.
+   *
+   * @return the Avro record, or null if the record must be converted by the
+   *         {@link JsonAvroConverter}
+   */
+  @Nullable
+  public GenericData.Record convert(final UUID id, final Long emittedAt, final JsonNode data) throws JsonProcessingException {
+    if (idField == null || emittedAtField == null || emittedAt == null || data == null || !data.isObject()) {
+      return null;
+    }
+    final GenericData.Record record = new GenericData.Record(rootConverter.schema);
+    // set as the JsonAvroConverter sets them from the JSON record: a string and a number.
+    record.put(idField.pos(), id.toString());
+    record.put(emittedAtField.pos(), emittedAt);
+    try {
+      return rootConverter.fill(record, data, true) ? record : null;
+    } catch (final RuntimeException e) {
+      if (e == UNSUPPORTED_VALUE) {
+        return null;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * @return the Avro record, or null if the record must be converted by the
+   *         {@link JsonAvroConverter}
+   */
+  @Nullable
+  public GenericData.Record convert(final JsonNode data) throws JsonProcessingException {
+    if (data == null) {
+      return null;
+    }
+    try {
+      return (GenericData.Record) rootConverter.convert(data);
+    } catch (final RuntimeException e) {
+      if (e == UNSUPPORTED_VALUE) {
+        return null;
+      }
+      throw e;
+    }
+  }
+
+  private ValueConverter compile(final Schema schema) {
+    if (schema.getLogicalType() != null) {
+      return new WrappedValueConverter(schema);
+    }
+    return switch (schema.getType()) {
+      case NULL -> value -> {
+        if (value.isNull()) {
+          return null;
+        }
+        throw UNSUPPORTED_VALUE;
+      };
+      case STRING -> value -> {
+        if (value.isTextual()) {
+          return value.textValue();
+        }
+        throw UNSUPPORTED_VALUE;
+      };
+      case BOOLEAN -> value -> {
+        if (value.isBoolean()) {
+          return value.booleanValue();
+        }
+        throw UNSUPPORTED_VALUE;
+      };
+      case INT -> value -> {
+        if (value.isInt()) {
+          return value.intValue();
+        }
+        throw UNSUPPORTED_VALUE;
+      };
+      case LONG -> value -> {
+        if (value.isInt() || value.isLong()) {
+          return value.longValue();
+        }
+        throw UNSUPPORTED_VALUE;
+      };
+      case FLOAT -> value -> {
+        if (isIntegerOrFiniteDouble(value)) {
+          return value.floatValue();
+        }
+        throw UNSUPPORTED_VALUE;
+      };
+      case DOUBLE -> value -> {
+        if (isIntegerOrFiniteDouble(value)) {
+          return value.doubleValue();
+        }
+        throw UNSUPPORTED_VALUE;
+      };
+      case RECORD -> new RecordConverter(schema);
+      case ARRAY -> {
+        final ValueConverter elementConverter = compile(schema.getElementType());
+        yield value -> {
+          if (!value.isArray()) {
+            throw UNSUPPORTED_VALUE;
+          }
+          // the JsonAvroConverter also converts arrays to lists.
+          final List<Object> elements = new ArrayList<>(value.size());
+          for (final JsonNode element : value) {
+            elements.add(elementConverter.convert(element));
+          }
+          return elements;
+        };
+      }
+      case UNION -> compileUnion(schema);
+      default -> new WrappedValueConverter(schema);
+    };
+  }
+
+  /**
+   * Nullable fields, which are a union of null and another type, are converted directly. Other unions
+   * depend on the order in which the JsonAvroConverter tries their types.
+   */
+  private ValueConverter compileUnion(final Schema schema) {
+    final List<Schema> types = schema.getTypes();
+    if (types.size() != 2 || types.stream().noneMatch(type -> type.getType() == Schema.Type.NULL)) {
+      return new WrappedValueConverter(schema);
+    }
+    final Schema nonNullType = types.get(0).getType() == Schema.Type.NULL ? types.get(1) : types.get(0);
+    final ValueConverter nonNullConverter = compile(nonNullType);
+    return value -> value.isNull() ? null : nonNullConverter.convert(value);
+  }
+
+  private static boolean isIntegerOrFiniteDouble(final JsonNode value) {
+    return value.isInt() || value.isLong() || (value.isDouble() && Double.isFinite(value.doubleValue()));
+  }
+
+  private final class RecordConverter implements ValueConverter {
+
+    private final Schema schema;
+    private final ValueConverter[] fieldConverters;
+    // fields that the JsonAvroConverter requires in the JSON record: without a null default value.
+    private final boolean[] requiredFields;
+    private final boolean hasRequiredFields;
+    private final Map<String, Schema.Field> fieldsByKey = new HashMap<>();
+
+    private RecordConverter(final Schema schema) {
+      this.schema = schema;
+      final List<Schema.Field> fields = schema.getFields();
+      this.fieldConverters = new ValueConverter[fields.size()];
+      this.requiredFields = new boolean[fields.size()];
+      boolean hasRequiredFields = false;
+      for (final Schema.Field field : fields) {
+        fieldConverters[field.pos()] = compile(field.schema());
+        requiredFields[field.pos()] = !field.hasDefaultValue() || field.defaultVal() != JsonProperties.NULL_VALUE;
+        hasRequiredFields |= requiredFields[field.pos()];
+      }
+      this.hasRequiredFields = hasRequiredFields;
+    }
+
+    @Override
+    public Object convert(final JsonNode value) throws JsonProcessingException {
+      if (!value.isObject()) {
+        throw UNSUPPORTED_VALUE;
+      }
+      final GenericData.Record record = new GenericData.Record(schema);
+      if (!fill(record, value, false)) {
+        throw UNSUPPORTED_VALUE;
+      }
+      return record;
+    }
+
+    /**
+     * @param hasAirbyteFields whether the airbyte fields of the root record are already set
+     * @return false if a field required by the schema is missing from the JSON record
+     */
+    private boolean fill(final GenericData.Record record, final JsonNode value, final boolean hasAirbyteFields) throws JsonProcessingException {
+      final boolean[] setFields = hasRequiredFields ? new boolean[fieldConverters.length] : null;
+      final Iterator<Entry<String, JsonNode>> entries = value.fields();
+      while (entries.hasNext()) {
+        final Entry<String, JsonNode> entry = entries.next();
+        final Schema.Field field = getField(entry.getKey());
+        if (field == null) {
+          // additional property, or unknown field.
+          throw UNSUPPORTED_VALUE;
+        }
+        record.put(field.pos(), fieldConverters[field.pos()].convert(entry.getValue()));
+        if (setFields != null) {
+          setFields[field.pos()] = true;
+        }
+      }
+      if (setFields != null) {
+        if (hasAirbyteFields) {
+          setFields[idField.pos()] = true;
+          setFields[emittedAtField.pos()] = true;
+        }
+        for (int i = 0; i < setFields.length; i++) {
+          if (requiredFields[i] && !setFields[i]) {
+            return false;
+          }
+        }
+      }
+      return true;
+    }
+
+    @Nullable
+    private Schema.Field getField(final String key) {
+      final Schema.Field cachedField = fieldsByKey.get(key);
+      if (cachedField != null) {
+        return cachedField;
+      }
+      if (AvroConstants.JSON_EXTRA_PROPS_FIELDS.contains(key)) {
+        return null;
+      }
+      final Schema.Field field = schema.getField(AvroConstants.NAME_TRANSFORMER.getIdentifier(key));
+      if (field != null && fieldsByKey.size() < MAX_CACHED_KEYS_PER_RECORD) {
+        fieldsByKey.put(key, field);
+      }
+      return field;
+    }
+
+  }
+
+  /**
+   * Converts a single value with the {@link JsonAvroConverter}, as the only field of a record.
+   */
+  private final class WrappedValueConverter implements ValueConverter {
+
+    private final Schema wrapperSchema;
+
+    private WrappedValueConverter(final Schema schema) {
+      this.wrapperSchema = Schema.createRecord("_airbyte_wrapped_value", null, null, false,
+          List.of(new Schema.Field(WRAPPED_FIELD_NAME, schema)));
+    }
+
+    @Override
+    public Object convert(final JsonNode value) throws JsonProcessingException {
+      final byte[] bytes = WRITER.writeValueAsBytes(MAPPER.createObjectNode().set(WRAPPED_FIELD_NAME, value));
+      return converter.convertToGenericDataRecord(bytes, wrapperSchema).get(0);
+    }
+
+  }
+
+}
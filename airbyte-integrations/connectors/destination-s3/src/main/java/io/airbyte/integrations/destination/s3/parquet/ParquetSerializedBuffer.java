@@ -6,7 +6,7 @@ package io.airbyte.integrations.destination.s3.parquet;
 
 import io.airbyte.commons.functional.CheckedBiFunction;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
-import io.airbyte.integrations.destination.record_buffer.FileBuffer;
+import io.airbyte.integrations.destination.record_buffer.BufferLimits;
 import io.airbyte.integrations.destination.record_buffer.SerializableBuffer;
 import io.airbyte.integrations.destination.s3.S3DestinationConfig;
 import io.airbyte.integrations.destination.s3.avro.AvroConstants;
@@ -135,17 +135,17 @@ public class ParquetSerializedBuffer implements SerializableBuffer {
 
   @Override
   public long getMaxTotalBufferSizeInBytes() {
-    return FileBuffer.MAX_TOTAL_BUFFER_SIZE_BYTES;
+    return BufferLimits.forFileBuffers().getMaxTotalBufferSizeInBytes();
   }
 
   @Override
   public long getMaxPerStreamBufferSizeInBytes() {
-    return FileBuffer.MAX_PER_STREAM_BUFFER_SIZE_BYTES;
+    return BufferLimits.forFileBuffers().getMaxPerStreamBufferSizeInBytes();
   }
 
   @Override
   public int getMaxConcurrentStreamsInBuffer() {
-    return FileBuffer.MAX_CONCURRENT_STREAM_IN_BUFFER;
+    return BufferLimits.forFileBuffers().getMaxConcurrentStreamsInBuffer();
   }
 
   @Override
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MultipartUploadRetryingS3ClientTest {
+
+  private static final byte[] PART = "part data".getBytes();
+
+  private AmazonS3 s3Client;
+  private MultipartUploadRetryingS3Client retryingS3Client;
+
+  @BeforeEach
+  void setup() {
+    s3Client = mock(AmazonS3.class);
+    retryingS3Client = new MultipartUploadRetryingS3Client(s3Client, 3);
+  }
+
+  @Test
+  void testFailedPartIsUploadedAgainFromItsStart() {
+    final List<byte[]> sentParts = new ArrayList<>();
+    final AtomicInteger attempts = new AtomicInteger();
+    when(s3Client.uploadPart(any(UploadPartRequest.class))).thenAnswer(invocation -> {
+      final UploadPartRequest request = invocation.getArgument(0);
+      if (attempts.incrementAndGet() == 1) {
+        // the connection is lost after reading a few bytes of the part.
+        request.getInputStream().readNBytes(4);
+        throw new SdkClientException("connection reset");
+      }
+      sentParts.add(request.getInputStream().readAllBytes());
+      return new UploadPartResult();
+    });
+
+    retryingS3Client.uploadPart(partRequest());
+
+    assertEquals(2, attempts.get());
+    assertArrayEquals(PART, sentParts.get(0));
+  }
+
+  @Test
+  void testPartIsNotRetriedForever() {
+    when(s3Client.uploadPart(any(UploadPartRequest.class))).thenThrow(new SdkClientException("connection reset"));
+
+    assertThrows(SdkClientException.class, () -> retryingS3Client.uploadPart(partRequest()));
+    verify(s3Client, times(3)).uploadPart(any(UploadPartRequest.class));
+  }
+
+  @Test
+  void testFailedCompletionIsRetried() {
+    when(s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+        .thenThrow(new SdkClientException("connection reset"))
+        .thenReturn(new CompleteMultipartUploadResult());
+
+    retryingS3Client.completeMultipartUpload(new CompleteMultipartUploadRequest("bucket", "key", "upload id", List.of()));
+
+    verify(s3Client, times(2)).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+  }
+
+  private static UploadPartRequest partRequest() {
+    return new UploadPartRequest()
+        .withBucketName("bucket")
+        .withKey("key")
+        .withPartNumber(1)
+        .withInputStream(new ByteArrayInputStream(PART));
+  }
+
+}
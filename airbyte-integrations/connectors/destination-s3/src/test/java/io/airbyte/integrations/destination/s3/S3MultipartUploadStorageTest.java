@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import alex.mojaki.s3upload.StreamTransferManager;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class S3MultipartUploadStorageTest {
+
+  private static final String OBJECT_KEY = "fake-bucketPath/namespace/stream_name/2022_04_04_123456789_0/3.jsonl.gz";
+
+  private StreamTransferManager uploadManager;
+  private AtomicInteger completedCount;
+  private S3MultipartUploadStorage storage;
+
+  @BeforeEach
+  void setup() {
+    uploadManager = mock(StreamTransferManager.class);
+    completedCount = new AtomicInteger();
+    storage = new S3MultipartUploadStorage(uploadManager, new ByteArrayOutputStream(), OBJECT_KEY, completedCount::incrementAndGet);
+  }
+
+  @Test
+  void testCloseCompletesTheUpload() throws IOException {
+    assertEquals("3.jsonl.gz", storage.getFilename());
+    storage.close();
+    storage.close();
+    storage.deleteFile();
+
+    verify(uploadManager).complete();
+    verify(uploadManager, never()).abort();
+    assertEquals(1, completedCount.get());
+    assertEquals(-1, storage.convertToInputStream().read());
+  }
+
+  @Test
+  void testFailedCompletionAbortsTheUpload() {
+    doThrow(new RuntimeException("upload failed")).when(uploadManager).complete();
+
+    assertThrows(IOException.class, storage::close);
+    storage.deleteFile();
+
+    verify(uploadManager).abort();
+    assertEquals(0, completedCount.get());
+  }
+
+  @Test
+  void testDeleteAbortsTheUploadInProgress() {
+    storage.deleteFile();
+
+    verify(uploadManager).abort();
+    verify(uploadManager, never()).complete();
+  }
+
+}
@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -99,6 +100,19 @@ public class S3StorageOperationsTest {
     assertEquals(OBJECT_TO_DELETE, deleteRequest.getValue().getKeys().get(0).getKey());
   }
 
+  @Test
+  void testGetPartIdListsThePathOnce() {
+    final ObjectListing results = mock(ObjectListing.class);
+    when(results.isTruncated()).thenReturn(false);
+    when(results.getObjectSummaries()).thenReturn(List.of(mock(S3ObjectSummary.class), mock(S3ObjectSummary.class)));
+    when(s3Client.listObjects(BUCKET_NAME, FAKE_BUCKET_PATH)).thenReturn(results);
+
+    // uploads of the same path can be in progress at the same time, they must not get the same id.
+    assertEquals("2", s3StorageOperations.getPartId(FAKE_BUCKET_PATH));
+    assertEquals("3", s3StorageOperations.getPartId(FAKE_BUCKET_PATH));
+    verify(s3Client, times(1)).listObjects(BUCKET_NAME, FAKE_BUCKET_PATH);
+  }
+
   @Test
   void testGetFilename() {
     assertEquals("filename", S3StorageOperations.getFilename("filename"));
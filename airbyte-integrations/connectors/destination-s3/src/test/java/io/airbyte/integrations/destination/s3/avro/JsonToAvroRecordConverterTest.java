@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.avro;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.resources.MoreResources;
+import io.airbyte.commons.util.MoreIterators;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+class JsonToAvroRecordConverterTest {
+
+  private static final ObjectWriter WRITER = MoreMappers.initMapper().writer();
+  private static final JsonNode JSON_SCHEMA = Jsons.jsonNode(Map.of(
+      "type", "object",
+      "properties", Map.of(
+          "id", Map.of("type", "integer"),
+          "name", Map.of("type", List.of("null", "string")),
+          "price", Map.of("type", "number"),
+          "active", Map.of("type", "boolean"),
+          "tags", Map.of("type", "array", "items", Map.of("type", "string")),
+          "updated_at", Map.of("type", "string", "format", "date-time"),
+          "address", Map.of(
+              "type", "object",
+              "properties", Map.of(
+                  "city", Map.of("type", "string"),
+                  "zip code", Map.of("type", "string"))))));
+  private static final Schema SCHEMA = new JsonToAvroSchemaConverter().getAvroSchema(JSON_SCHEMA, "stream", "namespace");
+
+  public static class JsonConversionTestCaseProvider implements ArgumentsProvider {
+
+    @Override
+    public Stream<? extends Arguments> provideArguments(final ExtensionContext context) throws Exception {
+      final JsonNode testCases = Jsons.deserialize(MoreResources.readResource("parquet/json_schema_converter/json_conversion_test_cases.json"));
+      return MoreIterators.toList(testCases.elements()).stream().map(testCase -> Arguments.of(
+          testCase.get("schemaName").asText(),
+          testCase.get("jsonObject"),
+          testCase.get("avroSchema"),
+          testCase.get("avroObject")));
+    }
+
+  }
+
+  /**
+   * Records that can be converted directly must be converted as the JsonAvroConverter does, and the
+   * records that are declined must still be converted by the fallback of the AvroRecordFactory.
+   */
+  @ParameterizedTest
+  @ArgumentsSource(JsonConversionTestCaseProvider.class)
+  void testSameConversionAsJsonAvroConverter(final String schemaName, final JsonNode jsonObject, final JsonNode avroSchema, final JsonNode avroObject)
+      throws Exception {
+    final Schema schema = new Schema.Parser().parse(Jsons.serialize(avroSchema));
+    final GenericData.Record record = new JsonToAvroRecordConverter(schema, AvroConstants.JSON_CONVERTER).convert(jsonObject);
+    final GenericData.Record factoryRecord = new AvroRecordFactory(schema, AvroConstants.JSON_CONVERTER).getAvroRecord(jsonObject);
+    assertEquals(avroObject, Jsons.deserialize(factoryRecord.toString()), String.format("Object conversion for %s failed", schemaName));
+    if (record != null) {
+      assertEquals(avroObject, Jsons.deserialize(record.toString()), String.format("Direct object conversion for %s failed", schemaName));
+    } else {
+      // the factory fell back to the JsonAvroConverter for the whole record.
+      final GenericData.Record expectedRecord = AvroConstants.JSON_CONVERTER.convertToGenericDataRecord(WRITER.writeValueAsBytes(jsonObject), schema);
+      assertEquals(expectedRecord, factoryRecord, String.format("Fallback object conversion for %s failed", schemaName));
+    }
+  }
+
+  @Test
+  void testConvertRecordMessage() throws Exception {
+    final JsonToAvroRecordConverter converter = new JsonToAvroRecordConverter(SCHEMA, AvroConstants.JSON_CONVERTER);
+    final AirbyteRecordMessage message = new AirbyteRecordMessage()
+        .withEmittedAt(1634982000000L)
+        .withData(Jsons.deserialize("{ \"id\": 1, \"name\": null, \"price\": 10, \"active\": true, \"tags\": [\"a\", \"b\"], "
+            + "\"updated_at\": \"2021-01-01T01:01:01+01:00\", \"address\": { \"city\": \"Paris\", \"zip code\": \"75001\" } }"));
+    final UUID id = UUID.randomUUID();
+
+    final GenericData.Record record = converter.convert(id, message.getEmittedAt(), message.getData());
+    assertNotNull(record);
+    assertEquals(convertWithJsonAvroConverter(id, message), record);
+    // the date-time field is converted by the JsonAvroConverter.
+    assertEquals(1609459261000000L, record.get("updated_at"));
+  }
+
+  @Test
+  void testValuesCoercedByTheJsonAvroConverterAreNotConverted() throws Exception {
+    final JsonToAvroRecordConverter converter = new JsonToAvroRecordConverter(SCHEMA, AvroConstants.JSON_CONVERTER);
+    final UUID id = UUID.randomUUID();
+
+    // a number in a string field.
+    assertNull(converter.convert(id, 0L, Jsons.deserialize("{ \"name\": 1 }")));
+    // a key that is not a field of the schema, which is an additional property.
+    assertNull(converter.convert(id, 0L, Jsons.deserialize("{ \"id\": 1, \"color\": \"blue\" }")));
+    assertNull(converter.convert(id, 0L, Jsons.deserialize("{ \"address\": { \"country\": \"France\" } }")));
+    // a decimal number in an integer field.
+    assertNull(converter.convert(id, 0L, Jsons.deserialize("{ \"id\": 1.5 }")));
+
+    final AirbyteRecordMessage message = new AirbyteRecordMessage()
+        .withEmittedAt(0L)
+        .withData(Jsons.deserialize("{ \"name\": 1, \"color\": \"blue\" }"));
+    assertEquals(convertWithJsonAvroConverter(id, message), new AvroRecordFactory(SCHEMA, AvroConstants.JSON_CONVERTER).getAvroRecord(id, message));
+  }
+
+  private static GenericData.Record convertWithJsonAvroConverter(final UUID id, final AirbyteRecordMessage message) throws Exception {
+    final var jsonRecord = MoreMappers.initMapper().createObjectNode()
+        .put("_airbyte_ab_id", id.toString())
+        .put("_airbyte_emitted_at", message.getEmittedAt());
+    jsonRecord.setAll((ObjectNode) message.getData());
+    return AvroConstants.JSON_CONVERTER.convertToGenericDataRecord(WRITER.writeValueAsBytes(jsonRecord), SCHEMA);
+  }
+
+}
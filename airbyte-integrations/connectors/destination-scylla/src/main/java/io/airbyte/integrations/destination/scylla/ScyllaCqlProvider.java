@@ -10,31 +10,38 @@ import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.schemabuilder.SchemaBuilder;
 import com.datastax.driver.core.utils.UUIDs;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
 import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.integrations.destination.async.BoundedAsyncWriter;
 import java.io.Closeable;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.stream.Collectors;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 public class ScyllaCqlProvider implements Closeable {
 
-  private static final Logger LOGGER = LoggerFactory.getLogger(ScyllaCqlProvider.class);
-
   private static final int N_THREADS = Runtime.getRuntime().availableProcessors();
 
+  // maximum number of inserts sent to the cluster and not acknowledged yet, inserts block once it is
+  // reached so that the records are not read faster than the cluster can write them
+  private static final int MAX_CONCURRENT_INSERTS = 128;
+
   private final ScyllaConfig scyllaConfig;
 
   private final Cluster cluster;
@@ -49,6 +56,10 @@ public class ScyllaCqlProvider implements Closeable {
 
   private final String columnTimestamp;
 
+  private final Map<String, PreparedStatement> insertStatements = new ConcurrentHashMap<>();
+
+  private final BoundedAsyncWriter insertWriter = new BoundedAsyncWriter(MAX_CONCURRENT_INSERTS, "Error while inserting records");
+
   public ScyllaCqlProvider(ScyllaConfig scyllaConfig) {
     this.scyllaConfig = scyllaConfig;
     var sessionTuple = ScyllaSessionPool.initSession(scyllaConfig);
@@ -87,19 +98,58 @@ public class ScyllaCqlProvider implements Closeable {
   }
 
   public void truncate(String keyspace, String table) {
+    flush();
     var truncate = QueryBuilder.truncate(keyspace, table);
     session.execute(truncate);
   }
 
+  /**
+   * Inserts the record asynchronously with a statement prepared once per table. Call
+   * {@link #flush()} to wait for the inserts to be written.
+   *
+   * @throws RuntimeException if a previous insert failed
+   */
   public void insert(String keyspace, String table, String data) {
+    var insertStatement = insertStatements.computeIfAbsent(keyspace + "." + table, k -> prepareInsert(keyspace, table));
+    insertWriter.start(() -> {
+      var completion = new CompletableFuture<ResultSet>();
+      var future = session.executeAsync(insertStatement.bind(UUIDs.random(), data, Date.from(Instant.now())));
+      Futures.addCallback(future, new FutureCallback<ResultSet>() {
+
+        @Override
+        public void onSuccess(ResultSet result) {
+          completion.complete(result);
+        }
+
+        @Override
+        public void onFailure(Throwable error) {
+          completion.completeExceptionally(error);
+        }
+
+      }, MoreExecutors.directExecutor());
+      return completion;
+    });
+  }
+
+  private PreparedStatement prepareInsert(String keyspace, String table) {
     var insert = QueryBuilder.insertInto(keyspace, table)
-        .value(columnId, UUIDs.random())
-        .value(columnData, data)
-        .value(columnTimestamp, Instant.now().toEpochMilli());
-    session.execute(insert);
+        .value(columnId, QueryBuilder.bindMarker())
+        .value(columnData, QueryBuilder.bindMarker())
+        .value(columnTimestamp, QueryBuilder.bindMarker());
+    return session.prepare(insert);
+  }
+
+  /**
+   * Waits for all the pending inserts to be written.
+   *
+   * @throws RuntimeException if any of them failed
+   */
+  public void flush() {
+    insertWriter.flush();
   }
 
   public List<Triplet<UUID, String, Instant>> select(String keyspace, String table) {
+    flush();
     var select = QueryBuilder.select().all().from(keyspace, table);
     return session.execute(select).all().stream()
         .map(r -> Triplet.of(
@@ -118,6 +168,7 @@ public class ScyllaCqlProvider implements Closeable {
   }
 
   public void copy(String keyspace, String sourceTable, String destinationTable) {
+    flush();
 
     var select = String.format("SELECT * FROM %s.%s WHERE token(%s) > ? AND token(%s) <= ?",
         keyspace, sourceTable, columnId, columnId);
@@ -160,14 +211,15 @@ public class ScyllaCqlProvider implements Closeable {
       future.get();
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
-      LOGGER.error("Interrupted thread while copying data: ", e);
+      throw new RuntimeException("Interrupted while copying data", e);
     } catch (ExecutionException e) {
-      LOGGER.error("Error while copying data: ", e);
+      throw new RuntimeException("Error while copying data", e.getCause());
     }
   }
 
   @Override
   public void close() {
+    insertWriter.close();
     // gracefully shutdown executor service
     executorService.shutdown();
     // close scylla session
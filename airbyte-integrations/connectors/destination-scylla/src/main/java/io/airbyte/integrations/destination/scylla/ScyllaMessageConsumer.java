@@ -74,35 +74,40 @@ public class ScyllaMessageConsumer extends FailureTrackingAirbyteMessageConsumer
 
   @Override
   protected void close(boolean hasFailed) {
-    if (!hasFailed) {
-      scyllaStreams.forEach((k, v) -> {
-        try {
-          scyllaCqlProvider.createTableIfNotExists(v.getKeyspace(), v.getTableName());
-          switch (v.getDestinationSyncMode()) {
-            case APPEND -> {
-              scyllaCqlProvider.copy(v.getKeyspace(), v.getTempTableName(), v.getTableName());
-            }
-            case OVERWRITE -> {
-              scyllaCqlProvider.truncate(v.getKeyspace(), v.getTableName());
-              scyllaCqlProvider.copy(v.getKeyspace(), v.getTempTableName(), v.getTableName());
+    try {
+      if (!hasFailed) {
+        // records are inserted asynchronously, they must all be written before the state is emitted
+        scyllaCqlProvider.flush();
+        // a failed copy must fail the sync, the state is only emitted once all the tables are copied
+        scyllaStreams.forEach((k, v) -> {
+          try {
+            scyllaCqlProvider.createTableIfNotExists(v.getKeyspace(), v.getTableName());
+            switch (v.getDestinationSyncMode()) {
+              case APPEND -> {
+                scyllaCqlProvider.copy(v.getKeyspace(), v.getTempTableName(), v.getTableName());
+              }
+              case OVERWRITE -> {
+                scyllaCqlProvider.truncate(v.getKeyspace(), v.getTableName());
+                scyllaCqlProvider.copy(v.getKeyspace(), v.getTempTableName(), v.getTableName());
+              }
+              default -> throw new UnsupportedOperationException("Unsupported destination sync mode");
             }
-            default -> throw new UnsupportedOperationException("Unsupported destination sync mode");
+          } catch (Exception e) {
+            throw new RuntimeException("Error while copying data to table " + v.getTableName(), e);
           }
+        });
+        outputRecordCollector.accept(lastMessage);
+      }
+    } finally {
+      scyllaStreams.forEach((k, v) -> {
+        try {
+          scyllaCqlProvider.dropTableIfExists(v.getKeyspace(), v.getTempTableName());
         } catch (Exception e) {
-          LOGGER.error("Error while copying data to table {}: ", v.getTableName(), e);
+          LOGGER.error("Error while deleting temp table {} with reason: ", v.getTempTableName(), e);
         }
       });
-      outputRecordCollector.accept(lastMessage);
+      scyllaCqlProvider.close();
     }
-
-    scyllaStreams.forEach((k, v) -> {
-      try {
-        scyllaCqlProvider.dropTableIfExists(v.getKeyspace(), v.getTempTableName());
-      } catch (Exception e) {
-        LOGGER.error("Error while deleting temp table {} with reason: ", v.getTempTableName(), e);
-      }
-    });
-    scyllaCqlProvider.close();
   }
 
 }
@@ -21,6 +21,8 @@ class ScyllaCqlProviderTest {
 
   private static final String SCYLLA_TABLE = "scylla_table";
 
+  private ScyllaConfig scyllaConfig;
+
   private ScyllaCqlProvider scyllaCqlProvider;
 
   private ScyllaNameTransformer nameTransformer;
@@ -28,7 +30,7 @@ class ScyllaCqlProviderTest {
   @BeforeAll
   void setup() {
     var scyllaContainer = ScyllaContainerInitializr.initContainer();
-    var scyllaConfig = TestDataFactory.scyllaConfig(
+    this.scyllaConfig = TestDataFactory.scyllaConfig(
         scyllaContainer.getHost(),
         scyllaContainer.getFirstMappedPort());
     this.scyllaCqlProvider = new ScyllaCqlProvider(scyllaConfig);
@@ -74,6 +76,43 @@ class ScyllaCqlProviderTest {
 
   }
 
+  @Test
+  void testSelectWaitsForThePendingInserts() {
+    // given more inserts than can be in flight at once
+    for (int i = 0; i < 1000; i++) {
+      scyllaCqlProvider.insert(SCYLLA_KEYSPACE, SCYLLA_TABLE, "{\"property\":\"data" + i + "\"}");
+    }
+
+    // when
+    var resultSet = scyllaCqlProvider.select(SCYLLA_KEYSPACE, SCYLLA_TABLE);
+
+    // then
+    assertThat(resultSet)
+        .isNotNull()
+        .hasSize(1000)
+        .anyMatch(r -> r.value2().equals("{\"property\":\"data999\"}"));
+  }
+
+  @Test
+  void testFailedInsertFailsTheFlush() {
+    // a provider of its own, as it does not accept inserts anymore once one failed
+    try (var failingCqlProvider = new ScyllaCqlProvider(scyllaConfig)) {
+      // given an insert prepared for a table that is dropped afterwards
+      String table = nameTransformer.outputTable("test_stream_failure");
+      failingCqlProvider.createTableIfNotExists(SCYLLA_KEYSPACE, table);
+      failingCqlProvider.insert(SCYLLA_KEYSPACE, table, "{\"property\":\"data1\"}");
+      failingCqlProvider.flush();
+      failingCqlProvider.dropTableIfExists(SCYLLA_KEYSPACE, table);
+
+      // when
+      failingCqlProvider.insert(SCYLLA_KEYSPACE, table, "{\"property\":\"data2\"}");
+
+      // then
+      assertThrows(RuntimeException.class, failingCqlProvider::flush);
+      assertThrows(RuntimeException.class, () -> failingCqlProvider.insert(SCYLLA_KEYSPACE, table, "{\"property\":\"data3\"}"));
+    }
+  }
+
   @Test
   void testTruncate() {
     // given
@@ -6,6 +6,7 @@ package io.airbyte.integrations.source.cockroachdb;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.functional.CheckedFunction;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.jdbc.JdbcSourceOperations;
 import java.sql.ResultSet;
@@ -54,6 +55,12 @@ public class CockroachJdbcSourceOperations extends JdbcSourceOperations {
     return jsonNode;
   }
 
+  // rowToJson falls back to the Cockroach special types when a column cannot be read.
+  @Override
+  public CheckedFunction<ResultSet, JsonNode, SQLException> newRowToJsonMapper() {
+    return this::rowToJson;
+  }
+
   private void putCockroachSpecialDataType(final ResultSet resultSet, final int index, final ObjectNode node) throws SQLException {
     final String columnType = resultSet.getMetaData().getColumnTypeName(index);
     final String columnName = resultSet.getMetaData().getColumnName(index);
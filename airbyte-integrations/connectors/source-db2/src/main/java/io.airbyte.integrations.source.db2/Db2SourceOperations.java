@@ -6,6 +6,7 @@ package io.airbyte.integrations.source.db2;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.functional.CheckedFunction;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.jdbc.JdbcSourceOperations;
 import java.sql.ResultSet;
@@ -32,6 +33,12 @@ public class Db2SourceOperations extends JdbcSourceOperations {
     return jsonNode;
   }
 
+  // DECFLOAT columns are read by rowToJson.
+  @Override
+  public CheckedFunction<ResultSet, JsonNode, SQLException> newRowToJsonMapper() {
+    return this::rowToJson;
+  }
+
   /* Helpers */
 
   private void setFields(ResultSet queryContext, int index, ObjectNode jsonNode) throws SQLException {
@@ -32,15 +32,24 @@ import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.db.jdbc.JdbcUtils;
 import io.airbyte.db.jdbc.StreamingJdbcDatabase;
 import io.airbyte.db.jdbc.streaming.JdbcStreamingQueryConfig;
+import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.base.Source;
 import io.airbyte.integrations.source.jdbc.dto.JdbcPrivilegeDto;
 import io.airbyte.integrations.source.relationaldb.AbstractRelationalDbSource;
+import io.airbyte.integrations.source.relationaldb.StateManager;
 import io.airbyte.integrations.source.relationaldb.TableInfo;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
 import io.airbyte.protocol.models.CommonField;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.DestinationSyncMode;
 import io.airbyte.protocol.models.JsonSchemaType;
+import java.sql.JDBCType;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -49,7 +58,9 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -68,6 +79,11 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbS
 
   private static final Logger LOGGER = LoggerFactory.getLogger(AbstractJdbcSource.class);
 
+  protected static final long DEFAULT_FULL_REFRESH_CHUNK_SIZE = 1_000_000;
+  private static final int DEFAULT_STATE_EMISSION_FREQUENCY = 10_000;
+  private static final Duration DEFAULT_STATE_EMISSION_INTERVAL = Duration.ofMinutes(1);
+  private static final Set<JDBCType> CHUNK_KEY_TYPES = Set.of(JDBCType.TINYINT, JDBCType.SMALLINT, JDBCType.INTEGER, JDBCType.BIGINT);
+
   protected final String driverClass;
   protected final Supplier<JdbcStreamingQueryConfig> streamingQueryConfigProvider;
   protected final JdbcCompatibleSourceOperations<Datatype> sourceOperations;
@@ -257,6 +273,172 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbS
     return quoteString;
   }
 
+  /**
+   * Splits the read of a stream synced in append mode into ranges of its primary key, if the source
+   * enables it through {@link #getFullRefreshChunkSize()} and the stream has a single integer one, so
+   * that a state message can be emitted after each range. A retried attempt of the same job then
+   * resumes from the last range it completed. Streams synced in overwrite mode are not split, as the
+   * destination only keeps the records of the attempt that succeeds.
+   */
+  @Override
+  protected AutoCloseableIterator<AirbyteMessage> getFullRefreshStream(final JdbcDatabase database,
+                                                                       final ConfiguredAirbyteStream airbyteStream,
+                                                                       final List<String> selectedDatabaseFields,
+                                                                       final TableInfo<CommonField<Datatype>> table,
+                                                                       final StateManager stateManager,
+                                                                       final Instant emittedAt) {
+    final Optional<CommonField<Datatype>> chunkKey = getChunkKey(airbyteStream, table);
+    if (getFullRefreshChunkSize() <= 0 || airbyteStream.getDestinationSyncMode() != DestinationSyncMode.APPEND || chunkKey.isEmpty()) {
+      return super.getFullRefreshStream(database, airbyteStream, selectedDatabaseFields, table, stateManager, emittedAt);
+    }
+
+    final String streamName = airbyteStream.getStream().getName();
+    final String namespace = airbyteStream.getStream().getNamespace();
+    final AirbyteStreamNameNamespacePair pair = new AirbyteStreamNameNamespacePair(streamName, namespace);
+    final String keyName = chunkKey.get().getName();
+    final Datatype keyType = chunkKey.get().getType();
+    final Long resumeFrom = stateManager.getChunkCursor(pair, keyName).map(Long::valueOf).orElse(null);
+    if (resumeFrom != null) {
+      LOGGER.info("Resuming read of stream {} from {} = {}", streamName, keyName, resumeFrom);
+    }
+
+    final String keyColumn = getIdentifierWithQuoting(keyName);
+    final String fullTableName = getFullTableName(table.getNameSpace(), table.getName());
+    final PrimaryKeyChunkIterator.ChunkQueries queries = new PrimaryKeyChunkIterator.ChunkQueries() {
+
+      @Override
+      public Optional<Long> findFirstKey(final Long fromKey) throws SQLException {
+        return fromKey == null
+            ? queryKey(database, String.format("SELECT MIN(%s) FROM %s", keyColumn, fullTableName), keyType, null)
+            : queryKey(database, String.format("SELECT MIN(%s) FROM %s WHERE %s >= ?", keyColumn, fullTableName, keyColumn), keyType, fromKey);
+      }
+
+      @Override
+      public Optional<Long> findLastKey() throws SQLException {
+        return queryKey(database, String.format("SELECT MAX(%s) FROM %s", keyColumn, fullTableName), keyType, null);
+      }
+
+      @Override
+      public AutoCloseableIterator<AirbyteMessage> readChunk(final long lowerBound, final Long upperBound) {
+        final AutoCloseableIterator<JsonNode> queryIterator = queryTableChunk(database, selectedDatabaseFields, table.getNameSpace(),
+            table.getName(), keyName, keyType, lowerBound, upperBound);
+        return getMessageIterator(queryIterator, streamName, namespace, emittedAt.toEpochMilli());
+      }
+
+    };
+
+    LOGGER.info("Reading stream {} in chunks of {} values of {}", streamName, getFullRefreshChunkSize(), keyName);
+    return new PrimaryKeyChunkIterator(queries, getFullRefreshChunkSize(), resumeFrom, nextLowerBound -> new AirbyteMessage()
+        .withType(Type.STATE)
+        .withState(stateManager.updateChunkCursorAndEmit(pair, keyName, nextLowerBound == null ? null : String.valueOf(nextLowerBound))));
+  }
+
+  /**
+   * @return the primary key to split full refresh reads on, if the stream has a single integer one.
+   */
+  private Optional<CommonField<Datatype>> getChunkKey(final ConfiguredAirbyteStream airbyteStream,
+                                                      final TableInfo<CommonField<Datatype>> table) {
+    final List<List<String>> primaryKey = airbyteStream.getStream().getSourceDefinedPrimaryKey();
+    if (primaryKey == null || primaryKey.size() != 1 || primaryKey.get(0).size() != 1) {
+      return Optional.empty();
+    }
+    return table.getFields().stream()
+        .filter(field -> field.getName().equals(primaryKey.get(0).get(0)))
+        .filter(field -> isChunkKeyType(field.getType()))
+        .findFirst();
+  }
+
+  /**
+   * @return true if the type holds integers that fit in a long, so that a table can be split into
+   *         ranges of a column of that type.
+   */
+  protected boolean isChunkKeyType(final Datatype type) {
+    return type instanceof JDBCType && CHUNK_KEY_TYPES.contains(type);
+  }
+
+  @Override
+  protected int getStateEmissionFrequency() {
+    return DEFAULT_STATE_EMISSION_FREQUENCY;
+  }
+
+  @Override
+  protected Duration getStateEmissionInterval() {
+    return DEFAULT_STATE_EMISSION_INTERVAL;
+  }
+
+  /**
+   * Full refresh reads are not split unless a source opts in by overriding this, for instance with
+   * {@link #DEFAULT_FULL_REFRESH_CHUNK_SIZE}.
+   *
+   * @return number of consecutive key values read per chunk of a full refresh read, 0 to never split
+   *         reads.
+   */
+  protected long getFullRefreshChunkSize() {
+    return 0;
+  }
+
+  /**
+   * @return the columns to select when reading a table in full refresh mode.
+   */
+  protected String getFullRefreshSelectList(final JdbcDatabase database,
+                                            final List<String> columnNames,
+                                            final String schemaName,
+                                            final String tableName) {
+    return enquoteIdentifierList(columnNames);
+  }
+
+  private AutoCloseableIterator<JsonNode> queryTableChunk(final JdbcDatabase database,
+                                                          final List<String> columnNames,
+                                                          final String schemaName,
+                                                          final String tableName,
+                                                          final String keyName,
+                                                          final Datatype keyType,
+                                                          final long lowerBound,
+                                                          final Long upperBound) {
+    LOGGER.info("Queueing query for table: {}, from {} = {} to {}", tableName, keyName, lowerBound, upperBound);
+    return AutoCloseableIterators.lazyIterator(() -> {
+      try {
+        final String keyColumn = getIdentifierWithQuoting(keyName);
+        final String sql = String.format("SELECT %s FROM %s WHERE %s >= ?%s",
+            getFullRefreshSelectList(database, columnNames, schemaName, tableName),
+            getFullTableName(schemaName, tableName),
+            keyColumn,
+            upperBound == null ? "" : String.format(" AND %s < ?", keyColumn));
+        final Stream<JsonNode> stream = database.unsafeQuery(
+            connection -> {
+              final PreparedStatement preparedStatement = connection.prepareStatement(sql);
+              sourceOperations.setStatementField(preparedStatement, 1, keyType, String.valueOf(lowerBound));
+              if (upperBound != null) {
+                sourceOperations.setStatementField(preparedStatement, 2, keyType, String.valueOf(upperBound));
+              }
+              return preparedStatement;
+            },
+            sourceOperations.newRowToJsonMapper());
+        return AutoCloseableIterators.fromStream(stream);
+      } catch (final SQLException e) {
+        throw new RuntimeException(e);
+      }
+    });
+  }
+
+  private Optional<Long> queryKey(final JdbcDatabase database, final String sql, final Datatype keyType, final Long parameter)
+      throws SQLException {
+    try (final Stream<Optional<Long>> stream = database.unsafeQuery(
+        connection -> {
+          final PreparedStatement preparedStatement = connection.prepareStatement(sql);
+          if (parameter != null) {
+            sourceOperations.setStatementField(preparedStatement, 1, keyType, String.valueOf(parameter));
+          }
+          return preparedStatement;
+        },
+        resultSet -> {
+          final long value = resultSet.getLong(1);
+          return resultSet.wasNull() ? Optional.<Long>empty() : Optional.of(value);
+        })) {
+      return stream.findFirst().flatMap(Function.identity());
+    }
+  }
+
   @Override
   public AutoCloseableIterator<JsonNode> queryTableIncremental(final JdbcDatabase database,
                                                                final List<String> columnNames,
@@ -271,18 +453,21 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbS
         final Stream<JsonNode> stream = database.unsafeQuery(
             connection -> {
               LOGGER.info("Preparing query for table: {}", tableName);
-              final String sql = String.format("SELECT %s FROM %s WHERE %s > ?",
+              final String quotedCursorField = sourceOperations.enquoteIdentifier(connection, cursorField);
+              // ordered by the cursor so that intermediate state messages can be emitted.
+              final String sql = String.format("SELECT %s FROM %s WHERE %s > ? ORDER BY %s ASC",
                   sourceOperations.enquoteIdentifierList(connection, columnNames),
                   sourceOperations
                       .getFullyQualifiedTableNameWithQuoting(connection, schemaName, tableName),
-                  sourceOperations.enquoteIdentifier(connection, cursorField));
+                  quotedCursorField,
+                  quotedCursorField);
 
               final PreparedStatement preparedStatement = connection.prepareStatement(sql);
               sourceOperations.setStatementField(preparedStatement, 1, cursorFieldType, cursor);
               LOGGER.info("Executing query for table: {}", tableName);
               return preparedStatement;
             },
-            sourceOperations::rowToJson);
+            sourceOperations.newRowToJsonMapper());
         return AutoCloseableIterators.fromStream(stream);
       } catch (final SQLException e) {
         throw new RuntimeException(e);
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.jdbc;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.AbstractIterator;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Reads a table in consecutive ranges of an integer primary key, [lower bound, lower bound + chunk
+ * size), in key order, and emits a state message after each range. The last range has no upper
+ * bound, so rows inserted past the last key during the read are still read.
+ *
+ * <p>
+ * The state message of a range holds the lower bound of the next range, or null once the whole
+ * table has been read, so an interrupted read can resume from the last range it completed.
+ * </p>
+ */
+class PrimaryKeyChunkIterator extends AbstractIterator<AirbyteMessage> implements AutoCloseableIterator<AirbyteMessage> {
+
+  interface ChunkQueries {
+
+    /**
+     * @param fromKey inclusive, null to look at the whole table
+     * @return smallest key value from fromKey, empty if there is none
+     */
+    Optional<Long> findFirstKey(Long fromKey) throws Exception;
+
+    /**
+     * @return largest key value, empty if the table is empty
+     */
+    Optional<Long> findLastKey() throws Exception;
+
+    /**
+     * @param lowerBound inclusive
+     * @param upperBound exclusive, null for no upper bound
+     * @return records of the rows in the range
+     */
+    AutoCloseableIterator<AirbyteMessage> readChunk(long lowerBound, Long upperBound);
+
+  }
+
+  private final ChunkQueries queries;
+  private final long chunkSize;
+  private final Long resumeFrom;
+  private final Function<Long, AirbyteMessage> checkpoint;
+
+  private boolean hasStarted = false;
+  private boolean hasFinished = false;
+  private long lastKey;
+  private long lowerBound;
+  private Long upperBound;
+  private AutoCloseableIterator<AirbyteMessage> chunk;
+  private long chunkRecordCount;
+
+  /**
+   * @param resumeFrom key value to start from, null to read the whole table
+   * @param checkpoint creates the state message recording the lower bound of the next range, which
+   *        is null once the table has been read entirely.
+   */
+  PrimaryKeyChunkIterator(final ChunkQueries queries,
+                          final long chunkSize,
+                          final Long resumeFrom,
+                          final Function<Long, AirbyteMessage> checkpoint) {
+    Preconditions.checkArgument(chunkSize > 0, "chunk size must be positive");
+    this.queries = queries;
+    this.chunkSize = chunkSize;
+    this.resumeFrom = resumeFrom;
+    this.checkpoint = checkpoint;
+  }
+
+  @Override
+  protected AirbyteMessage computeNext() {
+    if (hasFinished) {
+      return endOfData();
+    }
+
+    try {
+      if (!hasStarted) {
+        hasStarted = true;
+        final Optional<Long> firstKey = queries.findFirstKey(resumeFrom);
+        final Optional<Long> lastKey = queries.findLastKey();
+        if (firstKey.isEmpty() || lastKey.isEmpty()) {
+          hasFinished = true;
+          return checkpoint.apply(null);
+        }
+        this.lowerBound = firstKey.get();
+        this.lastKey = lastKey.get();
+      }
+
+      if (chunk == null) {
+        upperBound = lowerBound <= Long.MAX_VALUE - chunkSize && lowerBound + chunkSize <= lastKey ? lowerBound + chunkSize : null;
+        chunk = queries.readChunk(lowerBound, upperBound);
+        chunkRecordCount = 0;
+      }
+      if (chunk.hasNext()) {
+        chunkRecordCount++;
+        return chunk.next();
+      }
+
+      chunk.close();
+      chunk = null;
+
+      final Long nextLowerBound;
+      if (upperBound == null) {
+        nextLowerBound = null;
+      } else if (chunkRecordCount > 0) {
+        nextLowerBound = upperBound;
+      } else {
+        // skip the gap in the key values instead of reading it one empty range at a time.
+        nextLowerBound = queries.findFirstKey(upperBound).orElse(null);
+      }
+
+      if (nextLowerBound == null) {
+        hasFinished = true;
+      } else {
+        lowerBound = nextLowerBound;
+      }
+      return checkpoint.apply(nextLowerBound);
+    } catch (final RuntimeException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (chunk != null) {
+      chunk.close();
+      chunk = null;
+    }
+  }
+
+}
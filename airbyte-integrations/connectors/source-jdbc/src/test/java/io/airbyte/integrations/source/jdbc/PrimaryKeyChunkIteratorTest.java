@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.commons.util.AutoCloseableIterators;
+import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
+import io.airbyte.integrations.source.relationaldb.StateManager;
+import io.airbyte.integrations.source.relationaldb.models.DbState;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import io.airbyte.protocol.models.AirbyteStream;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class PrimaryKeyChunkIteratorTest {
+
+  private static final AirbyteStreamNameNamespacePair STREAM = new AirbyteStreamNameNamespacePair("table", null);
+  private static final String KEY = "id";
+
+  @Test
+  void testReadsChunksAndCheckpoints() throws Exception {
+    final TableQueries queries = new TableQueries(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L));
+
+    assertEquals(List.of("1", "2", "3", "state 4", "4", "5", "6", "state 7", "7", "state null"), read(queries, 3, null));
+    assertEquals(List.of("[1, 4)", "[4, 7)", "[7, null)"), queries.chunks);
+  }
+
+  @Test
+  void testSkipsGapsInKeys() throws Exception {
+    final TableQueries queries = new TableQueries(List.of(1L, 2L, 100L, 101L));
+
+    assertEquals(List.of("1", "2", "state 3", "state 100", "100", "101", "state null"), read(queries, 2, null));
+    assertEquals(List.of("[1, 3)", "[3, 5)", "[100, null)"), queries.chunks);
+  }
+
+  @Test
+  void testResumes() throws Exception {
+    final TableQueries queries = new TableQueries(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L));
+
+    assertEquals(List.of("5", "6", "state 7", "7", "state null"), read(queries, 2, 5L));
+    assertEquals(List.of("[5, 7)", "[7, null)"), queries.chunks);
+  }
+
+  @Test
+  void testEmptyTable() throws Exception {
+    final TableQueries queries = new TableQueries(List.of());
+
+    assertEquals(List.of("state null"), read(queries, 2, null));
+    assertEquals(List.of(), queries.chunks);
+  }
+
+  @Test
+  void testKeysAtTheEndOfTheRange() throws Exception {
+    final TableQueries queries = new TableQueries(List.of(Long.MAX_VALUE - 2, Long.MAX_VALUE));
+
+    assertEquals(List.of(String.valueOf(Long.MAX_VALUE - 2), String.valueOf(Long.MAX_VALUE), "state null"), read(queries, 5, null));
+  }
+
+  @Test
+  void testNextSyncAfterACompletedChunkedSyncReadsTheWholeTable() throws Exception {
+    final ConfiguredAirbyteCatalog catalog = new ConfiguredAirbyteCatalog()
+        .withStreams(List.of(new ConfiguredAirbyteStream().withStream(new AirbyteStream().withName(STREAM.getName()))));
+    final TableQueries queries = new TableQueries(List.of(1L, 2L, 3L, 4L, 5L));
+
+    // the first sync is interrupted after its first chunk, its retry completes the read.
+    final StateManager firstAttempt = new StateManager(new DbState(), catalog, "1");
+    final AirbyteStateMessage interruptedState;
+    try (final PrimaryKeyChunkIterator iterator = new PrimaryKeyChunkIterator(queries, 2, null, checkpointTo(firstAttempt))) {
+      AirbyteMessage message;
+      do {
+        message = iterator.next();
+      } while (message.getType() != Type.STATE);
+      interruptedState = message.getState();
+    }
+    final StateManager secondAttempt = new StateManager(Jsons.object(interruptedState.getData(), DbState.class), catalog, "1");
+    final Optional<String> resumeFrom = secondAttempt.getChunkCursor(STREAM, KEY);
+    assertEquals(Optional.of("3"), resumeFrom);
+    final List<String> secondAttemptMessages = new ArrayList<>();
+    AirbyteStateMessage completedState = null;
+    try (final PrimaryKeyChunkIterator iterator =
+        new PrimaryKeyChunkIterator(queries, 2, resumeFrom.map(Long::valueOf).orElse(null), checkpointTo(secondAttempt))) {
+      while (iterator.hasNext()) {
+        final AirbyteMessage message = iterator.next();
+        if (message.getType() == Type.STATE) {
+          completedState = message.getState();
+        } else {
+          secondAttemptMessages.add(message.getRecord().getData().asText());
+        }
+      }
+    }
+    assertEquals(List.of("3", "4", "5"), secondAttemptMessages);
+
+    // the next sync starts over, whether it is the same job or not.
+    for (final String jobId : List.of("1", "2")) {
+      final StateManager nextSync = new StateManager(Jsons.object(completedState.getData(), DbState.class), catalog, jobId);
+      final Long nextResumeFrom = nextSync.getChunkCursor(STREAM, KEY).map(Long::valueOf).orElse(null);
+      assertEquals(List.of("1", "2", "state 3", "3", "4", "state 5", "5", "state null"),
+          read(new TableQueries(List.of(1L, 2L, 3L, 4L, 5L)), 2, nextResumeFrom));
+    }
+  }
+
+  @Test
+  void testInvalidChunkSize() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new PrimaryKeyChunkIterator(new TableQueries(List.of()), 0, null, PrimaryKeyChunkIteratorTest::toState));
+  }
+
+  private static List<String> read(final TableQueries queries, final long chunkSize, final Long resumeFrom) throws Exception {
+    final List<String> messages = new ArrayList<>();
+    try (final PrimaryKeyChunkIterator iterator = new PrimaryKeyChunkIterator(queries, chunkSize, resumeFrom, PrimaryKeyChunkIteratorTest::toState)) {
+      iterator.forEachRemaining(message -> messages.add(message.getType() == Type.STATE
+          ? "state " + message.getState().getData().asText()
+          : message.getRecord().getData().asText()));
+    }
+    return messages;
+  }
+
+  private static AirbyteMessage toState(final Long nextLowerBound) {
+    return new AirbyteMessage()
+        .withType(Type.STATE)
+        .withState(new AirbyteStateMessage().withData(Jsons.jsonNode(String.valueOf(nextLowerBound))));
+  }
+
+  private static Function<Long, AirbyteMessage> checkpointTo(final StateManager stateManager) {
+    return nextLowerBound -> new AirbyteMessage()
+        .withType(Type.STATE)
+        .withState(stateManager.updateChunkCursorAndEmit(STREAM, KEY, nextLowerBound == null ? null : String.valueOf(nextLowerBound)));
+  }
+
+  /**
+   * Table made of a sorted list of keys.
+   */
+  private static class TableQueries implements PrimaryKeyChunkIterator.ChunkQueries {
+
+    private final List<Long> keys;
+    private final List<String> chunks = new ArrayList<>();
+
+    TableQueries(final List<Long> keys) {
+      this.keys = keys;
+    }
+
+    @Override
+    public Optional<Long> findFirstKey(final Long fromKey) {
+      return keys.stream().filter(key -> fromKey == null || key >= fromKey).findFirst();
+    }
+
+    @Override
+    public Optional<Long> findLastKey() {
+      return keys.isEmpty() ? Optional.empty() : Optional.of(keys.get(keys.size() - 1));
+    }
+
+    @Override
+    public AutoCloseableIterator<AirbyteMessage> readChunk(final long lowerBound, final Long upperBound) {
+      chunks.add(String.format("[%s, %s)", lowerBound, upperBound));
+      return AutoCloseableIterators.fromStream(keys.stream()
+          .filter(key -> key >= lowerBound && (upperBound == null || key < upperBound))
+          .map(key -> new AirbyteMessage()
+              .withType(Type.RECORD)
+              .withRecord(new AirbyteRecordMessage().withData(Jsons.jsonNode(String.valueOf(key))))));
+    }
+
+  }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.kafka;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.AbstractIterator;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import io.airbyte.protocol.models.SyncMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Emits the records of the configured topics as they are polled, so that only the records of the
+ * last poll are kept in memory.
+ *
+ * The offset of the next record to read in each partition of the incremental topics is emitted as
+ * {@link KafkaState} after each poll, so that the next sync resumes exactly after the last record
+ * committed by the destination. Full refresh topics have no state: their offsets are committed to
+ * the consumer group, if there is one, once all their records have been emitted.
+ *
+ * The sync stops after a number of polls without any record, or once the maximum number of records
+ * or the maximum duration of the sync is reached.
+ */
+public class KafkaRecordIterator extends AbstractIterator<AirbyteMessage> implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(KafkaRecordIterator.class);
+
+  private final Consumer<String, JsonNode> consumer;
+  private final Map<String, SyncMode> syncModes;
+  private final Map<TopicPartition, Long> partitionOffsets;
+  private final Map<TopicPartition, Long> fullRefreshOffsets = new HashMap<>();
+  private final Duration pollTimeout;
+  private final int maxEmptyPolls;
+  private final long maxRecords;
+  private final Instant deadline;
+  private final boolean commitFullRefreshOffsets;
+
+  private Iterator<ConsumerRecord<String, JsonNode>> polledRecords = null;
+  private int emptyPolls = 0;
+  private long recordCount = 0;
+  private boolean hasNewOffsets = false;
+  private boolean isDone = false;
+  private boolean isClosed = false;
+
+  /**
+   * @param syncModes sync mode of each configured topic, records of the other topics are skipped
+   * @param partitionOffsets offsets of the incremental topics read from the state, which are updated
+   *        as the records are emitted and where the consumer must seek when partitions are assigned
+   * @param maxEmptyPolls number of polls without any record after which the sync is complete
+   * @param maxRecords maximum number of records emitted in a sync, 0 for no limit
+   * @param maxSyncTime maximum duration of the sync, null for no limit
+   * @param commitFullRefreshOffsets whether the offsets of the full refresh topics are committed to
+   *        the consumer group
+   */
+  public KafkaRecordIterator(final Consumer<String, JsonNode> consumer,
+                             final Map<String, SyncMode> syncModes,
+                             final Map<TopicPartition, Long> partitionOffsets,
+                             final Duration pollTimeout,
+                             final int maxEmptyPolls,
+                             final long maxRecords,
+                             final Duration maxSyncTime,
+                             final boolean commitFullRefreshOffsets) {
+    this.consumer = consumer;
+    this.syncModes = syncModes;
+    this.partitionOffsets = partitionOffsets;
+    this.pollTimeout = pollTimeout;
+    this.maxEmptyPolls = maxEmptyPolls;
+    this.maxRecords = maxRecords;
+    this.deadline = maxSyncTime == null ? null : Instant.now().plus(maxSyncTime);
+    this.commitFullRefreshOffsets = commitFullRefreshOffsets;
+  }
+
+  @Override
+  protected AirbyteMessage computeNext() {
+    while (!isDone) {
+      if (polledRecords != null && polledRecords.hasNext()) {
+        final ConsumerRecord<String, JsonNode> record = polledRecords.next();
+        final SyncMode syncMode = syncModes.get(record.topic());
+        if (syncMode == null) {
+          continue;
+        }
+        final TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+        if (syncMode == SyncMode.INCREMENTAL) {
+          partitionOffsets.put(partition, record.offset() + 1);
+          hasNewOffsets = true;
+        } else {
+          fullRefreshOffsets.put(partition, record.offset() + 1);
+        }
+        recordCount++;
+        if (maxRecords > 0 && recordCount >= maxRecords) {
+          LOGGER.info("Reached the maximum of {} records for this sync", maxRecords);
+          isDone = true;
+        }
+        return new AirbyteMessage()
+            .withType(AirbyteMessage.Type.RECORD)
+            .withRecord(new AirbyteRecordMessage()
+                .withStream(record.topic())
+                .withEmittedAt(Instant.now().toEpochMilli())
+                .withData(record.value()));
+      }
+
+      // the records of the previous poll have all been emitted, their offsets can be committed.
+      if (hasNewOffsets) {
+        return getStateMessage();
+      }
+      if (deadline != null && Instant.now().isAfter(deadline)) {
+        LOGGER.info("Reached the maximum duration of the sync after {} records", recordCount);
+        isDone = true;
+        break;
+      }
+      final ConsumerRecords<String, JsonNode> consumerRecords = consumer.poll(pollTimeout);
+      if (consumerRecords.isEmpty()) {
+        emptyPolls++;
+        if (emptyPolls > maxEmptyPolls) {
+          LOGGER.info("No more records after {} polls, {} records were read", emptyPolls, recordCount);
+          isDone = true;
+        }
+      }
+      polledRecords = consumerRecords.iterator();
+    }
+
+    if (hasNewOffsets) {
+      return getStateMessage();
+    }
+    commitFullRefreshOffsets();
+    return endOfData();
+  }
+
+  private AirbyteMessage getStateMessage() {
+    hasNewOffsets = false;
+    return new AirbyteMessage()
+        .withType(AirbyteMessage.Type.STATE)
+        .withState(new AirbyteStateMessage().withData(KafkaState.toState(partitionOffsets)));
+  }
+
+  private void commitFullRefreshOffsets() {
+    if (!commitFullRefreshOffsets || fullRefreshOffsets.isEmpty()) {
+      return;
+    }
+    LOGGER.info("Committing the offsets of the full refresh topics: {}", fullRefreshOffsets);
+    consumer.commitSync(fullRefreshOffsets.entrySet().stream()
+        .collect(Collectors.toMap(Map.Entry::getKey, entry -> new OffsetAndMetadata(entry.getValue()))));
+    fullRefreshOffsets.clear();
+  }
+
+  @Override
+  public void close() {
+    if (!isClosed) {
+      isClosed = true;
+      consumer.close();
+    }
+  }
+
+}
@@ -5,7 +5,6 @@
 package io.airbyte.integrations.source.kafka;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.Lists;
 import io.airbyte.commons.util.AutoCloseableIterator;
 import io.airbyte.commons.util.AutoCloseableIterators;
@@ -16,25 +15,22 @@ import io.airbyte.protocol.models.AirbyteCatalog;
 import io.airbyte.protocol.models.AirbyteConnectionStatus;
 import io.airbyte.protocol.models.AirbyteConnectionStatus.Status;
 import io.airbyte.protocol.models.AirbyteMessage;
-import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.AirbyteStream;
 import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.Field;
 import io.airbyte.protocol.models.JsonSchemaType;
 import io.airbyte.protocol.models.SyncMode;
 import java.time.Duration;
-import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import org.apache.kafka.clients.consumer.ConsumerRecord;
-import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -84,50 +80,27 @@ public class KafkaSource extends BaseConnector implements Source {
       throw new RuntimeException("Unable establish a connection: " + check.getMessage());
     }
 
+    final Map<String, SyncMode> syncModes = catalog.getStreams().stream()
+        .collect(Collectors.toMap(stream -> stream.getStream().getName(), ConfiguredAirbyteStream::getSyncMode));
+    final Set<String> incrementalTopics = syncModes.entrySet().stream()
+        .filter(entry -> entry.getValue() == SyncMode.INCREMENTAL)
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toSet());
+    final Map<TopicPartition, Long> partitionOffsets = KafkaState.getPartitionOffsets(state, incrementalTopics);
+    LOGGER.info("Partition offsets from the state: {}", partitionOffsets);
+
     final KafkaSourceConfig kafkaSourceConfig = KafkaSourceConfig.getKafkaSourceConfig(config);
-    final KafkaConsumer<String, JsonNode> consumer = kafkaSourceConfig.getConsumer();
-    final List<ConsumerRecord<String, JsonNode>> recordsList = new ArrayList<>();
+    final KafkaConsumer<String, JsonNode> consumer = kafkaSourceConfig.getConsumer(partitionOffsets);
 
     final int retry = config.has("repeated_calls") ? config.get("repeated_calls").intValue() : 0;
-    int pollCount = 0;
     final int polling_time = config.has("polling_time") ? config.get("polling_time").intValue() : 100;
-    while (true) {
-      final ConsumerRecords<String, JsonNode> consumerRecords = consumer.poll(Duration.of(polling_time, ChronoUnit.MILLIS));
-      if (consumerRecords.count() == 0) {
-        pollCount++;
-        if (pollCount > retry) {
-          break;
-        }
-      }
-
-      consumerRecords.forEach(record -> {
-        LOGGER.info("Consumer Record: key - {}, value - {}, partition - {}, offset - {}",
-            record.key(), record.value(), record.partition(), record.offset());
-        recordsList.add(record);
-      });
-      consumer.commitAsync();
-    }
-    consumer.close();
-    final Iterator<ConsumerRecord<String, JsonNode>> iterator = recordsList.iterator();
-
-    return AutoCloseableIterators.fromIterator(new AbstractIterator<>() {
-
-      @Override
-      protected AirbyteMessage computeNext() {
-        if (iterator.hasNext()) {
-          final ConsumerRecord<String, JsonNode> record = iterator.next();
-          return new AirbyteMessage()
-              .withType(AirbyteMessage.Type.RECORD)
-              .withRecord(new AirbyteRecordMessage()
-                  .withStream(record.topic())
-                  .withEmittedAt(Instant.now().toEpochMilli())
-                  .withData(record.value()));
-        }
-
-        return endOfData();
-      }
+    final long maxRecords = config.has("max_records_per_sync") ? config.get("max_records_per_sync").longValue() : 0;
+    final Duration maxSyncTime = config.has("max_sync_time_ms") ? Duration.ofMillis(config.get("max_sync_time_ms").longValue()) : null;
+    final boolean hasGroupId = config.has("group_id") && !config.get("group_id").asText().isBlank();
+    final KafkaRecordIterator iterator = new KafkaRecordIterator(consumer, syncModes, partitionOffsets,
+        Duration.of(polling_time, ChronoUnit.MILLIS), retry, maxRecords, maxSyncTime, hasGroupId);
 
-    });
+    return AutoCloseableIterators.fromIterator(iterator, iterator::close);
   }
 
   public static void main(final String[] args) throws Exception {
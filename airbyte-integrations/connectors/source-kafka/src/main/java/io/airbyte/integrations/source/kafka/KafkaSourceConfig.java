@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.json.Jsons;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -17,6 +18,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.apache.kafka.clients.CommonClientConfigs;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.config.SaslConfigs;
@@ -96,6 +98,14 @@ public class KafkaSourceConfig {
   }
 
   public KafkaConsumer<String, JsonNode> getConsumer() {
+    return getConsumer(Map.of());
+  }
+
+  /**
+   * @param partitionOffsets offsets where the consumer seeks when it is assigned the partitions, the
+   *        map is read on each assignment so it can be updated as the records are consumed
+   */
+  public KafkaConsumer<String, JsonNode> getConsumer(final Map<TopicPartition, Long> partitionOffsets) {
     if (consumer != null) {
       return consumer;
     }
@@ -106,7 +116,17 @@ public class KafkaSourceConfig {
     switch (subscription.get("subscription_type").asText()) {
       case "subscribe" -> {
         final String topicPattern = subscription.get("topic_pattern").asText();
-        consumer.subscribe(Pattern.compile(topicPattern));
+        consumer.subscribe(Pattern.compile(topicPattern), new ConsumerRebalanceListener() {
+
+          @Override
+          public void onPartitionsRevoked(final Collection<TopicPartition> partitions) {}
+
+          @Override
+          public void onPartitionsAssigned(final Collection<TopicPartition> partitions) {
+            seek(partitions, partitionOffsets);
+          }
+
+        });
         topicsToSubscribe = consumer.listTopics().keySet().stream()
             .filter(topic -> topic.matches(topicPattern))
             .collect(Collectors.toSet());
@@ -122,11 +142,19 @@ public class KafkaSourceConfig {
         }).collect(Collectors.toList());
         LOGGER.info("Topic-partition list: {}", topicPartitionList);
         consumer.assign(topicPartitionList);
+        seek(topicPartitionList, partitionOffsets);
       }
     }
     return consumer;
   }
 
+  private void seek(final Collection<TopicPartition> partitions, final Map<TopicPartition, Long> partitionOffsets) {
+    partitions.stream().filter(partitionOffsets::containsKey).forEach(partition -> {
+      LOGGER.info("Seeking {} to offset {}", partition, partitionOffsets.get(partition));
+      consumer.seek(partition, partitionOffsets.get(partition));
+    });
+  }
+
   public Set<String> getTopicsToSubscribe() {
     if (topicsToSubscribe == null) {
       getConsumer();
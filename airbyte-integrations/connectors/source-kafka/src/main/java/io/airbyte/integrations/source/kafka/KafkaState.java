@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.kafka;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * State of the incremental streams of the source: the offset of the next record to read in each
+ * partition of their topics, stored as:
+ *
+ * <pre>
+ * {"partition_offsets": {"topic": {"0": 124, "1": 3}}}
+ * </pre>
+ */
+public class KafkaState {
+
+  private static final String PARTITION_OFFSETS = "partition_offsets";
+
+  private KafkaState() {}
+
+  /**
+   * @return the offsets of the partitions of the given topics, empty if there is no state yet
+   */
+  public static Map<TopicPartition, Long> getPartitionOffsets(final JsonNode state, final Set<String> topics) {
+    final Map<TopicPartition, Long> partitionOffsets = new HashMap<>();
+    if (state == null || !state.has(PARTITION_OFFSETS)) {
+      return partitionOffsets;
+    }
+    final Iterator<Entry<String, JsonNode>> topicOffsets = state.get(PARTITION_OFFSETS).fields();
+    while (topicOffsets.hasNext()) {
+      final Entry<String, JsonNode> topicOffset = topicOffsets.next();
+      if (!topics.contains(topicOffset.getKey())) {
+        continue;
+      }
+      topicOffset.getValue().fields().forEachRemaining(partitionOffset -> partitionOffsets.put(
+          new TopicPartition(topicOffset.getKey(), Integer.parseInt(partitionOffset.getKey())),
+          partitionOffset.getValue().longValue()));
+    }
+    return partitionOffsets;
+  }
+
+  public static JsonNode toState(final Map<TopicPartition, Long> partitionOffsets) {
+    final ObjectNode topicOffsets = Jsons.emptyObject().deepCopy();
+    partitionOffsets.forEach((partition, offset) -> {
+      if (!topicOffsets.has(partition.topic())) {
+        topicOffsets.putObject(partition.topic());
+      }
+      ((ObjectNode) topicOffsets.get(partition.topic())).put(Integer.toString(partition.partition()), offset);
+    });
+    final ObjectNode state = Jsons.emptyObject().deepCopy();
+    state.set(PARTITION_OFFSETS, topicOffsets);
+    return state;
+  }
+
+}
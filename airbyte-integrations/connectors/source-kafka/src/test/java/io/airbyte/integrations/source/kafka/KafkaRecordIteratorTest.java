@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.util.MoreIterators;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.SyncMode;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class KafkaRecordIteratorTest {
+
+  private static final String INCREMENTAL_TOPIC = "incremental";
+  private static final String FULL_REFRESH_TOPIC = "full_refresh";
+  private static final String OTHER_TOPIC = "other";
+  private static final TopicPartition INCREMENTAL_PARTITION = new TopicPartition(INCREMENTAL_TOPIC, 0);
+  private static final TopicPartition FULL_REFRESH_PARTITION = new TopicPartition(FULL_REFRESH_TOPIC, 0);
+  private static final TopicPartition OTHER_PARTITION = new TopicPartition(OTHER_TOPIC, 0);
+  private static final Map<String, SyncMode> SYNC_MODES = Map.of(
+      INCREMENTAL_TOPIC, SyncMode.INCREMENTAL,
+      FULL_REFRESH_TOPIC, SyncMode.FULL_REFRESH);
+
+  private MockConsumer<String, JsonNode> consumer;
+
+  @BeforeEach
+  void setup() {
+    consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    consumer.assign(List.of(INCREMENTAL_PARTITION, FULL_REFRESH_PARTITION, OTHER_PARTITION));
+    consumer.updateBeginningOffsets(Map.of(INCREMENTAL_PARTITION, 0L, FULL_REFRESH_PARTITION, 0L, OTHER_PARTITION, 0L));
+  }
+
+  @Test
+  void testRecordsAreEmittedWithStateAfterEachPoll() {
+    consumer.schedulePollTask(() -> {
+      addRecord(INCREMENTAL_PARTITION, 0);
+      addRecord(INCREMENTAL_PARTITION, 1);
+      addRecord(OTHER_PARTITION, 0);
+    });
+    consumer.schedulePollTask(() -> addRecord(FULL_REFRESH_PARTITION, 0));
+    consumer.schedulePollTask(() -> addRecord(INCREMENTAL_PARTITION, 2));
+
+    final KafkaRecordIterator iterator = new KafkaRecordIterator(consumer, SYNC_MODES, new HashMap<>(), Duration.ZERO, 1, 0, null, true);
+    final List<AirbyteMessage> messages = MoreIterators.toList(iterator);
+
+    assertEquals(List.of(Type.RECORD, Type.RECORD, Type.STATE, Type.RECORD, Type.RECORD, Type.STATE),
+        messages.stream().map(AirbyteMessage::getType).collect(Collectors.toList()));
+    // records of topics that are not in the catalog are skipped.
+    assertEquals(List.of(INCREMENTAL_TOPIC, INCREMENTAL_TOPIC, FULL_REFRESH_TOPIC, INCREMENTAL_TOPIC), messages.stream()
+        .filter(message -> message.getType() == Type.RECORD)
+        .map(message -> message.getRecord().getStream())
+        .collect(Collectors.toList()));
+    assertEquals(Map.of(INCREMENTAL_PARTITION, 2L), KafkaState.getPartitionOffsets(messages.get(2).getState().getData(), Set.of(INCREMENTAL_TOPIC)));
+    assertEquals(Map.of(INCREMENTAL_PARTITION, 3L), KafkaState.getPartitionOffsets(messages.get(5).getState().getData(), Set.of(INCREMENTAL_TOPIC)));
+    // only the full refresh topics are committed to the consumer group.
+    assertEquals(Map.of(FULL_REFRESH_PARTITION, new OffsetAndMetadata(1L)),
+        consumer.committed(Set.of(INCREMENTAL_PARTITION, FULL_REFRESH_PARTITION)).entrySet().stream()
+            .filter(entry -> entry.getValue() != null)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+
+    iterator.close();
+    assertTrue(consumer.closed());
+  }
+
+  @Test
+  void testSyncStopsAtMaxRecords() {
+    consumer.schedulePollTask(() -> {
+      for (int offset = 0; offset < 5; offset++) {
+        addRecord(INCREMENTAL_PARTITION, offset);
+      }
+    });
+
+    final List<AirbyteMessage> messages = MoreIterators.toList(
+        new KafkaRecordIterator(consumer, SYNC_MODES, new HashMap<>(), Duration.ZERO, 1, 3, null, false));
+
+    assertEquals(List.of(Type.RECORD, Type.RECORD, Type.RECORD, Type.STATE),
+        messages.stream().map(AirbyteMessage::getType).collect(Collectors.toList()));
+    // the next sync resumes after the last record emitted, not after the last record polled.
+    assertEquals(Map.of(INCREMENTAL_PARTITION, 3L), KafkaState.getPartitionOffsets(messages.get(3).getState().getData(), Set.of(INCREMENTAL_TOPIC)));
+  }
+
+  @Test
+  void testStateRoundTrip() {
+    final Map<TopicPartition, Long> partitionOffsets = Map.of(
+        new TopicPartition(INCREMENTAL_TOPIC, 0), 12L,
+        new TopicPartition(INCREMENTAL_TOPIC, 1), 3L,
+        new TopicPartition(OTHER_TOPIC, 0), 7L);
+    final JsonNode state = KafkaState.toState(partitionOffsets);
+
+    assertEquals(Jsons.deserialize("{\"partition_offsets\": {\"incremental\": {\"0\": 12, \"1\": 3}, \"other\": {\"0\": 7}}}"), state);
+    // offsets of topics that are no longer synced incrementally are dropped.
+    assertEquals(Map.of(new TopicPartition(INCREMENTAL_TOPIC, 0), 12L, new TopicPartition(INCREMENTAL_TOPIC, 1), 3L),
+        KafkaState.getPartitionOffsets(state, Set.of(INCREMENTAL_TOPIC)));
+    assertEquals(Map.of(), KafkaState.getPartitionOffsets(null, Set.of(INCREMENTAL_TOPIC)));
+  }
+
+  private void addRecord(final TopicPartition partition, final long offset) {
+    consumer.addRecord(new ConsumerRecord<>(partition.topic(), partition.partition(), offset, null, Jsons.jsonNode(Map.of("offset", offset))));
+  }
+
+}
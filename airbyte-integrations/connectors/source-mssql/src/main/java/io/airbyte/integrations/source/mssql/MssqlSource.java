@@ -77,17 +77,22 @@ public class MssqlSource extends AbstractJdbcSource<JDBCType> implements Source
                                                                final String tableName) {
     LOGGER.info("Queueing query for table: {}", tableName);
 
-    final List<String> newIdentifiersList = getWrappedColumn(database,
-        columnNames,
-        schemaName, tableName, "\"");
     final String preparedSqlQuery = String
-        .format("SELECT %s FROM %s", String.join(",", newIdentifiersList),
+        .format("SELECT %s FROM %s", getFullRefreshSelectList(database, columnNames, schemaName, tableName),
             getFullTableName(schemaName, tableName));
 
     LOGGER.info("Prepared SQL query for TableFullRefresh is: " + preparedSqlQuery);
     return queryTable(database, preparedSqlQuery);
   }
 
+  @Override
+  protected String getFullRefreshSelectList(final JdbcDatabase database,
+                                            final List<String> columnNames,
+                                            final String schemaName,
+                                            final String tableName) {
+    return String.join(",", getWrappedColumn(database, columnNames, schemaName, tableName, "\""));
+  }
+
   @Override
   public AutoCloseableIterator<JsonNode> queryTableIncremental(final JdbcDatabase database,
                                                                final List<String> columnNames,
@@ -106,10 +111,12 @@ public class MssqlSource extends AbstractJdbcSource<JDBCType> implements Source
               final String identifierQuoteString = connection.getMetaData().getIdentifierQuoteString();
               final List<String> newColumnNames = getWrappedColumn(database, columnNames, schemaName, tableName, identifierQuoteString);
 
-              final String sql = String.format("SELECT %s FROM %s WHERE %s > ?",
+              final String quotedCursorField = sourceOperations.enquoteIdentifier(connection, cursorField);
+              final String sql = String.format("SELECT %s FROM %s WHERE %s > ? ORDER BY %s ASC",
                   String.join(",", newColumnNames),
                   sourceOperations.getFullyQualifiedTableNameWithQuoting(connection, schemaName, tableName),
-                  sourceOperations.enquoteIdentifier(connection, cursorField));
+                  quotedCursorField,
+                  quotedCursorField);
               LOGGER.info("Prepared SQL query for queryTableIncremental is: " + sql);
 
               final PreparedStatement preparedStatement = connection.prepareStatement(sql);
@@ -117,7 +124,7 @@ public class MssqlSource extends AbstractJdbcSource<JDBCType> implements Source
               LOGGER.info("Executing query for table: {}", tableName);
               return preparedStatement;
             },
-            sourceOperations::rowToJson);
+            sourceOperations.newRowToJsonMapper());
         return AutoCloseableIterators.fromStream(stream);
       } catch (final SQLException e) {
         throw new RuntimeException(e);
@@ -57,6 +57,13 @@ public class MySqlSource extends AbstractJdbcSource<MysqlType> implements Source
       "useSSL=true",
       "requireSSL=true",
       "verifyServerCertificate=false");
+  // BIGINT UNSIGNED is left out as its values do not all fit in a long.
+  private static final Set<MysqlType> CHUNK_KEY_TYPES = Set.of(
+      MysqlType.TINYINT, MysqlType.TINYINT_UNSIGNED,
+      MysqlType.SMALLINT, MysqlType.SMALLINT_UNSIGNED,
+      MysqlType.MEDIUMINT, MysqlType.MEDIUMINT_UNSIGNED,
+      MysqlType.INT, MysqlType.INT_UNSIGNED,
+      MysqlType.BIGINT);
 
   public static Source sshWrappedSource() {
     return new SshWrappedSource(new MySqlSource(), List.of("host"), List.of("port"));
@@ -197,6 +204,16 @@ public class MySqlSource extends AbstractJdbcSource<MysqlType> implements Source
     }
   }
 
+  @Override
+  protected long getFullRefreshChunkSize() {
+    return DEFAULT_FULL_REFRESH_CHUNK_SIZE;
+  }
+
+  @Override
+  protected boolean isChunkKeyType(final MysqlType type) {
+    return CHUNK_KEY_TYPES.contains(type);
+  }
+
   @Override
   public Set<String> getExcludedInternalNameSpaces() {
     return Set.of(
@@ -17,6 +17,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.commons.functional.CheckedFunction;
 import io.airbyte.commons.jackson.MoreMappers;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.DataTypeUtils;
@@ -82,6 +83,15 @@ public class PostgresSourceOperations extends JdbcSourceOperations {
     return jsonNode;
   }
 
+  /**
+   * Rows are converted by {@link #rowToJson}, which does not read money, bit and numeric columns with
+   * getObject since it fails on some of their values.
+   */
+  @Override
+  public CheckedFunction<ResultSet, JsonNode, SQLException> newRowToJsonMapper() {
+    return this::rowToJson;
+  }
+
   @Override
   public void setStatementField(final PreparedStatement preparedStatement,
                                 final int parameterIndex,
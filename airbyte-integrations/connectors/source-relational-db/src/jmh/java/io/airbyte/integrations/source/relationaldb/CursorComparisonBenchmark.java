@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.relationaldb;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.db.CursorTracker;
+import io.airbyte.db.IncrementalUtils;
+import io.airbyte.protocol.models.JsonSchemaPrimitive;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per-record cost of tracking the largest cursor value of a stream, as done by
+ * {@link StateDecoratingIterator}: formatting each cursor value and comparing it with
+ * {@link IncrementalUtils#compareCursors}, against {@link CursorTracker}. Scores are nanoseconds per
+ * record.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CursorComparisonBenchmark {
+
+  private static final int RECORD_COUNT = 10_000;
+
+  @Param({"NUMBER", "STRING"})
+  public JsonSchemaPrimitive cursorType;
+
+  private JsonNode[] cursorValues;
+
+  @Setup
+  public void setup() {
+    cursorValues = new JsonNode[RECORD_COUNT];
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      // mostly increasing values, like a cursor column read in no particular order.
+      final long value = (long) i * 7 % RECORD_COUNT + 1_600_000_000L;
+      cursorValues[i] = switch (cursorType) {
+        case NUMBER -> Jsons.jsonNode(value);
+        case STRING -> Jsons.jsonNode(Instant.ofEpochSecond(value).toString());
+        default -> throw new IllegalArgumentException();
+      };
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORD_COUNT)
+  public String compareCursors() {
+    String maxCursor = null;
+    for (final JsonNode value : cursorValues) {
+      final String cursorCandidate = value.asText();
+      if (IncrementalUtils.compareCursors(maxCursor, cursorCandidate, cursorType) < 0) {
+        maxCursor = cursorCandidate;
+      }
+    }
+    return maxCursor;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORD_COUNT)
+  public String cursorTracker() {
+    final CursorTracker cursorTracker = CursorTracker.create(cursorType, null);
+    for (final JsonNode value : cursorValues) {
+      if (cursorTracker.isGreaterThanMax(value)) {
+        cursorTracker.setMax(value);
+      }
+    }
+    return cursorTracker.getMaxCursor();
+  }
+
+}
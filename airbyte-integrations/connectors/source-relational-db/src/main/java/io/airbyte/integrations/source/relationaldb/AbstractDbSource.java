@@ -36,6 +36,7 @@ import io.airbyte.protocol.models.JsonSchemaPrimitive;
 import io.airbyte.protocol.models.JsonSchemaType;
 import io.airbyte.protocol.models.SyncMode;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -61,6 +62,9 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
 
   private static final Logger LOGGER = LoggerFactory.getLogger(AbstractDbSource.class);
 
+  public static final String MAX_CONCURRENT_TABLE_READS_KEY = "max_concurrent_table_reads";
+  private static final int DEFAULT_MAX_CONCURRENT_TABLE_READS = 1;
+
   @Override
   public AirbyteConnectionStatus check(final JsonNode config) throws Exception {
     try {
@@ -125,14 +129,39 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
         .flatMap(Collection::stream)
         .collect(Collectors.toList());
 
+    final int maxConcurrentTableReads = getMaxConcurrentTableReads(config);
+    final AutoCloseableIterator<AirbyteMessage> messageIterator;
+    if (maxConcurrentTableReads > 1 && iteratorList.size() > 1) {
+      LOGGER.info("Reading {} streams, up to {} at the same time.", iteratorList.size(), maxConcurrentTableReads);
+      messageIterator = AutoCloseableIterators.mergeConcurrently(iteratorList, maxConcurrentTableReads);
+    } else {
+      messageIterator = AutoCloseableIterators.concatWithEagerClose(iteratorList);
+    }
+
     return AutoCloseableIterators
-        .appendOnClose(AutoCloseableIterators.concatWithEagerClose(iteratorList), () -> {
+        .appendOnClose(messageIterator, () -> {
           LOGGER.info("Closing database connection pool.");
           Exceptions.toRuntime(this::close);
           LOGGER.info("Closed database connection pool.");
         });
   }
 
+  /**
+   * Each stream read at the same time holds its own database connection, so the limit should not
+   * exceed the size of the connection pool.
+   *
+   * @param config connector config
+   * @return max number of streams to read at the same time. 1 reads them one after the other.
+   */
+  protected int getMaxConcurrentTableReads(final JsonNode config) {
+    if (config.hasNonNull(MAX_CONCURRENT_TABLE_READS_KEY)) {
+      final int maxConcurrentTableReads = config.get(MAX_CONCURRENT_TABLE_READS_KEY).asInt();
+      Preconditions.checkArgument(maxConcurrentTableReads > 0, MAX_CONCURRENT_TABLE_READS_KEY + " must be positive");
+      return maxConcurrentTableReads;
+    }
+    return DEFAULT_MAX_CONCURRENT_TABLE_READS;
+  }
+
   protected List<TableInfo<CommonField<DataType>>> discoverWithoutSystemTables(final Database database) throws Exception {
     final Set<String> systemNameSpaces = getExcludedInternalNameSpaces();
     final List<TableInfo<CommonField<DataType>>> discoveredTables = discoverInternal(database);
@@ -232,6 +261,9 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
 
       final JsonSchemaPrimitive cursorType = IncrementalUtils
           .getCursorType(airbyteStream, cursorField);
+      // only incremental queries are ordered by the cursor, the first read can't emit intermediate state.
+      final int stateEmissionFrequency = cursorOptional.isPresent() ? getStateEmissionFrequency() : 0;
+      final Duration stateEmissionInterval = cursorOptional.isPresent() ? getStateEmissionInterval() : null;
 
       iterator = AutoCloseableIterators.transform(autoCloseableIterator -> new StateDecoratingIterator(
           autoCloseableIterator,
@@ -239,10 +271,12 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
           pair,
           cursorField,
           cursorOptional.orElse(null),
-          cursorType),
+          cursorType,
+          stateEmissionFrequency,
+          stateEmissionInterval),
           airbyteMessageIterator);
     } else if (airbyteStream.getSyncMode() == SyncMode.FULL_REFRESH) {
-      iterator = getFullRefreshStream(database, streamName, namespace, selectedDatabaseFields, table, emittedAt);
+      iterator = getFullRefreshStream(database, airbyteStream, selectedDatabaseFields, table, stateManager, emittedAt);
     } else if (airbyteStream.getSyncMode() == null) {
       throw new IllegalArgumentException(String.format("%s requires a source sync mode", this.getClass()));
     } else {
@@ -289,6 +323,42 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
     return getMessageIterator(queryIterator, streamName, namespace, emittedAt.toEpochMilli());
   }
 
+  /**
+   * Intermediate state messages are only correct if {@link #queryTableIncremental} returns the rows
+   * ordered by the cursor field, which sources must ensure before overriding this.
+   *
+   * @return number of records after which an incremental read emits an intermediate state message, 0
+   *         to only emit state after the last record.
+   */
+  protected int getStateEmissionFrequency() {
+    return 0;
+  }
+
+  /**
+   * Same as {@link #getStateEmissionFrequency()}, based on the time elapsed since the previous state
+   * message.
+   *
+   * @return time after which an incremental read emits an intermediate state message, null to only
+   *         emit state after the last record.
+   */
+  protected Duration getStateEmissionInterval() {
+    return null;
+  }
+
+  /**
+   * Reads a stream configured in full refresh mode. Sources that can checkpoint such reads override
+   * this to emit state messages among the records.
+   */
+  protected AutoCloseableIterator<AirbyteMessage> getFullRefreshStream(final Database database,
+                                                                       final ConfiguredAirbyteStream airbyteStream,
+                                                                       final List<String> selectedDatabaseFields,
+                                                                       final TableInfo<CommonField<DataType>> table,
+                                                                       final StateManager stateManager,
+                                                                       final Instant emittedAt) {
+    return getFullRefreshStream(database, airbyteStream.getStream().getName(), airbyteStream.getStream().getNamespace(), selectedDatabaseFields,
+        table, emittedAt);
+  }
+
   protected AutoCloseableIterator<AirbyteMessage> getFullRefreshStream(final Database database,
                                                                        final String streamName,
                                                                        final String namespace,
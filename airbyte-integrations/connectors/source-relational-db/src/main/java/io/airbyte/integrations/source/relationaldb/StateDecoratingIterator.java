@@ -4,17 +4,33 @@
 
 package io.airbyte.integrations.source.relationaldb;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.AbstractIterator;
-import io.airbyte.db.IncrementalUtils;
+import io.airbyte.db.CursorTracker;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
 import io.airbyte.protocol.models.AirbyteStateMessage;
 import io.airbyte.protocol.models.JsonSchemaPrimitive;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Iterator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Tracks the largest cursor value of the records of an incremental stream and emits a state
+ * message recording it after the last record.
+ *
+ * <p>
+ * When the records are ordered by the cursor field, intermediate state messages can also be emitted
+ * every {@code stateEmissionFrequency} records or {@code stateEmissionInterval}, so that a sync
+ * that fails can resume from the last of them. Such a state message is only emitted right before a
+ * record whose cursor value is greater than all the previous ones: all the records sharing the
+ * cursor value of the state have been read by then, which the next sync relies on as it only reads
+ * records with a greater cursor value.
+ * </p>
+ */
 public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> implements Iterator<AirbyteMessage> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(StateDecoratingIterator.class);
@@ -23,10 +39,14 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
   private final StateManager stateManager;
   private final AirbyteStreamNameNamespacePair pair;
   private final String cursorField;
-  private final JsonSchemaPrimitive cursorType;
+  private final CursorTracker cursorTracker;
+  private final int stateEmissionFrequency;
+  private final Duration stateEmissionInterval;
 
-  private String maxCursor;
   private boolean hasEmittedState;
+  private AirbyteMessage pendingMessage;
+  private long recordsSinceLastState;
+  private Instant lastStateEmittedAt;
 
   public StateDecoratingIterator(final Iterator<AirbyteMessage> messageIterator,
                                  final StateManager stateManager,
@@ -34,29 +54,61 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
                                  final String cursorField,
                                  final String initialCursor,
                                  final JsonSchemaPrimitive cursorType) {
+    this(messageIterator, stateManager, pair, cursorField, initialCursor, cursorType, 0, null);
+  }
+
+  /**
+   * @param stateEmissionFrequency number of records after which an intermediate state message is
+   *        emitted, 0 to only emit state after the last record. The records must be ordered by the
+   *        cursor field otherwise.
+   * @param stateEmissionInterval time after which an intermediate state message is emitted, null to
+   *        only emit state after the last record. The records must be ordered by the cursor field
+   *        otherwise.
+   */
+  public StateDecoratingIterator(final Iterator<AirbyteMessage> messageIterator,
+                                 final StateManager stateManager,
+                                 final AirbyteStreamNameNamespacePair pair,
+                                 final String cursorField,
+                                 final String initialCursor,
+                                 final JsonSchemaPrimitive cursorType,
+                                 final int stateEmissionFrequency,
+                                 final Duration stateEmissionInterval) {
     this.messageIterator = messageIterator;
     this.stateManager = stateManager;
     this.pair = pair;
     this.cursorField = cursorField;
-    this.cursorType = cursorType;
-    this.maxCursor = initialCursor;
+    this.cursorTracker = CursorTracker.create(cursorType, initialCursor);
+    this.stateEmissionFrequency = stateEmissionFrequency;
+    this.stateEmissionInterval = stateEmissionInterval;
+    this.lastStateEmittedAt = Instant.now();
     stateManager.setIsCdc(false);
   }
 
   @Override
   protected AirbyteMessage computeNext() {
-    if (messageIterator.hasNext()) {
+    if (pendingMessage != null) {
+      final AirbyteMessage message = pendingMessage;
+      pendingMessage = null;
+      recordsSinceLastState++;
+      return message;
+    } else if (messageIterator.hasNext()) {
       final AirbyteMessage message = messageIterator.next();
-      if (message.getRecord().getData().hasNonNull(cursorField)) {
-        final String cursorCandidate = message.getRecord().getData().get(cursorField).asText();
-        if (IncrementalUtils.compareCursors(maxCursor, cursorCandidate, cursorType) < 0) {
-          maxCursor = cursorCandidate;
+      final JsonNode cursorCandidate = message.getRecord().getData().get(cursorField);
+      if (cursorCandidate != null && !cursorCandidate.isNull() && cursorTracker.isGreaterThanMax(cursorCandidate)) {
+        if (isIntermediateStateDue()) {
+          // every record with a cursor value up to the max has been read, checkpoint before this one.
+          final AirbyteMessage stateMessage = emitIntermediateState();
+          cursorTracker.setMax(cursorCandidate);
+          pendingMessage = message;
+          return stateMessage;
         }
+        cursorTracker.setMax(cursorCandidate);
       }
 
+      recordsSinceLastState++;
       return message;
     } else if (!hasEmittedState) {
-      final AirbyteStateMessage stateMessage = stateManager.updateAndEmit(pair, maxCursor);
+      final AirbyteStateMessage stateMessage = stateManager.updateAndEmit(pair, cursorTracker.getMaxCursor());
       LOGGER.info("State Report: stream name: {}, original cursor field: {}, original cursor {}, cursor field: {}, new cursor: {}",
           pair,
           stateManager.getOriginalCursorField(pair).orElse(null),
@@ -74,4 +126,23 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
     }
   }
 
+  private boolean isIntermediateStateDue() {
+    if (recordsSinceLastState == 0) {
+      return false;
+    }
+    final boolean isDue = (stateEmissionFrequency > 0 && recordsSinceLastState >= stateEmissionFrequency)
+        || (stateEmissionInterval != null && Duration.between(lastStateEmittedAt, Instant.now()).compareTo(stateEmissionInterval) >= 0);
+    return isDue && cursorTracker.getMaxCursor() != null;
+  }
+
+  private AirbyteMessage emitIntermediateState() {
+    final String maxCursor = cursorTracker.getMaxCursor();
+    final AirbyteStateMessage stateMessage = stateManager.updateAndEmit(pair, maxCursor);
+    LOGGER.info("Intermediate state for stream {} after {} records, cursor field: {}, cursor: {}",
+        pair, recordsSinceLastState, cursorField, maxCursor);
+    recordsSinceLastState = 0;
+    lastStateEmittedAt = Instant.now();
+    return new AirbyteMessage().withType(Type.STATE).withState(stateMessage);
+  }
+
 }
@@ -9,6 +9,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.WorkerEnvConstants;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.source.relationaldb.models.DbState;
 import io.airbyte.integrations.source.relationaldb.models.DbStreamState;
@@ -33,6 +34,10 @@ public class StateManager {
   private static final Logger LOGGER = LoggerFactory.getLogger(StateManager.class);
 
   private final Map<AirbyteStreamNameNamespacePair, CursorInfo> pairToCursorInfo;
+  // progress of the full refresh reads that are split into chunks, keyed by stream.
+  private final Map<AirbyteStreamNameNamespacePair, ChunkCursor> pairToChunkCursor;
+  // job the state is emitted by, null if unknown.
+  private final String jobId;
   private Boolean isCdc;
   private final CdcStateManager cdcStateManager;
 
@@ -41,6 +46,16 @@ public class StateManager {
   }
 
   public StateManager(final DbState serialized, final ConfiguredAirbyteCatalog catalog) {
+    this(serialized, catalog, System.getenv(WorkerEnvConstants.WORKER_JOB_ID));
+  }
+
+  /**
+   * @param jobId job the source runs for. The chunk cursors of full refresh reads are only kept if
+   *        they were left by an earlier attempt of the same job, so that a new job reads its tables
+   *        from the start.
+   */
+  public StateManager(final DbState serialized, final ConfiguredAirbyteCatalog catalog, final String jobId) {
+    this.jobId = jobId == null || jobId.isEmpty() ? null : jobId;
     this.cdcStateManager = new CdcStateManager(serialized.getCdcState());
     this.isCdc = serialized.getCdc();
     if (serialized.getCdc() == null) {
@@ -49,6 +64,17 @@ public class StateManager {
 
     pairToCursorInfo =
         new ImmutableMap.Builder<AirbyteStreamNameNamespacePair, CursorInfo>().putAll(createCursorInfoMap(serialized, catalog)).build();
+    pairToChunkCursor = new HashMap<>();
+    serialized.getStreams().stream()
+        .filter(streamState -> streamState.getChunkCursorField() != null && streamState.getChunkCursor() != null)
+        .forEach(streamState -> {
+          final AirbyteStreamNameNamespacePair pair = toAirbyteStreamNameNamespacePair(streamState);
+          if (this.jobId != null && this.jobId.equals(streamState.getChunkJobId())) {
+            pairToChunkCursor.put(pair, new ChunkCursor(streamState.getChunkCursorField(), streamState.getChunkCursor()));
+          } else {
+            LOGGER.info("Ignoring chunk cursor of stream {} left by job {}. Current job: {}.", pair, streamState.getChunkJobId(), this.jobId);
+          }
+        });
   }
 
   private static Map<AirbyteStreamNameNamespacePair, CursorInfo> createCursorInfoMap(final DbState serialized,
@@ -162,6 +188,40 @@ public class StateManager {
     return toState();
   }
 
+  /**
+   * @param pair stream
+   * @param chunkCursorField primary key the read is split on
+   * @return the key value the next chunk starts from, if a previous read of the stream was
+   *         interrupted and was split on the same key.
+   */
+  synchronized public Optional<String> getChunkCursor(final AirbyteStreamNameNamespacePair pair, final String chunkCursorField) {
+    return Optional.ofNullable(pairToChunkCursor.get(pair))
+        .filter(chunkCursor -> chunkCursor.field().equals(chunkCursorField))
+        .map(ChunkCursor::cursor);
+  }
+
+  /**
+   * Records that all the chunks before the given key value have been read.
+   *
+   * @param pair stream
+   * @param chunkCursorField primary key the read is split on
+   * @param chunkCursor key value the next chunk starts from, null once the stream has been read
+   *        entirely.
+   * @return state
+   */
+  synchronized public AirbyteStateMessage updateChunkCursorAndEmit(final AirbyteStreamNameNamespacePair pair,
+                                                                   final String chunkCursorField,
+                                                                   final String chunkCursor) {
+    Preconditions.checkState(pairToCursorInfo.containsKey(pair), "Could not find information for stream: " + pair);
+    if (chunkCursor == null) {
+      pairToChunkCursor.remove(pair);
+    } else {
+      pairToChunkCursor.put(pair, new ChunkCursor(chunkCursorField, chunkCursor));
+    }
+
+    return toState();
+  }
+
   public void setIsCdc(final boolean isCdc) {
     if (this.isCdc == null) {
       this.isCdc = isCdc;
@@ -174,24 +234,36 @@ public class StateManager {
     return cdcStateManager;
   }
 
-  public AirbyteStateMessage emit() {
+  synchronized public AirbyteStateMessage emit() {
     return toState();
   }
 
+  /**
+   * The chunk cursors of the full refresh streams are kept in the legacy state, next to the cursor of
+   * each stream and the CDC offsets.
+   */
   private AirbyteStateMessage toState() {
     final DbState DbState = new DbState()
         .withCdc(isCdc)
         .withStreams(pairToCursorInfo.entrySet().stream()
             .sorted(Entry.comparingByKey()) // sort by stream name then namespace for sanity.
-            .map(e -> new DbStreamState()
-                .withStreamName(e.getKey().getName())
-                .withStreamNamespace(e.getKey().getNamespace())
-                .withCursorField(e.getValue().getCursorField() == null ? Collections.emptyList() : Lists.newArrayList(e.getValue().getCursorField()))
-                .withCursor(e.getValue().getCursor()))
+            .map(e -> {
+              final Optional<ChunkCursor> chunkCursor = Optional.ofNullable(pairToChunkCursor.get(e.getKey()));
+              return new DbStreamState()
+                  .withStreamName(e.getKey().getName())
+                  .withStreamNamespace(e.getKey().getNamespace())
+                  .withCursorField(e.getValue().getCursorField() == null ? Collections.emptyList() : Lists.newArrayList(e.getValue().getCursorField()))
+                  .withCursor(e.getValue().getCursor())
+                  .withChunkCursorField(chunkCursor.map(ChunkCursor::field).orElse(null))
+                  .withChunkCursor(chunkCursor.map(ChunkCursor::cursor).orElse(null))
+                  .withChunkJobId(chunkCursor.map(c -> jobId).orElse(null));
+            })
             .collect(Collectors.toList()))
         .withCdcState(cdcStateManager.getCdcState());
 
     return new AirbyteStateMessage().withData(Jsons.jsonNode(DbState));
   }
 
+  private record ChunkCursor(String field, String cursor) {}
+
 }
@@ -114,6 +114,60 @@ class StateDecoratingIteratorTest {
     assertFalse(iterator.hasNext());
   }
 
+  @Test
+  void testIntermediateState() {
+    final AirbyteMessage recordMessage3 = Jsons.clone(RECORD_MESSAGE2);
+    final AirbyteMessage recordMessage4 = new AirbyteMessage()
+        .withType(Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withData(Jsons.jsonNode(ImmutableMap.of(UUID_FIELD_NAME, "ghi"))));
+    final AirbyteStateMessage stateMessage1 = mock(AirbyteStateMessage.class);
+    final AirbyteStateMessage stateMessage2 = mock(AirbyteStateMessage.class);
+    when(stateManager.updateAndEmit(NAME_NAMESPACE_PAIR, "abc")).thenReturn(stateMessage1);
+    when(stateManager.updateAndEmit(NAME_NAMESPACE_PAIR, "def")).thenReturn(stateMessage2);
+    when(stateManager.updateAndEmit(NAME_NAMESPACE_PAIR, "ghi")).thenReturn(stateMessage);
+
+    final StateDecoratingIterator iterator = new StateDecoratingIterator(
+        MoreIterators.of(RECORD_MESSAGE1, RECORD_MESSAGE2, recordMessage3, recordMessage4),
+        stateManager,
+        NAME_NAMESPACE_PAIR,
+        UUID_FIELD_NAME,
+        null,
+        JsonSchemaPrimitive.STRING,
+        1,
+        null);
+
+    assertEquals(RECORD_MESSAGE1, iterator.next());
+    assertEquals(stateMessage1, iterator.next().getState());
+    assertEquals(RECORD_MESSAGE2, iterator.next());
+    // no state between records sharing the same cursor value.
+    assertEquals(recordMessage3, iterator.next());
+    assertEquals(stateMessage2, iterator.next().getState());
+    assertEquals(recordMessage4, iterator.next());
+    assertEquals(stateMessage, iterator.next().getState());
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  void testIntermediateStateFrequency() {
+    when(stateManager.updateAndEmit(NAME_NAMESPACE_PAIR, "def")).thenReturn(stateMessage);
+
+    final StateDecoratingIterator iterator = new StateDecoratingIterator(
+        messageIterator,
+        stateManager,
+        NAME_NAMESPACE_PAIR,
+        UUID_FIELD_NAME,
+        null,
+        JsonSchemaPrimitive.STRING,
+        2,
+        null);
+
+    assertEquals(RECORD_MESSAGE1, iterator.next());
+    assertEquals(RECORD_MESSAGE2, iterator.next());
+    assertEquals(stateMessage, iterator.next().getState());
+    assertFalse(iterator.hasNext());
+  }
+
   @Test
   void testEmptyStream() {
     when(stateManager.updateAndEmit(NAME_NAMESPACE_PAIR, null)).thenReturn(stateMessage);
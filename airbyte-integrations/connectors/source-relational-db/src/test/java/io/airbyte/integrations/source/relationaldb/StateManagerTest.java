@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
+import io.airbyte.integrations.source.relationaldb.models.CdcState;
 import io.airbyte.integrations.source.relationaldb.models.DbState;
 import io.airbyte.integrations.source.relationaldb.models.DbStreamState;
 import io.airbyte.protocol.models.AirbyteStateMessage;
@@ -16,6 +17,8 @@ import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
@@ -32,6 +35,7 @@ class StateManagerTest {
   private static final String CURSOR_FIELD1 = "year";
   private static final String CURSOR_FIELD2 = "generation";
   private static final String CURSOR = "2000";
+  private static final String JOB_ID = "1";
 
   @Test
   void testCreateCursorInfoCatalogAndStateSameCursorField() {
@@ -165,6 +169,57 @@ class StateManagerTest {
     assertEquals(expectedSecondEmission, actualSecondEmission);
   }
 
+  @Test
+  void testChunkCursor() {
+    final DbState state = new DbState().withStreams(Lists.newArrayList(
+        new DbStreamState().withStreamName(STREAM_NAME1).withStreamNamespace(NAMESPACE).withChunkCursorField(CURSOR_FIELD1)
+            .withChunkCursor(CURSOR).withChunkJobId(JOB_ID)));
+    final StateManager stateManager = new StateManager(state, getChunkedCatalog(), JOB_ID);
+
+    assertEquals(Optional.of(CURSOR), stateManager.getChunkCursor(NAME_NAMESPACE_PAIR1, CURSOR_FIELD1));
+    // a read split on another key does not resume.
+    assertEquals(Optional.empty(), stateManager.getChunkCursor(NAME_NAMESPACE_PAIR1, CURSOR_FIELD2));
+
+    final AirbyteStateMessage expectedFirstEmission = new AirbyteStateMessage()
+        .withData(Jsons.jsonNode(new DbState().withStreams(Lists.newArrayList(
+            new DbStreamState().withStreamName(STREAM_NAME1).withStreamNamespace(NAMESPACE).withCursorField(Collections.emptyList())
+                .withChunkCursorField(CURSOR_FIELD1).withChunkCursor("3000").withChunkJobId(JOB_ID)))
+            .withCdc(false)));
+    assertEquals(expectedFirstEmission, stateManager.updateChunkCursorAndEmit(NAME_NAMESPACE_PAIR1, CURSOR_FIELD1, "3000"));
+    assertEquals(Optional.of("3000"), stateManager.getChunkCursor(NAME_NAMESPACE_PAIR1, CURSOR_FIELD1));
+
+    // the cursor is cleared once the stream has been read entirely.
+    final AirbyteStateMessage expectedSecondEmission = new AirbyteStateMessage()
+        .withData(Jsons.jsonNode(new DbState().withStreams(Lists.newArrayList(
+            new DbStreamState().withStreamName(STREAM_NAME1).withStreamNamespace(NAMESPACE).withCursorField(Collections.emptyList())))
+            .withCdc(false)));
+    assertEquals(expectedSecondEmission, stateManager.updateChunkCursorAndEmit(NAME_NAMESPACE_PAIR1, CURSOR_FIELD1, null));
+    assertEquals(Optional.empty(), stateManager.getChunkCursor(NAME_NAMESPACE_PAIR1, CURSOR_FIELD1));
+  }
+
+  @Test
+  void testChunkCursorOfAnotherJobIsIgnored() {
+    final DbState state = new DbState().withStreams(Lists.newArrayList(
+        new DbStreamState().withStreamName(STREAM_NAME1).withStreamNamespace(NAMESPACE).withChunkCursorField(CURSOR_FIELD1)
+            .withChunkCursor(CURSOR).withChunkJobId(JOB_ID)));
+
+    assertEquals(Optional.empty(), new StateManager(state, getChunkedCatalog(), "2").getChunkCursor(NAME_NAMESPACE_PAIR1, CURSOR_FIELD1));
+    // without a job, the source cannot tell whether it is retrying an attempt.
+    assertEquals(Optional.empty(), new StateManager(state, getChunkedCatalog(), null).getChunkCursor(NAME_NAMESPACE_PAIR1, CURSOR_FIELD1));
+  }
+
+  @Test
+  void testCdcChunkCursorIsKeptInTheLegacyState() {
+    final CdcState cdcState = new CdcState().withState(Jsons.jsonNode(Map.of("offset", "42")));
+    final StateManager stateManager = new StateManager(new DbState().withCdc(true).withCdcState(cdcState), getChunkedCatalog(), JOB_ID);
+
+    final DbStreamState expectedStreamState = new DbStreamState().withStreamName(STREAM_NAME1).withStreamNamespace(NAMESPACE)
+        .withCursorField(Collections.emptyList()).withChunkCursorField(CURSOR_FIELD1).withChunkCursor(CURSOR).withChunkJobId(JOB_ID);
+    final AirbyteStateMessage expectedEmission = new AirbyteStateMessage()
+        .withData(Jsons.jsonNode(new DbState().withCdc(true).withCdcState(cdcState).withStreams(List.of(expectedStreamState))));
+    assertEquals(expectedEmission, stateManager.updateChunkCursorAndEmit(NAME_NAMESPACE_PAIR1, CURSOR_FIELD1, CURSOR));
+  }
+
   @Test
   void testToStateNullCursorField() {
     final ConfiguredAirbyteCatalog catalog = new ConfiguredAirbyteCatalog()
@@ -189,4 +244,11 @@ class StateManagerTest {
     assertEquals(expectedFirstEmission, actualFirstEmission);
   }
 
+  private static ConfiguredAirbyteCatalog getChunkedCatalog() {
+    return new ConfiguredAirbyteCatalog()
+        .withStreams(Lists.newArrayList(
+            new ConfiguredAirbyteStream()
+                .withStream(new AirbyteStream().withName(STREAM_NAME1).withNamespace(NAMESPACE))));
+  }
+
 }
@@ -6,6 +6,7 @@ package io.airbyte.validation.json;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.base.Preconditions;
+import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.SchemaValidatorsConfig;
 import com.networknt.schema.SpecVersion;
@@ -14,7 +15,9 @@ import io.airbyte.commons.string.Strings;
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import me.andrz.jackson.JsonContext;
 import me.andrz.jackson.JsonReferenceException;
@@ -28,12 +31,63 @@ public class JsonSchemaValidator {
 
   private final SchemaValidatorsConfig schemaValidatorsConfig;
   private final JsonSchemaFactory jsonSchemaFactory;
+  // schemas compiled ahead of time by name, so that hot paths do not recompile them on each call.
+  private final Map<String, JsonSchema> schemaToValidators = new ConcurrentHashMap<>();
 
   public JsonSchemaValidator() {
     this.schemaValidatorsConfig = new SchemaValidatorsConfig();
     this.jsonSchemaFactory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7);
   }
 
+  /**
+   * Compiles a schema once and registers it under a name so that it can be reused by
+   * {@link #testInitializedSchema(String, JsonNode)}. Initializing a name twice replaces the
+   * previously compiled schema.
+   *
+   * @param schemaName - name used to look up the compiled schema
+   * @param schemaJson - the schema to compile
+   */
+  public void initializeSchemaValidator(final String schemaName, final JsonNode schemaJson) {
+    Preconditions.checkNotNull(schemaName);
+    Preconditions.checkNotNull(schemaJson);
+
+    schemaToValidators.put(schemaName, jsonSchemaFactory.getSchema(schemaJson, schemaValidatorsConfig));
+  }
+
+  public boolean isSchemaInitialized(final String schemaName) {
+    return schemaToValidators.containsKey(schemaName);
+  }
+
+  /**
+   * Validates an object against a schema previously registered with
+   * {@link #initializeSchemaValidator(String, JsonNode)}. Unlike {@link #test(JsonNode, JsonNode)},
+   * this does not log failures, as it is meant to be called once per record.
+   *
+   * @param schemaName - name of an initialized schema
+   * @param objectJson - object to validate
+   * @return true if the object conforms to the schema
+   */
+  public boolean testInitializedSchema(final String schemaName, final JsonNode objectJson) {
+    return validateInitializedSchema(schemaName, objectJson).isEmpty();
+  }
+
+  /**
+   * Validates an object against a schema previously registered with
+   * {@link #initializeSchemaValidator(String, JsonNode)} and returns every failure, so that callers
+   * that report failures do not have to validate the object again to describe them.
+   *
+   * @param schemaName - name of an initialized schema
+   * @param objectJson - object to validate
+   * @return the validation failures, empty if the object conforms to the schema
+   */
+  public Set<ValidationMessage> validateInitializedSchema(final String schemaName, final JsonNode objectJson) {
+    Preconditions.checkNotNull(objectJson);
+    final JsonSchema schema = schemaToValidators.get(schemaName);
+    Preconditions.checkArgument(schema != null, "Schema %s has not been initialized", schemaName);
+
+    return schema.validate(objectJson);
+  }
+
   public Set<String> validate(final JsonNode schemaJson, final JsonNode objectJson) {
     return validateInternal(schemaJson, objectJson)
         .stream()
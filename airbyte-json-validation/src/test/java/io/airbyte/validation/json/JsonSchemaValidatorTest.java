@@ -5,17 +5,21 @@
 package io.airbyte.validation.json;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.ValidationMessage;
 import io.airbyte.commons.io.IOs;
 import io.airbyte.commons.json.Jsons;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 class JsonSchemaValidatorTest {
@@ -65,6 +69,24 @@ class JsonSchemaValidatorTest {
     assertThrows(JsonValidationException.class, () -> validator.ensure(VALID_SCHEMA, object2));
   }
 
+  @Test
+  void testInitializedSchema() {
+    final JsonSchemaValidator validator = new JsonSchemaValidator();
+    validator.initializeSchemaValidator("test", VALID_SCHEMA);
+
+    assertTrue(validator.isSchemaInitialized("test"));
+    assertFalse(validator.isSchemaInitialized("other"));
+
+    assertTrue(validator.testInitializedSchema("test", Jsons.deserialize("{\"host\":\"abc\", \"port\":1}")));
+
+    final JsonNode invalid = Jsons.deserialize("{\"host\":\"abc\", \"port\":9999999}");
+    assertFalse(validator.testInitializedSchema("test", invalid));
+    final Set<ValidationMessage> validationMessages = validator.validateInitializedSchema("test", invalid);
+    assertEquals(List.of("$.port"), validationMessages.stream().map(ValidationMessage::getPath).toList());
+
+    assertThrows(IllegalArgumentException.class, () -> validator.testInitializedSchema("other", invalid));
+  }
+
   @Test
   void test() throws IOException {
     final String schema = "{\n"
@@ -16,6 +16,8 @@ public class MetricTags {
   private static final String RELEASE_STAGE = "release_stage";
   private static final String FAILURE_ORIGIN = "failure_origin";
   private static final String JOB_STATUS = "job_status";
+  private static final String CONFIG_TYPE = "config_type";
+  private static final String REPLICATION_QUEUE = "replication_queue";
 
   public static String getReleaseStage(final ReleaseStage stage) {
     return tagDelimit(RELEASE_STAGE, stage.getLiteral());
@@ -29,6 +31,14 @@ public class MetricTags {
     return tagDelimit(JOB_STATUS, status.getLiteral());
   }
 
+  public static String getConfigType(final String configType) {
+    return tagDelimit(CONFIG_TYPE, configType);
+  }
+
+  public static String getReplicationQueue(final String queueName) {
+    return tagDelimit(REPLICATION_QUEUE, queueName);
+  }
+
   private static String tagDelimit(final String tagName, final String tagVal) {
     return String.join(":", tagName, tagVal);
   }
@@ -47,6 +47,14 @@ public enum OssMetricsRegistry implements MetricsRegistry {
       MetricEmittingApps.WORKER,
       "attempt_succeeded_by_release_stage",
       "increments when an attempts succeeds. attempts are double counted as this is tagged by release stage."),
+  CONFIG_CACHE_HIT(
+      MetricEmittingApps.SERVER,
+      "config_cache_hit",
+      "increments when a config is read from the in-memory config cache. tagged by config type."),
+  CONFIG_CACHE_MISS(
+      MetricEmittingApps.SERVER,
+      "config_cache_miss",
+      "increments when a config is not in the in-memory config cache and is read from the database. tagged by config type."),
   EST_NUM_METRICS_EMITTED_BY_REPORTER(
       MetricEmittingApps.METRICS_REPORTER,
       "est_num_metrics_emitted_by_reporter",
@@ -91,7 +99,19 @@ public enum OssMetricsRegistry implements MetricsRegistry {
       "oldest running job in seconds"),
   OVERALL_JOB_RUNTIME_IN_LAST_HOUR_BY_TERMINAL_STATE_SECS(MetricEmittingApps.METRICS_REPORTER,
       "overall_job_runtime_in_last_hour_by_terminal_state_secs",
-      "overall job runtime - scheduling and execution for all attempts - for jobs that reach terminal states in the last hour. tagged by terminal states.");
+      "overall job runtime - scheduling and execution for all attempts - for jobs that reach terminal states in the last hour. tagged by terminal states."),
+  REPLICATION_QUEUE_CONSUMER_STALL_MILLISECS(
+      MetricEmittingApps.WORKER,
+      "replication_queue_consumer_stall_millisecs",
+      "time the stage reading from a replication queue spent waiting for messages during a sync. tagged by queue."),
+  REPLICATION_QUEUE_MAX_DEPTH(
+      MetricEmittingApps.WORKER,
+      "replication_queue_max_depth",
+      "highest number of messages waiting in a replication queue during a sync. tagged by queue."),
+  REPLICATION_QUEUE_PRODUCER_STALL_MILLISECS(
+      MetricEmittingApps.WORKER,
+      "replication_queue_producer_stall_millisecs",
+      "time the stage writing to a replication queue spent waiting for room in it during a sync. tagged by queue.");
 
   private final MetricEmittingApp application;
   private final String metricName;
@@ -87,30 +87,19 @@ public class DefaultJobPersistence implements JobPersistence {
   public static final String METADATA_VAL_COL = "value";
 
   @VisibleForTesting
-  static final String BASE_JOB_SELECT_AND_JOIN =
-      "SELECT\n"
-          + "jobs.id AS job_id,\n"
-          + "jobs.config_type AS config_type,\n"
-          + "jobs.scope AS scope,\n"
-          + "jobs.config AS config,\n"
-          + "jobs.status AS job_status,\n"
-          + "jobs.started_at AS job_started_at,\n"
-          + "jobs.created_at AS job_created_at,\n"
-          + "jobs.updated_at AS job_updated_at,\n"
-          + "attempts.attempt_number AS attempt_number,\n"
-          + "attempts.log_path AS log_path,\n"
-          + "attempts.output AS attempt_output,\n"
-          + "attempts.status AS attempt_status,\n"
-          + "attempts.failure_summary AS attempt_failure_summary,\n"
-          + "attempts.created_at AS attempt_created_at,\n"
-          + "attempts.updated_at AS attempt_updated_at,\n"
-          + "attempts.ended_at AS attempt_ended_at\n"
-          + "FROM jobs LEFT OUTER JOIN attempts ON jobs.id = attempts.job_id ";
+  static final String BASE_JOB_SELECT_AND_JOIN = jobSelectAndJoin("jobs", true);
 
   private static final String AIRBYTE_METADATA_TABLE = "airbyte_metadata";
   public static final String ORDER_BY_JOB_TIME_ATTEMPT_TIME =
       "ORDER BY jobs.created_at DESC, jobs.id DESC, attempts.created_at ASC, attempts.id ASC ";
 
+  // only keeps the sync summary of an attempt output, which is the part of it returned by the api.
+  private static final String ATTEMPT_OUTPUT_SUMMARY =
+      "CASE WHEN attempts.output IS NULL THEN NULL ELSE jsonb_strip_nulls(jsonb_build_object(\n"
+          + "'outputType', attempts.output -> 'outputType',\n"
+          + "'sync', CASE WHEN attempts.output -> 'sync' IS NULL THEN NULL\n"
+          + "ELSE jsonb_build_object('standardSyncSummary', attempts.output -> 'sync' -> 'standardSyncSummary') END)) END";
+
   private final ExceptionWrappingDatabase jobDatabase;
   private final Supplier<Instant> timeSupplier;
 
@@ -348,6 +337,32 @@ public class DefaultJobPersistence implements JobPersistence {
         configId, pagesize, offset)));
   }
 
+  @Override
+  public List<Job> listJobsStartingAfter(final Set<ConfigType> configTypes,
+                                         final String configId,
+                                         final int pagesize,
+                                         final Long startingAfterJobId,
+                                         final boolean includeDetails)
+      throws IOException {
+    // the page is selected from the jobs alone, so that the limit applies to jobs rather than to jobs
+    // joined with their attempts, and it seeks to the start of the page using the
+    // jobs_scope_created_at_id_idx index instead of skipping the jobs of the previous pages.
+    final String pageOfJobs = "(SELECT id, config_type, scope, status, started_at, created_at, updated_at" +
+        (includeDetails ? ", config " : " ") +
+        "FROM jobs WHERE " +
+        "CAST(config_type AS VARCHAR) in " + Sqls.toSqlInFragment(configTypes) + " " +
+        "AND scope = ? " +
+        (startingAfterJobId == null ? "" : "AND (created_at, id) < (SELECT created_at, id FROM jobs WHERE id = ?) ") +
+        "ORDER BY created_at DESC, id DESC " +
+        "LIMIT ?) AS jobs";
+    final Object[] bindings = startingAfterJobId == null
+        ? new Object[] {configId, pagesize}
+        : new Object[] {configId, startingAfterJobId, pagesize};
+    return jobDatabase.query(ctx -> getJobsFromResult(ctx.fetch(
+        jobSelectAndJoin(pageOfJobs, includeDetails) + ORDER_BY_JOB_TIME_ATTEMPT_TIME,
+        bindings)));
+  }
+
   @Override
   public List<Job> listJobsWithStatus(final JobStatus status) throws IOException {
     return listJobsWithStatus(Sets.newHashSet(ConfigType.values()), status);
@@ -432,6 +447,39 @@ public class DefaultJobPersistence implements JobPersistence {
         .flatMap(r -> getJobOptional(ctx, r.get("job_id", Long.class))));
   }
 
+  @Override
+  public List<Job> getLastSyncJobForConnections(final List<UUID> connectionIds) throws IOException {
+    if (connectionIds.isEmpty()) {
+      return List.of();
+    }
+
+    // one query for all the connections: the jobs are ranked per connection and only the first one
+    // of each is kept. only the columns of the jobs table that a job read needs are selected, the
+    // configs and attempts are left out.
+    final String scopePlaceholders = connectionIds.stream().map(connectionId -> "?").collect(Collectors.joining(", ", "(", ")"));
+    final Object[] bindings = Stream.concat(
+        Stream.of(Sqls.toSqlName(ConfigType.SYNC)),
+        connectionIds.stream().map(UUID::toString)).toArray();
+    return jobDatabase.query(ctx -> ctx
+        .fetch("SELECT\n"
+            + "id AS job_id,\n"
+            + "config_type AS config_type,\n"
+            + "scope AS scope,\n"
+            + "NULL AS config,\n"
+            + "status AS job_status,\n"
+            + "started_at AS job_started_at,\n"
+            + "created_at AS job_created_at,\n"
+            + "updated_at AS job_updated_at\n"
+            + "FROM (SELECT id, config_type, scope, status, started_at, created_at, updated_at,\n"
+            + "ROW_NUMBER() OVER (PARTITION BY scope ORDER BY created_at DESC, id DESC) AS job_rank FROM jobs "
+            + "WHERE CAST(config_type AS VARCHAR) = ? AND scope IN " + scopePlaceholders + ") AS ranked_jobs "
+            + "WHERE job_rank = 1 ORDER BY created_at DESC, id DESC",
+            bindings)
+        .stream()
+        .map(DefaultJobPersistence::getJobFromRecord)
+        .collect(Collectors.toList()));
+  }
+
   @Override
   public Optional<Job> getNextJob() throws IOException {
     // rules:
@@ -468,11 +516,37 @@ public class DefaultJobPersistence implements JobPersistence {
   }
 
   // Retrieves only Job information from the record, without any attempt info
+  /**
+   * @param jobsTable jobs table, or a subquery of it aliased as jobs
+   * @param includeDetails if false, the job configs are left out and the attempt outputs only keep
+   *        their sync summary
+   */
+  private static String jobSelectAndJoin(final String jobsTable, final boolean includeDetails) {
+    return "SELECT\n"
+        + "jobs.id AS job_id,\n"
+        + "jobs.config_type AS config_type,\n"
+        + "jobs.scope AS scope,\n"
+        + (includeDetails ? "jobs.config AS config,\n" : "NULL AS config,\n")
+        + "jobs.status AS job_status,\n"
+        + "jobs.started_at AS job_started_at,\n"
+        + "jobs.created_at AS job_created_at,\n"
+        + "jobs.updated_at AS job_updated_at,\n"
+        + "attempts.attempt_number AS attempt_number,\n"
+        + "attempts.log_path AS log_path,\n"
+        + (includeDetails ? "attempts.output" : ATTEMPT_OUTPUT_SUMMARY) + " AS attempt_output,\n"
+        + "attempts.status AS attempt_status,\n"
+        + "attempts.failure_summary AS attempt_failure_summary,\n"
+        + "attempts.created_at AS attempt_created_at,\n"
+        + "attempts.updated_at AS attempt_updated_at,\n"
+        + "attempts.ended_at AS attempt_ended_at\n"
+        + "FROM " + jobsTable + " LEFT OUTER JOIN attempts ON jobs.id = attempts.job_id ";
+  }
+
   private static Job getJobFromRecord(final Record record) {
     return new Job(record.get("job_id", Long.class),
         Enums.toEnum(record.get("config_type", String.class), ConfigType.class).orElseThrow(),
         record.get("scope", String.class),
-        Jsons.deserialize(record.get("config", String.class), JobConfig.class),
+        record.get("config", String.class) == null ? null : Jsons.deserialize(record.get("config", String.class), JobConfig.class),
         new ArrayList<Attempt>(),
         JobStatus.valueOf(record.get("job_status", String.class).toUpperCase()),
         Optional.ofNullable(record.get("job_started_at")).map(value -> getEpoch(record, "started_at")).orElse(null),
@@ -145,6 +145,24 @@ public interface JobPersistence {
    */
   List<Job> listJobs(Set<JobConfig.ConfigType> configTypes, String configId, int limit, int offset) throws IOException;
 
+  /**
+   * Same as {@link #listJobs(Set, String, int, int)}, but seeks to the start of the page with the
+   * creation time and id of the last job of the previous page, so that deep pages are as fast to
+   * read as the first one.
+   *
+   * @param startingAfterJobId id of the last job of the previous page, null for the first page
+   * @param includeDetails if false, the jobs have no config and the outputs of their attempts only
+   *        contain the sync summary, which is much smaller than the full outputs
+   * @return jobs in the same order as {@link #listJobs(Set, String, int, int)}
+   * @throws IOException if there is an issue while interacting with the db.
+   */
+  List<Job> listJobsStartingAfter(Set<JobConfig.ConfigType> configTypes,
+                                  String configId,
+                                  int pagesize,
+                                  Long startingAfterJobId,
+                                  boolean includeDetails)
+      throws IOException;
+
   /**
    * @param configType The type of job
    * @param attemptEndedAtTimestamp The timestamp after which you want the jobs
@@ -181,6 +199,15 @@ public interface JobPersistence {
 
   Optional<Job> getFirstReplicationJob(UUID connectionId) throws IOException;
 
+  /**
+   * @param connectionIds ids of the connections to get the sync jobs of
+   * @return most recently created sync job of each connection, connections without sync jobs are
+   *         left out. Jobs are ordered the same way as {@link #listJobs}. They are read without their
+   *         config and attempts.
+   * @throws IOException if there is an issue while interacting with the db.
+   */
+  List<Job> getLastSyncJobForConnections(List<UUID> connectionIds) throws IOException;
+
   Optional<Job> getNextJob() throws IOException;
 
   /**
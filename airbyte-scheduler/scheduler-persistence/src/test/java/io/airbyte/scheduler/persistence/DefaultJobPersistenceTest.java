@@ -11,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -30,6 +31,11 @@ import io.airbyte.config.JobConfig.ConfigType;
 import io.airbyte.config.JobGetSpecConfig;
 import io.airbyte.config.JobOutput;
 import io.airbyte.config.JobSyncConfig;
+import io.airbyte.config.ReplicationStatus;
+import io.airbyte.config.StandardSyncOutput;
+import io.airbyte.config.StandardSyncSummary;
+import io.airbyte.config.State;
+import io.airbyte.config.SyncStats;
 import io.airbyte.db.Database;
 import io.airbyte.db.factory.DSLContextFactory;
 import io.airbyte.db.factory.DataSourceFactory;
@@ -800,6 +806,44 @@ class DefaultJobPersistenceTest {
 
   }
 
+  @Nested
+  @DisplayName("When getting the last sync job of several connections")
+  class GetLastSyncJobForConnections {
+
+    @Test
+    @DisplayName("Should return nothing if no connection is given")
+    public void testGetLastSyncJobForConnectionsEmpty() throws IOException {
+      assertEquals(Collections.emptyList(), jobPersistence.getLastSyncJobForConnections(Collections.emptyList()));
+    }
+
+    @Test
+    @DisplayName("Should return the last enqueued sync job of each connection")
+    public void testGetLastSyncJobForConnections() throws IOException {
+      final UUID connectionId2 = UUID.randomUUID();
+      final UUID connectionIdWithoutJobs = UUID.randomUUID();
+      final long jobId1 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.succeedAttempt(jobId1, jobPersistence.createAttempt(jobId1, LOG_PATH));
+      final long jobId2 = jobPersistence.enqueueJob(connectionId2.toString(), SYNC_JOB_CONFIG).orElseThrow();
+
+      final Instant afterNow = NOW.plusSeconds(1000);
+      when(timeSupplier.get()).thenReturn(afterNow);
+      final long jobId3 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      // jobs of other types are ignored.
+      jobPersistence.enqueueJob(connectionId2.toString(), CHECK_JOB_CONFIG).orElseThrow();
+
+      final List<Job> actual = jobPersistence.getLastSyncJobForConnections(List.of(CONNECTION_ID, connectionId2, connectionIdWithoutJobs));
+      // the jobs are read without their config and attempts.
+      final List<Job> expected = List.of(
+          new Job(jobId3, ConfigType.SYNC, SCOPE, null, Collections.emptyList(), JobStatus.PENDING, null, afterNow.getEpochSecond(),
+              afterNow.getEpochSecond()),
+          new Job(jobId2, ConfigType.SYNC, connectionId2.toString(), null, Collections.emptyList(), JobStatus.PENDING, null, NOW.getEpochSecond(),
+              NOW.getEpochSecond()));
+
+      assertEquals(expected, actual);
+    }
+
+  }
+
   @Nested
   @DisplayName("When getting last replication job")
   class GetLastReplicationJob {
@@ -1104,6 +1148,83 @@ class DefaultJobPersistenceTest {
 
   }
 
+  @Nested
+  @DisplayName("When listing jobs starting after a given job")
+  class ListJobsStartingAfter {
+
+    @Test
+    @DisplayName("Should return each job once when reading all the pages")
+    public void testListJobsStartingAfterByPage() throws IOException {
+      final List<Long> ids = new ArrayList<>();
+      for (int i = 0; i < 25; i++) {
+        // same created_at, so the jobs are ordered by id.
+        ids.add(jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow());
+      }
+      Collections.reverse(ids);
+
+      final List<Long> actualIds = new ArrayList<>();
+      Long startingAfterJobId = null;
+      List<Job> page;
+      do {
+        page = jobPersistence.listJobsStartingAfter(Set.of(SPEC_JOB_CONFIG.getConfigType()), SCOPE, 10, startingAfterJobId, true);
+        page.forEach(job -> actualIds.add(job.getId()));
+        startingAfterJobId = page.isEmpty() ? null : page.get(page.size() - 1).getId();
+      } while (page.size() == 10);
+
+      assertEquals(ids, actualIds);
+    }
+
+    @Test
+    @DisplayName("Should limit the number of jobs rather than of attempts")
+    public void testListJobsStartingAfterWithMultipleAttempts() throws IOException {
+      final long jobId1 = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+      jobPersistence.failAttempt(jobId1, jobPersistence.createAttempt(jobId1, LOG_PATH));
+      jobPersistence.failAttempt(jobId1, jobPersistence.createAttempt(jobId1, LOG_PATH));
+      final long jobId2 = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+      jobPersistence.failAttempt(jobId2, jobPersistence.createAttempt(jobId2, LOG_PATH));
+      jobPersistence.failAttempt(jobId2, jobPersistence.createAttempt(jobId2, LOG_PATH));
+
+      final List<Job> actualList = jobPersistence.listJobsStartingAfter(Set.of(SPEC_JOB_CONFIG.getConfigType()), SCOPE, 2, null, true);
+
+      assertEquals(List.of(jobId2, jobId1), actualList.stream().map(Job::getId).toList());
+      assertEquals(2, actualList.get(0).getAttemptsCount());
+      assertEquals(2, actualList.get(1).getAttemptsCount());
+    }
+
+    @Test
+    @DisplayName("Should only read job summaries unless details are requested")
+    public void testListJobsStartingAfterSummaries() throws IOException {
+      final long jobId = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+      final StandardSyncSummary syncSummary = new StandardSyncSummary()
+          .withStatus(ReplicationStatus.COMPLETED)
+          .withRecordsSynced(10L)
+          .withBytesSynced(100L)
+          .withTotalStats(new SyncStats().withRecordsEmitted(10L).withBytesEmitted(100L));
+      final JobOutput jobOutput = new JobOutput()
+          .withOutputType(JobOutput.OutputType.SYNC)
+          .withSync(new StandardSyncOutput()
+              .withStandardSyncSummary(syncSummary)
+              .withState(new State().withState(Jsons.jsonNode(Map.of("cursor", "2022-01-01")))));
+      jobPersistence.writeOutput(jobId, attemptNumber, jobOutput);
+      // an attempt without output.
+      jobPersistence.createAttempt(jobId, LOG_PATH);
+
+      final Job summary = jobPersistence.listJobsStartingAfter(Set.of(ConfigType.SYNC), SCOPE, 10, null, false).get(0);
+      assertNull(summary.getConfig());
+      assertEquals(Optional.of(new JobOutput()
+          .withOutputType(JobOutput.OutputType.SYNC)
+          .withSync(new StandardSyncOutput().withStandardSyncSummary(syncSummary))),
+          summary.getAttempts().get(0).getOutput());
+      assertEquals(Optional.empty(), summary.getAttempts().get(1).getOutput());
+
+      final Job details = jobPersistence.listJobsStartingAfter(Set.of(ConfigType.SYNC), SCOPE, 10, null, true).get(0);
+      assertEquals(SYNC_JOB_CONFIG, details.getConfig());
+      assertEquals(Optional.of(jobOutput), details.getAttempts().get(0).getOutput());
+    }
+
+  }
+
   @Nested
   @DisplayName("When listing job with status")
   class ListJobsWithStatus {
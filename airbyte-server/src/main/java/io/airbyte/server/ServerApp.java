@@ -18,6 +18,7 @@ import io.airbyte.config.EnvConfigs;
 import io.airbyte.config.StandardSync.Status;
 import io.airbyte.config.helpers.LogClientSingleton;
 import io.airbyte.config.init.YamlSeedConfigPersistence;
+import io.airbyte.config.persistence.CachingConfigPersistence;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigPersistence;
 import io.airbyte.config.persistence.ConfigRepository;
@@ -35,6 +36,8 @@ import io.airbyte.db.factory.DatabaseCheckFactory;
 import io.airbyte.db.factory.FlywayFactory;
 import io.airbyte.db.instance.configs.ConfigsDatabaseMigrator;
 import io.airbyte.db.instance.jobs.JobsDatabaseMigrator;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.metrics.lib.MetricEmittingApps;
 import io.airbyte.scheduler.client.DefaultSynchronousSchedulerClient;
 import io.airbyte.scheduler.client.EventRunner;
 import io.airbyte.scheduler.client.TemporalEventRunner;
@@ -170,7 +173,9 @@ public class ServerApp implements ServerRunnable {
         .maskSecrets(!featureFlags.exposeSecretsInExport())
         .copySecrets(false)
         .build();
-    final ConfigPersistence configPersistence = DatabaseConfigPersistence.createWithValidation(configsDatabase, jsonSecretsProcessor);
+    final ConfigPersistence configPersistence = new CachingConfigPersistence(
+        DatabaseConfigPersistence.createWithValidation(configsDatabase, jsonSecretsProcessor),
+        MetricClientFactory.getMetricClient());
     final SecretsHydrator secretsHydrator = SecretPersistence.getSecretsHydrator(configsDslContext, configs);
     final Optional<SecretPersistence> secretPersistence = SecretPersistence.getLongLived(configsDslContext, configs);
     final Optional<SecretPersistence> ephemeralSecretPersistence = SecretPersistence.getEphemeral(configsDslContext, configs);
@@ -255,6 +260,7 @@ public class ServerApp implements ServerRunnable {
   public static void main(final String[] args) throws Exception {
     try {
       final Configs configs = new EnvConfigs();
+      MetricClientFactory.initialize(MetricEmittingApps.SERVER);
 
       // Manual configuration that will be replaced by Dependency Injection in the future
       final DataSource configsDataSource =
@@ -286,6 +286,18 @@ public class DestinationHandler {
     return toDestinationRead(dci, standardDestinationDefinition);
   }
 
+  /**
+   * Same as {@link #buildDestinationRead(UUID)}, for a destination already read with its definition.
+   */
+  DestinationRead buildDestinationRead(final DestinationConnection destinationConnection,
+                                       final StandardDestinationDefinition standardDestinationDefinition) {
+    // remove secrets from config before returning the read
+    final DestinationConnection dci = Jsons.clone(destinationConnection);
+    dci.setConfiguration(secretsProcessor.prepareSecretsForOutput(dci.getConfiguration(),
+        standardDestinationDefinition.getSpec().getConnectionSpecification()));
+    return toDestinationRead(dci, standardDestinationDefinition);
+  }
+
   private DestinationRead buildDestinationReadWithSecrets(final UUID destinationId)
       throws ConfigNotFoundException, IOException, JsonValidationException {
 
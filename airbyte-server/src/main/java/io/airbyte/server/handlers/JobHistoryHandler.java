@@ -15,8 +15,10 @@ import io.airbyte.api.model.generated.JobDebugRead;
 import io.airbyte.api.model.generated.JobIdRequestBody;
 import io.airbyte.api.model.generated.JobInfoRead;
 import io.airbyte.api.model.generated.JobListRequestBody;
+import io.airbyte.api.model.generated.JobRead;
 import io.airbyte.api.model.generated.JobReadList;
 import io.airbyte.api.model.generated.JobWithAttemptsRead;
+import io.airbyte.api.model.generated.Pagination;
 import io.airbyte.api.model.generated.SourceDefinitionIdRequestBody;
 import io.airbyte.api.model.generated.SourceDefinitionRead;
 import io.airbyte.api.model.generated.SourceIdRequestBody;
@@ -34,6 +36,7 @@ import io.airbyte.server.converters.JobConverter;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -80,17 +83,33 @@ public class JobHistoryHandler {
         .collect(Collectors.toSet());
     final String configId = request.getConfigId();
 
-    final List<JobWithAttemptsRead> jobReads = jobPersistence.listJobs(configTypes,
-        configId,
-        (request.getPagination() != null && request.getPagination().getPageSize() != null) ? request.getPagination().getPageSize()
-            : DEFAULT_PAGE_SIZE,
-        (request.getPagination() != null && request.getPagination().getRowOffset() != null) ? request.getPagination().getRowOffset() : 0)
+    final Pagination pagination = request.getPagination() != null ? request.getPagination() : new Pagination();
+    final int pageSize = pagination.getPageSize() != null ? pagination.getPageSize() : DEFAULT_PAGE_SIZE;
+    final List<Job> jobs;
+    if (pagination.getStartingAfterJobId() == null && pagination.getRowOffset() != null && pagination.getRowOffset() > 0) {
+      jobs = jobPersistence.listJobs(configTypes, configId, pageSize, pagination.getRowOffset());
+    } else {
+      // job lists show neither the job configs nor the full attempt outputs, so only summaries are read.
+      jobs = jobPersistence.listJobsStartingAfter(configTypes, configId, pageSize, pagination.getStartingAfterJobId(), false);
+    }
+    final List<JobWithAttemptsRead> jobReads = jobs
         .stream()
         .map(attempt -> jobConverter.getJobWithAttemptsRead(attempt))
         .collect(Collectors.toList());
     return new JobReadList().jobs(jobReads);
   }
 
+  /**
+   * Reads the most recent sync job of each of the given connections at once.
+   *
+   * @return jobs by connection id, connections without sync jobs are left out
+   */
+  public Map<UUID, JobRead> getLatestSyncJobsForConnections(final List<UUID> connectionIds) throws IOException {
+    return jobPersistence.getLastSyncJobForConnections(connectionIds)
+        .stream()
+        .collect(Collectors.toMap(job -> UUID.fromString(job.getScope()), job -> JobConverter.getJobWithAttemptsRead(job).getJob()));
+  }
+
   public JobInfoRead getJobInfo(final JobIdRequestBody jobIdRequestBody) throws IOException {
     final Job job = jobPersistence.getJob(jobIdRequestBody.getId());
     return jobConverter.getJobInfoRead(job);
@@ -32,6 +32,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Supplier;
 
@@ -213,6 +214,25 @@ public class OperationsHandler {
     }
   }
 
+  /**
+   * Same as {@link #listOperationsForConnection(ConnectionIdRequestBody)}, for operations already
+   * read.
+   *
+   * @param operationIds operation ids of the connection
+   * @param operationsById operations of the connection, and possibly of other connections
+   */
+  OperationReadList buildOperationReadList(final List<UUID> operationIds, final Map<UUID, StandardSyncOperation> operationsById) {
+    final List<OperationRead> operationReads = Lists.newArrayList();
+    for (final UUID operationId : operationIds) {
+      final StandardSyncOperation standardSyncOperation = operationsById.get(operationId);
+      if (standardSyncOperation == null || (standardSyncOperation.getTombstone() != null && standardSyncOperation.getTombstone())) {
+        continue;
+      }
+      operationReads.add(buildOperationRead(standardSyncOperation));
+    }
+    return new OperationReadList().operations(operationReads);
+  }
+
   private static OperationRead buildOperationRead(final StandardSyncOperation standardSyncOperation) {
     final OperatorConfiguration operatorConfiguration = new OperatorConfiguration()
         .operatorType(Enums.convertTo(standardSyncOperation.getOperatorType(), io.airbyte.api.model.generated.OperatorType.class));
@@ -15,6 +15,7 @@ import io.airbyte.api.model.generated.SourceReadList;
 import io.airbyte.api.model.generated.SourceSearch;
 import io.airbyte.api.model.generated.SourceUpdate;
 import io.airbyte.api.model.generated.WorkspaceIdRequestBody;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.lang.MoreBooleans;
 import io.airbyte.config.SourceConnection;
 import io.airbyte.config.StandardSourceDefinition;
@@ -250,7 +251,7 @@ public class SourceHandler {
   private SourceRead buildSourceRead(final UUID sourceId, final ConnectorSpecification spec)
       throws ConfigNotFoundException, IOException, JsonValidationException {
     // read configuration from db
-    final SourceConnection sourceConnection = configRepository.getSourceConnection(sourceId);
+    final SourceConnection sourceConnection = Jsons.clone(configRepository.getSourceConnection(sourceId));
     final StandardSourceDefinition standardSourceDefinition = configRepository
         .getStandardSourceDefinition(sourceConnection.getSourceDefinitionId());
     final JsonNode sanitizedConfig = secretsProcessor.prepareSecretsForOutput(sourceConnection.getConfiguration(), spec.getConnectionSpecification());
@@ -258,6 +259,18 @@ public class SourceHandler {
     return toSourceRead(sourceConnection, standardSourceDefinition);
   }
 
+  /**
+   * Same as {@link #buildSourceRead(UUID)}, for a source already read with its definition.
+   */
+  SourceRead buildSourceRead(final SourceConnection sourceConnection, final StandardSourceDefinition standardSourceDefinition) {
+    // remove secrets from a copy of the config, the given source may be shared with other callers.
+    final SourceConnection sanitizedSourceConnection = Jsons.clone(sourceConnection);
+    final JsonNode sanitizedConfig = secretsProcessor.prepareSecretsForOutput(sanitizedSourceConnection.getConfiguration(),
+        standardSourceDefinition.getSpec().getConnectionSpecification());
+    sanitizedSourceConnection.setConfiguration(sanitizedConfig);
+    return toSourceRead(sanitizedSourceConnection, standardSourceDefinition);
+  }
+
   private SourceRead buildSourceReadWithSecrets(final UUID sourceId)
       throws ConfigNotFoundException, IOException, JsonValidationException {
     // read configuration from db
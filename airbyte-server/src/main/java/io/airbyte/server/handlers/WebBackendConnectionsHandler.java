@@ -45,19 +45,25 @@ import io.airbyte.api.model.generated.WebBackendWorkspaceStateResult;
 import io.airbyte.api.model.generated.WorkspaceIdRequestBody;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.lang.MoreBooleans;
+import io.airbyte.config.ConfigSchema;
+import io.airbyte.config.StandardSyncOperation;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.config.persistence.ConfigRepository.DestinationAndDefinition;
+import io.airbyte.config.persistence.ConfigRepository.SourceAndDefinition;
 import io.airbyte.scheduler.client.EventRunner;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -90,20 +96,65 @@ public class WebBackendConnectionsHandler {
 
   public WebBackendConnectionReadList webBackendListConnectionsForWorkspace(final WorkspaceIdRequestBody workspaceIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
-
-    final List<WebBackendConnectionRead> reads = Lists.newArrayList();
-    for (final ConnectionRead connection : connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody).getConnections()) {
-      reads.add(buildWebBackendConnectionRead(connection));
-    }
-    return new WebBackendConnectionReadList().connections(reads);
+    return buildWebBackendConnectionReadList(connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody).getConnections());
   }
 
   public WebBackendConnectionReadList webBackendListAllConnectionsForWorkspace(final WorkspaceIdRequestBody workspaceIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
+    return buildWebBackendConnectionReadList(connectionsHandler.listAllConnectionsForWorkspace(workspaceIdRequestBody).getConnections());
+  }
+
+  /**
+   * Builds the reads of many connections at once: their sources, destinations, operations and latest
+   * sync jobs are each read with a single query, instead of a few queries per connection as in
+   * {@link #buildWebBackendConnectionRead(ConnectionRead)}.
+   */
+  private WebBackendConnectionReadList buildWebBackendConnectionReadList(final List<ConnectionRead> connectionReads)
+      throws ConfigNotFoundException, IOException {
+    final Map<UUID, SourceRead> sourceReadsById = new HashMap<>();
+    for (final SourceAndDefinition sourceAndDefinition : configRepository.listSourcesWithDefinitions(
+        connectionReads.stream().map(ConnectionRead::getSourceId).collect(Collectors.toSet()))) {
+      sourceReadsById.put(sourceAndDefinition.source().getSourceId(),
+          sourceHandler.buildSourceRead(sourceAndDefinition.source(), sourceAndDefinition.definition()));
+    }
+
+    final Map<UUID, DestinationRead> destinationReadsById = new HashMap<>();
+    for (final DestinationAndDefinition destinationAndDefinition : configRepository.listDestinationsWithDefinitions(
+        connectionReads.stream().map(ConnectionRead::getDestinationId).collect(Collectors.toSet()))) {
+      destinationReadsById.put(destinationAndDefinition.destination().getDestinationId(),
+          destinationHandler.buildDestinationRead(destinationAndDefinition.destination(), destinationAndDefinition.definition()));
+    }
+
+    final Map<UUID, StandardSyncOperation> operationsById = configRepository.listStandardSyncOperations(
+        connectionReads.stream().flatMap(connectionRead -> connectionRead.getOperationIds().stream()).collect(Collectors.toSet()))
+        .stream()
+        .collect(toMap(StandardSyncOperation::getOperationId, operation -> operation));
+
+    final Map<UUID, JobRead> latestSyncJobsByConnectionId = jobHistoryHandler.getLatestSyncJobsForConnections(
+        connectionReads.stream().map(ConnectionRead::getConnectionId).collect(Collectors.toList()));
 
     final List<WebBackendConnectionRead> reads = Lists.newArrayList();
-    for (final ConnectionRead connection : connectionsHandler.listAllConnectionsForWorkspace(workspaceIdRequestBody).getConnections()) {
-      reads.add(buildWebBackendConnectionRead(connection));
+    for (final ConnectionRead connectionRead : connectionReads) {
+      final SourceRead source = sourceReadsById.get(connectionRead.getSourceId());
+      if (source == null) {
+        throw new ConfigNotFoundException(ConfigSchema.SOURCE_CONNECTION, connectionRead.getSourceId().toString());
+      }
+      final DestinationRead destination = destinationReadsById.get(connectionRead.getDestinationId());
+      if (destination == null) {
+        throw new ConfigNotFoundException(ConfigSchema.DESTINATION_CONNECTION, connectionRead.getDestinationId().toString());
+      }
+      final OperationReadList operations = operationsHandler.buildOperationReadList(connectionRead.getOperationIds(), operationsById);
+      final WebBackendConnectionRead webBackendConnectionRead = getWebBackendConnectionRead(connectionRead, source, destination, operations);
+
+      // a connection runs one sync at a time, so it is syncing if and only if its latest sync job is.
+      final JobRead latestSyncJob = latestSyncJobsByConnectionId.get(connectionRead.getConnectionId());
+      webBackendConnectionRead.setIsSyncing(latestSyncJob != null && !TERMINAL_STATUSES.contains(latestSyncJob.getStatus()));
+      if (latestSyncJob != null) {
+        webBackendConnectionRead.setLatestSyncJobCreatedAt(latestSyncJob.getCreatedAt());
+        webBackendConnectionRead.setLatestSyncJobStatus(latestSyncJob.getStatus());
+      }
+      webBackendConnectionRead.setCatalogId(connectionRead.getSourceCatalogId());
+      reads.add(webBackendConnectionRead);
     }
     return new WebBackendConnectionReadList().connections(reads);
   }
@@ -146,7 +146,7 @@ public class JobHistoryHandlerTest {
           new Job(jobId2, JOB_CONFIG.getConfigType(), JOB_CONFIG_ID, JOB_CONFIG, Collections.emptyList(), JobStatus.PENDING,
               null, createdAt2, createdAt2);
 
-      when(jobPersistence.listJobs(Set.of(Enums.convertTo(CONFIG_TYPE_FOR_API, ConfigType.class)), JOB_CONFIG_ID, pagesize, rowOffset))
+      when(jobPersistence.listJobsStartingAfter(Set.of(Enums.convertTo(CONFIG_TYPE_FOR_API, ConfigType.class)), JOB_CONFIG_ID, pagesize, null, false))
           .thenReturn(List.of(latestJobNoAttempt, successfulJob));
 
       final var requestBody = new JobListRequestBody()
@@ -186,7 +186,8 @@ public class JobHistoryHandlerTest {
       final var latestJob =
           new Job(latestJobId, ConfigType.SYNC, JOB_CONFIG_ID, JOB_CONFIG, Collections.emptyList(), JobStatus.PENDING, null, createdAt3, createdAt3);
 
-      when(jobPersistence.listJobs(configTypes, JOB_CONFIG_ID, pagesize, rowOffset)).thenReturn(List.of(latestJob, secondJob, firstJob));
+      when(jobPersistence.listJobsStartingAfter(configTypes, JOB_CONFIG_ID, pagesize, null, false))
+          .thenReturn(List.of(latestJob, secondJob, firstJob));
 
       final JobListRequestBody requestBody = new JobListRequestBody()
           .configTypes(List.of(CONFIG_TYPE_FOR_API, JobConfigType.SYNC, JobConfigType.DISCOVER_SCHEMA))
@@ -205,6 +206,44 @@ public class JobHistoryHandlerTest {
       assertEquals(expectedJobReadList, jobReadList);
     }
 
+    @Test
+    @DisplayName("Should return the jobs after the given one")
+    public void testListJobsStartingAfter() throws IOException {
+      final int pagesize = 25;
+      final long startingAfterJobId = JOB_ID + 100;
+      when(jobPersistence.listJobsStartingAfter(Set.of(Enums.convertTo(CONFIG_TYPE_FOR_API, ConfigType.class)), JOB_CONFIG_ID, pagesize,
+          startingAfterJobId, false))
+              .thenReturn(List.of(testJob));
+
+      final var requestBody = new JobListRequestBody()
+          .configTypes(Collections.singletonList(CONFIG_TYPE_FOR_API))
+          .configId(JOB_CONFIG_ID)
+          // the row offset is ignored when a job to start after is given.
+          .pagination(new Pagination().pageSize(pagesize).rowOffset(50).startingAfterJobId(startingAfterJobId));
+      final var jobReadList = jobHistoryHandler.listJobsFor(requestBody);
+
+      final var expectedJobReadList = new JobReadList().jobs(List.of(
+          new JobWithAttemptsRead().job(toJobInfo(testJob)).attempts(ImmutableList.of(toAttemptRead(testJobAttempt)))));
+      assertEquals(expectedJobReadList, jobReadList);
+    }
+
+    @Test
+    @DisplayName("Should skip rows when a row offset is given")
+    public void testListJobsWithRowOffset() throws IOException {
+      final int pagesize = 25;
+      final int rowOffset = 50;
+      when(jobPersistence.listJobs(Set.of(Enums.convertTo(CONFIG_TYPE_FOR_API, ConfigType.class)), JOB_CONFIG_ID, pagesize, rowOffset))
+          .thenReturn(List.of(testJob));
+
+      final var requestBody = new JobListRequestBody()
+          .configTypes(Collections.singletonList(CONFIG_TYPE_FOR_API))
+          .configId(JOB_CONFIG_ID)
+          .pagination(new Pagination().pageSize(pagesize).rowOffset(rowOffset));
+      final var jobReadList = jobHistoryHandler.listJobsFor(requestBody);
+
+      assertEquals(List.of(testJob.getId()), jobReadList.getJobs().stream().map(job -> job.getJob().getId()).toList());
+    }
+
   }
 
   @Test
@@ -23,6 +23,7 @@ import io.airbyte.api.model.generated.OperatorNormalization;
 import io.airbyte.api.model.generated.OperatorNormalization.OptionEnum;
 import io.airbyte.api.model.generated.OperatorType;
 import io.airbyte.commons.enums.Enums;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.OperatorNormalization.Option;
 import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardSyncOperation;
@@ -32,6 +33,7 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -182,6 +184,21 @@ class OperationsHandlerTest {
     assertEquals(generateOperationRead(), actualOperationReadList.getOperations().get(0));
   }
 
+  @Test
+  void testBuildOperationReadList() {
+    final StandardSyncOperation tombstonedOperation = Jsons.clone(standardSyncOperation)
+        .withOperationId(UUID.randomUUID())
+        .withTombstone(true);
+    final Map<UUID, StandardSyncOperation> operationsById = Map.of(
+        standardSyncOperation.getOperationId(), standardSyncOperation,
+        tombstonedOperation.getOperationId(), tombstonedOperation);
+
+    final OperationReadList actualOperationReadList = operationsHandler.buildOperationReadList(
+        List.of(standardSyncOperation.getOperationId(), tombstonedOperation.getOperationId()), operationsById);
+
+    assertEquals(List.of(generateOperationRead()), actualOperationReadList.getOperations());
+  }
+
   @Test
   void testDeleteOperation() throws IOException {
     final OperationIdRequestBody operationIdRequestBody = new OperationIdRequestBody().operationId(standardSyncOperation.getOperationId());
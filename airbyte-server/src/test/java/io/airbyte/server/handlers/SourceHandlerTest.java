@@ -43,6 +43,7 @@ import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
@@ -266,6 +267,19 @@ class SourceHandlerTest {
         sourceDefinitionSpecificationRead.getConnectionSpecification());
   }
 
+  @Test
+  void testBuildSourceReadDoesNotModifyTheSource() {
+    final JsonNode originalConfiguration = Jsons.clone(sourceConnection.getConfiguration());
+    final JsonNode sanitizedConfiguration = Jsons.jsonNode(Map.of("api_key", "**********"));
+    when(secretsProcessor.prepareSecretsForOutput(sourceConnection.getConfiguration(), connectorSpecification.getConnectionSpecification()))
+        .thenReturn(sanitizedConfiguration);
+
+    final SourceRead actualSourceRead = sourceHandler.buildSourceRead(sourceConnection, standardSourceDefinition);
+
+    assertEquals(sanitizedConfiguration, actualSourceRead.getConnectionConfiguration());
+    assertEquals(originalConfiguration, sourceConnection.getConfiguration());
+  }
+
   @Test
   void testSearchSources() throws JsonValidationException, ConfigNotFoundException, IOException {
     final SourceRead expectedSourceRead = SourceHelpers.getSourceRead(sourceConnection, standardSourceDefinition);
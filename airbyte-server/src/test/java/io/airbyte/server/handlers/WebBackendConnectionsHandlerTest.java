@@ -6,6 +6,8 @@ package io.airbyte.server.handlers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.inOrder;
@@ -65,8 +67,11 @@ import io.airbyte.config.SourceConnection;
 import io.airbyte.config.StandardDestinationDefinition;
 import io.airbyte.config.StandardSourceDefinition;
 import io.airbyte.config.StandardSync;
+import io.airbyte.config.StandardSyncOperation;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.config.persistence.ConfigRepository.DestinationAndDefinition;
+import io.airbyte.config.persistence.ConfigRepository.SourceAndDefinition;
 import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.Field;
 import io.airbyte.protocol.models.JsonSchemaType;
@@ -81,9 +86,11 @@ import io.airbyte.workers.helper.ConnectionHelper;
 import java.io.IOException;
 import java.lang.reflect.Method;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -95,12 +102,16 @@ class WebBackendConnectionsHandlerTest {
 
   private ConnectionsHandler connectionsHandler;
   private OperationsHandler operationsHandler;
+  private SourceHandler sourceHandler;
+  private DestinationHandler destinationHandler;
+  private JobHistoryHandler jobHistoryHandler;
   private SchedulerHandler schedulerHandler;
   private WebBackendConnectionsHandler wbHandler;
 
   private SourceRead sourceRead;
   private ConnectionRead connectionRead;
   private OperationReadList operationReadList;
+  private StandardSyncOperation operation;
   private WebBackendConnectionRead expected;
   private WebBackendConnectionRead expectedWithNewSchema;
   private EventRunner eventRunner;
@@ -111,9 +122,9 @@ class WebBackendConnectionsHandlerTest {
   public void setup() throws IOException, JsonValidationException, ConfigNotFoundException {
     connectionsHandler = mock(ConnectionsHandler.class);
     operationsHandler = mock(OperationsHandler.class);
-    final SourceHandler sourceHandler = mock(SourceHandler.class);
-    final DestinationHandler destinationHandler = mock(DestinationHandler.class);
-    final JobHistoryHandler jobHistoryHandler = mock(JobHistoryHandler.class);
+    sourceHandler = mock(SourceHandler.class);
+    destinationHandler = mock(DestinationHandler.class);
+    jobHistoryHandler = mock(JobHistoryHandler.class);
     configRepository = mock(ConfigRepository.class);
     schedulerHandler = mock(SchedulerHandler.class);
     eventRunner = mock(EventRunner.class);
@@ -141,6 +152,9 @@ class WebBackendConnectionsHandlerTest {
         .operations(List.of(new OperationRead()
             .operationId(connectionRead.getOperationIds().get(0))
             .name("Test Operation")));
+    operation = new StandardSyncOperation()
+        .withOperationId(connectionRead.getOperationIds().get(0))
+        .withName("Test Operation");
 
     final SourceIdRequestBody sourceIdRequestBody = new SourceIdRequestBody();
     sourceIdRequestBody.setSourceId(connectionRead.getSourceId());
@@ -175,6 +189,21 @@ class WebBackendConnectionsHandlerTest {
     jobListRequestBody.setConfigId(connectionRead.getConnectionId().toString());
     when(jobHistoryHandler.listJobsFor(jobListRequestBody)).thenReturn(jobReadList);
 
+    // connection lists read everything in bulk.
+    when(configRepository.listSourcesWithDefinitions(any()))
+        .thenReturn(List.of(new SourceAndDefinition(source, standardSourceDefinition)));
+    when(sourceHandler.buildSourceRead(source, standardSourceDefinition)).thenReturn(sourceRead);
+    final DestinationConnection connectionDestination = DestinationHelpers.generateDestination(UUID.randomUUID())
+        .withDestinationId(connectionRead.getDestinationId());
+    when(configRepository.listDestinationsWithDefinitions(any()))
+        .thenReturn(List.of(new DestinationAndDefinition(connectionDestination, destinationDefinition)));
+    when(destinationHandler.buildDestinationRead(connectionDestination, destinationDefinition)).thenReturn(destinationRead);
+    when(configRepository.listStandardSyncOperations(any())).thenReturn(List.of(operation));
+    when(operationsHandler.buildOperationReadList(connectionRead.getOperationIds(), Map.of(operation.getOperationId(), operation)))
+        .thenReturn(operationReadList);
+    when(jobHistoryHandler.getLatestSyncJobsForConnections(List.of(connectionRead.getConnectionId())))
+        .thenReturn(Map.of(connectionRead.getConnectionId(), jobRead.getJob()));
+
     expected = new WebBackendConnectionRead()
         .connectionId(connectionRead.getConnectionId())
         .sourceId(connectionRead.getSourceId())
@@ -270,14 +299,14 @@ class WebBackendConnectionsHandlerTest {
 
     final ConnectionReadList connectionReadList = new ConnectionReadList();
     connectionReadList.setConnections(Collections.singletonList(connectionRead));
-    final ConnectionIdRequestBody connectionIdRequestBody = new ConnectionIdRequestBody();
-    connectionIdRequestBody.setConnectionId(connectionRead.getConnectionId());
     when(connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody)).thenReturn(connectionReadList);
-    when(operationsHandler.listOperationsForConnection(connectionIdRequestBody)).thenReturn(operationReadList);
 
     final WebBackendConnectionReadList WebBackendConnectionReadList = wbHandler.webBackendListConnectionsForWorkspace(workspaceIdRequestBody);
     assertEquals(1, WebBackendConnectionReadList.getConnections().size());
     assertEquals(expected, WebBackendConnectionReadList.getConnections().get(0));
+    verify(sourceHandler, never()).getSource(any());
+    verify(operationsHandler, never()).listOperationsForConnection(any());
+    verify(jobHistoryHandler, never()).listJobsFor(any());
   }
 
   @Test
@@ -287,16 +316,91 @@ class WebBackendConnectionsHandlerTest {
 
     final ConnectionReadList connectionReadList = new ConnectionReadList();
     connectionReadList.setConnections(Collections.singletonList(connectionRead));
-    final ConnectionIdRequestBody connectionIdRequestBody = new ConnectionIdRequestBody();
-    connectionIdRequestBody.setConnectionId(connectionRead.getConnectionId());
     when(connectionsHandler.listAllConnectionsForWorkspace(workspaceIdRequestBody)).thenReturn(connectionReadList);
-    when(operationsHandler.listOperationsForConnection(connectionIdRequestBody)).thenReturn(operationReadList);
 
     final WebBackendConnectionReadList WebBackendConnectionReadList = wbHandler.webBackendListAllConnectionsForWorkspace(workspaceIdRequestBody);
     assertEquals(1, WebBackendConnectionReadList.getConnections().size());
     assertEquals(expected, WebBackendConnectionReadList.getConnections().get(0));
   }
 
+  @Test
+  public void testWebBackendListConnectionsForWorkspaceWithRunningSync() throws ConfigNotFoundException, IOException, JsonValidationException {
+    final WorkspaceIdRequestBody workspaceIdRequestBody = new WorkspaceIdRequestBody().workspaceId(sourceRead.getWorkspaceId());
+    when(connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody))
+        .thenReturn(new ConnectionReadList().connections(List.of(connectionRead)));
+    final JobRead runningJob = new JobRead()
+        .configId(connectionRead.getConnectionId().toString())
+        .configType(JobConfigType.SYNC)
+        .id(11L)
+        .status(JobStatus.RUNNING)
+        .createdAt(expected.getLatestSyncJobCreatedAt() + 60);
+    when(jobHistoryHandler.getLatestSyncJobsForConnections(List.of(connectionRead.getConnectionId())))
+        .thenReturn(Map.of(connectionRead.getConnectionId(), runningJob));
+
+    final WebBackendConnectionRead actual = wbHandler.webBackendListConnectionsForWorkspace(workspaceIdRequestBody).getConnections().get(0);
+    assertTrue(actual.getIsSyncing());
+    assertEquals(JobStatus.RUNNING, actual.getLatestSyncJobStatus());
+    assertEquals(runningJob.getCreatedAt(), actual.getLatestSyncJobCreatedAt());
+  }
+
+  @Test
+  public void testWebBackendListConnectionsForWorkspaceWithoutSync() throws ConfigNotFoundException, IOException, JsonValidationException {
+    final WorkspaceIdRequestBody workspaceIdRequestBody = new WorkspaceIdRequestBody().workspaceId(sourceRead.getWorkspaceId());
+    when(connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody))
+        .thenReturn(new ConnectionReadList().connections(List.of(connectionRead)));
+    when(jobHistoryHandler.getLatestSyncJobsForConnections(List.of(connectionRead.getConnectionId()))).thenReturn(Map.of());
+
+    final WebBackendConnectionRead actual = wbHandler.webBackendListConnectionsForWorkspace(workspaceIdRequestBody).getConnections().get(0);
+    assertFalse(actual.getIsSyncing());
+    assertNull(actual.getLatestSyncJobStatus());
+    assertNull(actual.getLatestSyncJobCreatedAt());
+  }
+
+  @Test
+  public void testWebBackendListConnectionsForWorkspaceMissingSource() throws ConfigNotFoundException, IOException, JsonValidationException {
+    final WorkspaceIdRequestBody workspaceIdRequestBody = new WorkspaceIdRequestBody().workspaceId(sourceRead.getWorkspaceId());
+    when(connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody))
+        .thenReturn(new ConnectionReadList().connections(List.of(connectionRead)));
+    when(configRepository.listSourcesWithDefinitions(any())).thenReturn(List.of());
+
+    assertThrows(ConfigNotFoundException.class, () -> wbHandler.webBackendListConnectionsForWorkspace(workspaceIdRequestBody));
+  }
+
+  /**
+   * Fixture for a large workspace: the number of queries to list its connections must not grow with
+   * the number of connections.
+   */
+  @Test
+  public void testWebBackendListConnectionsForLargeWorkspace() throws ConfigNotFoundException, IOException, JsonValidationException {
+    final int connectionCount = 1000;
+    final WorkspaceIdRequestBody workspaceIdRequestBody = new WorkspaceIdRequestBody().workspaceId(sourceRead.getWorkspaceId());
+    final List<ConnectionRead> connectionReads = new ArrayList<>();
+    for (int i = 0; i < connectionCount; i++) {
+      connectionReads.add(ConnectionHelpers.generateExpectedConnectionRead(
+          ConnectionHelpers.generateSyncWithSourceId(connectionRead.getSourceId())
+              .withConnectionId(UUID.randomUUID())
+              .withDestinationId(connectionRead.getDestinationId())
+              .withOperationIds(connectionRead.getOperationIds())));
+    }
+    when(connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody)).thenReturn(new ConnectionReadList().connections(connectionReads));
+    when(jobHistoryHandler.getLatestSyncJobsForConnections(any())).thenReturn(Map.of());
+
+    final List<WebBackendConnectionRead> actual = wbHandler.webBackendListConnectionsForWorkspace(workspaceIdRequestBody).getConnections();
+
+    assertEquals(connectionCount, actual.size());
+    for (int i = 0; i < connectionCount; i++) {
+      assertEquals(connectionReads.get(i).getConnectionId(), actual.get(i).getConnectionId());
+      assertEquals(sourceRead, actual.get(i).getSource());
+    }
+    verify(configRepository, times(1)).listSourcesWithDefinitions(Set.of(connectionRead.getSourceId()));
+    verify(configRepository, times(1)).listDestinationsWithDefinitions(Set.of(connectionRead.getDestinationId()));
+    verify(configRepository, times(1)).listStandardSyncOperations(Set.copyOf(connectionRead.getOperationIds()));
+    verify(jobHistoryHandler, times(1))
+        .getLatestSyncJobsForConnections(connectionReads.stream().map(ConnectionRead::getConnectionId).collect(Collectors.toList()));
+    verify(sourceHandler, times(1)).buildSourceRead(any(), any());
+    verify(destinationHandler, times(1)).buildDestinationRead(any(), any());
+  }
+
   @Test
   public void testWebBackendSearchConnections() throws ConfigNotFoundException, IOException, JsonValidationException {
     final ConnectionReadList connectionReadList = new ConnectionReadList();
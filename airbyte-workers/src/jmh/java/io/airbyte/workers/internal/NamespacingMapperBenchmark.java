@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares mapping a record by cloning the whole message, which is what {@link NamespacingMapper}
+ * used to do, with the current envelope-only mapping.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class NamespacingMapperBenchmark {
+
+  private static final String NAMESPACE = "source_namespace";
+  private static final String STREAM_NAME = "user_preferences";
+  private static final String PREFIX = "output_";
+  private static final int FIELD_SIZE = 100;
+
+  @Param({"1024", "51200"})
+  public int recordSizeBytes;
+
+  private NamespacingMapper mapper;
+  private AirbyteMessage message;
+
+  @Setup
+  public void setup() {
+    final ConfiguredAirbyteCatalog catalog = CatalogHelpers.createConfiguredAirbyteCatalog(STREAM_NAME, NAMESPACE,
+        Field.of("field_0", JsonSchemaType.STRING));
+    mapper = new NamespacingMapper(NamespaceDefinitionType.CUSTOMFORMAT, "${SOURCE_NAMESPACE}_destination", PREFIX, catalog);
+
+    final ObjectNode data = (ObjectNode) Jsons.emptyObject();
+    final String value = "x".repeat(FIELD_SIZE);
+    for (int i = 0; i < recordSizeBytes / FIELD_SIZE; i++) {
+      data.put("field_" + i, value);
+    }
+    message = new AirbyteMessage()
+        .withType(Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withNamespace(NAMESPACE)
+            .withStream(STREAM_NAME)
+            .withEmittedAt(System.currentTimeMillis())
+            .withData(data));
+  }
+
+  @Benchmark
+  public AirbyteMessage cloneMapping() {
+    final AirbyteMessage mapped = Jsons.clone(message);
+    mapped.getRecord().withNamespace(NAMESPACE + "_destination");
+    mapped.getRecord().setStream(PREFIX + mapped.getRecord().getStream());
+    return mapped;
+  }
+
+  @Benchmark
+  public AirbyteMessage envelopeMapping() {
+    return mapper.mapMessage(message);
+  }
+
+}
@@ -6,67 +6,96 @@ package io.airbyte.workers;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import com.networknt.schema.ValidationMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.validation.json.JsonSchemaValidator;
-import io.airbyte.validation.json.JsonValidationException;
 import io.airbyte.workers.exception.RecordSchemaValidationException;
+import io.airbyte.workers.internal.RawRecordData;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Validates that AirbyteRecordMessage data conforms to the JSON schema defined by the source's
- * configured catalog
+ * configured catalog. Each stream's schema is compiled once, when the validator is created, so
+ * validating a record does not recompile or mutate the schema.
+ *
+ * Validation can be sampled: with a sample rate of N, only every Nth record of each stream is
+ * validated. Counters of how many records were validated, and how long it took, are kept per stream.
+ * This class is not thread-safe; it is meant to be used by the single replication thread.
  */
-
 public class RecordSchemaValidator {
 
-  private final Map<String, JsonNode> streams;
-  private static final Logger LOGGER = LoggerFactory.getLogger(RecordSchemaValidator.class);
+  // We must choose a JSON validator version for validating the schema
+  // Rather than allowing connectors to use any version, we enforce validation using V7
+  private static final String JSON_SCHEMA_VERSION = "http://json-schema.org/draft-07/schema#";
+
+  private final JsonSchemaValidator validator;
+  private final int sampleRate;
+  // streams is Map of a stream source namespace + name mapped to the stream stats. it is fixed once
+  // the validator is built, as is the set of compiled schemas.
+  private final Map<String, StreamValidationStats> streams;
 
   public RecordSchemaValidator(final Map<String, JsonNode> streamNamesToSchemas) {
-    // streams is Map of a stream source namespace + name mapped to the stream schema
-    // for easy access when we check each record's schema
-    this.streams = streamNamesToSchemas;
+    this(streamNamesToSchemas, 1);
+  }
+
+  public RecordSchemaValidator(final Map<String, JsonNode> streamNamesToSchemas, final int sampleRate) {
+    this(new JsonSchemaValidator(), streamNamesToSchemas, sampleRate);
+  }
+
+  @VisibleForTesting
+  RecordSchemaValidator(final JsonSchemaValidator validator, final Map<String, JsonNode> streamNamesToSchemas, final int sampleRate) {
+    this.validator = validator;
+    this.sampleRate = Math.max(1, sampleRate);
+
+    final ImmutableMap.Builder<String, StreamValidationStats> streamsBuilder = ImmutableMap.builder();
+    streamNamesToSchemas.forEach((stream, schema) -> {
+      // copy the schema so that the catalog handed to the source and destination is left untouched.
+      final ObjectNode schemaWithVersion = ((ObjectNode) schema).deepCopy();
+      schemaWithVersion.put("$schema", JSON_SCHEMA_VERSION);
+      validator.initializeSchemaValidator(stream, schemaWithVersion);
+      streamsBuilder.put(stream, new StreamValidationStats());
+    });
+    this.streams = streamsBuilder.build();
   }
 
   /**
    * Takes an AirbyteRecordMessage and uses the JsonSchemaValidator to validate that its data conforms
-   * to the stream's schema If it does not, this method throws a RecordSchemaValidationException
+   * to the stream's schema If it does not, this method throws a RecordSchemaValidationException.
+   * Records skipped by sampling are never reported as invalid.
    *
    * @param message
    * @throws RecordSchemaValidationException
    */
   public void validateSchema(final AirbyteRecordMessage message, final String messageStream) throws RecordSchemaValidationException {
-    final JsonNode messageData = message.getData();
-    final JsonNode matchingSchema = streams.get(messageStream);
-
-    final JsonSchemaValidator validator = new JsonSchemaValidator();
+    final StreamValidationStats stats = streams.get(messageStream);
+    if (stats == null) {
+      throw new RecordSchemaValidationException(Set.of(String.format("Stream %s is not part of the configured catalog", messageStream)),
+          String.format("Record schema validation failed for %s", messageStream));
+    }
 
-    // We must choose a JSON validator version for validating the schema
-    // Rather than allowing connectors to use any version, we enforce validation using V7
-    ((ObjectNode) matchingSchema).put("$schema", "http://json-schema.org/draft-07/schema#");
+    if (stats.recordsSeen++ % sampleRate != 0) {
+      return;
+    }
 
-    try {
-      validator.ensure(matchingSchema, messageData);
-    } catch (final JsonValidationException e) {
-      final List<String[]> invalidRecordDataAndType = validator.getValidationMessageArgs(matchingSchema, messageData);
-      final List<String> invalidFields = validator.getValidationMessagePaths(matchingSchema, messageData);
+    final JsonNode messageData = RawRecordData.materialize(message.getData());
+    final long start = System.nanoTime();
+    final Set<ValidationMessage> validationMessages = validator.validateInitializedSchema(messageStream, messageData);
+    stats.validationTimeNanos += System.nanoTime() - start;
+    stats.recordsValidated++;
 
+    if (!validationMessages.isEmpty()) {
       final Set<String> validationMessagesToDisplay = new HashSet<>();
-      for (int i = 0; i < invalidFields.size(); i++) {
-        final StringBuilder expectedType = new StringBuilder();
-        if (invalidRecordDataAndType.size() > i && invalidRecordDataAndType.get(i).length > 1) {
-          expectedType.append(invalidRecordDataAndType.get(i)[1]);
-        }
+      for (final ValidationMessage validationMessage : validationMessages) {
+        final String[] invalidRecordDataAndType = validationMessage.getArguments();
         final StringBuilder newMessage = new StringBuilder();
-        newMessage.append(invalidFields.get(i));
+        newMessage.append(validationMessage.getPath());
         newMessage.append(" is of an incorrect type.");
-        if (expectedType.length() > 0) {
-          newMessage.append(" Expected it to be " + expectedType);
+        if (invalidRecordDataAndType != null && invalidRecordDataAndType.length > 1) {
+          newMessage.append(" Expected it to be " + invalidRecordDataAndType[1]);
         }
         validationMessagesToDisplay.add(newMessage.toString());
       }
@@ -76,4 +105,46 @@ public class RecordSchemaValidator {
     }
   }
 
+  public int getSampleRate() {
+    return sampleRate;
+  }
+
+  /**
+   * @return validation counters keyed by stream namespace + name.
+   */
+  public Map<String, StreamValidationStats> getStreamValidationStats() {
+    return streams;
+  }
+
+  public long getTotalRecordsValidated() {
+    return streams.values().stream().mapToLong(StreamValidationStats::getRecordsValidated).sum();
+  }
+
+  public long getTotalValidationTimeNanos() {
+    return streams.values().stream().mapToLong(StreamValidationStats::getValidationTimeNanos).sum();
+  }
+
+  /**
+   * Per stream validation counters.
+   */
+  public static class StreamValidationStats {
+
+    private long recordsSeen;
+    private long recordsValidated;
+    private long validationTimeNanos;
+
+    public long getRecordsSeen() {
+      return recordsSeen;
+    }
+
+    public long getRecordsValidated() {
+      return recordsValidated;
+    }
+
+    public long getValidationTimeNanos() {
+      return validationTimeNanos;
+    }
+
+  }
+
 }
@@ -26,6 +26,7 @@ public class WorkerConfigs {
   private final String jobBusyboxImage;
   private final String jobCurlImage;
   private final Map<String, String> envMap;
+  private final int replicationRecordValidationSampleRate;
 
   /**
    * Constructs a job-type-agnostic WorkerConfigs. For WorkerConfigs customized for specific
@@ -48,7 +49,8 @@ public class WorkerConfigs {
         configs.getJobKubeSocatImage(),
         configs.getJobKubeBusyboxImage(),
         configs.getJobKubeCurlImage(),
-        configs.getJobDefaultEnvMap());
+        configs.getJobDefaultEnvMap(),
+        configs.getReplicationRecordValidationSampleRate());
   }
 
   /**
@@ -79,7 +81,8 @@ public class WorkerConfigs {
         configs.getJobKubeSocatImage(),
         configs.getJobKubeBusyboxImage(),
         configs.getJobKubeCurlImage(),
-        configs.getJobDefaultEnvMap());
+        configs.getJobDefaultEnvMap(),
+        configs.getReplicationRecordValidationSampleRate());
   }
 
   /**
@@ -110,7 +113,8 @@ public class WorkerConfigs {
         configs.getJobKubeSocatImage(),
         configs.getJobKubeBusyboxImage(),
         configs.getJobKubeCurlImage(),
-        configs.getJobDefaultEnvMap());
+        configs.getJobDefaultEnvMap(),
+        configs.getReplicationRecordValidationSampleRate());
   }
 
   /**
@@ -141,7 +145,8 @@ public class WorkerConfigs {
         configs.getJobKubeSocatImage(),
         configs.getJobKubeBusyboxImage(),
         configs.getJobKubeCurlImage(),
-        configs.getJobDefaultEnvMap());
+        configs.getJobDefaultEnvMap(),
+        configs.getReplicationRecordValidationSampleRate());
   }
 
   public static WorkerConfigs buildReplicationWorkerConfigs(final Configs configs) {
@@ -161,7 +166,8 @@ public class WorkerConfigs {
         configs.getJobKubeSocatImage(),
         configs.getJobKubeBusyboxImage(),
         configs.getJobKubeCurlImage(),
-        configs.getJobDefaultEnvMap());
+        configs.getJobDefaultEnvMap(),
+        configs.getReplicationRecordValidationSampleRate());
   }
 
   public Configs.WorkerEnvironment getWorkerEnvironment() {
@@ -212,4 +218,8 @@ public class WorkerConfigs {
     return envMap;
   }
 
+  public int getReplicationRecordValidationSampleRate() {
+    return replicationRecordValidationSampleRate;
+  }
+
 }
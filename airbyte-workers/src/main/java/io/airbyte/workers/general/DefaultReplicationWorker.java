@@ -14,6 +14,10 @@ import io.airbyte.config.StreamSyncStats;
 import io.airbyte.config.SyncStats;
 import io.airbyte.config.WorkerDestinationConfig;
 import io.airbyte.config.WorkerSourceConfig;
+import io.airbyte.metrics.lib.MetricClient;
+import io.airbyte.metrics.lib.MetricClientFactory;
+import io.airbyte.metrics.lib.MetricTags;
+import io.airbyte.metrics.lib.OssMetricsRegistry;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.workers.*;
@@ -23,6 +27,7 @@ import io.airbyte.workers.helper.FailureHelper;
 import io.airbyte.workers.internal.AirbyteDestination;
 import io.airbyte.workers.internal.AirbyteMapper;
 import io.airbyte.workers.internal.AirbyteSource;
+import io.airbyte.workers.internal.MessageHandoffQueue;
 import io.airbyte.workers.internal.MessageTracker;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -37,6 +42,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.io.FileUtils;
@@ -61,10 +67,25 @@ import org.slf4j.MDC;
  * <li>Handling failure cases and returning state for partially completed replications (so that the
  * next replication can pick up where it left off instead of starting from the beginning)</li>
  * </ul>
+ *
+ * <p>
+ * Moving data from Source to Destination is split into three stages, each on its own thread,
+ * connected by bounded {@link MessageHandoffQueue}s: reading (and parsing) the Source's output;
+ * validating, mapping and tracking messages; and writing to the Destination. Each stage handles
+ * messages one at a time in the order they were emitted, so the Destination and the
+ * {@link MessageTracker} see records and states in exactly the Source's order.
+ *
+ * <p>
+ * When a stage fails, the other stages stop as soon as they next touch a queue, without the
+ * Destination being told that its input ended. When the Source exits with a non-zero exit code
+ * after emitting all its messages, the Destination is still told that its input ended before the
+ * failure is reported, so that it can commit what it received.
  */
 public class DefaultReplicationWorker implements ReplicationWorker {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultReplicationWorker.class);
+  // messages, not bytes. kept small since records can be large and there are two queues per sync.
+  private static final int HANDOFF_QUEUE_CAPACITY = 100;
 
   private final String jobId;
   private final int attempt;
@@ -77,6 +98,8 @@ public class DefaultReplicationWorker implements ReplicationWorker {
   private final AtomicBoolean cancelled;
   private final AtomicBoolean hasFailed;
   private final RecordSchemaValidator recordSchemaValidator;
+  private final MessageHandoffQueue sourceMessageQueue;
+  private final MessageHandoffQueue destinationMessageQueue;
 
   public DefaultReplicationWorker(final String jobId,
                                   final int attempt,
@@ -91,19 +114,23 @@ public class DefaultReplicationWorker implements ReplicationWorker {
     this.mapper = mapper;
     this.destination = destination;
     this.messageTracker = messageTracker;
-    this.executors = Executors.newFixedThreadPool(2);
+    // source read, message processing, destination write and destination output threads.
+    this.executors = Executors.newFixedThreadPool(4);
     this.recordSchemaValidator = recordSchemaValidator;
+    this.sourceMessageQueue = new MessageHandoffQueue("source", HANDOFF_QUEUE_CAPACITY);
+    this.destinationMessageQueue = new MessageHandoffQueue("destination", HANDOFF_QUEUE_CAPACITY);
 
     this.cancelled = new AtomicBoolean(false);
     this.hasFailed = new AtomicBoolean(false);
   }
 
   /**
-   * Run executes two threads. The first pipes data from STDOUT of the source to STDIN of the
-   * destination. The second listen on STDOUT of the destination. The goal of this second thread is to
-   * detect when the destination emits state messages. Only state messages emitted by the destination
-   * should be treated as state that is safe to return from run. In the case when the destination
-   * emits no state, we fall back on whatever state is pass in as an argument to this method.
+   * Run executes two sets of threads. The first pipes data from STDOUT of the source to STDIN of the
+   * destination, as a pipeline of three threads. The second listen on STDOUT of the destination. The
+   * goal of this second thread is to detect when the destination emits state messages. Only state
+   * messages emitted by the destination should be treated as state that is safe to return from run.
+   * In the case when the destination emits no state, we fall back on whatever state is pass in as an
+   * argument to this method.
    *
    * @param syncInput all configuration for running replication
    * @param jobRoot file root that worker is allowed to use
@@ -131,6 +158,8 @@ public class DefaultReplicationWorker implements ReplicationWorker {
       final WorkerSourceConfig sourceConfig = WorkerUtils.syncToWorkerSourceConfig(syncInput);
 
       final Map<String, String> mdc = MDC.getCopyOfContextMap();
+      // stages stop when the sync is cancelled, or when another stage failed.
+      final BooleanSupplier shouldStop = () -> cancelled.get() || hasFailed.get();
 
       // note: resources are closed in the opposite order in which they are declared. thus source will be
       // closed first (which is what we want).
@@ -152,27 +181,37 @@ public class DefaultReplicationWorker implements ReplicationWorker {
               }
             });
 
+        final CompletableFuture<?> sourceReadThreadFuture = CompletableFuture.runAsync(
+            getSourceReadRunnable(source, cancelled, shouldStop, sourceMessageQueue, mdc),
+            executors).whenComplete((msg, ex) -> recordReplicationFailure(replicationRunnableFailureRef, ex));
+
         final CompletableFuture<?> replicationThreadFuture = CompletableFuture.runAsync(
-            getReplicationRunnable(source, destination, cancelled, mapper, messageTracker, mdc, recordSchemaValidator),
-            executors).whenComplete((msg, ex) -> {
-              if (ex != null) {
-                if (ex.getCause() instanceof SourceException) {
-                  replicationRunnableFailureRef.set(FailureHelper.sourceFailure(ex, Long.valueOf(jobId), attempt));
-                } else if (ex.getCause() instanceof DestinationException) {
-                  replicationRunnableFailureRef.set(FailureHelper.destinationFailure(ex, Long.valueOf(jobId), attempt));
-                } else {
-                  replicationRunnableFailureRef.set(FailureHelper.replicationFailure(ex, Long.valueOf(jobId), attempt));
-                }
-              }
-            });
+            getReplicationRunnable(sourceMessageQueue, destinationMessageQueue, cancelled, shouldStop, mapper, messageTracker, mdc,
+                recordSchemaValidator),
+            executors).whenComplete((msg, ex) -> recordReplicationFailure(replicationRunnableFailureRef, ex));
+
+        final CompletableFuture<?> destinationWriteThreadFuture = CompletableFuture.runAsync(
+            getDestinationWriteRunnable(source, destination, cancelled, shouldStop, destinationMessageQueue, mdc),
+            executors).whenComplete((msg, ex) -> recordReplicationFailure(replicationRunnableFailureRef, ex));
+
+        final CompletableFuture<?>[] threadFutures =
+            {sourceReadThreadFuture, replicationThreadFuture, destinationWriteThreadFuture, destinationOutputThreadFuture};
 
         LOGGER.info("Waiting for source and destination threads to complete.");
         // CompletableFuture#allOf waits until all futures finish before returning, even if one throws an
         // exception. So in order to handle exceptions from a future immediately without needing to wait for
-        // the other future to finish, we first call CompletableFuture#anyOf.
-        CompletableFuture.anyOf(replicationThreadFuture, destinationOutputThreadFuture).get();
-        LOGGER.info("One of source or destination thread complete. Waiting on the other.");
-        CompletableFuture.allOf(replicationThreadFuture, destinationOutputThreadFuture).get();
+        // the others to finish, we also wait on a future that fails as soon as any of them fails.
+        final CompletableFuture<?> firstFailure = new CompletableFuture<>();
+        for (final CompletableFuture<?> threadFuture : threadFutures) {
+          threadFuture.whenComplete((msg, ex) -> {
+            if (ex != null) {
+              // stops the other stages. this is not a cancellation, the sync is reported as failed.
+              hasFailed.set(true);
+              firstFailure.completeExceptionally(ex);
+            }
+          });
+        }
+        CompletableFuture.anyOf(CompletableFuture.allOf(threadFutures), firstFailure).get();
         LOGGER.info("Source and destination threads complete.");
 
       } catch (final Exception e) {
@@ -180,6 +219,9 @@ public class DefaultReplicationWorker implements ReplicationWorker {
         LOGGER.error("Sync worker failed.", e);
       } finally {
         executors.shutdownNow();
+        LOGGER.info("Replication pipeline: {}; {}", sourceMessageQueue, destinationMessageQueue);
+        reportQueueMetrics(sourceMessageQueue);
+        reportQueueMetrics(destinationMessageQueue);
       }
 
       final ReplicationStatus outputStatus;
@@ -286,20 +328,49 @@ public class DefaultReplicationWorker implements ReplicationWorker {
 
   }
 
-  private static Runnable getReplicationRunnable(final AirbyteSource source,
-                                                 final AirbyteDestination destination,
-                                                 final AtomicBoolean cancelled,
-                                                 final AirbyteMapper mapper,
-                                                 final MessageTracker messageTracker,
-                                                 final Map<String, String> mdc,
-                                                 final RecordSchemaValidator recordSchemaValidator) {
+  /**
+   * Only the first failure of the source to destination pipeline is kept. Once a stage fails, the
+   * others are torn down, and their own failures are only a consequence of the first one.
+   */
+  private void recordReplicationFailure(final AtomicReference<FailureReason> replicationRunnableFailureRef, final Throwable ex) {
+    if (ex == null) {
+      return;
+    }
+    final FailureReason failureReason;
+    if (ex.getCause() instanceof SourceException) {
+      failureReason = FailureHelper.sourceFailure(ex, Long.valueOf(jobId), attempt);
+    } else if (ex.getCause() instanceof DestinationException) {
+      failureReason = FailureHelper.destinationFailure(ex, Long.valueOf(jobId), attempt);
+    } else {
+      failureReason = FailureHelper.replicationFailure(ex, Long.valueOf(jobId), attempt);
+    }
+    replicationRunnableFailureRef.compareAndSet(null, failureReason);
+  }
+
+  /**
+   * Reports how deep a queue got and how long each side waited on the other, which tells which stage
+   * of the pipeline was the slowest.
+   */
+  private static void reportQueueMetrics(final MessageHandoffQueue queue) {
+    final MetricClient metricClient = MetricClientFactory.getMetricClient();
+    final String queueTag = MetricTags.getReplicationQueue(queue.getName());
+    metricClient.distribution(OssMetricsRegistry.REPLICATION_QUEUE_MAX_DEPTH, queue.getMaxDepth(), queueTag);
+    metricClient.distribution(OssMetricsRegistry.REPLICATION_QUEUE_PRODUCER_STALL_MILLISECS,
+        TimeUnit.NANOSECONDS.toMillis(queue.getProducerStallNanos()), queueTag);
+    metricClient.distribution(OssMetricsRegistry.REPLICATION_QUEUE_CONSUMER_STALL_MILLISECS,
+        TimeUnit.NANOSECONDS.toMillis(queue.getConsumerStallNanos()), queueTag);
+  }
+
+  private static Runnable getSourceReadRunnable(final AirbyteSource source,
+                                                final AtomicBoolean cancelled,
+                                                final BooleanSupplier shouldStop,
+                                                final MessageHandoffQueue sourceMessageQueue,
+                                                final Map<String, String> mdc) {
     return () -> {
       MDC.setContextMap(mdc);
       LOGGER.info("Replication thread started.");
-      var recordsRead = 0;
-      final Map<String, ImmutablePair<Set<String>, Integer>> validationErrors = new HashMap<>();
       try {
-        while (!cancelled.get() && !source.isFinished()) {
+        while (!shouldStop.getAsBoolean() && !source.isFinished()) {
           final Optional<AirbyteMessage> messageOptional;
           try {
             messageOptional = source.attemptRead();
@@ -307,42 +378,7 @@ public class DefaultReplicationWorker implements ReplicationWorker {
             throw new SourceException("Source process read attempt failed", e);
           }
           if (messageOptional.isPresent()) {
-            if (messageOptional.get().getRecord() != null) {
-              final AirbyteRecordMessage message = messageOptional.get().getRecord();
-              final String messageStream = WorkerUtils.streamNameWithNamespace(message.getNamespace(), message.getStream());
-              // validate a record's schema if there are less than 10 records with validation errors
-              if (validationErrors.get(messageStream) == null || validationErrors.get(messageStream).getRight() < 10) {
-                try {
-                  recordSchemaValidator.validateSchema(messageOptional.get().getRecord(), messageStream);
-                } catch (final RecordSchemaValidationException e) {
-                  final ImmutablePair<Set<String>, Integer> exceptionWithCount = validationErrors.get(messageStream);
-                  if (exceptionWithCount == null) {
-                    validationErrors.put(messageStream, new ImmutablePair<>(e.errorMessages, 1));
-                  } else {
-                    final Integer currentCount = exceptionWithCount.getRight();
-                    final Set<String> currentErrorMessages = exceptionWithCount.getLeft();
-                    final Set<String> updatedErrorMessages =
-                        Stream.concat(currentErrorMessages.stream(), e.errorMessages.stream()).collect(Collectors.toSet());
-                    validationErrors.put(messageStream, new ImmutablePair<>(updatedErrorMessages, currentCount + 1));
-                  }
-                }
-
-              }
-            }
-
-            final AirbyteMessage message = mapper.mapMessage(messageOptional.get());
-
-            messageTracker.acceptFromSource(message);
-            try {
-              destination.accept(message);
-            } catch (final Exception e) {
-              throw new DestinationException("Destination process message delivery failed", e);
-            }
-            recordsRead += 1;
-
-            if (recordsRead % 1000 == 0) {
-              LOGGER.info("Records read: {} ({})", recordsRead, FileUtils.byteCountToDisplaySize(messageTracker.getTotalBytesEmitted()));
-            }
+            sourceMessageQueue.put(messageOptional.get(), shouldStop);
           } else {
             LOGGER.info("Source has no more messages, closing connection.");
             try {
@@ -352,12 +388,125 @@ public class DefaultReplicationWorker implements ReplicationWorker {
             }
           }
         }
+        // the exit value is checked by the destination write stage, once the destination was told that
+        // its input ended.
+        sourceMessageQueue.finish(shouldStop);
+      } catch (final InterruptedException e) {
+        // the worker is shutting down the pipeline after another thread failed.
+        Thread.currentThread().interrupt();
+      } catch (final Exception e) {
+        if (!cancelled.get()) {
+          // Although this thread is closed first, it races with the source's closure and can attempt one
+          // final read after the source is closed before it's terminated.
+          // This read will fail and throw an exception. Because of this, throw exceptions only if the worker
+          // was not cancelled.
+
+          if (e instanceof SourceException) {
+            // Surface Source exceptions directly so that they can be classified properly by the worker
+            throw (SourceException) e;
+          } else {
+            throw new RuntimeException(e);
+          }
+        }
+      }
+    };
+  }
+
+  private static Runnable getReplicationRunnable(final MessageHandoffQueue sourceMessageQueue,
+                                                 final MessageHandoffQueue destinationMessageQueue,
+                                                 final AtomicBoolean cancelled,
+                                                 final BooleanSupplier shouldStop,
+                                                 final AirbyteMapper mapper,
+                                                 final MessageTracker messageTracker,
+                                                 final Map<String, String> mdc,
+                                                 final RecordSchemaValidator recordSchemaValidator) {
+    return () -> {
+      MDC.setContextMap(mdc);
+      LOGGER.info("Message processing thread started.");
+      var recordsRead = 0;
+      final Map<String, ImmutablePair<Set<String>, Integer>> validationErrors = new HashMap<>();
+      try {
+        AirbyteMessage sourceMessage;
+        while ((sourceMessage = sourceMessageQueue.take(shouldStop)) != null) {
+          if (sourceMessage.getRecord() != null) {
+            final AirbyteRecordMessage record = sourceMessage.getRecord();
+            final String messageStream = WorkerUtils.streamNameWithNamespace(record.getNamespace(), record.getStream());
+            // validate a record's schema if there are less than 10 records with validation errors
+            if (validationErrors.get(messageStream) == null || validationErrors.get(messageStream).getRight() < 10) {
+              try {
+                recordSchemaValidator.validateSchema(record, messageStream);
+              } catch (final RecordSchemaValidationException e) {
+                final ImmutablePair<Set<String>, Integer> exceptionWithCount = validationErrors.get(messageStream);
+                if (exceptionWithCount == null) {
+                  validationErrors.put(messageStream, new ImmutablePair<>(e.errorMessages, 1));
+                } else {
+                  final Integer currentCount = exceptionWithCount.getRight();
+                  final Set<String> currentErrorMessages = exceptionWithCount.getLeft();
+                  final Set<String> updatedErrorMessages =
+                      Stream.concat(currentErrorMessages.stream(), e.errorMessages.stream()).collect(Collectors.toSet());
+                  validationErrors.put(messageStream, new ImmutablePair<>(updatedErrorMessages, currentCount + 1));
+                }
+              }
+
+            }
+          }
+
+          final AirbyteMessage message = mapper.mapMessage(sourceMessage);
+
+          messageTracker.acceptFromSource(message);
+          destinationMessageQueue.put(message, shouldStop);
+          recordsRead += 1;
+
+          if (recordsRead % 1000 == 0) {
+            LOGGER.info("Records read: {} ({})", recordsRead, FileUtils.byteCountToDisplaySize(messageTracker.getTotalBytesEmitted()));
+          }
+        }
+        if (shouldStop.getAsBoolean()) {
+          return;
+        }
+        destinationMessageQueue.finish(shouldStop);
+
         LOGGER.info("Total records read: {} ({})", recordsRead, FileUtils.byteCountToDisplaySize(messageTracker.getTotalBytesEmitted()));
+        LOGGER.info("Schema validation: {} records validated (sample rate {}) in {} ms", recordSchemaValidator.getTotalRecordsValidated(),
+            recordSchemaValidator.getSampleRate(), TimeUnit.NANOSECONDS.toMillis(recordSchemaValidator.getTotalValidationTimeNanos()));
         if (!validationErrors.isEmpty()) {
           validationErrors.forEach((stream, errorPair) -> {
             LOGGER.warn("Schema validation errors found for stream {}. Error messages: {}", stream, errorPair.getLeft());
           });
         }
+      } catch (final InterruptedException e) {
+        // the worker is shutting down the pipeline after another thread failed.
+        Thread.currentThread().interrupt();
+      } catch (final Exception e) {
+        if (!cancelled.get()) {
+          throw new RuntimeException(e);
+        }
+      }
+    };
+  }
+
+  private static Runnable getDestinationWriteRunnable(final AirbyteSource source,
+                                                      final AirbyteDestination destination,
+                                                      final AtomicBoolean cancelled,
+                                                      final BooleanSupplier shouldStop,
+                                                      final MessageHandoffQueue destinationMessageQueue,
+                                                      final Map<String, String> mdc) {
+    return () -> {
+      MDC.setContextMap(mdc);
+      LOGGER.info("Destination write thread started.");
+      try {
+        AirbyteMessage message;
+        while ((message = destinationMessageQueue.take(shouldStop)) != null) {
+          try {
+            destination.accept(message);
+          } catch (final Exception e) {
+            throw new DestinationException("Destination process message delivery failed", e);
+          }
+        }
+        if (shouldStop.getAsBoolean()) {
+          // the input is incomplete, so the destination must not be told that it ended.
+          return;
+        }
 
         try {
           destination.notifyEndOfInput();
@@ -367,17 +516,15 @@ public class DefaultReplicationWorker implements ReplicationWorker {
         if (!cancelled.get() && source.getExitValue() != 0) {
           throw new SourceException("Source process exited with non-zero exit code " + source.getExitValue());
         }
+      } catch (final InterruptedException e) {
+        // the worker is shutting down the pipeline after another thread failed.
+        Thread.currentThread().interrupt();
       } catch (final Exception e) {
         if (!cancelled.get()) {
-          // Although this thread is closed first, it races with the source's closure and can attempt one
-          // final read after the source is closed before it's terminated.
-          // This read will fail and throw an exception. Because of this, throw exceptions only if the worker
-          // was not cancelled.
-
           if (e instanceof SourceException || e instanceof DestinationException) {
             // Surface Source and Destination exceptions directly so that they can be classified properly by the
             // worker
-            throw e;
+            throw (RuntimeException) e;
           } else {
             throw new RuntimeException(e);
           }
@@ -19,6 +19,7 @@ import io.airbyte.protocol.models.AirbyteStateMessage;
 import io.airbyte.protocol.models.AirbyteTraceMessage;
 import io.airbyte.workers.helper.FailureHelper;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,15 +33,18 @@ import lombok.extern.slf4j.Slf4j;
 public class AirbyteMessageTracker implements MessageTracker {
 
   private static final long STATE_DELTA_TRACKER_MEMORY_LIMIT_BYTES = 20L * 1024L * 1024L; // 20 MiB, ~10% of default cloud worker memory
+  private static final int INITIAL_STREAM_CAPACITY = 16;
 
   private final AtomicReference<State> sourceOutputState;
   private final AtomicReference<State> destinationOutputState;
   private final AtomicLong totalEmittedStateMessages;
-  private final Map<Short, Long> streamToRunningCount;
   private final HashFunction hashFunction;
   private final BiMap<String, Short> streamNameToIndex;
-  private final Map<Short, Long> streamToTotalBytesEmitted;
-  private final Map<Short, Long> streamToTotalRecordsEmitted;
+  // per stream counters, indexed by the stream index from streamNameToIndex. primitive arrays so that
+  // counting a record does not box or hash anything. they grow as new streams are seen.
+  private long[] streamToRunningCount;
+  private long[] streamToTotalBytesEmitted;
+  private long[] streamToTotalRecordsEmitted;
   private final StateDeltaTracker stateDeltaTracker;
   private final List<AirbyteTraceMessage> destinationErrorTraceMessages;
   private final List<AirbyteTraceMessage> sourceErrorTraceMessages;
@@ -67,11 +71,11 @@ public class AirbyteMessageTracker implements MessageTracker {
     this.sourceOutputState = new AtomicReference<>();
     this.destinationOutputState = new AtomicReference<>();
     this.totalEmittedStateMessages = new AtomicLong(0L);
-    this.streamToRunningCount = new HashMap<>();
+    this.streamToRunningCount = new long[INITIAL_STREAM_CAPACITY];
     this.streamNameToIndex = HashBiMap.create();
     this.hashFunction = Hashing.murmur3_32_fixed();
-    this.streamToTotalBytesEmitted = new HashMap<>();
-    this.streamToTotalRecordsEmitted = new HashMap<>();
+    this.streamToTotalBytesEmitted = new long[INITIAL_STREAM_CAPACITY];
+    this.streamToTotalRecordsEmitted = new long[INITIAL_STREAM_CAPACITY];
     this.stateDeltaTracker = stateDeltaTracker;
     this.nextStreamIndex = 0;
     this.unreliableCommittedCounts = false;
@@ -100,20 +104,16 @@ public class AirbyteMessageTracker implements MessageTracker {
 
   /**
    * When a source emits a record, increment the running record count, the total record count, and the
-   * total byte count for the record's stream.
+   * total byte count for the record's stream. Data read from the source is kept as the raw text of
+   * the source's output along with the number of bytes read for its line, so its size is known
+   * without serializing or encoding it again.
    */
   private void handleSourceEmittedRecord(final AirbyteRecordMessage recordMessage) {
     final short streamIndex = getStreamIndex(recordMessage.getStream());
 
-    final long currentRunningCount = streamToRunningCount.getOrDefault(streamIndex, 0L);
-    streamToRunningCount.put(streamIndex, currentRunningCount + 1);
-
-    final long currentTotalCount = streamToTotalRecordsEmitted.getOrDefault(streamIndex, 0L);
-    streamToTotalRecordsEmitted.put(streamIndex, currentTotalCount + 1);
-
-    final int estimatedNumBytes = Jsons.getEstimatedByteSize(recordMessage.getData());
-    final long currentTotalStreamBytes = streamToTotalBytesEmitted.getOrDefault(streamIndex, 0L);
-    streamToTotalBytesEmitted.put(streamIndex, currentTotalStreamBytes + estimatedNumBytes);
+    streamToRunningCount[streamIndex]++;
+    streamToTotalRecordsEmitted[streamIndex]++;
+    streamToTotalBytesEmitted[streamIndex] += RawRecordData.byteSize(recordMessage.getData());
   }
 
   /**
@@ -128,7 +128,7 @@ public class AirbyteMessageTracker implements MessageTracker {
     final int stateHash = getStateHashCode(stateMessage);
     try {
       if (!unreliableCommittedCounts) {
-        stateDeltaTracker.addState(stateHash, streamToRunningCount);
+        stateDeltaTracker.addState(stateHash, toStreamIndexMap(streamToRunningCount));
       }
     } catch (final StateDeltaTracker.StateDeltaTrackerException e) {
       log.warn("The message tracker encountered an issue that prevents committed record counts from being reliably computed.");
@@ -136,7 +136,7 @@ public class AirbyteMessageTracker implements MessageTracker {
       log.warn(e.getMessage(), e);
       unreliableCommittedCounts = true;
     }
-    streamToRunningCount.clear();
+    Arrays.fill(streamToRunningCount, 0L);
   }
 
   /**
@@ -177,11 +177,40 @@ public class AirbyteMessageTracker implements MessageTracker {
   }
 
   private short getStreamIndex(final String streamName) {
-    if (!streamNameToIndex.containsKey(streamName)) {
-      streamNameToIndex.put(streamName, nextStreamIndex);
-      nextStreamIndex++;
+    final Short streamIndex = streamNameToIndex.get(streamName);
+    if (streamIndex != null) {
+      return streamIndex;
+    }
+
+    final short newStreamIndex = nextStreamIndex++;
+    streamNameToIndex.put(streamName, newStreamIndex);
+    if (newStreamIndex >= streamToTotalRecordsEmitted.length) {
+      final int newLength = streamToTotalRecordsEmitted.length * 2;
+      streamToRunningCount = Arrays.copyOf(streamToRunningCount, newLength);
+      streamToTotalRecordsEmitted = Arrays.copyOf(streamToTotalRecordsEmitted, newLength);
+      streamToTotalBytesEmitted = Arrays.copyOf(streamToTotalBytesEmitted, newLength);
+    }
+    return newStreamIndex;
+  }
+
+  /**
+   * Only streams with a non-zero count are included, as only streams that emitted records are
+   * tracked.
+   */
+  private Map<Short, Long> toStreamIndexMap(final long[] countsByStreamIndex) {
+    final Map<Short, Long> streamIndexToCount = new HashMap<>();
+    for (short i = 0; i < nextStreamIndex; i++) {
+      if (countsByStreamIndex[i] != 0) {
+        streamIndexToCount.put(i, countsByStreamIndex[i]);
+      }
     }
-    return streamNameToIndex.get(streamName);
+    return streamIndexToCount;
+  }
+
+  private Map<String, Long> toStreamNameMap(final long[] countsByStreamIndex) {
+    final Map<String, Long> streamToCount = new HashMap<>();
+    toStreamIndexMap(countsByStreamIndex).forEach((index, count) -> streamToCount.put(streamNameToIndex.inverse().get(index), count));
+    return streamToCount;
   }
 
   private int getStateHashCode(final AirbyteStateMessage stateMessage) {
@@ -264,9 +293,7 @@ public class AirbyteMessageTracker implements MessageTracker {
    */
   @Override
   public Map<String, Long> getStreamToEmittedRecords() {
-    return streamToTotalRecordsEmitted.entrySet().stream().collect(Collectors.toMap(
-        entry -> streamNameToIndex.inverse().get(entry.getKey()),
-        Map.Entry::getValue));
+    return toStreamNameMap(streamToTotalRecordsEmitted);
   }
 
   /**
@@ -274,9 +301,7 @@ public class AirbyteMessageTracker implements MessageTracker {
    */
   @Override
   public Map<String, Long> getStreamToEmittedBytes() {
-    return streamToTotalBytesEmitted.entrySet().stream().collect(Collectors.toMap(
-        entry -> streamNameToIndex.inverse().get(entry.getKey()),
-        Map.Entry::getValue));
+    return toStreamNameMap(streamToTotalBytesEmitted);
   }
 
   /**
@@ -284,7 +309,7 @@ public class AirbyteMessageTracker implements MessageTracker {
    */
   @Override
   public long getTotalRecordsEmitted() {
-    return streamToTotalRecordsEmitted.values().stream().reduce(0L, Long::sum);
+    return Arrays.stream(streamToTotalRecordsEmitted).sum();
   }
 
   /**
@@ -292,7 +317,7 @@ public class AirbyteMessageTracker implements MessageTracker {
    */
   @Override
   public long getTotalBytesEmitted() {
-    return streamToTotalBytesEmitted.values().stream().reduce(0L, Long::sum);
+    return Arrays.stream(streamToTotalBytesEmitted).sum();
   }
 
   /**
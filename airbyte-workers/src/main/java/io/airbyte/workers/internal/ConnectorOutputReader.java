@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import io.airbyte.commons.json.SmileFrames;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Splits a connector's output into its entries: lines of text, which hold JSON messages or plain
+ * logs, and binary frames (see {@link SmileFrames}). Reads go through one large buffer, so neither
+ * kind of entry costs a call to the underlying stream per byte, and the size in bytes of each line
+ * is known without encoding it again. Like {@link java.io.BufferedReader}, a line ends with \n, \r
+ * or \r\n.
+ */
+class ConnectorOutputReader {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final InputStream input;
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private int position = 0;
+  private int limit = 0;
+  // set when the last line ended with \r, so that a \n that follows is part of the same terminator.
+  private boolean skipLineFeed = false;
+  // reused between lines, grown to fit the longest line.
+  private byte[] lineBuffer = new byte[1024];
+  private int lineByteLength = 0;
+
+  // view of the remaining bytes, buffered ones first, used to read frames.
+  private final InputStream bufferedInput = new InputStream() {
+
+    @Override
+    public int read() throws IOException {
+      if (position == limit && !fill()) {
+        return -1;
+      }
+      return buffer[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] destination, final int offset, final int length) throws IOException {
+      if (length == 0) {
+        return 0;
+      }
+      if (position == limit && !fill()) {
+        return -1;
+      }
+      final int count = Math.min(length, limit - position);
+      System.arraycopy(buffer, position, destination, offset, count);
+      position += count;
+      return count;
+    }
+
+  };
+
+  ConnectorOutputReader(final InputStream input) {
+    this.input = input;
+  }
+
+  /**
+   * @return the first byte of the next entry, without consuming it, or -1 at the end of the output
+   */
+  int peek() throws IOException {
+    if (position == limit && !fill()) {
+      return -1;
+    }
+    if (skipLineFeed) {
+      skipLineFeed = false;
+      if (buffer[position] == '\n') {
+        position++;
+        return peek();
+      }
+    }
+    return buffer[position] & 0xFF;
+  }
+
+  boolean isAtFrame() throws IOException {
+    return peek() == SmileFrames.FRAME_MARKER;
+  }
+
+  /**
+   * @return the next line, without its line terminator
+   */
+  String readLine() throws IOException {
+    int length = 0;
+    while (peek() != -1) {
+      int end = position;
+      while (end < limit && buffer[end] != '\n' && buffer[end] != '\r') {
+        end++;
+      }
+
+      final int count = end - position;
+      if (length + count > lineBuffer.length) {
+        lineBuffer = Arrays.copyOf(lineBuffer, Math.max(lineBuffer.length * 2, length + count));
+      }
+      System.arraycopy(buffer, position, lineBuffer, length, count);
+      length += count;
+
+      if (end < limit) {
+        // skip the terminator. a \n right after a \r is skipped by the next read, as it may not be
+        // buffered yet.
+        skipLineFeed = buffer[end] == '\r';
+        position = end + 1;
+        break;
+      }
+      position = end;
+    }
+
+    lineByteLength = length;
+    return new String(lineBuffer, 0, length, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * @return the size in bytes of the line last returned by {@link #readLine()}, without its line
+   *         terminator
+   */
+  int getLineByteLength() {
+    return lineByteLength;
+  }
+
+  /**
+   * @return the payload of the frame the output is positioned at
+   */
+  byte[] readFrame() throws IOException {
+    // skip the marker, which peek() made sure is buffered
+    position++;
+    return SmileFrames.readPayload(bufferedInput);
+  }
+
+  private boolean fill() throws IOException {
+    int read;
+    do {
+      read = input.read(buffer, 0, buffer.length);
+    } while (read == 0);
+
+    if (read == -1) {
+      return false;
+    }
+    position = 0;
+    limit = read;
+    return true;
+  }
+
+}
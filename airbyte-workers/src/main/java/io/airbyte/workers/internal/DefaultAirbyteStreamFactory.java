@@ -4,13 +4,27 @@
 
 package io.airbyte.workers.internal;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.AbstractIterator;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.json.SmileFrames;
 import io.airbyte.commons.logging.MdcScope;
+import io.airbyte.commons.stream.MoreStreams;
 import io.airbyte.protocol.models.AirbyteLogMessage;
 import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.MessageFormat;
 import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,60 +38,91 @@ import org.slf4j.LoggerFactory;
  * If a line starts with a AirbyteMessage and then has other characters after it, that
  * AirbyteMessage will still be parsed. If there are multiple AirbyteMessage records on the same
  * line, only the first will be parsed.
+ *
+ * <p>
+ * When record passthrough is enabled, RECORD lines whose envelope only contains the standard
+ * fields are not deserialized into a tree. Only the envelope is read with a streaming parser, and
+ * the record's data is kept as the original JSON text (see {@link RawRecordData}). Any other line
+ * goes through the regular parsing and validation.
+ *
+ * <p>
+ * When reading from an InputStream, the output can also contain binary framed messages (see
+ * {@link SmileFrames}) mixed with the lines.
  */
 public class DefaultAirbyteStreamFactory implements AirbyteStreamFactory {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultAirbyteStreamFactory.class);
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  @VisibleForTesting
+  static final int UNKNOWN_BYTE_LENGTH = -1;
 
   private final MdcScope.Builder containerLogMdcBuilder;
   private final AirbyteProtocolPredicate protocolValidator;
   private final Logger logger;
+  private final boolean recordPassthrough;
 
   public DefaultAirbyteStreamFactory() {
     this(MdcScope.DEFAULT_BUILDER);
   }
 
   public DefaultAirbyteStreamFactory(final MdcScope.Builder containerLogMdcBuilder) {
-    this(new AirbyteProtocolPredicate(), LOGGER, containerLogMdcBuilder);
+    this(containerLogMdcBuilder, false);
+  }
+
+  public DefaultAirbyteStreamFactory(final MdcScope.Builder containerLogMdcBuilder, final boolean recordPassthrough) {
+    this(new AirbyteProtocolPredicate(), LOGGER, containerLogMdcBuilder, recordPassthrough);
   }
 
   DefaultAirbyteStreamFactory(final AirbyteProtocolPredicate protocolPredicate, final Logger logger, final MdcScope.Builder containerLogMdcBuilder) {
+    this(protocolPredicate, logger, containerLogMdcBuilder, false);
+  }
+
+  DefaultAirbyteStreamFactory(final AirbyteProtocolPredicate protocolPredicate,
+                              final Logger logger,
+                              final MdcScope.Builder containerLogMdcBuilder,
+                              final boolean recordPassthrough) {
     protocolValidator = protocolPredicate;
     this.logger = logger;
     this.containerLogMdcBuilder = containerLogMdcBuilder;
+    this.recordPassthrough = recordPassthrough;
   }
 
   @Override
   public Stream<AirbyteMessage> create(final BufferedReader bufferedReader) {
-    return bufferedReader
+    return filterLogs(bufferedReader
         .lines()
-        .flatMap(line -> {
-          final Optional<JsonNode> jsonLine = Jsons.tryDeserialize(line);
-          if (jsonLine.isEmpty()) {
-            // we log as info all the lines that are not valid json
-            // some sources actually log their process on stdout, we
-            // want to make sure this info is available in the logs.
-            try (final var mdcScope = containerLogMdcBuilder.build()) {
-              logger.info(line);
-            }
-          }
-          return jsonLine.stream();
-        })
-        // filter invalid messages
-        .filter(jsonLine -> {
-          final boolean res = protocolValidator.test(jsonLine);
-          if (!res) {
-            logger.error("Validation failed: {}", Jsons.serialize(jsonLine));
-          }
-          return res;
-        })
-        .flatMap(jsonLine -> {
-          final Optional<AirbyteMessage> m = Jsons.tryObject(jsonLine, AirbyteMessage.class);
-          if (m.isEmpty()) {
-            logger.error("Deserialization failed: {}", Jsons.serialize(jsonLine));
+        .flatMap(line -> parseEntry(line, UNKNOWN_BYTE_LENGTH)));
+  }
+
+  /**
+   * Same as {@link #create(BufferedReader)}, but the output can also contain binary framed messages,
+   * which are sent by sources that negotiated the {@link MessageFormat#SMILE_FRAMED} format. Lines
+   * are split from the raw bytes, so the size of each record's line as the connector wrote it is
+   * known (see {@link RawRecordData#byteSize}).
+   */
+  @Override
+  public Stream<AirbyteMessage> create(final InputStream inputStream) {
+    final ConnectorOutputReader reader = new ConnectorOutputReader(inputStream);
+    final Iterator<Stream<AirbyteMessage>> entries = new AbstractIterator<>() {
+
+      @Override
+      protected Stream<AirbyteMessage> computeNext() {
+        try {
+          if (reader.peek() == -1) {
+            return endOfData();
           }
-          return m.stream();
-        })
+          return reader.isAtFrame() ? parseFrame(reader.readFrame()) : readEntry(reader);
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+
+    };
+    return filterLogs(MoreStreams.toStream(entries).flatMap(Function.identity()));
+  }
+
+  private Stream<AirbyteMessage> filterLogs(final Stream<AirbyteMessage> messages) {
+    return messages
         // filter logs
         .filter(airbyteMessage -> {
           final boolean isLog = airbyteMessage.getType() == AirbyteMessage.Type.LOG;
@@ -90,6 +135,137 @@ public class DefaultAirbyteStreamFactory implements AirbyteStreamFactory {
         });
   }
 
+  private Stream<AirbyteMessage> readEntry(final ConnectorOutputReader reader) throws IOException {
+    final String line = reader.readLine();
+    return parseEntry(line, reader.getLineByteLength());
+  }
+
+  /**
+   * @param lineByteLength size of the line as read from the connector, in bytes, or
+   *        {@link #UNKNOWN_BYTE_LENGTH} if it was read as text
+   */
+  private Stream<AirbyteMessage> parseEntry(final String line, final int lineByteLength) {
+    if (recordPassthrough) {
+      final Optional<AirbyteMessage> record = tryParseRecordEnvelope(line, lineByteLength);
+      if (record.isPresent()) {
+        return record.stream();
+      }
+    }
+    return parseLine(line);
+  }
+
+  /**
+   * Framed messages are bound straight to the protocol model, which checks their structure, so they
+   * are not validated against the protocol's JSON schema like lines are.
+   */
+  private Stream<AirbyteMessage> parseFrame(final byte[] payload) {
+    try {
+      return Stream.of(SmileFrames.deserialize(payload, AirbyteMessage.class));
+    } catch (final RuntimeException e) {
+      logger.error("Deserialization of a framed message failed", e);
+      return Stream.empty();
+    }
+  }
+
+  private Stream<AirbyteMessage> parseLine(final String line) {
+    final Optional<JsonNode> jsonLine = Jsons.tryDeserialize(line);
+    if (jsonLine.isEmpty()) {
+      // we log as info all the lines that are not valid json
+      // some sources actually log their process on stdout, we
+      // want to make sure this info is available in the logs.
+      try (final var mdcScope = containerLogMdcBuilder.build()) {
+        logger.info(line);
+      }
+      return Stream.empty();
+    }
+
+    // filter invalid messages
+    if (!protocolValidator.test(jsonLine.get())) {
+      logger.error("Validation failed: {}", Jsons.serialize(jsonLine.get()));
+      return Stream.empty();
+    }
+
+    final Optional<AirbyteMessage> m = Jsons.tryObject(jsonLine.get(), AirbyteMessage.class);
+    if (m.isEmpty()) {
+      logger.error("Deserialization failed: {}", Jsons.serialize(jsonLine.get()));
+    }
+    return m.stream();
+  }
+
+  /**
+   * Reads a RECORD line with a streaming parser, keeping the record's data as raw JSON text. This
+   * only accepts lines that the regular path would turn into the same message: a `type` of RECORD,
+   * and a record with a string `stream`, an optional string `namespace`, an integer `emitted_at` and
+   * an object `data`. Anything else, including extra fields, is left to the regular path.
+   *
+   * @param line line read from the connector's stdout
+   * @param lineByteLength size of the line in bytes, or {@link #UNKNOWN_BYTE_LENGTH}
+   * @return the record message, or empty if the line must go through the regular path
+   */
+  @VisibleForTesting
+  static Optional<AirbyteMessage> tryParseRecordEnvelope(final String line, final int lineByteLength) {
+    try (final JsonParser parser = JSON_FACTORY.createParser(line)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return Optional.empty();
+      }
+
+      String type = null;
+      AirbyteRecordMessage record = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String field = parser.getCurrentName();
+        final JsonToken value = parser.nextToken();
+        if ("type".equals(field) && value == JsonToken.VALUE_STRING) {
+          type = parser.getText();
+        } else if ("record".equals(field) && value == JsonToken.START_OBJECT) {
+          record = parseRecordEnvelope(parser, line, lineByteLength);
+          if (record == null) {
+            return Optional.empty();
+          }
+        } else {
+          return Optional.empty();
+        }
+      }
+
+      if (record == null || !AirbyteMessage.Type.RECORD.value().equals(type)) {
+        return Optional.empty();
+      }
+      return Optional.of(new AirbyteMessage().withType(AirbyteMessage.Type.RECORD).withRecord(record));
+    } catch (final IOException | RuntimeException e) {
+      return Optional.empty();
+    }
+  }
+
+  private static AirbyteRecordMessage parseRecordEnvelope(final JsonParser parser, final String line, final int lineByteLength)
+      throws IOException {
+    final AirbyteRecordMessage record = new AirbyteRecordMessage();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String field = parser.getCurrentName();
+      final JsonToken value = parser.nextToken();
+      if ("stream".equals(field) && value == JsonToken.VALUE_STRING) {
+        record.setStream(parser.getText());
+      } else if ("namespace".equals(field) && value == JsonToken.VALUE_STRING) {
+        record.setNamespace(parser.getText());
+      } else if ("emitted_at".equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+        record.setEmittedAt(parser.getLongValue());
+      } else if ("data".equals(field) && value == JsonToken.START_OBJECT) {
+        final int start = Math.toIntExact(parser.getTokenLocation().getCharOffset());
+        parser.skipChildren();
+        final int end = Math.toIntExact(parser.getCurrentLocation().getCharOffset());
+        if (start < 0 || end > line.length() || line.charAt(start) != '{' || line.charAt(end - 1) != '}') {
+          return null;
+        }
+        record.setData(RawRecordData.of(line, start, end, lineByteLength));
+      } else {
+        return null;
+      }
+    }
+
+    if (record.getStream() == null || record.getData() == null || record.getEmittedAt() == null) {
+      return null;
+    }
+    return record;
+  }
+
   private void internalLog(final AirbyteLogMessage logMessage) {
     switch (logMessage.getLevel()) {
       case FATAL, ERROR -> logger.error(logMessage.getMessage());
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Bounded, ordered hand-off of messages between two stages of the replication pipeline, each run by
+ * a single thread. A full queue blocks the producing stage, which is how backpressure from a slow
+ * stage reaches the source. The queue keeps track of how deep it got and how long each side spent
+ * waiting on the other, so that the slowest stage of a sync can be identified.
+ *
+ * <p>
+ * Blocking calls wake up regularly to check a stop condition, so that a cancelled sync does not
+ * leave a stage stuck on a queue whose other side is gone.
+ */
+public class MessageHandoffQueue {
+
+  private static final long STOP_CHECK_INTERVAL_MS = 100;
+  // marks the end of the messages. compared by identity.
+  private static final AirbyteMessage END_OF_MESSAGES = new AirbyteMessage();
+
+  private final String name;
+  private final BlockingQueue<AirbyteMessage> queue;
+  private final AtomicLong maxDepth = new AtomicLong();
+  private final AtomicLong producerStallNanos = new AtomicLong();
+  private final AtomicLong consumerStallNanos = new AtomicLong();
+
+  public MessageHandoffQueue(final String name, final int capacity) {
+    this.name = name;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+  }
+
+  /**
+   * Adds a message, waiting while the queue is full.
+   *
+   * @param message message to hand off
+   * @param shouldStop checked while waiting. if it returns true, the message is dropped.
+   * @return true if the message was added
+   */
+  public boolean put(final AirbyteMessage message, final BooleanSupplier shouldStop) throws InterruptedException {
+    if (!offer(message, shouldStop)) {
+      return false;
+    }
+    maxDepth.accumulateAndGet(queue.size(), Math::max);
+    return true;
+  }
+
+  /**
+   * Signals the consumer that no more messages will be added.
+   */
+  public boolean finish(final BooleanSupplier shouldStop) throws InterruptedException {
+    return offer(END_OF_MESSAGES, shouldStop);
+  }
+
+  /**
+   * Takes the next message, waiting while the queue is empty.
+   *
+   * @param shouldStop checked before taking a message and while waiting
+   * @return the next message, or null if the producer finished or shouldStop returned true
+   */
+  public AirbyteMessage take(final BooleanSupplier shouldStop) throws InterruptedException {
+    if (shouldStop.getAsBoolean()) {
+      return null;
+    }
+
+    AirbyteMessage message = queue.poll();
+    if (message == null) {
+      final long start = System.nanoTime();
+      try {
+        while (message == null) {
+          if (shouldStop.getAsBoolean()) {
+            return null;
+          }
+          message = queue.poll(STOP_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        }
+      } finally {
+        consumerStallNanos.addAndGet(System.nanoTime() - start);
+      }
+    }
+    return message == END_OF_MESSAGES ? null : message;
+  }
+
+  private boolean offer(final AirbyteMessage message, final BooleanSupplier shouldStop) throws InterruptedException {
+    if (queue.offer(message)) {
+      return true;
+    }
+
+    final long start = System.nanoTime();
+    try {
+      while (!shouldStop.getAsBoolean()) {
+        if (queue.offer(message, STOP_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+          return true;
+        }
+      }
+      return false;
+    } finally {
+      producerStallNanos.addAndGet(System.nanoTime() - start);
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getDepth() {
+    return queue.size();
+  }
+
+  public long getMaxDepth() {
+    return maxDepth.get();
+  }
+
+  /**
+   * @return total time the producing stage spent blocked because the queue was full.
+   */
+  public long getProducerStallNanos() {
+    return producerStallNanos.get();
+  }
+
+  /**
+   * @return total time the consuming stage spent blocked because the queue was empty.
+   */
+  public long getConsumerStallNanos() {
+    return consumerStallNanos.get();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s queue: depth %d, max depth %d, producer stalled %d ms, consumer stalled %d ms",
+        name,
+        getDepth(),
+        getMaxDepth(),
+        TimeUnit.NANOSECONDS.toMillis(getProducerStallNanos()),
+        TimeUnit.NANOSECONDS.toMillis(getConsumerStallNanos()));
+  }
+
+}
@@ -8,8 +8,11 @@ import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.AirbyteStream;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.regex.Pattern;
 import org.apache.logging.log4j.util.Strings;
 import org.slf4j.Logger;
@@ -20,6 +23,12 @@ import org.slf4j.LoggerFactory;
  * the source before it reaches the destination. One of the transformation is to define the
  * destination namespace where data will be stored and how to mirror (or not) the namespace used in
  * the source (if any). This is configured in the UI through the syncInput.
+ *
+ * <p>
+ * The destination name of each stream only depends on its source name, so it is computed once per
+ * stream (ahead of time for the streams of the catalog passed at construction) and records are
+ * mapped with a shallow copy that only replaces the envelope fields. The record's data is shared
+ * with the input message, not copied.
  */
 public class NamespacingMapper implements AirbyteMapper {
 
@@ -28,6 +37,9 @@ public class NamespacingMapper implements AirbyteMapper {
   private final NamespaceDefinitionType namespaceDefinition;
   private final String namespaceFormat;
   private final String streamPrefix;
+  // source namespace -> source stream name -> destination stream. HashMap allows the null namespace.
+  // only touched by the replication thread.
+  private final Map<String, Map<String, DestinationStream>> destinationStreams = new HashMap<>();
 
   public NamespacingMapper(final NamespaceDefinitionType namespaceDefinition, final String namespaceFormat, final String streamPrefix) {
     this.namespaceDefinition = namespaceDefinition;
@@ -35,6 +47,14 @@ public class NamespacingMapper implements AirbyteMapper {
     this.streamPrefix = streamPrefix;
   }
 
+  public NamespacingMapper(final NamespaceDefinitionType namespaceDefinition,
+                           final String namespaceFormat,
+                           final String streamPrefix,
+                           final ConfiguredAirbyteCatalog sourceCatalog) {
+    this(namespaceDefinition, namespaceFormat, streamPrefix);
+    sourceCatalog.getStreams().forEach(s -> getDestinationStream(s.getStream().getNamespace(), s.getStream().getName()));
+  }
+
   @Override
   public ConfiguredAirbyteCatalog mapCatalog(final ConfiguredAirbyteCatalog inputCatalog) {
     final ConfiguredAirbyteCatalog catalog = Jsons.clone(inputCatalog);
@@ -61,21 +81,52 @@ public class NamespacingMapper implements AirbyteMapper {
   @Override
   public AirbyteMessage mapMessage(final AirbyteMessage inputMessage) {
     if (inputMessage.getType() == Type.RECORD) {
-      final AirbyteMessage message = Jsons.clone(inputMessage);
-      // Default behavior if namespaceDefinition is not set is to follow SOURCE
-      if (namespaceDefinition != null) {
-        if (namespaceDefinition.equals(NamespaceDefinitionType.DESTINATION)) {
-          message.getRecord().withNamespace(null);
-        } else if (namespaceDefinition.equals(NamespaceDefinitionType.CUSTOMFORMAT)) {
-          message.getRecord().withNamespace(formatNamespace(message.getRecord().getNamespace(), namespaceFormat));
-        }
-      }
-      message.getRecord().setStream(transformStreamName(message.getRecord().getStream(), streamPrefix));
+      final AirbyteRecordMessage inputRecord = inputMessage.getRecord();
+      final DestinationStream destinationStream = getDestinationStream(inputRecord.getNamespace(), inputRecord.getStream());
+
+      final AirbyteRecordMessage record = new AirbyteRecordMessage()
+          .withNamespace(destinationStream.namespace())
+          .withStream(destinationStream.name())
+          .withData(inputRecord.getData())
+          .withEmittedAt(inputRecord.getEmittedAt());
+      inputRecord.getAdditionalProperties().forEach(record::setAdditionalProperty);
+
+      final AirbyteMessage message = new AirbyteMessage()
+          .withType(Type.RECORD)
+          .withRecord(record);
+      inputMessage.getAdditionalProperties().forEach(message::setAdditionalProperty);
       return message;
     }
     return inputMessage;
   }
 
+  private DestinationStream getDestinationStream(final String sourceNamespace, final String sourceStreamName) {
+    // plain get/put rather than computeIfAbsent so that the common case does not allocate lambdas.
+    Map<String, DestinationStream> streamsInNamespace = destinationStreams.get(sourceNamespace);
+    if (streamsInNamespace == null) {
+      streamsInNamespace = new HashMap<>();
+      destinationStreams.put(sourceNamespace, streamsInNamespace);
+    }
+    DestinationStream destinationStream = streamsInNamespace.get(sourceStreamName);
+    if (destinationStream == null) {
+      destinationStream = new DestinationStream(mapNamespace(sourceNamespace), transformStreamName(sourceStreamName, streamPrefix));
+      streamsInNamespace.put(sourceStreamName, destinationStream);
+    }
+    return destinationStream;
+  }
+
+  private String mapNamespace(final String sourceNamespace) {
+    // Default behavior if namespaceDefinition is not set is to follow SOURCE
+    if (namespaceDefinition != null) {
+      if (namespaceDefinition.equals(NamespaceDefinitionType.DESTINATION)) {
+        return null;
+      } else if (namespaceDefinition.equals(NamespaceDefinitionType.CUSTOMFORMAT)) {
+        return formatNamespace(sourceNamespace, namespaceFormat);
+      }
+    }
+    return sourceNamespace;
+  }
+
   private static String formatNamespace(final String sourceNamespace, final String namespaceFormat) {
     String result = "";
     if (Strings.isNotBlank(namespaceFormat)) {
@@ -96,4 +147,6 @@ public class NamespacingMapper implements AirbyteMapper {
     }
   }
 
+  private record DestinationStream(String namespace, String name) {}
+
 }
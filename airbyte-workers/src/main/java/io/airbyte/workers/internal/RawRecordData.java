@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.POJONode;
+import com.google.common.base.Utf8;
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.commons.json.Jsons;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+
+/**
+ * Record data that is passed through the worker as the original JSON text instead of a parsed tree.
+ * The text is a range of the line read from the connector, so it is neither copied nor parsed when
+ * the record is only forwarded from the source to the destination: it is written verbatim when the
+ * message is serialized. Anything that needs to look inside the data must call
+ * {@link #materialize(JsonNode)} first, which parses the text once and keeps the tree with the
+ * record for later calls.
+ */
+public final class RawRecordData extends JsonSerializable.Base {
+
+  private static final ObjectMapper OBJECT_MAPPER = MoreMappers.initMapper();
+
+  private final String line;
+  private final int start;
+  private final int end;
+  // size in bytes of the line as the connector wrote it, -1 if unknown.
+  private final int lineByteLength;
+  // parsed on the first call to materialize. records are handled by one thread at a time, so this
+  // does not need to be synchronized.
+  private JsonNode parsedData;
+
+  private RawRecordData(final String line, final int start, final int end, final int lineByteLength) {
+    this.line = line;
+    this.start = start;
+    this.end = end;
+    this.lineByteLength = lineByteLength;
+  }
+
+  /**
+   * @param rawJson the JSON text of a record's data, which must be a valid JSON object
+   * @return a node that serializes to exactly rawJson
+   */
+  public static JsonNode of(final String rawJson) {
+    return of(rawJson, 0, rawJson.length(), -1);
+  }
+
+  /**
+   * @param line text containing the JSON text of a record's data
+   * @param start index of the first character of the data in line
+   * @param end index after the last character of the data in line
+   * @param lineByteLength size of line in bytes as it was read from the connector, or -1 if unknown
+   * @return a node that serializes to exactly the data's text, without copying it out of line
+   */
+  public static JsonNode of(final String line, final int start, final int end, final int lineByteLength) {
+    return JsonNodeFactory.instance.pojoNode(new RawRecordData(line, start, end, lineByteLength));
+  }
+
+  public static boolean isRaw(final JsonNode data) {
+    return data instanceof POJONode && ((POJONode) data).getPojo() instanceof RawRecordData;
+  }
+
+  /**
+   * @return the size in bytes of the data's UTF-8 JSON text. For raw data this is the exact size of
+   *         the text read from the connector: when the size of its line is known, only the envelope
+   *         around the data is measured, so the data itself is never encoded. Other data is
+   *         serialized to measure it.
+   */
+  public static long byteSize(final JsonNode data) {
+    if (isRaw(data)) {
+      return ((RawRecordData) ((POJONode) data).getPojo()).byteSize();
+    }
+    return Jsons.getEstimatedByteSize(data);
+  }
+
+  private long byteSize() {
+    if (lineByteLength < 0) {
+      return Utf8.encodedLength(CharBuffer.wrap(line, start, end));
+    }
+    return lineByteLength
+        - Utf8.encodedLength(CharBuffer.wrap(line, 0, start))
+        - Utf8.encodedLength(CharBuffer.wrap(line, end, line.length()));
+  }
+
+  /**
+   * @return the parsed data if it was passed through as raw text, the data itself otherwise. Raw data
+   *         is only parsed on the first call.
+   */
+  public static JsonNode materialize(final JsonNode data) {
+    if (isRaw(data)) {
+      return ((RawRecordData) ((POJONode) data).getPojo()).getParsedData();
+    }
+    return data;
+  }
+
+  private JsonNode getParsedData() {
+    if (parsedData == null) {
+      final StringReader reader = new StringReader(line);
+      try {
+        reader.skip(start);
+        // the parser stops after the data's object, so it never looks at the rest of the line.
+        try (final JsonParser parser = OBJECT_MAPPER.getFactory().createParser(reader)) {
+          parsedData = OBJECT_MAPPER.readTree(parser);
+        }
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return parsedData;
+  }
+
+  @Override
+  public void serialize(final JsonGenerator gen, final SerializerProvider serializers) throws IOException {
+    gen.writeRawValue(line, start, end - start);
+  }
+
+  @Override
+  public void serializeWithType(final JsonGenerator gen, final SerializerProvider serializers, final TypeSerializer typeSer)
+      throws IOException {
+    serialize(gen, serializers);
+  }
+
+}
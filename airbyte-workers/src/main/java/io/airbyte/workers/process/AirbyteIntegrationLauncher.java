@@ -9,12 +9,14 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import io.airbyte.config.ResourceRequirements;
 import io.airbyte.config.WorkerEnvConstants;
+import io.airbyte.protocol.models.MessageFormat;
 import io.airbyte.workers.exception.WorkerException;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 public class AirbyteIntegrationLauncher implements IntegrationLauncher {
 
@@ -39,6 +41,12 @@ public class AirbyteIntegrationLauncher implements IntegrationLauncher {
   public static final String NORMALIZE_STEP = "normalize";
   public static final String CUSTOM_STEP = "custom";
 
+  /**
+   * Formats, in addition to JSON lines, that the worker can read from a source's output. The source
+   * only uses one of them if it also lists it in its spec.
+   */
+  private static final List<MessageFormat> READ_MESSAGE_FORMATS = List.of(MessageFormat.SMILE_FRAMED);
+
   private final String jobId;
   private final int attempt;
   private final String imageName;
@@ -150,7 +158,7 @@ public class AirbyteIntegrationLauncher implements IntegrationLauncher {
         null,
         resourceRequirement,
         Map.of(JOB_TYPE, SYNC_JOB, SYNC_STEP, READ_STEP),
-        getWorkerMetadata(),
+        getReadWorkerMetadata(),
         Collections.emptyMap(),
         arguments.toArray(new String[arguments.size()]));
   }
@@ -184,6 +192,13 @@ public class AirbyteIntegrationLauncher implements IntegrationLauncher {
         "--catalog", catalogFilename);
   }
 
+  private Map<String, String> getReadWorkerMetadata() {
+    final Map<String, String> metadata = new HashMap<>(getWorkerMetadata());
+    metadata.put(WorkerEnvConstants.WORKER_MESSAGE_FORMATS,
+        READ_MESSAGE_FORMATS.stream().map(MessageFormat::value).collect(Collectors.joining(",")));
+    return metadata;
+  }
+
   private Map<String, String> getWorkerMetadata() {
     return Map.of(
         WorkerEnvConstants.WORKER_CONNECTOR_IMAGE, imageName,
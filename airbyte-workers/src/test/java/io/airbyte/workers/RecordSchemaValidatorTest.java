@@ -4,13 +4,18 @@
 
 package io.airbyte.workers;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardSyncInput;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.workers.exception.RecordSchemaValidationException;
 import io.airbyte.workers.internal.AirbyteMessageUtils;
+import java.util.Map;
+import java.util.Set;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,7 +43,42 @@ public class RecordSchemaValidatorTest {
   @Test
   void testValidateInvalidSchema() throws Exception {
     final RecordSchemaValidator recordSchemaValidator = new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(syncInput));
+    final RecordSchemaValidationException exception = assertThrows(RecordSchemaValidationException.class,
+        () -> recordSchemaValidator.validateSchema(INVALID_RECORD.getRecord(), STREAM_NAME));
+    assertEquals(Set.of("$.favorite_color is of an incorrect type. Expected it to be string"), exception.errorMessages);
+  }
+
+  @Test
+  void testValidateUnknownStream() {
+    final RecordSchemaValidator recordSchemaValidator = new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(syncInput));
+    assertThrows(RecordSchemaValidationException.class, () -> recordSchemaValidator.validateSchema(VALID_RECORD.getRecord(), "unknown_stream"));
+  }
+
+  @Test
+  void testCatalogSchemaIsNotModified() throws Exception {
+    final Map<String, JsonNode> schemas = WorkerUtils.mapStreamNamesToSchemas(syncInput);
+    final JsonNode schemaBefore = Jsons.clone(schemas.get(STREAM_NAME));
+
+    final RecordSchemaValidator recordSchemaValidator = new RecordSchemaValidator(schemas);
+    recordSchemaValidator.validateSchema(VALID_RECORD.getRecord(), STREAM_NAME);
+
+    assertEquals(schemaBefore, schemas.get(STREAM_NAME));
+  }
+
+  @Test
+  void testSampledValidation() throws Exception {
+    final RecordSchemaValidator recordSchemaValidator = new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(syncInput), 3);
+
+    // records 0 and 3 are validated, records 1 and 2 are skipped.
+    recordSchemaValidator.validateSchema(VALID_RECORD.getRecord(), STREAM_NAME);
+    recordSchemaValidator.validateSchema(INVALID_RECORD.getRecord(), STREAM_NAME);
+    recordSchemaValidator.validateSchema(INVALID_RECORD.getRecord(), STREAM_NAME);
     assertThrows(RecordSchemaValidationException.class, () -> recordSchemaValidator.validateSchema(INVALID_RECORD.getRecord(), STREAM_NAME));
+
+    final RecordSchemaValidator.StreamValidationStats stats = recordSchemaValidator.getStreamValidationStats().get(STREAM_NAME);
+    assertEquals(4, stats.getRecordsSeen());
+    assertEquals(2, stats.getRecordsValidated());
+    assertEquals(2, recordSchemaValidator.getTotalRecordsValidated());
   }
 
 }
@@ -10,10 +10,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -64,6 +67,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -194,6 +198,79 @@ class DefaultReplicationWorkerTest {
     assertTrue(output.getFailures().stream().anyMatch(f -> f.getFailureOrigin().equals(FailureOrigin.SOURCE)));
   }
 
+  @Test
+  void testSourceNonZeroExitValueNotifiesDestinationFirst() throws Exception {
+    when(source.getExitValue()).thenReturn(1);
+    final ReplicationWorker worker = new DefaultReplicationWorker(
+        JOB_ID,
+        JOB_ATTEMPT,
+        source,
+        mapper,
+        destination,
+        messageTracker,
+        recordSchemaValidator);
+    final ReplicationOutput output = worker.run(syncInput, jobRoot);
+
+    assertEquals(ReplicationStatus.FAILED, output.getReplicationAttemptSummary().getStatus());
+    // the destination receives all the messages and the end of its input before it is torn down.
+    final InOrder inOrder = inOrder(destination);
+    inOrder.verify(destination).accept(RECORD_MESSAGE1);
+    inOrder.verify(destination).accept(RECORD_MESSAGE2);
+    inOrder.verify(destination).notifyEndOfInput();
+    inOrder.verify(destination).close();
+  }
+
+  @Test
+  void testSourceFailureStopsThePipeline() throws Exception {
+    final String SOURCE_ERROR_MESSAGE = "the source had a failure";
+
+    when(source.isFinished()).thenReturn(false);
+    when(source.attemptRead()).thenReturn(Optional.of(RECORD_MESSAGE1)).thenThrow(new RuntimeException(SOURCE_ERROR_MESSAGE));
+
+    final ReplicationWorker worker = new DefaultReplicationWorker(
+        JOB_ID,
+        JOB_ATTEMPT,
+        source,
+        mapper,
+        destination,
+        messageTracker,
+        recordSchemaValidator);
+    final ReplicationOutput output = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> worker.run(syncInput, jobRoot));
+
+    // a failure is not a cancellation.
+    assertEquals(ReplicationStatus.FAILED, output.getReplicationAttemptSummary().getStatus());
+    assertEquals(List.of(FailureOrigin.SOURCE), output.getFailures().stream().map(FailureReason::getFailureOrigin).toList());
+    // the destination input is incomplete, so it is not told that it ended.
+    verify(destination, never()).notifyEndOfInput();
+    verify(destination).close();
+  }
+
+  @Test
+  void testDestinationFailureStopsThePipeline() throws Exception {
+    final String DESTINATION_ERROR_MESSAGE = "the destination had a failure";
+
+    // the source never runs out of messages, so it can only stop because the destination failed.
+    when(source.isFinished()).thenReturn(false);
+    when(source.attemptRead()).thenReturn(Optional.of(RECORD_MESSAGE1));
+    doThrow(new RuntimeException(DESTINATION_ERROR_MESSAGE)).when(destination).accept(Mockito.any());
+
+    final ReplicationWorker worker = new DefaultReplicationWorker(
+        JOB_ID,
+        JOB_ATTEMPT,
+        source,
+        mapper,
+        destination,
+        messageTracker,
+        recordSchemaValidator);
+    final ReplicationOutput output = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> worker.run(syncInput, jobRoot));
+
+    assertEquals(ReplicationStatus.FAILED, output.getReplicationAttemptSummary().getStatus());
+    assertTrue(output.getFailures().stream()
+        .anyMatch(f -> f.getFailureOrigin().equals(FailureOrigin.DESTINATION) && f.getStacktrace().contains(DESTINATION_ERROR_MESSAGE)));
+    verify(destination, never()).notifyEndOfInput();
+    verify(source).close();
+  }
+
   @Test
   void testReplicationRunnableSourceFailure() throws Exception {
     final String SOURCE_ERROR_MESSAGE = "the source had a failure";
@@ -13,6 +13,7 @@ import io.airbyte.config.State;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.workers.helper.FailureHelper;
 import io.airbyte.workers.internal.StateDeltaTracker.StateDeltaTrackerException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
@@ -130,6 +131,34 @@ class AirbyteMessageTrackerTest {
     assertEquals(expected, messageTracker.getStreamToEmittedBytes());
   }
 
+  @Test
+  public void testEmittedBytesOfRawRecordData() {
+    // 'é' is two bytes in UTF-8, and the whitespace is part of what the source emitted.
+    final String rawData = "{ \"name\": \"café\" }";
+    final AirbyteMessage r1 = AirbyteMessageUtils.createRecordMessage(STREAM_1, 1);
+    r1.getRecord().setData(RawRecordData.of(rawData));
+
+    messageTracker.acceptFromSource(r1);
+    messageTracker.acceptFromSource(r1);
+
+    assertEquals(2L * rawData.getBytes(StandardCharsets.UTF_8).length, messageTracker.getTotalBytesEmitted());
+    assertEquals(Map.of(STREAM_1, 2L * rawData.getBytes(StandardCharsets.UTF_8).length), messageTracker.getStreamToEmittedBytes());
+  }
+
+  @Test
+  public void testEmittedRecordsWithManyStreams() {
+    final Map<String, Long> expected = new HashMap<>();
+    for (int i = 0; i < 100; i++) {
+      final String stream = "stream_" + i;
+      messageTracker.acceptFromSource(AirbyteMessageUtils.createRecordMessage(stream, i));
+      messageTracker.acceptFromSource(AirbyteMessageUtils.createRecordMessage(stream, i));
+      expected.put(stream, 2L);
+    }
+
+    assertEquals(200L, messageTracker.getTotalRecordsEmitted());
+    assertEquals(expected, messageTracker.getStreamToEmittedRecords());
+  }
+
   @Test
   public void testGetCommittedRecordsByStream() {
     final AirbyteMessage r1 = AirbyteMessageUtils.createRecordMessage(STREAM_1, 1);
@@ -4,7 +4,12 @@
 
 package io.airbyte.workers.internal;
 
+import static io.airbyte.workers.internal.DefaultAirbyteStreamFactory.UNKNOWN_BYTE_LENGTH;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
@@ -14,15 +19,23 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.json.SmileFrames;
 import io.airbyte.commons.logging.MdcScope.Builder;
 import io.airbyte.protocol.models.AirbyteLogMessage;
 import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
@@ -104,6 +117,147 @@ class DefaultAirbyteStreamFactoryTest {
     verifyNoMoreInteractions(logger);
   }
 
+  @Test
+  public void testRecordPassthrough() {
+    final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+    final String line = Jsons.serialize(record1);
+
+    final List<AirbyteMessage> messages = stringToMessageStream(line, true).collect(Collectors.toList());
+
+    assertEquals(1, messages.size());
+    final AirbyteRecordMessage record = messages.get(0).getRecord();
+    assertTrue(RawRecordData.isRaw(record.getData()));
+    assertEquals(record1.getRecord().getData(), RawRecordData.materialize(record.getData()));
+    // the data is only parsed once, later calls return the same tree.
+    assertSame(RawRecordData.materialize(record.getData()), RawRecordData.materialize(record.getData()));
+    assertEquals(record1.getRecord().getStream(), record.getStream());
+    assertEquals(record1.getRecord().getEmittedAt(), record.getEmittedAt());
+    // the data is written back exactly as it was read.
+    assertEquals(Jsons.deserialize(line), Jsons.deserialize(Jsons.serialize(messages.get(0))));
+    verifyNoInteractions(logger, protocolPredicate);
+  }
+
+  @Test
+  public void testRecordPassthroughKeepsTheByteSizeReadFromTheConnector() {
+    // 'é' is two bytes in UTF-8, in the envelope as well as in the data.
+    final String data = "{ \"name\": \"café\" }";
+    final String line = "{\"type\":\"RECORD\",\"record\":{\"stream\":\"clés\",\"emitted_at\":1,\"data\":" + data + "}}";
+    final InputStream inputStream = new ByteArrayInputStream((line + "\n").getBytes(StandardCharsets.UTF_8));
+
+    final List<AirbyteMessage> messages = new DefaultAirbyteStreamFactory(protocolPredicate, logger, new Builder(), true)
+        .create(inputStream)
+        .collect(Collectors.toList());
+
+    assertEquals(1, messages.size());
+    assertEquals(data.getBytes(StandardCharsets.UTF_8).length, RawRecordData.byteSize(messages.get(0).getRecord().getData()));
+  }
+
+  @Test
+  public void testRecordPassthroughFallsBackOnUnexpectedFields() {
+    final String line = "{\"type\":\"RECORD\",\"record\":{\"stream\":\"s\",\"emitted_at\":1,\"data\":{\"a\":1},\"extra\":true}}";
+    assertTrue(DefaultAirbyteStreamFactory.tryParseRecordEnvelope(line, UNKNOWN_BYTE_LENGTH).isEmpty());
+
+    final List<AirbyteMessage> messages = stringToMessageStream(line, true).collect(Collectors.toList());
+    assertEquals(1, messages.size());
+    assertFalse(RawRecordData.isRaw(messages.get(0).getRecord().getData()));
+  }
+
+  @Test
+  public void testTryParseRecordEnvelope() {
+    final String line = "{\"record\":{\"namespace\":\"ns\",\"data\":{\"nested\":{\"a\":[1,2,{\"b\":\"}\"}]}},\"stream\":\"s\",\"emitted_at\":10},"
+        + "\"type\":\"RECORD\"}";
+    final AirbyteRecordMessage record = DefaultAirbyteStreamFactory.tryParseRecordEnvelope(line, UNKNOWN_BYTE_LENGTH)
+        .orElseThrow()
+        .getRecord();
+
+    assertEquals("ns", record.getNamespace());
+    assertEquals("s", record.getStream());
+    assertEquals(10L, record.getEmittedAt());
+    assertEquals("{\"nested\":{\"a\":[1,2,{\"b\":\"}\"}]}}", Jsons.serialize(record.getData()));
+
+    assertTrue(DefaultAirbyteStreamFactory.tryParseRecordEnvelope("{\"type\":\"STATE\",\"state\":{\"data\":{}}}", UNKNOWN_BYTE_LENGTH).isEmpty());
+    assertTrue(DefaultAirbyteStreamFactory.tryParseRecordEnvelope("{\"type\":\"RECORD\",\"record\":{\"stream\":\"s\",\"data\":{}}}", UNKNOWN_BYTE_LENGTH)
+        .isEmpty());
+    assertTrue(DefaultAirbyteStreamFactory.tryParseRecordEnvelope("not json", UNKNOWN_BYTE_LENGTH).isEmpty());
+  }
+
+  @Test
+  public void testFramedMessagesMixedWithLines() throws IOException {
+    final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+    final AirbyteMessage record2 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "yellow");
+    final AirbyteMessage logMessage = AirbyteMessageUtils.createLogMessage(AirbyteLogMessage.Level.WARN, "warning");
+    when(protocolPredicate.test(any())).thenReturn(true);
+
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    output.write(SmileFrames.toFrame(record1));
+    output.write("invalid line\r\n".getBytes(StandardCharsets.UTF_8));
+    output.write(SmileFrames.toFrame(logMessage));
+    // a frame can follow a line that ends with a bare \r.
+    output.write((Jsons.serialize(record2) + "\r").getBytes(StandardCharsets.UTF_8));
+    output.write(SmileFrames.toFrame(record2));
+
+    final List<AirbyteMessage> messages = new DefaultAirbyteStreamFactory(protocolPredicate, logger, new Builder())
+        .create(new ByteArrayInputStream(output.toByteArray()))
+        .collect(Collectors.toList());
+
+    assertEquals(List.of(record1, record2, record2), messages);
+    verify(logger).info("invalid line");
+    verify(logger).warn("warning");
+    verifyNoMoreInteractions(logger);
+  }
+
+  @Test
+  public void testTruncatedFrame() {
+    final byte[] frame = SmileFrames.toFrame(AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green"));
+    final InputStream inputStream = new ByteArrayInputStream(Arrays.copyOf(frame, frame.length - 1));
+
+    final Stream<AirbyteMessage> messageStream = new DefaultAirbyteStreamFactory(protocolPredicate, logger, new Builder()).create(inputStream);
+
+    assertThrows(UncheckedIOException.class, () -> messageStream.collect(Collectors.toList()));
+  }
+
+  @Test
+  public void testInputStreamLineTerminators() throws IOException {
+    final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+    final AirbyteMessage record2 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "yellow");
+    final AirbyteMessage logMessage = AirbyteMessageUtils.createLogMessage(AirbyteLogMessage.Level.WARN, "warning");
+    when(protocolPredicate.test(any())).thenReturn(true);
+
+    // lines end with \n, \r\n or a bare \r, as with BufferedReader#lines.
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    output.write((Jsons.serialize(record1) + "\r").getBytes(StandardCharsets.UTF_8));
+    output.write("invalid line\r\n".getBytes(StandardCharsets.UTF_8));
+    output.write((Jsons.serialize(logMessage) + "\n").getBytes(StandardCharsets.UTF_8));
+    output.write(Jsons.serialize(record2).getBytes(StandardCharsets.UTF_8));
+
+    final List<AirbyteMessage> messages = new DefaultAirbyteStreamFactory(protocolPredicate, logger, new Builder())
+        .create(new ByteArrayInputStream(output.toByteArray()))
+        .collect(Collectors.toList());
+
+    assertEquals(List.of(record1, record2), messages);
+    verify(logger).info("invalid line");
+    verify(logger).warn("warning");
+    verifyNoMoreInteractions(logger);
+  }
+
+  @Test
+  public void testInputStreamCarriageReturnAtTheEndOfTheBuffer() {
+    final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+    final AirbyteMessage record2 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "yellow");
+    when(protocolPredicate.test(any())).thenReturn(true);
+    final byte[] line1 = (Jsons.serialize(record1) + "\r").getBytes(StandardCharsets.UTF_8);
+    final byte[] line2 = ("\n" + Jsons.serialize(record2) + "\r\n").getBytes(StandardCharsets.UTF_8);
+    // the \r and the \n of a terminator are returned by different reads.
+    final InputStream inputStream = new SequenceInputStream(new ByteArrayInputStream(line1), new ByteArrayInputStream(line2));
+
+    final List<AirbyteMessage> messages = new DefaultAirbyteStreamFactory(protocolPredicate, logger, new Builder())
+        .create(inputStream)
+        .collect(Collectors.toList());
+
+    assertEquals(List.of(record1, record2), messages);
+    verifyNoInteractions(logger);
+  }
+
   @Test
   @Disabled
   public void testMissingNewLineBetweenValidRecords() {
@@ -120,9 +274,13 @@ class DefaultAirbyteStreamFactoryTest {
   }
 
   private Stream<AirbyteMessage> stringToMessageStream(final String inputString) {
+    return stringToMessageStream(inputString, false);
+  }
+
+  private Stream<AirbyteMessage> stringToMessageStream(final String inputString, final boolean recordPassthrough) {
     final InputStream inputStream = new ByteArrayInputStream(inputString.getBytes(StandardCharsets.UTF_8));
     final BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
-    return new DefaultAirbyteStreamFactory(protocolPredicate, logger, new Builder()).create(bufferedReader);
+    return new DefaultAirbyteStreamFactory(protocolPredicate, logger, new Builder(), recordPassthrough).create(bufferedReader);
   }
 
 }
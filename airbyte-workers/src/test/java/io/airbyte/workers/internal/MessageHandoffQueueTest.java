@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MessageHandoffQueueTest {
+
+  private static final AirbyteMessage RECORD_1 = AirbyteMessageUtils.createRecordMessage("stream", 1);
+  private static final AirbyteMessage STATE_1 = AirbyteMessageUtils.createStateMessage(1);
+  private static final AirbyteMessage RECORD_2 = AirbyteMessageUtils.createRecordMessage("stream", 2);
+
+  private MessageHandoffQueue queue;
+
+  @BeforeEach
+  void setup() {
+    queue = new MessageHandoffQueue("test", 3);
+  }
+
+  @Test
+  void testMessagesKeepTheirOrder() throws InterruptedException {
+    assertTrue(queue.put(RECORD_1, () -> false));
+    assertTrue(queue.put(STATE_1, () -> false));
+    assertTrue(queue.put(RECORD_2, () -> false));
+
+    assertEquals(RECORD_1, queue.take(() -> false));
+    assertEquals(STATE_1, queue.take(() -> false));
+    assertEquals(RECORD_2, queue.take(() -> false));
+    assertEquals(3, queue.getMaxDepth());
+  }
+
+  @Test
+  void testTakeReturnsNullOnceFinished() throws InterruptedException {
+    queue.put(RECORD_1, () -> false);
+    queue.finish(() -> false);
+
+    assertEquals(RECORD_1, queue.take(() -> false));
+    assertNull(queue.take(() -> false));
+  }
+
+  @Test
+  void testTakeStopsWhileWaiting() throws InterruptedException {
+    final AtomicBoolean stop = new AtomicBoolean();
+    final Thread stopper = new Thread(() -> stop.set(true));
+    stopper.start();
+
+    assertNull(queue.take(stop::get));
+    stopper.join();
+    assertTrue(queue.getConsumerStallNanos() >= 0);
+  }
+
+  @Test
+  void testPutStopsWhenFull() throws InterruptedException {
+    queue.put(RECORD_1, () -> false);
+    queue.put(RECORD_1, () -> false);
+    queue.put(RECORD_1, () -> false);
+
+    final AtomicBoolean stop = new AtomicBoolean();
+    final Thread stopper = new Thread(() -> stop.set(true));
+    stopper.start();
+
+    assertFalse(queue.put(RECORD_2, stop::get));
+    stopper.join();
+    assertEquals(3, queue.getDepth());
+    assertTrue(queue.getProducerStallNanos() > 0);
+  }
+
+  @Test
+  void testTakeDoesNotReturnMessagesOnceStopped() throws InterruptedException {
+    queue.put(RECORD_1, () -> false);
+
+    assertNull(queue.take(() -> true));
+    assertEquals(1, queue.getDepth());
+  }
+
+}
@@ -5,6 +5,8 @@
 package io.airbyte.workers.internal;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
@@ -201,4 +203,18 @@ class NamespacingMapperTest {
     assertEquals(expectedMessage, actualMessage);
   }
 
+  @Test
+  void testMappedRecordSharesData() {
+    final NamespacingMapper mapper = new NamespacingMapper(NamespaceDefinitionType.DESTINATION, null, OUTPUT_PREFIX, CATALOG);
+
+    final AirbyteMessage originalMessage = Jsons.clone(RECORD_MESSAGE);
+    final AirbyteMessage actualMessage = mapper.mapMessage(RECORD_MESSAGE);
+
+    assertEquals(originalMessage, RECORD_MESSAGE);
+    assertEquals(OUTPUT_PREFIX + STREAM_NAME, actualMessage.getRecord().getStream());
+    assertNull(actualMessage.getRecord().getNamespace());
+    assertSame(RECORD_MESSAGE.getRecord().getData(), actualMessage.getRecord().getData());
+    assertEquals(RECORD_MESSAGE.getRecord().getEmittedAt(), actualMessage.getRecord().getEmittedAt());
+  }
+
 }
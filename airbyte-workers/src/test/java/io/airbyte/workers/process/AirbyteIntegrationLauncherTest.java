@@ -38,6 +38,11 @@ class AirbyteIntegrationLauncherTest {
       WorkerEnvConstants.WORKER_CONNECTOR_IMAGE, FAKE_IMAGE,
       WorkerEnvConstants.WORKER_JOB_ID, JOB_ID,
       WorkerEnvConstants.WORKER_JOB_ATTEMPT, String.valueOf(JOB_ATTEMPT));
+  private static final Map<String, String> READ_JOB_METADATA = Map.of(
+      WorkerEnvConstants.WORKER_CONNECTOR_IMAGE, FAKE_IMAGE,
+      WorkerEnvConstants.WORKER_JOB_ID, JOB_ID,
+      WorkerEnvConstants.WORKER_JOB_ATTEMPT, String.valueOf(JOB_ATTEMPT),
+      WorkerEnvConstants.WORKER_MESSAGE_FORMATS, "smile_framed");
 
   private WorkerConfigs workerConfigs;
   private ProcessFactory processFactory;
@@ -93,7 +98,7 @@ class AirbyteIntegrationLauncherTest {
     Mockito.verify(processFactory).create(READ_STEP, JOB_ID, JOB_ATTEMPT, JOB_ROOT, FAKE_IMAGE, false, CONFIG_CATALOG_STATE_FILES, null,
         workerConfigs.getResourceRequirements(),
         Map.of(JOB_TYPE, SYNC_JOB, SYNC_STEP, READ_STEP),
-        JOB_METADATA,
+        READ_JOB_METADATA,
         Map.of(),
         Lists.newArrayList(
             "read",